@@ -0,0 +1,56 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculatorService;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Built-in operation strategies wired without a Spring context.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+final class BenchmarkStrategies {
+
+    private BenchmarkStrategies() {
+    }
+
+    /**
+     * Creates the built-in strategy of an operation.
+     *
+     * @param operation Operation to implement
+     * @return Built-in strategy
+     */
+    static OperationStrategy create(Operation operation) {
+        switch (operation) {
+            case ADD:
+                return new Add();
+            case SUBTRACT:
+                return new Subtract();
+            case MULTIPLY:
+                return new Multiply();
+            case DIVIDE:
+                return new Divide();
+            case POWER:
+                return new Power();
+            default:
+                throw new IllegalArgumentException("No built-in strategy for " + operation);
+        }
+    }
+
+    /**
+     * Creates a service registering every built-in strategy.
+     *
+     * @return Calculator service
+     */
+    static CalculatorService createService() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            strategies.put(operation, create(operation));
+        }
+        return new CalculatorService(strategies);
+    }
+}
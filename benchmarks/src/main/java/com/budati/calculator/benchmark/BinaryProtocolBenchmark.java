@@ -0,0 +1,108 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.CalculatorApplication;
+import com.budati.calculator.client.CalculatorClient;
+import com.budati.calculator.client.Opcode;
+import com.budati.calculator.transport.BinaryProtocolServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks single operations over REST against the binary protocol.
+ *
+ * Starts the full application with the HTTP server and the binary
+ * listener on free ports, and calls both from one client thread over a
+ * kept-alive connection:
+ * - rest: POST /single-compute, one request per operation
+ * - binary: one frame per round trip
+ * - binaryPipelined: {@link #PIPELINED} frames per call, in windows of
+ *   {@link CalculatorClient#PIPELINE_DEPTH}
+ *
+ * All scores are operations per second.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class BinaryProtocolBenchmark {
+
+    // Operations per pipelined call
+    private static final int PIPELINED = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest restRequest;
+    private CalculatorClient binaryClient;
+
+    private Opcode[] opcodes;
+    private double[] left;
+    private double[] right;
+    private double[] results;
+
+    // Operands kept in fields so the JIT cannot constant-fold them
+    private double first = 1234.5678;
+    private double second = 7;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(CalculatorApplication.class)
+                .properties("spring.main.banner-mode=off", "logging.level.root=warn",
+                        "server.port=0", "calculator.binary.port=0")
+                .run();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        restRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                        + "/api/computational/single-compute?operation=MULTIPLY&firstOperand=" + first
+                        + "&secondOperand=" + second))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        binaryClient = CalculatorClient.connect("localhost", context.getBean(BinaryProtocolServer.class).getPort());
+
+        opcodes = new Opcode[PIPELINED];
+        left = new double[PIPELINED];
+        right = new double[PIPELINED];
+        results = new double[PIPELINED];
+        for (int i = 0; i < PIPELINED; i++) {
+            opcodes[i] = Opcode.MULTIPLY;
+            left[i] = first + i;
+            right[i] = second;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        binaryClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public String rest() throws IOException, InterruptedException {
+        return httpClient.send(restRequest, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    @Benchmark
+    public double binary() throws IOException {
+        return binaryClient.calculate(Opcode.MULTIPLY, first, second);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PIPELINED)
+    public double[] binaryPipelined() throws IOException {
+        binaryClient.calculate(opcodes, left, right, results);
+        return results;
+    }
+}
@@ -0,0 +1,80 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.service.CalculatorService;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link CalculatorService#chainCalculate(Number, List)} by chain length.
+ *
+ * Chains cycle through addition, multiplication, subtraction and
+ * division so that every priority level is resolved. Integer chains
+ * compare the exact integer path with the same values boxed as doubles.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class ChainCalculateBenchmark {
+
+    // Operations repeated along the chain
+    private static final Operation[] PATTERN = {
+            Operation.ADD, Operation.MULTIPLY, Operation.SUBTRACT, Operation.DIVIDE
+    };
+
+    // Operations repeated along integer chains, keeping every term exact and small
+    private static final Operation[] INTEGER_PATTERN = {
+            Operation.ADD, Operation.MULTIPLY, Operation.SUBTRACT
+    };
+
+    @Param({"1", "10", "100", "10000"})
+    private int length;
+
+    private CalculatorService calculatorService;
+    private List<Pair<Operation, Number>> operations;
+    private List<Pair<Operation, Number>> integerOperations;
+    private List<Pair<Operation, Number>> integralDoubleOperations;
+    private Number initialValue = 2;
+
+    @Setup
+    public void setUp() {
+        calculatorService = BenchmarkStrategies.createService();
+        operations = new ArrayList<>(length);
+        for (int index = 0; index < length; index++) {
+            operations.add(Pair.of(PATTERN[index % PATTERN.length], 1.5 + index % 7));
+        }
+        integerOperations = new ArrayList<>(length);
+        integralDoubleOperations = new ArrayList<>(length);
+        for (int index = 0; index < length; index++) {
+            Operation operation = INTEGER_PATTERN[index % INTEGER_PATTERN.length];
+            integerOperations.add(Pair.of(operation, 1 + index % 7));
+            integralDoubleOperations.add(Pair.of(operation, 1.0 + index % 7));
+        }
+    }
+
+    @Benchmark
+    public Number chainCalculate() {
+        return calculatorService.chainCalculate(initialValue, operations);
+    }
+
+    @Benchmark
+    public Number integerChainCalculate() {
+        return calculatorService.chainCalculate(initialValue, integerOperations);
+    }
+
+    @Benchmark
+    public Number integralDoubleChainCalculate() {
+        return calculatorService.chainCalculate(initialValue, integralDoubleOperations);
+    }
+}
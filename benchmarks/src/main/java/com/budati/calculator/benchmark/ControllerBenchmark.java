@@ -0,0 +1,107 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.CalculatorApplication;
+import com.budati.calculator.controller.ComputationalController;
+import com.budati.calculator.dto.BatchComputationRequest;
+import com.budati.calculator.dto.CalculationRequest;
+import com.budati.calculator.dto.MathematicalExpression;
+import com.budati.calculator.dto.OperationDescriptor;
+import com.budati.calculator.model.Operation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks full evaluations through the Spring-wired controller.
+ *
+ * Starts the application context without a web server and calls the
+ * endpoint methods directly, so the numbers cover everything behind
+ * request deserialization: lookup, parsing, caching and evaluation.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class ControllerBenchmark {
+
+    // Rows per batch request
+    private static final int BATCH_ROWS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private ComputationalController controller;
+
+    private CalculationRequest sequenceRequest;
+    private MathematicalExpression expressionRequest;
+    private BatchComputationRequest batchRequest;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CalculatorApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.main.banner-mode=off", "logging.level.root=warn", "calculator.binary.enabled=false")
+                .run();
+        controller = context.getBean(ComputationalController.class);
+
+        List<OperationDescriptor> steps = new ArrayList<>();
+        Operation[] operations = {Operation.ADD, Operation.MULTIPLY, Operation.SUBTRACT, Operation.DIVIDE};
+        for (int index = 0; index < 10; index++) {
+            OperationDescriptor step = new OperationDescriptor();
+            step.setOperationSymbol(operations[index % operations.length].getSymbol());
+            step.setOperationValue(index + 1);
+            steps.add(step);
+        }
+        sequenceRequest = new CalculationRequest();
+        sequenceRequest.setBaseNumeric(2);
+        sequenceRequest.setMathematicalSteps(steps);
+
+        expressionRequest = new MathematicalExpression();
+        expressionRequest.setRawExpression("2 * (3 + 4) - 10 / 5 ^ 2 + sqrt(16)");
+
+        double[] a = new double[BATCH_ROWS];
+        double[] b = new double[BATCH_ROWS];
+        for (int row = 0; row < BATCH_ROWS; row++) {
+            a[row] = row * 0.5;
+            b[row] = row + 1;
+        }
+        Map<String, double[]> columns = new HashMap<>();
+        columns.put("a", a);
+        columns.put("b", b);
+        batchRequest = new BatchComputationRequest();
+        batchRequest.setExpression("a * b + a / b - 1");
+        batchRequest.setColumns(columns);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<String> sequenceCompute() {
+        return controller.computeSequence(sequenceRequest);
+    }
+
+    @Benchmark
+    public String expressionCompute() {
+        return controller.evaluateExpression(expressionRequest);
+    }
+
+    @Benchmark
+    public double[] batch() {
+        return controller.evaluateBatch(batchRequest);
+    }
+}
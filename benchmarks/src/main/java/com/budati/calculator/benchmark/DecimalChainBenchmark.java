@@ -0,0 +1,87 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculatorService;
+import com.budati.calculator.service.DecimalCalculatorService;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks arbitrary-precision chains and integer powers.
+ *
+ * Compares a ten-step chain in decimal with the same chain in double,
+ * and integer powers by squaring with {@link BigDecimal#pow(int, MathContext)}.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class DecimalChainBenchmark {
+
+    @Param({"16", "34"})
+    private int precision;
+
+    private CalculatorService calculatorService;
+    private DecimalCalculatorService decimalCalculatorService;
+    private MathContext mathContext;
+    private List<Pair<Operation, Number>> chain;
+
+    // Operands kept in fields so the JIT cannot constant-fold them
+    private double initialValue = 1234.5678;
+    private BigDecimal decimalInitialValue = new BigDecimal("1234.5678");
+    private BigDecimal powerBase = new BigDecimal("1.0001");
+    private BigDecimal powerExponent = BigDecimal.valueOf(1000);
+
+    @Setup
+    public void setUp() {
+        calculatorService = BenchmarkStrategies.createService();
+        Map<Operation, DecimalOperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new DecimalAdd());
+        strategies.put(Operation.SUBTRACT, new DecimalSubtract());
+        strategies.put(Operation.MULTIPLY, new DecimalMultiply());
+        strategies.put(Operation.DIVIDE, new DecimalDivide());
+        strategies.put(Operation.POWER, new DecimalPower());
+        decimalCalculatorService = new DecimalCalculatorService(strategies);
+        mathContext = new MathContext(precision);
+
+        Operation[] steps = {Operation.ADD, Operation.MULTIPLY, Operation.SUBTRACT, Operation.DIVIDE};
+        chain = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            chain.add(Pair.of(steps[i % steps.length], (Number) (i + 1.25)));
+        }
+    }
+
+    @Benchmark
+    public Number chainDouble() {
+        return calculatorService.chainCalculate(initialValue, chain);
+    }
+
+    @Benchmark
+    public BigDecimal chainDecimal() {
+        return decimalCalculatorService.chainCalculate(decimalInitialValue, chain, mathContext);
+    }
+
+    @Benchmark
+    public BigDecimal integerPowerBySquaring() {
+        return decimalCalculatorService.applyStrategy(Operation.POWER, powerBase, powerExponent, mathContext);
+    }
+
+    @Benchmark
+    public BigDecimal integerPowerJdk() {
+        return powerBase.pow(powerExponent.intValue(), mathContext);
+    }
+}
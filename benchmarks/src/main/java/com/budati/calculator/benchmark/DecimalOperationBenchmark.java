@@ -0,0 +1,70 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculatorService;
+import com.budati.calculator.service.DecimalCalculatorService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the arbitrary-precision strategies against the double path.
+ *
+ * Compares each operation at 16 and 34 significant digits (DECIMAL64
+ * and DECIMAL128 precision) with the same operation in double.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class DecimalOperationBenchmark {
+
+    @Param({"ADD", "MULTIPLY", "DIVIDE", "POWER"})
+    private Operation operation;
+
+    @Param({"16", "34"})
+    private int precision;
+
+    private CalculatorService calculatorService;
+    private DecimalCalculatorService decimalCalculatorService;
+    private MathContext mathContext;
+
+    // Operands kept in fields so the JIT cannot constant-fold them
+    private double left = 1234.5678;
+    private double right = 7;
+    private BigDecimal decimalLeft = new BigDecimal("1234.5678");
+    private BigDecimal decimalRight = new BigDecimal("7");
+
+    @Setup
+    public void setUp() {
+        calculatorService = BenchmarkStrategies.createService();
+        Map<Operation, DecimalOperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new DecimalAdd());
+        strategies.put(Operation.SUBTRACT, new DecimalSubtract());
+        strategies.put(Operation.MULTIPLY, new DecimalMultiply());
+        strategies.put(Operation.DIVIDE, new DecimalDivide());
+        strategies.put(Operation.POWER, new DecimalPower());
+        decimalCalculatorService = new DecimalCalculatorService(strategies);
+        mathContext = new MathContext(precision);
+    }
+
+    @Benchmark
+    public double calculateAsDouble() {
+        return calculatorService.calculateAsDouble(operation, left, right);
+    }
+
+    @Benchmark
+    public BigDecimal calculateDecimal() {
+        return decimalCalculatorService.applyStrategy(operation, decimalLeft, decimalRight, mathContext);
+    }
+}
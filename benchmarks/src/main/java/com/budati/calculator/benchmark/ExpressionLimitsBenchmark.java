@@ -0,0 +1,70 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.expression.ExpressionCompiler;
+import com.budati.calculator.expression.ExpressionProgram;
+import com.budati.calculator.model.BuiltinFunction;
+import com.budati.calculator.parser.ExpressionLimitException;
+import com.budati.calculator.parser.ExpressionLimits;
+import com.budati.calculator.parser.ExpressionParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of the expression limits.
+ *
+ * - compileUnlimited / compileLimited: parse and compile the same
+ *   expression without limits, or counting tokens, depth and steps
+ *   against the default limits
+ * - rejectDeep: a 64 KB expression of nested parentheses, refused once
+ *   it nests past the depth limit instead of being read to the end
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class ExpressionLimitsBenchmark {
+
+    // Expression of typical size, with functions and nesting
+    private static final String EXPRESSION = "max(a, b) + sqrt(c) * (min(a, c) - abs(b) mod 7) ^ 2 / (a + 1)";
+
+    // Nested parentheses filling the default length limit
+    private static final String DEEP = "(".repeat(32_767) + "1" + ")".repeat(32_767);
+
+    private ExpressionCompiler unlimitedCompiler;
+    private ExpressionCompiler limitedCompiler;
+
+    @Setup
+    public void setUp() {
+        unlimitedCompiler = new ExpressionCompiler();
+        ExpressionLimits limits = new ExpressionLimits(65536, 10000, 256, 1_000_000, 1000, Duration.ofSeconds(1));
+        limitedCompiler = new ExpressionCompiler(new ExpressionParser(BuiltinFunction::getByName, limits));
+    }
+
+    @Benchmark
+    public ExpressionProgram compileUnlimited() {
+        return unlimitedCompiler.compile(EXPRESSION);
+    }
+
+    @Benchmark
+    public ExpressionProgram compileLimited() {
+        return limitedCompiler.compile(EXPRESSION);
+    }
+
+    @Benchmark
+    public ExpressionLimitException.Limit rejectDeep() {
+        try {
+            limitedCompiler.compile(DEEP);
+            throw new IllegalStateException("Expression was not rejected");
+        } catch (ExpressionLimitException e) {
+            return e.getLimit();
+        }
+    }
+}
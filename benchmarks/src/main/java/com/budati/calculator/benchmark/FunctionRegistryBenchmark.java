@@ -0,0 +1,74 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.expression.ExpressionCompiler;
+import com.budati.calculator.expression.ExpressionProgram;
+import com.budati.calculator.expression.FunctionRegistry;
+import com.budati.calculator.service.CalculatorService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks function resolution through the registry and calls of defined functions.
+ *
+ * - compileBuiltin / compileRegistry: parse and compile the same
+ *   function-heavy expression resolving names against the built-in
+ *   enum or the copy-on-write registry
+ * - evaluateInline / evaluateDefined: the same arithmetic written out,
+ *   or called as a function defined by an expression
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class FunctionRegistryBenchmark {
+
+    // Expression resolving several function names
+    private static final String EXPRESSION = "max(a, b) + sqrt(c) * min(a, c) - abs(b) mod 7";
+
+    private CalculatorService calculatorService;
+    private ExpressionCompiler builtinCompiler;
+    private ExpressionCompiler registryCompiler;
+    private ExpressionProgram inline;
+    private ExpressionProgram defined;
+
+    // Variable values kept in a field so the JIT cannot constant-fold them
+    private double[] variables = {2, 3, 6};
+
+    @Setup
+    public void setUp() {
+        calculatorService = BenchmarkStrategies.createService();
+        FunctionRegistry functionRegistry =
+                new FunctionRegistry(calculatorService, "hypot3(x, y, z) = sqrt(x*x + y*y + z*z)");
+        builtinCompiler = new ExpressionCompiler();
+        registryCompiler = new ExpressionCompiler(functionRegistry);
+        inline = registryCompiler.compile("sqrt(a*a + b*b + c*c)");
+        defined = registryCompiler.compile("hypot3(a, b, c)");
+    }
+
+    @Benchmark
+    public ExpressionProgram compileBuiltin() {
+        return builtinCompiler.compile(EXPRESSION);
+    }
+
+    @Benchmark
+    public ExpressionProgram compileRegistry() {
+        return registryCompiler.compile(EXPRESSION);
+    }
+
+    @Benchmark
+    public double evaluateInline() {
+        return inline.evaluateAsDouble(calculatorService, variables);
+    }
+
+    @Benchmark
+    public double evaluateDefined() {
+        return defined.evaluateAsDouble(calculatorService, variables);
+    }
+}
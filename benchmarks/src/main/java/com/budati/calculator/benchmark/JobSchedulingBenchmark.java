@@ -0,0 +1,123 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.dto.CalculationRequest;
+import com.budati.calculator.dto.OperationDescriptor;
+import com.budati.calculator.expression.*;
+import com.budati.calculator.job.CalculationJob;
+import com.budati.calculator.job.CalculationJobService;
+import com.budati.calculator.job.JobPriority;
+import com.budati.calculator.kernel.ScalarColumnKernels;
+import com.budati.calculator.service.CalculatorService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the time a small job takes to finish behind a backlog of large ones.
+ *
+ * Each invocation queues {@code backlog} large sequence jobs at LOW
+ * priority, then submits a small sequence job and waits for its result.
+ * HIGH is the default priority of small jobs; submitting it at LOW
+ * instead gives the first-come, first-served order of a plain queue.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class JobSchedulingBenchmark {
+
+    @Param({"4"})
+    private int backlog;
+
+    @Param({"HIGH", "LOW"})
+    private JobPriority smallPriority;
+
+    private CalculationJobService jobService;
+    private CalculationRequest largeRequest;
+    private CalculationRequest smallRequest;
+    private final List<CalculationJob> largeJobs = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        CalculatorService calculatorService = BenchmarkStrategies.createService();
+        ExpressionTieringPolicy tieringPolicy =
+                new ExpressionTieringPolicy(new BytecodeExpressionCompiler(calculatorService), 10000);
+        CompiledExpressionCache expressionCache = new CompiledExpressionCache(
+                new ExpressionCompiler(), new ExpressionOptimizer(calculatorService), tieringPolicy, 100);
+        BatchExpressionEvaluator batchEvaluator = new BatchExpressionEvaluator(
+                expressionCache, calculatorService, new ScalarColumnKernels(), 65536, 8192, Long.MAX_VALUE);
+        jobService = new CalculationJobService(
+                batchEvaluator, calculatorService, 1, 1000, 10000, 8192, Duration.ofSeconds(1));
+        largeRequest = sequence(500_000, "^", 1.5, 1 / 1.5);
+        smallRequest = sequence(100, "+", 1.5, -1.5);
+    }
+
+    @Setup(Level.Invocation)
+    public void queueBacklog() {
+        for (int i = 0; i < backlog; i++) {
+            largeJobs.add(jobService.submitSequence(largeRequest, JobPriority.LOW));
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void cancelBacklog() throws InterruptedException {
+        for (CalculationJob job : largeJobs) {
+            jobService.cancel(job.getId());
+        }
+        largeJobs.clear();
+        while (jobService.getRunningCount() > 0 || jobService.getQueuedCount() > 0) {
+            Thread.sleep(1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        jobService.destroy();
+    }
+
+    @Benchmark
+    public Object smallJob() throws InterruptedException {
+        CalculationJob job = jobService.submitSequence(smallRequest, smallPriority);
+        CountDownLatch finished = new CountDownLatch(1);
+        job.addListener(updated -> {
+            if (updated.getStatus().isTerminal()) {
+                finished.countDown();
+            }
+        });
+        finished.await();
+        return job.getResult();
+    }
+
+    /**
+     * Creates a sequence of one operation with alternating operands, so the value stays bounded.
+     *
+     * @param steps Number of steps
+     * @param symbol Operation symbol of every step
+     * @param even Operand of even steps
+     * @param odd Operand of odd steps
+     * @return Request
+     */
+    private static CalculationRequest sequence(int steps, String symbol, double even, double odd) {
+        List<OperationDescriptor> descriptors = new ArrayList<>(steps);
+        for (int i = 0; i < steps; i++) {
+            OperationDescriptor descriptor = new OperationDescriptor();
+            descriptor.setOperationSymbol(symbol);
+            descriptor.setOperationValue((i & 1) == 0 ? even : odd);
+            descriptors.add(descriptor);
+        }
+        CalculationRequest request = new CalculationRequest();
+        request.setBaseNumeric(2.0);
+        request.setMathematicalSteps(descriptors);
+        return request;
+    }
+}
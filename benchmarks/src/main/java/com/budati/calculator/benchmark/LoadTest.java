@@ -0,0 +1,147 @@
+package com.budati.calculator.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator for comparing request execution modes.
+ *
+ * Each simulated client sends one request, waits for the response and
+ * immediately sends the next, so the number of requests in flight equals
+ * the concurrency. Reports throughput and latency percentiles of the
+ * measurement phase. Requests rejected by admission control (429) are
+ * counted apart from errors and excluded from the latencies.
+ *
+ * Usage:
+ * {@code java -cp benchmarks/target/benchmarks.jar com.budati.calculator.benchmark.LoadTest
+ * <base-url> <concurrency> <warmup-seconds> <measure-seconds> [<path> <body-file>]}
+ *
+ * Without a path, a fixed expression is posted to /expression-compute.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class LoadTest {
+
+    // Request body sent to the expression endpoint by default
+    private static final String BODY = "{\"rawExpression\":\"2 * (3 + 4) - 10 / 5 ^ 2\"}";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 4 && args.length != 6) {
+            System.err.println(
+                    "Usage: LoadTest <base-url> <concurrency> <warmup-seconds> <measure-seconds> [<path> <body-file>]");
+            System.exit(2);
+        }
+        URI uri = URI.create(args[0] + (args.length == 6 ? args[4] : "/api/computational/expression-compute"));
+        String body = args.length == 6 ? Files.readString(Path.of(args[5])) : BODY;
+        int concurrency = Integer.parseInt(args[1]);
+        long warmupNanos = Duration.ofSeconds(Long.parseLong(args[2])).toNanos();
+        long measureNanos = Duration.ofSeconds(Long.parseLong(args[3])).toNanos();
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        long start = System.nanoTime();
+        long measureStart = start + warmupNanos;
+        long end = measureStart + measureNanos;
+
+        List<long[]> latencies = new ArrayList<>(concurrency);
+        int[] counts = new int[concurrency];
+        AtomicLong errors = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        for (int clientNumber = 0; clientNumber < concurrency; clientNumber++) {
+            int clientIndex = clientNumber;
+            long[] samples = new long[1 << 16];
+            latencies.add(samples);
+            Thread worker = new Thread(() -> {
+                long[] buffer = samples;
+                int count = 0;
+                try {
+                    long now;
+                    while ((now = System.nanoTime()) < end) {
+                        HttpResponse<Void> response;
+                        try {
+                            response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        long finished = System.nanoTime();
+                        boolean measured = now >= measureStart && finished < end;
+                        if (response.statusCode() == 429) {
+                            if (measured) {
+                                rejected.incrementAndGet();
+                            }
+                        } else if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        } else if (measured) {
+                            if (count == buffer.length) {
+                                buffer = Arrays.copyOf(buffer, count * 2);
+                                latencies.set(clientIndex, buffer);
+                            }
+                            buffer[count++] = finished - now;
+                        }
+                    }
+                } finally {
+                    counts[clientIndex] = count;
+                    done.countDown();
+                }
+            }, "load-" + clientIndex);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        done.await();
+
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int index = 0; index < concurrency; index++) {
+            System.arraycopy(latencies.get(index), 0, all, offset, counts[index]);
+            offset += counts[index];
+        }
+        Arrays.sort(all);
+
+        double seconds = measureNanos / 1e9;
+        System.out.printf("concurrency=%d requests=%d rejected=%d errors=%d throughput=%.0f req/s "
+                        + "p50=%.2f ms p99=%.2f ms max=%.2f ms%n",
+                concurrency, total, rejected.get(), errors.get(), total / seconds,
+                percentile(all, 0.50), percentile(all, 0.99), total == 0 ? 0 : all[total - 1] / 1e6);
+    }
+
+    /**
+     * Retrieves a latency percentile in milliseconds.
+     *
+     * @param sorted Sorted latencies in nanoseconds
+     * @param fraction Percentile between 0 and 1
+     * @return Latency in milliseconds
+     */
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,63 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.service.CalculationResultCache;
+import com.budati.calculator.service.CalculatorService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks single calculations with and without memoization.
+ *
+ * Calls cycle through {@code distinct} operand pairs, modelling traffic
+ * in which the same calculations repeat; with more distinct pairs than
+ * cache slots most lookups miss.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class MemoizationBenchmark {
+
+    @Param({"ADD", "POWER"})
+    private Operation operation;
+
+    @Param({"false", "true"})
+    private boolean memoized;
+
+    @Param({"64", "65536"})
+    private int distinct;
+
+    private CalculatorService calculatorService;
+    private Number[] bases;
+    private Number[] exponents;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        calculatorService = BenchmarkStrategies.createService();
+        if (memoized) {
+            calculatorService.setResultCache(new CalculationResultCache(4096, EnumSet.of(operation)));
+        }
+        bases = new Number[distinct];
+        exponents = new Number[distinct];
+        for (int pair = 0; pair < distinct; pair++) {
+            bases[pair] = 1.0 + pair / 1000.0;
+            exponents[pair] = 0.5 + pair % 17;
+        }
+    }
+
+    @Benchmark
+    public Number calculate() {
+        int pair = index++ & (distinct - 1);
+        return calculatorService.calculate(operation, bases[pair], exponents[pair]);
+    }
+}
@@ -0,0 +1,54 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.metrics.MicrometerCalculatorMetrics;
+import com.budati.calculator.metrics.NoOpCalculatorMetrics;
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.service.CalculatorService;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of instrumenting {@link CalculatorService#calculate(Operation, Number, Number)}.
+ *
+ * Compares the service without metrics to the service recording into a
+ * Prometheus registry with the default timer sample rate (64) and with every
+ * call timed.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+
+    // Timer sample rate; 0 disables metrics
+    @Param({"0", "64", "1"})
+    private int timerSampleRate;
+
+    private CalculatorService calculatorService;
+
+    // Operands kept in fields so the JIT cannot constant-fold them
+    private Number left = 12.5;
+    private Number right = 3;
+
+    @Setup
+    public void setUp() {
+        calculatorService = BenchmarkStrategies.createService();
+        calculatorService.setMetrics(timerSampleRate == 0
+                ? NoOpCalculatorMetrics.INSTANCE
+                : new MicrometerCalculatorMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT), timerSampleRate));
+    }
+
+    @Benchmark
+    public Number calculate() {
+        return calculatorService.calculate(Operation.MULTIPLY, left, right);
+    }
+}
@@ -0,0 +1,45 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.parser.ExpressionLexer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversion of numeric literals.
+ *
+ * Compares the lexer's number scanning with the former
+ * {@code parseNumericValue} approach of trying {@link Integer#parseInt(String)}
+ * and falling back to {@link Double#parseDouble(String)} on exception.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class NumberParsingBenchmark {
+
+    @Param({"42", "3.14159", "2.5e-3", "12345678901234567890.5"})
+    private String literal;
+
+    @Benchmark
+    public double lexer() {
+        ExpressionLexer lexer = new ExpressionLexer(literal);
+        lexer.next();
+        return lexer.getNumericValue();
+    }
+
+    @Benchmark
+    public Number integerThenDouble() {
+        try {
+            return Integer.parseInt(literal);
+        } catch (NumberFormatException e) {
+            return Double.parseDouble(literal);
+        }
+    }
+}
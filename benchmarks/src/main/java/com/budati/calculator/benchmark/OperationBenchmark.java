@@ -0,0 +1,64 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.model.DoubleOperationStrategy;
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.model.OperationStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks symbol lookup and each built-in operation strategy.
+ *
+ * Measures the boxed {@link OperationStrategy#apply(Number, Number)} path
+ * used by single computations next to the primitive
+ * {@link DoubleOperationStrategy#applyAsDouble(double, double)} path used
+ * by chains and expressions.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class OperationBenchmark {
+
+    @Param({"ADD", "SUBTRACT", "MULTIPLY", "DIVIDE", "POWER"})
+    private Operation operation;
+
+    private String symbol;
+    private OperationStrategy strategy;
+    private DoubleOperationStrategy doubleStrategy;
+
+    // Operands kept in fields so the JIT cannot constant-fold them
+    private Number boxedLeft = 12.5;
+    private Number boxedRight = 3;
+    private double left = 12.5;
+    private double right = 3;
+
+    @Setup
+    public void setUp() {
+        symbol = operation.getSymbol();
+        strategy = BenchmarkStrategies.create(operation);
+        doubleStrategy = (DoubleOperationStrategy) strategy;
+    }
+
+    @Benchmark
+    public Operation getBySymbol() {
+        return Operation.getBySymbol(symbol);
+    }
+
+    @Benchmark
+    public Number apply() {
+        return strategy.apply(boxedLeft, boxedRight);
+    }
+
+    @Benchmark
+    public double applyAsDouble() {
+        return doubleStrategy.applyAsDouble(left, right);
+    }
+}
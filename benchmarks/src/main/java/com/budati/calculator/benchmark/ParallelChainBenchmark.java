@@ -0,0 +1,68 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.service.CalculatorService;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks serial against fork-join evaluation of very long chains.
+ *
+ * A threshold of 0 evaluates every chain serially; otherwise chains of at
+ * least the threshold are split into additive terms evaluated in parallel.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class ParallelChainBenchmark {
+
+    // Operations repeated along the chain
+    private static final Operation[] PATTERN = {
+            Operation.ADD, Operation.MULTIPLY, Operation.SUBTRACT, Operation.DIVIDE
+    };
+
+    @Param({"65536", "1048576"})
+    private int length;
+
+    @Param({"0", "65536"})
+    private int parallelThreshold;
+
+    private CalculatorService calculatorService;
+    private List<Pair<Operation, Number>> operations;
+    private List<Pair<Operation, Number>> integerOperations;
+    private Number initialValue = 2;
+
+    @Setup
+    public void setUp() {
+        calculatorService = BenchmarkStrategies.createService();
+        calculatorService.setParallelism(parallelThreshold, 8192);
+        operations = new ArrayList<>(length);
+        integerOperations = new ArrayList<>(length);
+        for (int index = 0; index < length; index++) {
+            Operation operation = PATTERN[index % PATTERN.length];
+            operations.add(Pair.of(operation, 1.5 + index % 7));
+            integerOperations.add(Pair.of(operation == Operation.DIVIDE ? Operation.ADD : operation, 1 + index % 7));
+        }
+    }
+
+    @Benchmark
+    public Number chainCalculate() {
+        return calculatorService.chainCalculate(initialValue, operations);
+    }
+
+    @Benchmark
+    public Number integerChainCalculate() {
+        return calculatorService.chainCalculate(initialValue, integerOperations);
+    }
+}
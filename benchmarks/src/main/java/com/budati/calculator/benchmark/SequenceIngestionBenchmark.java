@@ -0,0 +1,80 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.dto.CalculationRequest;
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.service.CalculatorService;
+import com.budati.calculator.service.StreamingSequenceReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks binding a sequence request against reading it token by token.
+ *
+ * {@code bound} reproduces {@code /sequence-compute}: the body is bound to
+ * a {@link CalculationRequest}, copied to operation pairs and evaluated.
+ * {@code streamed} reproduces {@code /sequence-compute/streaming}. Run with
+ * {@code -prof gc} to compare allocation per request.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class SequenceIngestionBenchmark {
+
+    // Operations repeated along the sequence
+    private static final String[] PATTERN = {"+", "*", "-", "/"};
+
+    @Param({"1000", "100000"})
+    private int length;
+
+    private ObjectMapper objectMapper;
+    private CalculatorService calculatorService;
+    private StreamingSequenceReader reader;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        calculatorService = BenchmarkStrategies.createService();
+        reader = new StreamingSequenceReader(calculatorService, objectMapper);
+
+        StringBuilder json = new StringBuilder("{\"baseNumeric\":2,\"mathematicalSteps\":[");
+        for (int index = 0; index < length; index++) {
+            if (index > 0) {
+                json.append(',');
+            }
+            json.append("{\"operationSymbol\":\"").append(PATTERN[index % PATTERN.length])
+                    .append("\",\"operationValue\":").append(1.5 + index % 7).append('}');
+        }
+        body = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Number bound() throws IOException {
+        CalculationRequest request = objectMapper.readValue(body, CalculationRequest.class);
+        List<Pair<Operation, Number>> sequence = request.getMathematicalSteps()
+                .stream()
+                .map(step -> Pair.of(Operation.getBySymbol(step.getOperationSymbol()), step.getOperationValue()))
+                .collect(Collectors.toList());
+        return calculatorService.chainCalculate(request.getBaseNumeric(), sequence);
+    }
+
+    @Benchmark
+    public Number streamed() throws IOException {
+        return reader.read(new ByteArrayInputStream(body)).complete();
+    }
+}
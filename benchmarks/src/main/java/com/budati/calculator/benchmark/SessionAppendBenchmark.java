@@ -0,0 +1,75 @@
+package com.budati.calculator.benchmark;
+
+import com.budati.calculator.dto.CalculationSessionState;
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.service.CalculationSession;
+import com.budati.calculator.service.CalculationSessionRegistry;
+import com.budati.calculator.service.CalculatorService;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks adding one step to a sequence of a given length.
+ *
+ * {@code resend} evaluates the whole sequence again, as clients without
+ * sessions do after every step; {@code append} adds the step to a session
+ * already holding the sequence.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class SessionAppendBenchmark {
+
+    // Operations repeated along the sequence
+    private static final Operation[] PATTERN = {
+            Operation.ADD, Operation.MULTIPLY, Operation.SUBTRACT, Operation.DIVIDE
+    };
+
+    @Param({"10", "1000", "100000"})
+    private int length;
+
+    private CalculatorService calculatorService;
+    private CalculationSessionRegistry registry;
+    private List<Pair<Operation, Number>> operations;
+    private String sessionId;
+    private int step;
+
+    @Setup
+    public void setUp() {
+        calculatorService = BenchmarkStrategies.createService();
+        registry = new CalculationSessionRegistry(calculatorService, Duration.ofMinutes(30), DataSize.ofMegabytes(64));
+        CalculationSession session = registry.create(2.0);
+        sessionId = session.getId();
+        operations = new ArrayList<>(length);
+        for (int index = 0; index < length; index++) {
+            Pair<Operation, Number> operation = Pair.of(PATTERN[index % PATTERN.length], 1.5 + index % 7);
+            operations.add(operation);
+            session.append(operation.getLeft(), operation.getRight());
+        }
+    }
+
+    @Benchmark
+    public Number resend() {
+        return calculatorService.chainCalculate(2.0, operations);
+    }
+
+    @Benchmark
+    public CalculationSessionState append() {
+        // Alternate additions and subtractions so the value stays bounded
+        step++;
+        return registry.append(sessionId, (step & 1) == 0 ? Operation.ADD : Operation.SUBTRACT, 1.5);
+    }
+}
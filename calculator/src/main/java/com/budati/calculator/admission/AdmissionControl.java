@@ -0,0 +1,157 @@
+package com.budati.calculator.admission;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Admits computational requests against a concurrency limit per traffic class.
+ *
+ * Requests are weighed by their cost: one unit, plus one per
+ * {@code unitSize} bytes of request body. The body grows with the
+ * steps of a sequence, the values of a batch and the characters of an
+ * expression, so a long sequence holds as much of the limit as several
+ * short ones. Work that arrives without a request body, such as the
+ * frames of the binary protocol, is weighed by its number of operations
+ * instead: one unit, plus one per {@code unitOperations} operations.
+ * A body of unknown length, such as a chunked one, may be of any size
+ * and weighs the maximum limit of its class, so it is admitted only
+ * while nothing else of the class is running.
+ * Rejections are immediate and carry a retry hint derived from the
+ * average latency of the class.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class AdmissionControl implements MeterBinder {
+
+    // Admission control that admits every request
+    public static final AdmissionControl UNLIMITED = new AdmissionControl(Map.of(), 1, 1);
+
+    // Limiter of each traffic class; classes without one are not limited
+    private final Map<TrafficClass, ConcurrencyLimiter> limiters;
+
+    // Body bytes adding one unit of weight
+    private final long unitSize;
+
+    // Operations adding one unit of weight
+    private final long unitOperations;
+
+    /**
+     * Creates admission control.
+     *
+     * @param limiters Limiter of each limited traffic class
+     * @param unitSize Body bytes adding one unit of weight
+     * @param unitOperations Operations adding one unit of weight
+     */
+    public AdmissionControl(Map<TrafficClass, ConcurrencyLimiter> limiters, long unitSize, long unitOperations) {
+        this.limiters = limiters.isEmpty() ? Map.of() : new EnumMap<>(limiters);
+        this.unitSize = Math.max(1, unitSize);
+        this.unitOperations = Math.max(1, unitOperations);
+    }
+
+    /**
+     * Admits a request or rejects it immediately.
+     *
+     * @param trafficClass Traffic class of the request
+     * @param size Body size of the request in bytes, negative if unknown
+     * @return Permit to close once the request completes
+     * @throws AdmissionRejectedException If the traffic class is at its limit
+     */
+    public ConcurrencyLimiter.Permit admit(TrafficClass trafficClass, long size) {
+        ConcurrencyLimiter limiter = limiters.get(trafficClass);
+        if (size < 0 && limiter != null) {
+            return acquire(trafficClass, limiter.getMaxLimit());
+        }
+        return acquire(trafficClass, weigh(size, unitSize));
+    }
+
+    /**
+     * Admits a number of operations or rejects them immediately.
+     *
+     * @param trafficClass Traffic class of the operations
+     * @param operations Number of operations performed under the permit
+     * @return Permit to close once the operations complete
+     * @throws AdmissionRejectedException If the traffic class is at its limit
+     */
+    public ConcurrencyLimiter.Permit admitOperations(TrafficClass trafficClass, long operations) {
+        return acquire(trafficClass, weigh(operations, unitOperations));
+    }
+
+    /**
+     * Acquires a weight of the limit of a traffic class.
+     *
+     * @param trafficClass Traffic class of the request
+     * @param weight Weight of the request
+     * @return Permit to close once the request completes
+     * @throws AdmissionRejectedException If the traffic class is at its limit
+     */
+    private ConcurrencyLimiter.Permit acquire(TrafficClass trafficClass, int weight) {
+        ConcurrencyLimiter limiter = limiters.get(trafficClass);
+        if (limiter == null) {
+            return ConcurrencyLimiter.Permit.UNLIMITED;
+        }
+        ConcurrencyLimiter.Permit permit = limiter.tryAcquire(weight);
+        if (permit == null) {
+            long retryAfterSeconds = Math.max(1, (long) Math.ceil(limiter.getAverageLatencyNanos() / 1e9));
+            throw new AdmissionRejectedException(trafficClass, retryAfterSeconds);
+        }
+        return permit;
+    }
+
+    /**
+     * Computes the weight of a request.
+     *
+     * @param amount Body bytes or operations of the request
+     * @param unit Amount adding one unit of weight
+     * @return One, plus one per unit, capped so that sums cannot overflow
+     */
+    private static int weigh(long amount, long unit) {
+        return (int) Math.min(1 + Math.max(0, amount) / unit, 1 << 20);
+    }
+
+    /**
+     * Retrieves the limiter of a traffic class.
+     *
+     * @param trafficClass Traffic class
+     * @return Limiter, or null if the class is not limited
+     */
+    public ConcurrencyLimiter getLimiter(TrafficClass trafficClass) {
+        return limiters.get(trafficClass);
+    }
+
+    /**
+     * Registers gauges of the limit and the weight in flight, and counters
+     * of admitted and rejected requests, per traffic class.
+     *
+     * @param registry Registry receiving the meters
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        limiters.forEach((trafficClass, limiter) -> {
+            Gauge.builder("calculator.admission.limit", limiter, ConcurrencyLimiter::getLimit)
+                    .description("Weight of requests that may run at the same time")
+                    .tag("traffic", trafficClass.getName())
+                    .register(registry);
+            Gauge.builder("calculator.admission.inflight", limiter, ConcurrencyLimiter::getInflight)
+                    .description("Weight of admitted requests still running")
+                    .tag("traffic", trafficClass.getName())
+                    .register(registry);
+            FunctionCounter.builder("calculator.admission.requests", limiter, ConcurrencyLimiter::getAdmitted)
+                    .description("Requests admitted or rejected by admission control")
+                    .tag("traffic", trafficClass.getName())
+                    .tag("outcome", "admitted")
+                    .register(registry);
+            FunctionCounter.builder("calculator.admission.requests", limiter, ConcurrencyLimiter::getRejected)
+                    .description("Requests admitted or rejected by admission control")
+                    .tag("traffic", trafficClass.getName())
+                    .tag("outcome", "rejected")
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,108 @@
+package com.budati.calculator.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+
+/**
+ * Admits requests to handler methods marked {@link Admitted} before they are handled.
+ *
+ * The permit is held until the response is complete, so the latency
+ * sampled by the limiter includes reading the request body. Rejected
+ * requests get status 429 with a Retry-After header without their body
+ * being read.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    // Request attribute holding the permit of an admitted request
+    private static final String PERMIT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".permit";
+
+    // Limits requests are admitted against
+    private final AdmissionControl admissionControl;
+
+    /**
+     * Creates the interceptor.
+     *
+     * @param admissionControl Limits requests are admitted against
+     */
+    public AdmissionInterceptor(AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    /**
+     * Admits the request, weighed by its declared body size, or rejects it.
+     * A request without a declared length, such as a chunked one, weighs
+     * the maximum limit of its class.
+     *
+     * @param request Current request
+     * @param response Current response
+     * @param handler Handler chosen for the request
+     * @return False if the request was rejected and the response written
+     * @throws IOException If the rejection cannot be written
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Admitted admitted = handlerMethod.getMethodAnnotation(Admitted.class);
+        if (admitted == null) {
+            return true;
+        }
+        try {
+            request.setAttribute(PERMIT_ATTRIBUTE, admissionControl.admit(admitted.value(), getBodySize(request)));
+            return true;
+        } catch (AdmissionRejectedException e) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()));
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write(e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Determines the body size of a request.
+     *
+     * @param request Current request
+     * @return Declared body size in bytes, 0 if the request has no body, or
+     *         -1 if its body has no declared length
+     */
+    private static long getBodySize(HttpServletRequest request) {
+        long size = request.getContentLengthLong();
+        if (size < 0 && request.getHeader(HttpHeaders.TRANSFER_ENCODING) == null) {
+            // Neither a length nor a transfer coding: the request has no body
+            return 0;
+        }
+        return size;
+    }
+
+    /**
+     * Releases the permit of an admitted request.
+     *
+     * @param request Completed request
+     * @param response Response sent
+     * @param handler Handler of the request
+     * @param ex Exception raised by the handler, if any
+     */
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit instanceof ConcurrencyLimiter.Permit admittedPermit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            admittedPermit.close();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.budati.calculator.admission;
+
+/**
+ * Exception raised when a request is rejected because its traffic class is at its limit.
+ *
+ * Carries a hint of how long the client should wait before retrying.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    // Traffic class whose limit was reached
+    private final TrafficClass trafficClass;
+
+    // Suggested delay before retrying
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a rejection.
+     *
+     * @param trafficClass Traffic class whose limit was reached
+     * @param retryAfterSeconds Suggested delay before retrying, at least one second
+     */
+    public AdmissionRejectedException(TrafficClass trafficClass, long retryAfterSeconds) {
+        super("Too many " + trafficClass.getName() + " requests in progress, retry after "
+                + retryAfterSeconds + "s");
+        this.trafficClass = trafficClass;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Retrieves the traffic class whose limit was reached.
+     *
+     * @return Traffic class
+     */
+    public TrafficClass getTrafficClass() {
+        return trafficClass;
+    }
+
+    /**
+     * Retrieves the suggested delay before retrying.
+     *
+     * @return Delay in seconds
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
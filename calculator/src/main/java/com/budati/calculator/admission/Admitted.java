@@ -0,0 +1,30 @@
+package com.budati.calculator.admission;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler method whose requests pass admission control.
+ *
+ * Requests are admitted before their body is read, so that rejected
+ * requests cost no parsing, and are weighed by their body size.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Admitted {
+
+    /**
+     * Traffic class whose limit the requests are admitted against.
+     *
+     * @return Traffic class
+     */
+    TrafficClass value();
+}
@@ -0,0 +1,208 @@
+package com.budati.calculator.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limit adapted to latency by additive increase, multiplicative decrease.
+ *
+ * Requests hold a weight of the limit while they run. Each completed
+ * request is a sample of the latency per unit of weight:
+ * - Above the latency threshold, the service is congested and the limit
+ *   is multiplied by the backoff ratio
+ * - Otherwise, if at least half of the limit was in use, the limit grows
+ *   by one, probing for spare capacity
+ *
+ * A request is always admitted when nothing else is running, so requests
+ * heavier than the limit are delayed to quiet moments, not rejected forever.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class ConcurrencyLimiter {
+
+    // Weight of the admitted requests still running
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    // Bounds of the limit
+    private final int minLimit;
+    private final int maxLimit;
+
+    // Factor applied to the limit on congestion
+    private final double backoffRatio;
+
+    // Latency per unit of weight above which the service is congested
+    private final long latencyThresholdNanos;
+
+    // Current limit, fractional so that backoff can be gradual; written under the lock
+    private double limit;
+
+    // Limit as read by admission
+    private volatile int admittedLimit;
+
+    // Exponentially weighted average latency of a request; written under the lock
+    private volatile double averageLatencyNanos;
+
+    // Admitted and rejected requests
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Creates a limiter.
+     *
+     * @param initialLimit Limit before any sample
+     * @param minLimit Lowest limit
+     * @param maxLimit Highest limit
+     * @param backoffRatio Factor applied to the limit on congestion, between 0 and 1
+     * @param latencyThresholdNanos Latency per unit of weight above which the service is congested
+     * @throws IllegalArgumentException If the bounds or the ratio are inconsistent
+     */
+    public ConcurrencyLimiter(
+            int initialLimit, int minLimit, int maxLimit, double backoffRatio, long latencyThresholdNanos) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "Limits must satisfy 1 <= min <= initial <= max: " + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        if (!(backoffRatio > 0 && backoffRatio < 1)) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1: " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = initialLimit;
+        this.admittedLimit = initialLimit;
+    }
+
+    /**
+     * Admits a request if its weight fits under the limit.
+     *
+     * @param weight Share of the limit the request holds while running, at least 1
+     * @return Permit to close once the request completes, or null if the request is rejected
+     */
+    public Permit tryAcquire(int weight) {
+        int current;
+        do {
+            current = inflight.get();
+            if (current > 0 && current + weight > admittedLimit) {
+                rejected.increment();
+                return null;
+            }
+        } while (!inflight.compareAndSet(current, current + weight));
+        admitted.increment();
+        return new Permit(this, weight, current + weight);
+    }
+
+    /**
+     * Releases the weight of a completed request and adapts the limit to its latency.
+     *
+     * @param weight Weight the request held
+     * @param inflightAtStart Weight in flight, including the request, when it was admitted
+     * @param latencyNanos Time the request held its permit
+     */
+    private void release(int weight, int inflightAtStart, long latencyNanos) {
+        inflight.addAndGet(-weight);
+        synchronized (this) {
+            averageLatencyNanos = averageLatencyNanos == 0
+                    ? latencyNanos
+                    : averageLatencyNanos * 0.9 + latencyNanos * 0.1;
+            if (latencyNanos / weight > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (inflightAtStart * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            } else {
+                return;
+            }
+            admittedLimit = (int) limit;
+        }
+    }
+
+    /**
+     * Retrieves the current limit.
+     *
+     * @return Weight that may run at the same time
+     */
+    public int getLimit() {
+        return admittedLimit;
+    }
+
+    /**
+     * Retrieves the highest limit.
+     *
+     * @return Weight that may run at the same time at most
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Retrieves the weight of the admitted requests still running.
+     *
+     * @return Weight in flight
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * Retrieves the average time a request holds its permit.
+     *
+     * @return Exponentially weighted average latency in nanoseconds, 0 before any sample
+     */
+    public double getAverageLatencyNanos() {
+        return averageLatencyNanos;
+    }
+
+    /**
+     * Retrieves the number of admitted requests.
+     *
+     * @return Admitted requests
+     */
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+
+    /**
+     * Retrieves the number of rejected requests.
+     *
+     * @return Rejected requests
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Share of a limit held by an admitted request until it is closed.
+     */
+    public static final class Permit implements AutoCloseable {
+
+        // Permit of requests admitted without a limit
+        static final Permit UNLIMITED = new Permit(null, 0, 0);
+
+        private final ConcurrencyLimiter limiter;
+        private final int weight;
+        private final int inflightAtStart;
+        private final long startNanos;
+        private boolean closed;
+
+        Permit(ConcurrencyLimiter limiter, int weight, int inflightAtStart) {
+            this.limiter = limiter;
+            this.weight = weight;
+            this.inflightAtStart = inflightAtStart;
+            this.startNanos = limiter != null ? System.nanoTime() : 0;
+        }
+
+        /**
+         * Releases the permit, sampling the latency of the request.
+         * Closing it again has no effect.
+         */
+        @Override
+        public void close() {
+            if (limiter != null && !closed) {
+                closed = true;
+                limiter.release(weight, inflightAtStart, System.nanoTime() - startNanos);
+            }
+        }
+    }
+}
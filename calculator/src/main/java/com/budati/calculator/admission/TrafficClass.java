@@ -0,0 +1,28 @@
+package com.budati.calculator.admission;
+
+/**
+ * Classes of computational traffic admitted against separate concurrency limits.
+ *
+ * Keeping the classes apart means a spike of expensive requests cannot
+ * use up the capacity of cheap ones, and the other way round.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public enum TrafficClass {
+    // Single operations and cached expressions, microseconds each
+    CHEAP,
+
+    // Sequences and batches, whose cost grows with their steps or rows
+    EXPENSIVE;
+
+    /**
+     * Retrieves the name used in properties and metric tags.
+     *
+     * @return Lower-case name
+     */
+    public String getName() {
+        return name().toLowerCase();
+    }
+}
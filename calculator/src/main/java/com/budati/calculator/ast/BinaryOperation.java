@@ -0,0 +1,93 @@
+package com.budati.calculator.ast;
+
+import com.budati.calculator.model.Operation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Syntax tree node applying a binary {@link Operation} to two sub-expressions.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class BinaryOperation implements ExpressionNode {
+
+    // Operation to apply
+    private final Operation operation;
+
+    // Left-hand operand
+    private final ExpressionNode left;
+
+    // Right-hand operand
+    private final ExpressionNode right;
+
+    /**
+     * Constructs a binary operation node.
+     * 
+     * @param operation Operation to apply
+     * @param left Left-hand operand
+     * @param right Right-hand operand
+     */
+    public BinaryOperation(Operation operation, ExpressionNode left, ExpressionNode right) {
+        this.operation = operation;
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * Retrieves the operation applied by this node.
+     * 
+     * @return Operation
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Retrieves the left-hand operand.
+     * 
+     * @return Left operand node
+     */
+    public ExpressionNode getLeft() {
+        return left;
+    }
+
+    /**
+     * Retrieves the right-hand operand.
+     * 
+     * @return Right operand node
+     */
+    public ExpressionNode getRight() {
+        return right;
+    }
+
+    /**
+     * Collects the binary operations along the left spine of this node.
+     * 
+     * A left-associative chain such as "1 + 2 + 3" nests as deeply as it
+     * is long; visitors walk its spine in a loop and recurse only into the
+     * right operands, whose nesting the parser bounds.
+     * 
+     * @return Operations from the innermost, whose left operand is not a
+     *         binary operation, to this node
+     */
+    public List<BinaryOperation> leftSpine() {
+        List<BinaryOperation> spine = new ArrayList<>();
+        ExpressionNode node = this;
+        while (node instanceof BinaryOperation) {
+            BinaryOperation binary = (BinaryOperation) node;
+            spine.add(binary);
+            node = binary.left;
+        }
+        Collections.reverse(spine);
+        return spine;
+    }
+
+    @Override
+    public <R> R accept(ExpressionVisitor<R> visitor) {
+        return visitor.visitBinary(this);
+    }
+}
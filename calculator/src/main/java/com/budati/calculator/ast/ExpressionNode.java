@@ -0,0 +1,25 @@
+package com.budati.calculator.ast;
+
+/**
+ * Node of an immutable expression syntax tree.
+ * 
+ * Nodes hold no mutable state and may be shared freely between threads
+ * and between cached, optimized and compiled forms of an expression.
+ * 
+ * Design Pattern: Visitor Pattern
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public interface ExpressionNode {
+
+    /**
+     * Dispatches this node to the matching visitor method.
+     * 
+     * @param visitor Visitor to dispatch to
+     * @param <R> Result type of the visitor
+     * @return Result produced by the visitor
+     */
+    <R> R accept(ExpressionVisitor<R> visitor);
+}
@@ -0,0 +1,52 @@
+package com.budati.calculator.ast;
+
+/**
+ * Visitor over the node types of an expression syntax tree.
+ * 
+ * @param <R> Result type produced for each node
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public interface ExpressionVisitor<R> {
+
+    /**
+     * Visits a numeric literal.
+     * 
+     * @param node Literal node
+     * @return Visitor result
+     */
+    R visitNumber(NumberLiteral node);
+
+    /**
+     * Visits a variable reference.
+     * 
+     * @param node Variable node
+     * @return Visitor result
+     */
+    R visitVariable(VariableReference node);
+
+    /**
+     * Visits an arithmetic negation.
+     * 
+     * @param node Negation node
+     * @return Visitor result
+     */
+    R visitNegation(Negation node);
+
+    /**
+     * Visits a binary operation.
+     * 
+     * @param node Binary operation node
+     * @return Visitor result
+     */
+    R visitBinary(BinaryOperation node);
+
+    /**
+     * Visits a function call.
+     * 
+     * @param node Function call node
+     * @return Visitor result
+     */
+    R visitFunctionCall(FunctionCall node);
+}
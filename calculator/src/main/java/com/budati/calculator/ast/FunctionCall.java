@@ -0,0 +1,55 @@
+package com.budati.calculator.ast;
+
+import com.budati.calculator.model.ExpressionFunction;
+
+import java.util.List;
+
+/**
+ * Syntax tree node calling an {@link ExpressionFunction}.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class FunctionCall implements ExpressionNode {
+
+    // Function resolved at parse time
+    private final ExpressionFunction function;
+
+    // Argument sub-expressions, in call order
+    private final List<ExpressionNode> arguments;
+
+    /**
+     * Constructs a function call node.
+     * 
+     * @param function Function to call
+     * @param arguments Argument sub-expressions
+     */
+    public FunctionCall(ExpressionFunction function, List<ExpressionNode> arguments) {
+        this.function = function;
+        this.arguments = List.copyOf(arguments);
+    }
+
+    /**
+     * Retrieves the called function.
+     * 
+     * @return Function
+     */
+    public ExpressionFunction getFunction() {
+        return function;
+    }
+
+    /**
+     * Retrieves the argument sub-expressions.
+     * 
+     * @return Unmodifiable list of arguments
+     */
+    public List<ExpressionNode> getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public <R> R accept(ExpressionVisitor<R> visitor) {
+        return visitor.visitFunctionCall(this);
+    }
+}
@@ -0,0 +1,37 @@
+package com.budati.calculator.ast;
+
+/**
+ * Syntax tree node for the arithmetic negation of a sub-expression.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class Negation implements ExpressionNode {
+
+    // Sub-expression being negated
+    private final ExpressionNode operand;
+
+    /**
+     * Constructs a negation node.
+     * 
+     * @param operand Sub-expression being negated
+     */
+    public Negation(ExpressionNode operand) {
+        this.operand = operand;
+    }
+
+    /**
+     * Retrieves the negated sub-expression.
+     * 
+     * @return Operand node
+     */
+    public ExpressionNode getOperand() {
+        return operand;
+    }
+
+    @Override
+    public <R> R accept(ExpressionVisitor<R> visitor) {
+        return visitor.visitNegation(this);
+    }
+}
@@ -0,0 +1,63 @@
+package com.budati.calculator.ast;
+
+/**
+ * Syntax tree node for a numeric literal.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class NumberLiteral implements ExpressionNode {
+
+    // Value of the literal
+    private final double value;
+
+    // Whether the literal was written as an integer within the int range
+    private final boolean integral;
+
+    /**
+     * Constructs a literal node.
+     * 
+     * @param value Value of the literal
+     * @param integral Whether the literal was written as an int
+     */
+    public NumberLiteral(double value, boolean integral) {
+        this.value = value;
+        this.integral = integral;
+    }
+
+    /**
+     * Retrieves the value of the literal.
+     * 
+     * @return Literal value
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Indicates whether the literal was written as an int.
+     * 
+     * @return True for integer literals within the int range
+     */
+    public boolean isIntegral() {
+        return integral;
+    }
+
+    /**
+     * Converts the literal to its boxed form.
+     * 
+     * @return Integer for integral literals, Double otherwise
+     */
+    public Number toNumber() {
+        if (integral) {
+            return (int) value;
+        }
+        return value;
+    }
+
+    @Override
+    public <R> R accept(ExpressionVisitor<R> visitor) {
+        return visitor.visitNumber(this);
+    }
+}
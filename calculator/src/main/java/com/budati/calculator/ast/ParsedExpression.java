@@ -0,0 +1,48 @@
+package com.budati.calculator.ast;
+
+import java.util.List;
+
+/**
+ * Result of parsing an expression: its syntax tree and variables.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class ParsedExpression {
+
+    // Root node of the syntax tree
+    private final ExpressionNode root;
+
+    // Variable names indexed by slot, in order of first appearance
+    private final List<String> variableNames;
+
+    /**
+     * Constructs a parsed expression.
+     * 
+     * @param root Root node of the syntax tree
+     * @param variableNames Variable names indexed by slot
+     */
+    public ParsedExpression(ExpressionNode root, List<String> variableNames) {
+        this.root = root;
+        this.variableNames = List.copyOf(variableNames);
+    }
+
+    /**
+     * Retrieves the root of the syntax tree.
+     * 
+     * @return Root node
+     */
+    public ExpressionNode getRoot() {
+        return root;
+    }
+
+    /**
+     * Retrieves the variable names indexed by slot.
+     * 
+     * @return Unmodifiable list of variable names
+     */
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+}
@@ -0,0 +1,54 @@
+package com.budati.calculator.ast;
+
+/**
+ * Syntax tree node referring to a named variable.
+ * 
+ * Each distinct variable of an expression is assigned a slot, which
+ * indexes the variable vector supplied at evaluation time.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class VariableReference implements ExpressionNode {
+
+    // Name of the variable
+    private final String name;
+
+    // Index of the variable in the evaluation vector
+    private final int slot;
+
+    /**
+     * Constructs a variable reference.
+     * 
+     * @param name Name of the variable
+     * @param slot Index of the variable in the evaluation vector
+     */
+    public VariableReference(String name, int slot) {
+        this.name = name;
+        this.slot = slot;
+    }
+
+    /**
+     * Retrieves the name of the variable.
+     * 
+     * @return Variable name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the slot of the variable.
+     * 
+     * @return Index in the evaluation vector
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public <R> R accept(ExpressionVisitor<R> visitor) {
+        return visitor.visitVariable(this);
+    }
+}
@@ -0,0 +1,110 @@
+package com.budati.calculator.config;
+
+import com.budati.calculator.admission.AdmissionControl;
+import com.budati.calculator.admission.AdmissionInterceptor;
+import com.budati.calculator.admission.ConcurrencyLimiter;
+import com.budati.calculator.admission.TrafficClass;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration of the admission control of the computational endpoints.
+ *
+ * Cheap and expensive traffic each get an adaptive concurrency limit,
+ * enforced by an interceptor on the handler methods marked
+ * {@link com.budati.calculator.admission.Admitted}, and by the binary
+ * protocol listener on the operations of every read.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AdmissionConfiguration implements WebMvcConfigurer {
+
+    // Limits of the admitted requests
+    private final AdmissionControl admissionControl;
+
+    /**
+     * Creates the admission control from its properties.
+     *
+     * @param enabled Whether requests are limited; when false every request is admitted
+     * @param unitSize Request body size adding one unit of weight to a request
+     * @param unitOperations Binary protocol operations adding one unit of weight
+     * @param backoffRatio Factor applied to a limit when its traffic is congested
+     * @param cheapInitialLimit Initial limit of single operations and expressions
+     * @param cheapMaxLimit Highest limit of single operations and expressions
+     * @param cheapLatencyThreshold Latency per unit of weight above which cheap traffic is congested
+     * @param expensiveInitialLimit Initial limit of sequences and batches
+     * @param expensiveMaxLimit Highest limit of sequences and batches
+     * @param expensiveLatencyThreshold Latency per unit of weight above which expensive traffic is congested
+     */
+    public AdmissionConfiguration(
+            @Value("${calculator.admission.enabled:true}") boolean enabled,
+            @Value("${calculator.admission.unit-size:256KB}") DataSize unitSize,
+            @Value("${calculator.admission.unit-operations:1024}") long unitOperations,
+            @Value("${calculator.admission.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${calculator.admission.cheap.initial-limit:100}") int cheapInitialLimit,
+            @Value("${calculator.admission.cheap.max-limit:1000}") int cheapMaxLimit,
+            @Value("${calculator.admission.cheap.latency-threshold:20ms}") Duration cheapLatencyThreshold,
+            @Value("${calculator.admission.expensive.initial-limit:8}") int expensiveInitialLimit,
+            @Value("${calculator.admission.expensive.max-limit:64}") int expensiveMaxLimit,
+            @Value("${calculator.admission.expensive.latency-threshold:100ms}") Duration expensiveLatencyThreshold) {
+        if (!enabled) {
+            this.admissionControl = AdmissionControl.UNLIMITED;
+            return;
+        }
+        Map<TrafficClass, ConcurrencyLimiter> limiters = new EnumMap<>(TrafficClass.class);
+        limiters.put(TrafficClass.CHEAP, new ConcurrencyLimiter(
+                cheapInitialLimit, 1, cheapMaxLimit, backoffRatio, cheapLatencyThreshold.toNanos()));
+        limiters.put(TrafficClass.EXPENSIVE, new ConcurrencyLimiter(
+                expensiveInitialLimit, 1, expensiveMaxLimit, backoffRatio, expensiveLatencyThreshold.toNanos()));
+        this.admissionControl = new AdmissionControl(limiters, unitSize.toBytes(), unitOperations);
+    }
+
+    /**
+     * Exposes the admission control.
+     *
+     * @return Admission control with an adaptive limit per traffic class
+     */
+    @Bean
+    public AdmissionControl admissionControl() {
+        return admissionControl;
+    }
+
+    /**
+     * Publishes the limits and rejections of admission control.
+     *
+     * @param enabled Whether metrics are recorded
+     * @return Binder registering the admission meters, or doing nothing when metrics are disabled
+     */
+    @Bean
+    public MeterBinder admissionControlMeters(@Value("${calculator.metrics.enabled:true}") boolean enabled) {
+        return registry -> {
+            if (enabled) {
+                admissionControl.bindTo(registry);
+            }
+        };
+    }
+
+    /**
+     * Registers the interceptor admitting requests to the marked handler methods.
+     *
+     * @param registry Registry of the MVC interceptors
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionInterceptor(admissionControl));
+    }
+}
@@ -0,0 +1,207 @@
+package com.budati.calculator.config;
+
+import com.budati.calculator.job.CalculationJobService;
+import com.budati.calculator.kernel.ColumnKernelSelector;
+import com.budati.calculator.kernel.ColumnKernels;
+import com.budati.calculator.metrics.CalculatorMetrics;
+import com.budati.calculator.metrics.MicrometerCalculatorMetrics;
+import com.budati.calculator.metrics.NoOpCalculatorMetrics;
+import com.budati.calculator.model.*;
+import com.budati.calculator.parser.ExpressionLimits;
+import com.budati.calculator.service.CalculationResultCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Configuration class for registering mathematical operation strategies.
+ * 
+ * Centralizes the configuration of available computational strategies
+ * through dependency injection and bean management.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Configuration
+public class ComputationalConfiguration {
+
+    /**
+     * Configures and registers mathematical operation strategies.
+     * 
+     * Every {@link OperationStrategy} bean is registered under the
+     * operation it reports, so a strategy for a new {@link Operation}
+     * constant only needs to be declared as a component. Startup fails
+     * unless each operation has exactly one strategy.
+     * 
+     * @param strategies Operation strategy beans
+     * @return Map of registered operation strategies
+     * @throws IllegalStateException If an operation has no strategy, or more than one
+     */
+    @Bean
+    public Map<Operation, OperationStrategy> registerComputationalStrategies(List<OperationStrategy> strategies) {
+        return registerStrategies(strategies, OperationStrategy::getOperation, "operation");
+    }
+
+    /**
+     * Configures and registers the arbitrary-precision operation strategies.
+     * 
+     * Registered like {@link #registerComputationalStrategies}, from every
+     * {@link DecimalOperationStrategy} bean.
+     * 
+     * @param strategies Decimal operation strategy beans
+     * @return Map of registered decimal operation strategies
+     * @throws IllegalStateException If an operation has no decimal strategy, or more than one
+     */
+    @Bean
+    public Map<Operation, DecimalOperationStrategy> registerDecimalStrategies(List<DecimalOperationStrategy> strategies) {
+        return registerStrategies(strategies, DecimalOperationStrategy::getOperation, "decimal operation");
+    }
+
+    /**
+     * Indexes strategies by the operation they implement.
+     * 
+     * @param strategies Strategy beans
+     * @param operationOf Retrieves the operation of a strategy
+     * @param kind Kind of strategy, for error messages
+     * @return Map holding one strategy for every operation
+     * @throws IllegalStateException If an operation has no strategy, or more than one
+     */
+    private static <S> Map<Operation, S> registerStrategies(
+            List<S> strategies, Function<S, Operation> operationOf, String kind) {
+        Map<Operation, S> strategyRegistry = new EnumMap<>(Operation.class);
+        for (S strategy : strategies) {
+            Operation operation = operationOf.apply(strategy);
+            S previous = strategyRegistry.putIfAbsent(operation, strategy);
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate " + kind + " strategies for " + operation + ": "
+                        + previous.getClass().getName() + " and " + strategy.getClass().getName());
+            }
+        }
+        Set<Operation> missing = EnumSet.allOf(Operation.class);
+        missing.removeAll(strategyRegistry.keySet());
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("No " + kind + " strategy registered for " + missing);
+        }
+        return strategyRegistry;
+    }
+
+    /**
+     * Selects the column kernels used for batch evaluation.
+     * 
+     * Vector kernels require the JVM to be started with
+     * {@code --add-modules jdk.incubator.vector}; scalar kernels are
+     * used otherwise.
+     * 
+     * @param vectorEnabled Whether vector kernels may be used
+     * @return Selected column kernels
+     */
+    @Bean
+    public ColumnKernels columnKernels(
+            @Value("${calculator.batch.vector-kernels.enabled:true}") boolean vectorEnabled) {
+        return ColumnKernelSelector.select(vectorEnabled);
+    }
+
+    /**
+     * Creates the bounds on the cost of a single expression.
+     * 
+     * @param maxLength Maximum characters of an expression
+     * @param maxTokens Maximum tokens of an expression
+     * @param maxDepth Maximum nesting depth of an expression
+     * @param maxSteps Maximum instructions executed by one evaluation, including called defined functions
+     * @param maxPrecision Maximum significant digits of an arbitrary-precision evaluation
+     * @param maxEvaluationTime Maximum duration of an arbitrary-precision evaluation
+     * @return Limits applied by the expression compiler and the function registry
+     */
+    @Bean
+    public ExpressionLimits expressionLimits(
+            @Value("${calculator.expressions.max-length:65536}") int maxLength,
+            @Value("${calculator.expressions.max-tokens:10000}") int maxTokens,
+            @Value("${calculator.expressions.max-depth:256}") int maxDepth,
+            @Value("${calculator.expressions.max-steps:1000000}") long maxSteps,
+            @Value("${calculator.expressions.max-precision:1000}") int maxPrecision,
+            @Value("${calculator.expressions.max-evaluation-time:1s}") Duration maxEvaluationTime) {
+        return new ExpressionLimits(maxLength, maxTokens, maxDepth, maxSteps, maxPrecision, maxEvaluationTime);
+    }
+
+    /**
+     * Creates the memoization cache of single calculations.
+     * 
+     * @param maximumSize Number of cached results
+     * @param operations Operations whose results are cached initially; empty disables memoization
+     * @return Result cache, reconfigurable at runtime through the memoization actuator endpoint
+     */
+    @Bean
+    public CalculationResultCache calculationResultCache(
+            @Value("${calculator.memoization.maximum-size:4096}") int maximumSize,
+            @Value("${calculator.memoization.operations:}") Set<Operation> operations) {
+        return new CalculationResultCache(maximumSize, operations);
+    }
+
+    /**
+     * Publishes the hit and miss counts of the memoization cache.
+     * 
+     * @param resultCache Cache of single calculation results
+     * @param enabled Whether metrics are recorded
+     * @return Binder registering the cache meters, or doing nothing when metrics are disabled
+     */
+    @Bean
+    public MeterBinder calculationResultCacheMeters(
+            CalculationResultCache resultCache,
+            @Value("${calculator.metrics.enabled:true}") boolean enabled) {
+        return registry -> {
+            if (enabled) {
+                resultCache.bindTo(registry);
+            }
+        };
+    }
+
+    /**
+     * Publishes the queue depth and outcomes of calculation jobs.
+     * 
+     * @param jobService Service running calculation jobs
+     * @param enabled Whether metrics are recorded
+     * @return Binder registering the job meters, or doing nothing when metrics are disabled
+     */
+    @Bean
+    public MeterBinder calculationJobMeters(
+            CalculationJobService jobService,
+            @Value("${calculator.metrics.enabled:true}") boolean enabled) {
+        return registry -> {
+            if (enabled) {
+                jobService.bindTo(registry);
+            }
+        };
+    }
+
+    /**
+     * Creates the instrumentation of the calculation hot path.
+     * 
+     * @param meterRegistry Registry receiving the meters, if any
+     * @param enabled Whether metrics are recorded
+     * @param timerSampleRate One in this many calculations is timed
+     * @return Calculator metrics, or a no-op implementation when disabled
+     */
+    @Bean
+    public CalculatorMetrics calculatorMetrics(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${calculator.metrics.enabled:true}") boolean enabled,
+            @Value("${calculator.metrics.timer-sample-rate:64}") int timerSampleRate) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (!enabled || registry == null) {
+            return NoOpCalculatorMetrics.INSTANCE;
+        }
+        return new MicrometerCalculatorMetrics(registry, timerSampleRate);
+    }
+}
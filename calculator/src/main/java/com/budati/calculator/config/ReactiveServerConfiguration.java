@@ -0,0 +1,35 @@
+package com.budati.calculator.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the embedded server for the reactive web stack.
+ * 
+ * Both Tomcat and Reactor Netty are on the classpath, and Spring Boot
+ * would run a reactive application on Tomcat by default. Declaring the
+ * Netty factory makes the "reactive" profile serve on Netty instead.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfiguration {
+
+    /**
+     * Creates the Netty server factory.
+     * 
+     * Server properties such as {@code server.port} are still applied by
+     * Spring Boot's customizers.
+     * 
+     * @return Netty server factory
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
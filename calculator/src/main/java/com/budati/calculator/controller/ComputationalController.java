@@ -0,0 +1,706 @@
+package com.budati.calculator.controller;
+
+import com.budati.calculator.admission.Admitted;
+import com.budati.calculator.admission.TrafficClass;
+import com.budati.calculator.dto.BatchComputationRequest;
+import com.budati.calculator.dto.CalculationJobState;
+import com.budati.calculator.dto.CalculationRequest;
+import com.budati.calculator.dto.CalculationSessionState;
+import com.budati.calculator.dto.ExpressionCacheStatistics;
+import com.budati.calculator.dto.FunctionDefinition;
+import com.budati.calculator.dto.FunctionDescriptor;
+import com.budati.calculator.dto.MathematicalExpression;
+import com.budati.calculator.dto.OperationDescriptor;
+import com.budati.calculator.dto.PreparedExpressionDescriptor;
+import com.budati.calculator.dto.ResultType;
+import com.budati.calculator.expression.BatchExpressionEvaluator;
+import com.budati.calculator.expression.CompiledExpressionCache;
+import com.budati.calculator.expression.DecimalExpressionEvaluator;
+import com.budati.calculator.expression.FunctionRegistry;
+import com.budati.calculator.expression.PreparedExpression;
+import com.budati.calculator.expression.PreparedExpressionRegistry;
+import com.budati.calculator.expression.TieredExpression;
+import com.budati.calculator.job.CalculationJob;
+import com.budati.calculator.job.CalculationJobService;
+import com.budati.calculator.job.JobPriority;
+import com.budati.calculator.metrics.CalculatorMetrics;
+import com.budati.calculator.metrics.NoOpCalculatorMetrics;
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.parser.ExpressionLimitException;
+import com.budati.calculator.parser.ExpressionLimits;
+import com.budati.calculator.service.CalculationSession;
+import com.budati.calculator.service.CalculationSessionRegistry;
+import com.budati.calculator.service.CalculatorService;
+import com.budati.calculator.service.ChainAccumulator;
+import com.budati.calculator.service.DecimalCalculatorService;
+import com.budati.calculator.service.StreamingSequenceReader;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * RESTful controller for advanced mathematical calculations.
+ * 
+ * Provides endpoints for various calculation scenarios:
+ * - Basic single operations
+ * - Chained mathematical sequences, optionally streamed from the request body
+ * - Expression-based evaluations
+ * - Columnar batch evaluations
+ * - Prepared expressions evaluated by identifier
+ * - Calculation sessions built one step at a time
+ * - Functions defined at runtime for use in expressions
+ * - Long sequences and batches run as asynchronous jobs
+ * 
+ * Single, sequence and expression computations run in arbitrary
+ * precision when the request specifies a precision.
+ * 
+ * Computations are admitted against an adaptive concurrency limit for
+ * cheap (single, expression, prepared, session steps, function
+ * definitions) and expensive (sequence, batch, new sessions) traffic;
+ * requests beyond it are rejected with status 429 and a Retry-After
+ * header. Jobs are bounded by the queue of the job service instead.
+ * 
+ * Expressions exceeding the configured length, token, depth, step,
+ * precision or time limits, and single or sequence computations beyond
+ * the precision limit, are rejected with status 422 and a problem detail naming
+ * the limit.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@RestController
+@RequestMapping("/api/computational")
+public class ComputationalController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ComputationalController.class);
+
+    @Autowired
+    private CalculatorService calculatorService;
+
+    @Autowired
+    private DecimalCalculatorService decimalCalculatorService;
+
+    @Autowired
+    private CompiledExpressionCache expressionCache;
+
+    @Autowired
+    private DecimalExpressionEvaluator decimalExpressionEvaluator;
+
+    @Autowired
+    private BatchExpressionEvaluator batchEvaluator;
+
+    @Autowired
+    private PreparedExpressionRegistry preparedExpressions;
+
+    @Autowired
+    private StreamingSequenceReader sequenceReader;
+
+    @Autowired
+    private CalculationSessionRegistry sessions;
+
+    @Autowired
+    private FunctionRegistry functions;
+
+    @Autowired
+    private CalculationJobService jobs;
+
+    @Autowired
+    private ExpressionLimits expressionLimits;
+
+    @Autowired(required = false)
+    private CalculatorMetrics metrics = NoOpCalculatorMetrics.INSTANCE;
+
+    /**
+     * Performs a single mathematical operation.
+     * 
+     * @param operation Selected mathematical operation
+     * @param firstOperand First numeric value
+     * @param secondOperand Second numeric value
+     * @param precision Significant digits of an arbitrary-precision result, 0 for exact, or null for double
+     * @param roundingMode Rounding of an arbitrary-precision result, or null for HALF_EVEN
+     * @return Computation result
+     * @throws ExpressionLimitException With status 422 if the precision exceeds the limit
+     */
+    @PostMapping("/single-compute")
+    @Admitted(TrafficClass.CHEAP)
+    public Number performSingleComputation(
+            @RequestParam Operation operation, 
+            @RequestParam Number firstOperand, 
+            @RequestParam Number secondOperand,
+            @RequestParam(required = false) Integer precision,
+            @RequestParam(required = false) RoundingMode roundingMode) {
+        MathContext mathContext = DecimalCalculatorService.createMathContext(precision, roundingMode, expressionLimits);
+        if (mathContext != null) {
+            return decimalCalculatorService.calculate(operation, firstOperand, secondOperand, mathContext);
+        }
+        return performSingleComputation(operation, firstOperand, secondOperand);
+    }
+
+    /**
+     * Performs a single mathematical operation in double precision.
+     * 
+     * @param operation Selected mathematical operation
+     * @param firstOperand First numeric value
+     * @param secondOperand Second numeric value
+     * @return Computation result
+     */
+    public Number performSingleComputation(Operation operation, Number firstOperand, Number secondOperand) {
+        return calculatorService.calculate(operation, firstOperand, secondOperand);
+    }
+
+    /**
+     * Executes a sequence of mathematical operations.
+     * 
+     * Integer sequences are computed exactly. The numeric type of the
+     * result is reported in the {@value ResultType#HEADER} header.
+     * 
+     * @param request Calculation request with initial value and operation sequence
+     * @return Computation result
+     * @throws ExpressionLimitException With status 422 if the precision exceeds the limit
+     */
+    @PostMapping("/sequence-compute")
+    @Admitted(TrafficClass.EXPENSIVE)
+    public ResponseEntity<String> computeSequence(@RequestBody CalculationRequest request) {
+        try {
+            metrics.recordChainLength(request.getMathematicalSteps().size());
+            List<Pair<Operation, Number>> computationalSequence = request.getMathematicalSteps()
+                    .stream()
+                    .map(step -> {
+                        Operation operation = Operation.getBySymbol(step.getOperationSymbol());
+                        return Pair.of(operation, step.getOperationValue());
+                    })
+                    .collect(Collectors.toList());
+
+            MathContext mathContext = DecimalCalculatorService.createMathContext(
+                    request.getPrecision(), request.getRoundingMode(), expressionLimits);
+            Number result = mathContext != null
+                    ? decimalCalculatorService.chainCalculate(
+                            request.getBaseNumeric(), computationalSequence, mathContext, expressionLimits)
+                    : calculatorService.chainCalculate(request.getBaseNumeric(), computationalSequence);
+            return ResponseEntity.ok()
+                    .header(ResultType.HEADER, ResultType.of(result).getName())
+                    .body(result.toString());
+        } catch (ExpressionLimitException e) {
+            metrics.recordFailure("sequence-compute", e);
+            throw e;
+        } catch (Exception e) {
+            LOGGER.debug("Rejected computational sequence", e);
+            metrics.recordFailure("sequence-compute", e);
+            return ResponseEntity.ok("Invalid computational sequence");
+        }
+    }
+
+    /**
+     * Executes a sequence of mathematical operations read incrementally from the request body.
+     * 
+     * Accepts the same body as {@link #computeSequence(CalculationRequest)},
+     * with {@code baseNumeric} before {@code mathematicalSteps}, and
+     * evaluates each step as soon as it is parsed, so memory use does not
+     * depend on the length of the sequence. Arbitrary precision is not
+     * supported.
+     * 
+     * @param body JSON request body
+     * @return Computation result, with its type in the result type header
+     */
+    @PostMapping("/sequence-compute/streaming")
+    @Admitted(TrafficClass.EXPENSIVE)
+    public ResponseEntity<String> computeSequenceStreaming(InputStream body) {
+        try {
+            ChainAccumulator accumulator = sequenceReader.read(body);
+            metrics.recordChainLength((int) Math.min(accumulator.getLength(), Integer.MAX_VALUE));
+            Number result = accumulator.complete();
+            return ResponseEntity.ok()
+                    .header(ResultType.HEADER, ResultType.of(result).getName())
+                    .body(result.toString());
+        } catch (Exception e) {
+            LOGGER.debug("Rejected streamed computational sequence", e);
+            metrics.recordFailure("sequence-compute-streaming", e);
+            return ResponseEntity.ok("Invalid computational sequence");
+        }
+    }
+
+    /**
+     * Executes a sequence of mathematical operations with a default initial value of 5.
+     * This overloaded method is primarily used for testing purposes.
+     * 
+     * @param operations List of operation-value pairs to execute
+     * @return Computation result
+     */
+    public Number computeSequence(List<Pair<Operation, Number>> operations) {
+        return calculatorService.chainCalculate(5, operations);
+    }
+
+    /**
+     * Evaluates a free-form mathematical expression.
+     * 
+     * Expressions are compiled once and served from the compiled
+     * expression cache on subsequent calls; hot expressions are
+     * promoted to bytecode. Arbitrary-precision requests are parsed
+     * and evaluated in decimal on every call.
+     * 
+     * @param expression Mathematical expression input
+     * @return Computation result
+     * @throws ExpressionLimitException With status 422 if the expression exceeds a limit
+     */
+    @PostMapping("/expression-compute")
+    @Admitted(TrafficClass.CHEAP)
+    public String evaluateExpression(@RequestBody MathematicalExpression expression) {
+        try {
+            MathContext mathContext = DecimalCalculatorService.createMathContext(
+                    expression.getPrecision(), expression.getRoundingMode(), expressionLimits);
+            if (mathContext != null) {
+                return decimalExpressionEvaluator.evaluate(expression.getRawExpression(), mathContext).toString();
+            }
+            TieredExpression compiledExpression = expressionCache.getExpression(expression.getRawExpression());
+            Number result = compiledExpression.evaluate(calculatorService);
+            return result.toString();
+        } catch (ExpressionLimitException e) {
+            metrics.recordFailure("expression-compute", e);
+            throw e;
+        } catch (Exception e) {
+            LOGGER.debug("Rejected expression '{}'", expression.getRawExpression(), e);
+            metrics.recordFailure("expression-compute", e);
+            return "Invalid expression format";
+        }
+    }
+
+    /**
+     * Evaluates one expression over columnar input in a single call.
+     * 
+     * @param request Expression with named variables and one column per variable
+     * @return One result per row
+     * @throws ResponseStatusException With status 400 if the request is invalid
+     *         or a row fails to evaluate
+     * @throws ExpressionLimitException With status 422 if the expression exceeds a limit
+     */
+    @PostMapping("/batch")
+    @Admitted(TrafficClass.EXPENSIVE)
+    public double[] evaluateBatch(@RequestBody BatchComputationRequest request) {
+        try {
+            return batchEvaluator.evaluate(request.getExpression(), request.getColumns());
+        } catch (ExpressionLimitException e) {
+            throw e;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Registers an expression with variables for repeated evaluation.
+     * 
+     * @param expression Expression input, e.g. "a * b + c"
+     * @return Identifier and variable order of the prepared expression
+     * @throws ResponseStatusException With status 400 if the expression is invalid
+     * @throws ExpressionLimitException With status 422 if the expression exceeds a limit
+     */
+    @PostMapping("/prepared")
+    @Admitted(TrafficClass.CHEAP)
+    public PreparedExpressionDescriptor prepareExpression(@RequestBody MathematicalExpression expression) {
+        try {
+            PreparedExpression prepared = preparedExpressions.register(expression.getRawExpression());
+            return new PreparedExpressionDescriptor(
+                    prepared.getId(), prepared.getRawExpression(), prepared.getVariableNames());
+        } catch (ExpressionLimitException e) {
+            throw e;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Evaluates a prepared expression with one value per variable.
+     * 
+     * @param id Identifier returned at registration
+     * @param variables Variable values in the order returned at registration
+     * @return Computation result
+     * @throws ResponseStatusException With status 404 if the identifier is unknown,
+     *         or 400 if the values do not match the variables or evaluation fails
+     */
+    @PostMapping("/prepared/{id}")
+    @Admitted(TrafficClass.CHEAP)
+    public double evaluatePreparedExpression(@PathVariable String id, @RequestBody double[] variables) {
+        PreparedExpression prepared = getPreparedExpression(id);
+        try {
+            return prepared.evaluate(calculatorService, variables);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Describes a prepared expression.
+     * 
+     * @param id Identifier returned at registration
+     * @return Identifier and variable order of the prepared expression
+     * @throws ResponseStatusException With status 404 if the identifier is unknown
+     */
+    @GetMapping("/prepared/{id}")
+    public PreparedExpressionDescriptor describePreparedExpression(@PathVariable String id) {
+        PreparedExpression prepared = getPreparedExpression(id);
+        return new PreparedExpressionDescriptor(
+                prepared.getId(), prepared.getRawExpression(), prepared.getVariableNames());
+    }
+
+    /**
+     * Releases a prepared expression.
+     * 
+     * @param id Identifier returned at registration
+     * @throws ResponseStatusException With status 404 if the identifier is unknown
+     */
+    @DeleteMapping("/prepared/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void releasePreparedExpression(@PathVariable String id) {
+        if (!preparedExpressions.remove(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown prepared expression: " + id);
+        }
+    }
+
+    /**
+     * Looks up a prepared expression by identifier.
+     * 
+     * @param id Identifier returned at registration
+     * @return Prepared expression
+     * @throws ResponseStatusException With status 404 if the identifier is unknown
+     */
+    private PreparedExpression getPreparedExpression(String id) {
+        PreparedExpression prepared = preparedExpressions.get(id);
+        if (prepared == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown prepared expression: " + id);
+        }
+        return prepared;
+    }
+
+    /**
+     * Creates a calculation session, optionally with initial steps.
+     * 
+     * @param request Initial value and optional steps; arbitrary precision is not supported
+     * @return Identifier and value of the session
+     * @throws ResponseStatusException With status 400 if the request is invalid
+     */
+    @PostMapping("/sessions")
+    @Admitted(TrafficClass.EXPENSIVE)
+    public CalculationSessionState createSession(@RequestBody CalculationRequest request) {
+        try {
+            if (request.getPrecision() != null || request.getRoundingMode() != null) {
+                throw new IllegalArgumentException("Arbitrary precision is not supported for sessions");
+            }
+            CalculationSession session = sessions.create(request.getBaseNumeric());
+            try {
+                if (request.getMathematicalSteps() != null) {
+                    for (OperationDescriptor step : request.getMathematicalSteps()) {
+                        sessions.append(session.getId(),
+                                Operation.getBySymbol(step.getOperationSymbol()), step.getOperationValue());
+                    }
+                }
+            } catch (RuntimeException e) {
+                sessions.remove(session.getId());
+                throw e;
+            }
+            return session.getState();
+        } catch (IllegalArgumentException | UnsupportedOperationException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Appends a step to a calculation session.
+     * 
+     * A rejected step leaves the session unchanged.
+     * 
+     * @param id Identifier returned at creation
+     * @param step Operation and operand to append
+     * @return Value of the session after the step
+     * @throws ResponseStatusException With status 404 if the identifier is unknown or expired,
+     *         or 400 if the step is invalid or makes the sequence fail
+     */
+    @PostMapping("/sessions/{id}/steps")
+    @Admitted(TrafficClass.CHEAP)
+    public CalculationSessionState appendSessionStep(@PathVariable String id, @RequestBody OperationDescriptor step) {
+        CalculationSessionState state;
+        try {
+            state = sessions.append(id, Operation.getBySymbol(step.getOperationSymbol()), step.getOperationValue());
+        } catch (IllegalArgumentException | UnsupportedOperationException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        if (state == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown session: " + id);
+        }
+        return state;
+    }
+
+    /**
+     * Reads the current value of a calculation session.
+     * 
+     * @param id Identifier returned at creation
+     * @return Value of the session
+     * @throws ResponseStatusException With status 404 if the identifier is unknown or expired
+     */
+    @GetMapping("/sessions/{id}")
+    public CalculationSessionState getSession(@PathVariable String id) {
+        CalculationSession session = sessions.get(id);
+        if (session == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown session: " + id);
+        }
+        return session.getState();
+    }
+
+    /**
+     * Closes a calculation session.
+     * 
+     * @param id Identifier returned at creation
+     * @throws ResponseStatusException With status 404 if the identifier is unknown or expired
+     */
+    @DeleteMapping("/sessions/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void closeSession(@PathVariable String id) {
+        if (!sessions.remove(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown session: " + id);
+        }
+    }
+
+    /**
+     * Lists the functions that expressions may call.
+     * 
+     * @return Functions ordered by name
+     */
+    @GetMapping("/functions")
+    public List<FunctionDescriptor> listFunctions() {
+        return functions.getFunctions().stream()
+                .map(FunctionDescriptor::new)
+                .sorted(Comparator.comparing(FunctionDescriptor::getName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Defines a function, or replaces a previous definition of the same name.
+     * 
+     * Takes effect for expressions evaluated afterwards; prepared
+     * expressions keep the definitions they were prepared with.
+     * 
+     * @param definition Definition such as "hypot3(x, y, z) = sqrt(x*x + y*y + z*z)" and optional infix priority
+     * @return Description of the defined function
+     * @throws ResponseStatusException With status 400 if the definition is invalid
+     *         or names a built-in or plugin function
+     * @throws ExpressionLimitException With status 422 if the expression exceeds a limit
+     */
+    @PostMapping("/functions")
+    @Admitted(TrafficClass.CHEAP)
+    public FunctionDescriptor defineFunction(@RequestBody FunctionDefinition definition) {
+        int precedence = definition.getPrecedence() != null ? definition.getPrecedence() : 0;
+        try {
+            return new FunctionDescriptor(functions.define(definition.getDefinition(), precedence));
+        } catch (ExpressionLimitException e) {
+            throw e;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Removes a defined function.
+     * 
+     * @param name Function name
+     * @throws ResponseStatusException With status 404 if no function has the name,
+     *         or 400 if it is a built-in or plugin function
+     */
+    @DeleteMapping("/functions/{name}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void removeFunction(@PathVariable String name) {
+        boolean removed;
+        try {
+            removed = functions.remove(name);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        if (!removed) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown function: " + name);
+        }
+    }
+
+    /**
+     * Submits a sequence of mathematical operations as a background job.
+     * 
+     * @param request Same body as /sequence-compute; arbitrary precision is not supported
+     * @param priority Scheduling priority; by default HIGH for small sequences and LOW otherwise
+     * @return State of the queued job, with status 202
+     * @throws ResponseStatusException With status 400 if the request is invalid,
+     *         or 503 if the job queue is full
+     */
+    @PostMapping("/jobs/sequence")
+    public ResponseEntity<CalculationJobState> submitSequenceJob(
+            @RequestBody CalculationRequest request,
+            @RequestParam(required = false) JobPriority priority) {
+        try {
+            return ResponseEntity.accepted().body(new CalculationJobState(jobs.submitSequence(request, priority)));
+        } catch (IllegalArgumentException | UnsupportedOperationException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Submits a columnar batch evaluation as a background job.
+     * 
+     * @param request Same body as /batch
+     * @param priority Scheduling priority; by default HIGH for small batches and LOW otherwise
+     * @return State of the queued job, with status 202
+     * @throws ResponseStatusException With status 400 if the request is invalid,
+     *         or 503 if the job queue is full
+     * @throws ExpressionLimitException With status 422 if the expression exceeds a limit
+     */
+    @PostMapping("/jobs/batch")
+    public ResponseEntity<CalculationJobState> submitBatchJob(
+            @RequestBody BatchComputationRequest request,
+            @RequestParam(required = false) JobPriority priority) {
+        try {
+            return ResponseEntity.accepted().body(new CalculationJobState(jobs.submitBatch(request, priority)));
+        } catch (ExpressionLimitException e) {
+            throw e;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Polls the state of a job.
+     * 
+     * @param id Identifier returned at submission
+     * @return Status and progress of the job, with its result once it has succeeded
+     * @throws ResponseStatusException With status 404 if the identifier is unknown or expired
+     */
+    @GetMapping("/jobs/{id}")
+    public CalculationJobState getJob(@PathVariable String id) {
+        return new CalculationJobState(findJob(id));
+    }
+
+    /**
+     * Subscribes to the progress of a job.
+     * 
+     * Streams a "progress" event with the job state whenever the job
+     * starts or reports progress, then a "completed" event with the final
+     * state, after which the stream ends.
+     * 
+     * @param id Identifier returned at submission
+     * @return Server-sent event stream of job states
+     * @throws ResponseStatusException With status 404 if the identifier is unknown or expired
+     */
+    @GetMapping(path = "/jobs/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeJob(@PathVariable String id) {
+        CalculationJob job = findJob(id);
+        SseEmitter emitter = new SseEmitter();
+        Consumer<CalculationJob> listener = new Consumer<>() {
+            @Override
+            public void accept(CalculationJob updated) {
+                CalculationJobState state = new CalculationJobState(updated);
+                boolean terminal = state.getStatus().isTerminal();
+                try {
+                    emitter.send(SseEmitter.event().name(terminal ? "completed" : "progress").data(state));
+                    if (terminal) {
+                        emitter.complete();
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // The client went away or the stream already ended
+                    updated.removeListener(this);
+                }
+            }
+        };
+        emitter.onCompletion(() -> job.removeListener(listener));
+        emitter.onTimeout(() -> job.removeListener(listener));
+        emitter.onError(e -> job.removeListener(listener));
+
+        CalculationJobState state = new CalculationJobState(job);
+        if (state.getStatus().isTerminal()) {
+            listener.accept(job);
+        } else {
+            try {
+                emitter.send(SseEmitter.event().name("progress").data(state));
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                return emitter;
+            }
+            job.addListener(listener);
+        }
+        return emitter;
+    }
+
+    /**
+     * Cancels a job.
+     * 
+     * A queued job is cancelled immediately and a running job stops at
+     * its next progress report; finished jobs are left unchanged.
+     * 
+     * @param id Identifier returned at submission
+     * @return State of the job after the request
+     * @throws ResponseStatusException With status 404 if the identifier is unknown or expired
+     */
+    @DeleteMapping("/jobs/{id}")
+    public CalculationJobState cancelJob(@PathVariable String id) {
+        CalculationJob job = jobs.cancel(id);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown job: " + id);
+        }
+        return new CalculationJobState(job);
+    }
+
+    /**
+     * Looks up a job.
+     * 
+     * @param id Identifier returned at submission
+     * @return Job
+     * @throws ResponseStatusException With status 404 if the identifier is unknown or expired
+     */
+    private CalculationJob findJob(String id) {
+        CalculationJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown job: " + id);
+        }
+        return job;
+    }
+
+    /**
+     * Reports an expression exceeding one of its limits.
+     * 
+     * @param e Limit violation
+     * @return Problem detail with status 422 naming the limit and its maximum
+     */
+    @ExceptionHandler(ExpressionLimitException.class)
+    public ResponseEntity<ProblemDetail> handleExpressionLimit(ExpressionLimitException e) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+        problem.setTitle("Expression limit exceeded");
+        problem.setProperty("limit", e.getLimit().getName());
+        problem.setProperty("maximum", e.getMaximum());
+        return ResponseEntity.unprocessableEntity().body(problem);
+    }
+
+    /**
+     * Reports the counters of the compiled expression cache.
+     * 
+     * @return Cache statistics
+     */
+    @GetMapping("/expression-cache")
+    public ExpressionCacheStatistics getExpressionCacheStatistics() {
+        return expressionCache.getStatistics();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.budati.calculator.controller;
+
+import com.budati.calculator.dto.MemoizationStatistics;
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.service.CalculationResultCache;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Actuator endpoint controlling memoization of single calculations.
+ * 
+ * {@code GET /actuator/memoization} reports the cached operations and
+ * the cache counters; {@code POST /actuator/memoization} with
+ * {@code {"operations": "POWER,DIVIDE"}} changes the cached operations
+ * without a restart, and an empty list disables memoization.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+@Endpoint(id = "memoization")
+public class MemoizationEndpoint {
+
+    private final CalculationResultCache resultCache;
+
+    /**
+     * Creates the endpoint.
+     * 
+     * @param resultCache Cache of single calculation results
+     */
+    public MemoizationEndpoint(CalculationResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * Reports the memoization configuration and counters.
+     * 
+     * @return Statistics snapshot
+     */
+    @ReadOperation
+    public MemoizationStatistics statistics() {
+        Set<String> operations = new LinkedHashSet<>();
+        for (Operation operation : resultCache.getEnabledOperations()) {
+            operations.add(operation.name());
+        }
+        return new MemoizationStatistics(operations, resultCache.getMaximumSize(),
+                resultCache.getHitCount(), resultCache.getMissCount(), resultCache.getEvictionCount());
+    }
+
+    /**
+     * Changes the cached operations and empties the cache.
+     * 
+     * @param operations Comma-separated operation names; empty or null disables memoization
+     * @return Statistics after the change
+     * @throws InvalidEndpointRequestException With status 400 if an operation name is unknown
+     */
+    @WriteOperation
+    public MemoizationStatistics configure(@Nullable String operations) {
+        Set<Operation> enabled = EnumSet.noneOf(Operation.class);
+        if (operations != null) {
+            for (String name : operations.split(",")) {
+                if (name.isBlank()) {
+                    continue;
+                }
+                try {
+                    enabled.add(Operation.valueOf(name.trim()));
+                } catch (IllegalArgumentException e) {
+                    throw new InvalidEndpointRequestException("Unknown operation: " + name.trim(), "Unknown operation");
+                }
+            }
+        }
+        resultCache.setEnabledOperations(enabled);
+        return statistics();
+    }
+}
@@ -0,0 +1,163 @@
+package com.budati.calculator.controller;
+
+import com.budati.calculator.dto.CalculationRequest;
+import com.budati.calculator.dto.MathematicalExpression;
+import com.budati.calculator.dto.StreamedComputationResult;
+import com.budati.calculator.expression.CompiledExpressionCache;
+import com.budati.calculator.expression.DecimalExpressionEvaluator;
+import com.budati.calculator.metrics.CalculatorMetrics;
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.parser.ExpressionLimitException;
+import com.budati.calculator.parser.ExpressionLimits;
+import com.budati.calculator.service.CalculatorService;
+import com.budati.calculator.service.DecimalCalculatorService;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.MathContext;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking streaming counterpart of {@link ComputationalController}.
+ * 
+ * Accepts newline-delimited JSON streams of calculations and streams one
+ * result per element back as soon as it is evaluated. Only active when
+ * the application runs as a reactive (WebFlux) web application, i.e.
+ * with the "reactive" profile.
+ * 
+ * Key Characteristics:
+ * - Request and response streams are linked through a bounded buffer, so
+ *   a slow consumer applies backpressure to the producer
+ * - Evaluation runs on the bounded elastic scheduler rather than the event
+ *   loop, as a parallel chain waits for its tasks and a decimal evaluation
+ *   may run up to the evaluation time limit
+ * - A failing element yields an error result and does not end the stream
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@RestController
+@RequestMapping("/api/computational/stream")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveComputationalController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveComputationalController.class);
+
+    private final CalculatorService calculatorService;
+    private final DecimalCalculatorService decimalCalculatorService;
+    private final CompiledExpressionCache expressionCache;
+    private final DecimalExpressionEvaluator decimalExpressionEvaluator;
+    private final CalculatorMetrics metrics;
+    private final ExpressionLimits expressionLimits;
+
+    // Scheduler evaluating the elements, keeping blocking work off the event loop
+    private final Scheduler evaluationScheduler = Schedulers.boundedElastic();
+
+    /**
+     * Creates the streaming controller.
+     * 
+     * @param calculatorService Service performing the calculations
+     * @param decimalCalculatorService Service performing arbitrary-precision calculations
+     * @param expressionCache Cache providing compiled expressions
+     * @param decimalExpressionEvaluator Evaluator of arbitrary-precision expressions
+     * @param metrics Instrumentation of the calculation path
+     * @param expressionLimits Limits bounding expressions and the precision of every request
+     */
+    public ReactiveComputationalController(
+            CalculatorService calculatorService,
+            DecimalCalculatorService decimalCalculatorService,
+            CompiledExpressionCache expressionCache,
+            DecimalExpressionEvaluator decimalExpressionEvaluator,
+            CalculatorMetrics metrics,
+            ExpressionLimits expressionLimits) {
+        this.calculatorService = calculatorService;
+        this.decimalCalculatorService = decimalCalculatorService;
+        this.expressionCache = expressionCache;
+        this.decimalExpressionEvaluator = decimalExpressionEvaluator;
+        this.metrics = metrics;
+        this.expressionLimits = expressionLimits;
+    }
+
+    /**
+     * Evaluates a stream of free-form expressions.
+     * 
+     * @param expressions Stream of expressions
+     * @return Stream of results in input order; the error of an expression
+     *         exceeding a limit describes the limit
+     */
+    @PostMapping(value = "/expression-compute",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<StreamedComputationResult> evaluateExpressions(@RequestBody Flux<MathematicalExpression> expressions) {
+        return expressions.index().publishOn(evaluationScheduler).map(element -> {
+            long sequence = element.getT1();
+            MathematicalExpression expression = element.getT2();
+            try {
+                MathContext mathContext = DecimalCalculatorService.createMathContext(
+                        expression.getPrecision(), expression.getRoundingMode(), expressionLimits);
+                Number result = mathContext != null
+                        ? decimalExpressionEvaluator.evaluate(expression.getRawExpression(), mathContext)
+                        : expressionCache.getExpression(expression.getRawExpression()).evaluate(calculatorService);
+                return new StreamedComputationResult(sequence, result, null);
+            } catch (ExpressionLimitException e) {
+                metrics.recordFailure("stream/expression-compute", e);
+                return new StreamedComputationResult(sequence, null, e.getMessage());
+            } catch (Exception e) {
+                LOGGER.debug("Rejected expression '{}'", expression.getRawExpression(), e);
+                metrics.recordFailure("stream/expression-compute", e);
+                return new StreamedComputationResult(sequence, null, "Invalid expression format");
+            }
+        });
+    }
+
+    /**
+     * Executes a stream of operation sequences.
+     * 
+     * @param requests Stream of calculation requests
+     * @return Stream of results in input order; the error of a request
+     *         beyond the precision limit describes the limit
+     */
+    @PostMapping(value = "/sequence-compute",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<StreamedComputationResult> computeSequences(@RequestBody Flux<CalculationRequest> requests) {
+        return requests.index().publishOn(evaluationScheduler).map(element -> {
+            long sequence = element.getT1();
+            CalculationRequest request = element.getT2();
+            try {
+                metrics.recordChainLength(request.getMathematicalSteps().size());
+                List<Pair<Operation, Number>> computationalSequence = request.getMathematicalSteps()
+                        .stream()
+                        .map(step -> Pair.of(Operation.getBySymbol(step.getOperationSymbol()), step.getOperationValue()))
+                        .collect(Collectors.toList());
+
+                MathContext mathContext = DecimalCalculatorService.createMathContext(
+                        request.getPrecision(), request.getRoundingMode(), expressionLimits);
+                Number result = mathContext != null
+                        ? decimalCalculatorService.chainCalculate(
+                                request.getBaseNumeric(), computationalSequence, mathContext, expressionLimits)
+                        : calculatorService.chainCalculate(request.getBaseNumeric(), computationalSequence);
+                return new StreamedComputationResult(sequence, result, null);
+            } catch (ExpressionLimitException e) {
+                metrics.recordFailure("stream/sequence-compute", e);
+                return new StreamedComputationResult(sequence, null, e.getMessage());
+            } catch (Exception e) {
+                LOGGER.debug("Rejected computational sequence", e);
+                metrics.recordFailure("stream/sequence-compute", e);
+                return new StreamedComputationResult(sequence, null, "Invalid computational sequence");
+            }
+        });
+    }
+}
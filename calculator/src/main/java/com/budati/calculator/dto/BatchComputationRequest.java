@@ -0,0 +1,58 @@
+package com.budati.calculator.dto;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object for evaluating one expression over many rows.
+ * 
+ * Carries an expression with named variables and a columnar payload
+ * holding one array of values per variable. Row i of the result is the
+ * expression evaluated with the i-th value of every column.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class BatchComputationRequest {
+    // Expression referring to the columns by variable name
+    private String expression;
+
+    // Values of each variable, all of the same length
+    private Map<String, double[]> columns;
+
+    /**
+     * Retrieves the expression to evaluate.
+     * 
+     * @return Expression string
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Sets the expression to evaluate.
+     * 
+     * @param expression Expression string
+     */
+    public void setExpression(String expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * Retrieves the columns keyed by variable name.
+     * 
+     * @return Map of variable names to column values
+     */
+    public Map<String, double[]> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Sets the columns keyed by variable name.
+     * 
+     * @param columns Map of variable names to column values
+     */
+    public void setColumns(Map<String, double[]> columns) {
+        this.columns = columns;
+    }
+}
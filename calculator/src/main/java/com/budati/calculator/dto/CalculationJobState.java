@@ -0,0 +1,164 @@
+package com.budati.calculator.dto;
+
+import com.budati.calculator.job.CalculationJob;
+import com.budati.calculator.job.JobPriority;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object describing the state of a calculation job.
+ *
+ * Returned at submission and on every poll; the result is only present
+ * once the job has succeeded.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class CalculationJobState {
+    // Identifier to poll, subscribe to or cancel
+    private final String id;
+
+    // Kind of calculation, sequence or batch
+    private final String kind;
+
+    // Scheduling priority
+    private final JobPriority priority;
+
+    // Lifecycle state
+    private final CalculationJob.Status status;
+
+    // Steps or rows completed so far, out of the total
+    private final long completed;
+    private final long total;
+
+    // Result of a succeeded job
+    private final Object result;
+
+    // Reason of a failed job
+    private final String error;
+
+    // Submission, start and finish times
+    private final Instant submittedAt;
+    private final Instant startedAt;
+    private final Instant finishedAt;
+
+    /**
+     * Captures the current state of a job.
+     *
+     * @param job Job to describe
+     */
+    public CalculationJobState(CalculationJob job) {
+        this.id = job.getId();
+        this.kind = job.getKind();
+        this.priority = job.getPriority();
+        // Read the status first, so that a terminal status is always seen with its outcome
+        this.status = job.getStatus();
+        this.completed = job.getCompleted();
+        this.total = job.getTotal();
+        this.result = job.getResult();
+        this.error = job.getError();
+        this.submittedAt = job.getSubmittedAt();
+        this.startedAt = job.getStartedAt();
+        this.finishedAt = job.getFinishedAt();
+    }
+
+    /**
+     * Retrieves the identifier of the job.
+     *
+     * @return Identifier
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the kind of calculation.
+     *
+     * @return Kind, sequence or batch
+     */
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * Retrieves the scheduling priority.
+     *
+     * @return Priority
+     */
+    public JobPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Retrieves the lifecycle state.
+     *
+     * @return Status
+     */
+    public CalculationJob.Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Retrieves the steps or rows completed so far.
+     *
+     * @return Completed units of work
+     */
+    public long getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Retrieves the steps or rows of the whole job.
+     *
+     * @return Total units of work
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Retrieves the result of a succeeded job.
+     *
+     * @return Value of a sequence or one value per row of a batch, or null
+     */
+    public Object getResult() {
+        return result;
+    }
+
+    /**
+     * Retrieves the reason of a failed job.
+     *
+     * @return Reason, or null
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Retrieves the time the job was accepted.
+     *
+     * @return Submission time
+     */
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    /**
+     * Retrieves the time the job started running.
+     *
+     * @return Start time, or null
+     */
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Retrieves the time the job finished.
+     *
+     * @return Finish time, or null
+     */
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+}
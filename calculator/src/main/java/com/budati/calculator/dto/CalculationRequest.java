@@ -1,5 +1,6 @@
 package com.budati.calculator.dto;
 
+import java.math.RoundingMode;
 import java.util.List;
 
 /**
@@ -19,6 +20,12 @@ public class CalculationRequest {
     // Sequence of mathematical transformations to apply
     private List<OperationDescriptor> mathematicalSteps;
 
+    // Significant digits for arbitrary-precision evaluation; null evaluates in double precision
+    private Integer precision;
+
+    // Rounding of arbitrary-precision results; defaults to HALF_EVEN
+    private RoundingMode roundingMode;
+
     /**
      * Retrieves the base numeric value for calculation.
      * 
@@ -54,4 +61,40 @@ public class CalculationRequest {
     public void setMathematicalSteps(List<OperationDescriptor> mathematicalSteps) {
         this.mathematicalSteps = mathematicalSteps;
     }
+
+    /**
+     * Retrieves the precision of arbitrary-precision evaluation.
+     * 
+     * @return Number of significant digits, 0 for exact results, or null for double precision
+     */
+    public Integer getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Sets the precision of arbitrary-precision evaluation.
+     * 
+     * @param precision Number of significant digits, 0 for exact results, or null for double precision
+     */
+    public void setPrecision(Integer precision) {
+        this.precision = precision;
+    }
+
+    /**
+     * Retrieves the rounding mode of arbitrary-precision evaluation.
+     * 
+     * @return Rounding mode, or null for the default
+     */
+    public RoundingMode getRoundingMode() {
+        return roundingMode;
+    }
+
+    /**
+     * Sets the rounding mode of arbitrary-precision evaluation.
+     * 
+     * @param roundingMode Rounding mode, or null for the default
+     */
+    public void setRoundingMode(RoundingMode roundingMode) {
+        this.roundingMode = roundingMode;
+    }
 }
\ No newline at end of file
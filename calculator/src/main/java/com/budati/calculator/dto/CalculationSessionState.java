@@ -0,0 +1,75 @@
+package com.budati.calculator.dto;
+
+/**
+ * Data Transfer Object describing the state of a calculation session.
+ * 
+ * Returned after every change to a session, so clients never need to
+ * resend the steps they already appended.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class CalculationSessionState {
+    // Identifier to append steps to
+    private final String id;
+
+    // Number of steps appended since the session was created
+    private final long steps;
+
+    // Value of the sequence so far
+    private final Number value;
+
+    // Numeric type of the value
+    private final ResultType type;
+
+    /**
+     * Constructs a session state.
+     * 
+     * @param id Identifier of the session
+     * @param steps Number of steps appended
+     * @param value Value of the sequence so far
+     */
+    public CalculationSessionState(String id, long steps, Number value) {
+        this.id = id;
+        this.steps = steps;
+        this.value = value;
+        this.type = ResultType.of(value);
+    }
+
+    /**
+     * Retrieves the identifier of the session.
+     * 
+     * @return Identifier
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the number of steps appended.
+     * 
+     * @return Number of steps
+     */
+    public long getSteps() {
+        return steps;
+    }
+
+    /**
+     * Retrieves the value of the sequence so far.
+     * 
+     * @return Current value
+     */
+    public Number getValue() {
+        return value;
+    }
+
+    /**
+     * Retrieves the numeric type of the value.
+     * 
+     * @return Result type
+     */
+    public ResultType getType() {
+        return type;
+    }
+}
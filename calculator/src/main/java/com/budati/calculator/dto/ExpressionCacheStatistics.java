@@ -0,0 +1,102 @@
+package com.budati.calculator.dto;
+
+/**
+ * Data Transfer Object exposing compiled expression cache counters.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ExpressionCacheStatistics {
+    // Number of lookups served from the cache
+    private final long hitCount;
+
+    // Number of lookups that required compilation
+    private final long missCount;
+
+    // Number of programs evicted to respect the size bound
+    private final long evictionCount;
+
+    // Approximate number of cached programs
+    private final long size;
+
+    // Number of hot expressions promoted to bytecode
+    private final long compiledCount;
+
+    // Number of syntax tree nodes removed by constant folding and identities
+    private final long eliminatedNodeCount;
+
+    /**
+     * Constructs a statistics snapshot.
+     * 
+     * @param hitCount Number of cache hits
+     * @param missCount Number of cache misses
+     * @param evictionCount Number of evictions
+     * @param size Approximate number of cached programs
+     * @param compiledCount Number of expressions compiled to bytecode
+     * @param eliminatedNodeCount Number of syntax tree nodes removed by optimization
+     */
+    public ExpressionCacheStatistics(long hitCount, long missCount, long evictionCount, long size,
+                                     long compiledCount, long eliminatedNodeCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+        this.compiledCount = compiledCount;
+        this.eliminatedNodeCount = eliminatedNodeCount;
+    }
+
+    /**
+     * Retrieves the number of cache hits.
+     * 
+     * @return Hit count
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Retrieves the number of cache misses.
+     * 
+     * @return Miss count
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Retrieves the number of evictions.
+     * 
+     * @return Eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Retrieves the approximate number of cached programs.
+     * 
+     * @return Cache size
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Retrieves the number of expressions compiled to bytecode.
+     * 
+     * @return Compiled expression count
+     */
+    public long getCompiledCount() {
+        return compiledCount;
+    }
+
+    /**
+     * Retrieves the number of syntax tree nodes removed by optimization.
+     * 
+     * @return Eliminated node count
+     */
+    public long getEliminatedNodeCount() {
+        return eliminatedNodeCount;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.budati.calculator.dto;
+
+/**
+ * Data Transfer Object for defining a function at runtime.
+ * 
+ * Example: {"definition": "hypot3(x, y, z) = sqrt(x*x + y*y + z*z)"}
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class FunctionDefinition {
+    // Definition of the form "name(a, b) = expression"
+    private String definition;
+
+    // Infix priority from 1 to 3 for binary functions; null or 0 if called by name only
+    private Integer precedence;
+
+    /**
+     * Default constructor for framework compatibility.
+     */
+    public FunctionDefinition() {}
+
+    /**
+     * Constructs a definition of a function called by name.
+     * 
+     * @param definition Definition of the form "name(a, b) = expression"
+     */
+    public FunctionDefinition(String definition) {
+        this.definition = definition;
+    }
+
+    /**
+     * Retrieves the definition.
+     * 
+     * @return Definition of the form "name(a, b) = expression"
+     */
+    public String getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Sets the definition.
+     * 
+     * @param definition Definition of the form "name(a, b) = expression"
+     */
+    public void setDefinition(String definition) {
+        this.definition = definition;
+    }
+
+    /**
+     * Retrieves the infix priority.
+     * 
+     * @return Priority from 1 to 3, or null or 0 if the function is called by name only
+     */
+    public Integer getPrecedence() {
+        return precedence;
+    }
+
+    /**
+     * Sets the infix priority.
+     * 
+     * @param precedence Priority from 1 to 3, or null or 0 if the function is called by name only
+     */
+    public void setPrecedence(Integer precedence) {
+        this.precedence = precedence;
+    }
+}
@@ -0,0 +1,95 @@
+package com.budati.calculator.dto;
+
+import com.budati.calculator.expression.DefinedFunction;
+import com.budati.calculator.model.BuiltinFunction;
+import com.budati.calculator.model.ExpressionFunction;
+
+/**
+ * Data Transfer Object describing a function that expressions may call.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class FunctionDescriptor {
+    // Name used to call the function
+    private final String name;
+
+    // Number of arguments
+    private final int arity;
+
+    // Infix priority, 0 if the function is called by name only
+    private final int precedence;
+
+    // Origin of the function: "builtin", "plugin" or "defined"
+    private final String kind;
+
+    // Definition text of defined functions; null otherwise
+    private final String definition;
+
+    /**
+     * Constructs a descriptor of a function.
+     * 
+     * @param function Described function
+     */
+    public FunctionDescriptor(ExpressionFunction function) {
+        this.name = function.getName();
+        this.arity = function.getArity();
+        this.precedence = function.getPrecedence();
+        if (function instanceof BuiltinFunction) {
+            this.kind = "builtin";
+            this.definition = null;
+        } else if (function instanceof DefinedFunction) {
+            this.kind = "defined";
+            this.definition = ((DefinedFunction) function).getDefinition();
+        } else {
+            this.kind = "plugin";
+            this.definition = null;
+        }
+    }
+
+    /**
+     * Retrieves the name used to call the function.
+     * 
+     * @return Function name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the number of arguments.
+     * 
+     * @return Function arity
+     */
+    public int getArity() {
+        return arity;
+    }
+
+    /**
+     * Retrieves the infix priority.
+     * 
+     * @return Priority, 0 if the function is called by name only
+     */
+    public int getPrecedence() {
+        return precedence;
+    }
+
+    /**
+     * Retrieves the origin of the function.
+     * 
+     * @return "builtin", "plugin" or "defined"
+     */
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * Retrieves the definition of a defined function.
+     * 
+     * @return Definition text, or null for built-in and plugin functions
+     */
+    public String getDefinition() {
+        return definition;
+    }
+}
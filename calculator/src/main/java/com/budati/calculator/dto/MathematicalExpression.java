@@ -0,0 +1,91 @@
+package com.budati.calculator.dto;
+
+import java.math.RoundingMode;
+
+/**
+ * Data Transfer Object for representing a mathematical expression.
+ * 
+ * Encapsulates a string-based mathematical expression for evaluation.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class MathematicalExpression {
+    // Raw mathematical expression as a string
+    private String rawExpression;
+
+    // Significant digits for arbitrary-precision evaluation; null evaluates in double precision
+    private Integer precision;
+
+    // Rounding of arbitrary-precision results; defaults to HALF_EVEN
+    private RoundingMode roundingMode;
+
+    /**
+     * Default constructor for framework compatibility.
+     */
+    public MathematicalExpression() {}
+
+    /**
+     * Constructs a mathematical expression with a given string.
+     * 
+     * @param rawExpression Mathematical expression
+     */
+    public MathematicalExpression(String rawExpression) {
+        this.rawExpression = rawExpression;
+    }
+
+    /**
+     * Retrieves the raw mathematical expression.
+     * 
+     * @return Expression string
+     */
+    public String getRawExpression() {
+        return rawExpression;
+    }
+
+    /**
+     * Sets the raw mathematical expression.
+     * 
+     * @param rawExpression Expression string
+     */
+    public void setRawExpression(String rawExpression) {
+        this.rawExpression = rawExpression;
+    }
+
+    /**
+     * Retrieves the precision of arbitrary-precision evaluation.
+     * 
+     * @return Number of significant digits, 0 for exact results, or null for double precision
+     */
+    public Integer getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Sets the precision of arbitrary-precision evaluation.
+     * 
+     * @param precision Number of significant digits, 0 for exact results, or null for double precision
+     */
+    public void setPrecision(Integer precision) {
+        this.precision = precision;
+    }
+
+    /**
+     * Retrieves the rounding mode of arbitrary-precision evaluation.
+     * 
+     * @return Rounding mode, or null for the default
+     */
+    public RoundingMode getRoundingMode() {
+        return roundingMode;
+    }
+
+    /**
+     * Sets the rounding mode of arbitrary-precision evaluation.
+     * 
+     * @param roundingMode Rounding mode, or null for the default
+     */
+    public void setRoundingMode(RoundingMode roundingMode) {
+        this.roundingMode = roundingMode;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.budati.calculator.dto;
+
+import java.util.Set;
+
+/**
+ * Data Transfer Object exposing the memoization cache configuration and counters.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class MemoizationStatistics {
+    // Operations whose results are cached
+    private final Set<String> operations;
+
+    // Number of cached results
+    private final int maximumSize;
+
+    // Number of lookups served from the cache
+    private final long hitCount;
+
+    // Number of lookups that computed the result
+    private final long missCount;
+
+    // Number of results replaced by a different calculation
+    private final long evictionCount;
+
+    /**
+     * Constructs a statistics snapshot.
+     * 
+     * @param operations Names of the cached operations
+     * @param maximumSize Number of cached results
+     * @param hitCount Number of cache hits
+     * @param missCount Number of cache misses
+     * @param evictionCount Number of evictions
+     */
+    public MemoizationStatistics(Set<String> operations, int maximumSize,
+                                 long hitCount, long missCount, long evictionCount) {
+        this.operations = operations;
+        this.maximumSize = maximumSize;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Retrieves the names of the cached operations.
+     * 
+     * @return Cached operations
+     */
+    public Set<String> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Retrieves the number of cached results.
+     * 
+     * @return Maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Retrieves the number of cache hits.
+     * 
+     * @return Hit count
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Retrieves the number of cache misses.
+     * 
+     * @return Miss count
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Retrieves the number of evictions.
+     * 
+     * @return Eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Retrieves the share of lookups served from the cache.
+     * 
+     * @return Hit rate between 0 and 1, or 0 before the first lookup
+     */
+    public double getHitRate() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+}
@@ -0,0 +1,64 @@
+package com.budati.calculator.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object describing a registered prepared expression.
+ * 
+ * Tells the client the identifier to evaluate by and the order in which
+ * variable values must be supplied.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class PreparedExpressionDescriptor {
+    // Identifier to evaluate the expression by
+    private final String id;
+
+    // Expression text as registered
+    private final String expression;
+
+    // Variable names in the order their values are supplied
+    private final List<String> variables;
+
+    /**
+     * Constructs a descriptor.
+     * 
+     * @param id Identifier of the prepared expression
+     * @param expression Expression text
+     * @param variables Variable names in binding order
+     */
+    public PreparedExpressionDescriptor(String id, String expression, List<String> variables) {
+        this.id = id;
+        this.expression = expression;
+        this.variables = variables;
+    }
+
+    /**
+     * Retrieves the identifier of the prepared expression.
+     * 
+     * @return Identifier
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the expression text.
+     * 
+     * @return Expression text
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Retrieves the variable names in binding order.
+     * 
+     * @return Variable names
+     */
+    public List<String> getVariables() {
+        return variables;
+    }
+}
@@ -0,0 +1,70 @@
+package com.budati.calculator.dto;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Numeric type of a computation result, as reported to clients.
+ * 
+ * Integer chains are evaluated exactly and report "long" or
+ * "big-integer"; arbitrary-precision requests report "decimal"; all
+ * other results are "double".
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public enum ResultType {
+    INTEGER("integer"),
+    LONG("long"),
+    BIG_INTEGER("big-integer"),
+    DECIMAL("decimal"),
+    DOUBLE("double");
+
+    // Response header carrying the result type of plain-text responses
+    public static final String HEADER = "X-Calculator-Result-Type";
+
+    // Name reported to clients
+    private final String name;
+
+    ResultType(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Retrieves the name reported to clients.
+     * 
+     * @return Result type name
+     */
+    @JsonValue
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Determines the type of a result.
+     * 
+     * @param result Computation result
+     * @return Result type, or null if the result is null
+     */
+    public static ResultType of(Number result) {
+        if (result == null) {
+            return null;
+        }
+        if (result instanceof Integer || result instanceof Short || result instanceof Byte) {
+            return INTEGER;
+        }
+        if (result instanceof Long) {
+            return LONG;
+        }
+        if (result instanceof BigInteger) {
+            return BIG_INTEGER;
+        }
+        if (result instanceof BigDecimal) {
+            return DECIMAL;
+        }
+        return DOUBLE;
+    }
+}
@@ -0,0 +1,79 @@
+package com.budati.calculator.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Data Transfer Object for one result of a streamed computation.
+ * 
+ * Each input element of a stream yields exactly one result, in input
+ * order, carrying either the computed value and its type or an error
+ * message.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StreamedComputationResult {
+    // Zero-based position of the input element in its stream
+    private final long sequence;
+
+    // Computed value; null if the computation failed
+    private final Number result;
+
+    // Numeric type of the computed value; null if the computation failed
+    private final ResultType type;
+
+    // Error message; null if the computation succeeded
+    private final String error;
+
+    /**
+     * Constructs a streamed result.
+     * 
+     * @param sequence Position of the input element in its stream
+     * @param result Computed value, or null on failure
+     * @param error Error message, or null on success
+     */
+    public StreamedComputationResult(long sequence, Number result, String error) {
+        this.sequence = sequence;
+        this.result = result;
+        this.type = ResultType.of(result);
+        this.error = error;
+    }
+
+    /**
+     * Retrieves the position of the input element in its stream.
+     * 
+     * @return Zero-based position
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Retrieves the computed value.
+     * 
+     * @return Computed value, or null on failure
+     */
+    public Number getResult() {
+        return result;
+    }
+
+    /**
+     * Retrieves the numeric type of the computed value.
+     * 
+     * @return Result type, or null on failure
+     */
+    public ResultType getType() {
+        return type;
+    }
+
+    /**
+     * Retrieves the error message.
+     * 
+     * @return Error message, or null on success
+     */
+    public String getError() {
+        return error;
+    }
+}
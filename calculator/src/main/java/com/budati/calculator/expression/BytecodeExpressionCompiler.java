@@ -0,0 +1,265 @@
+package com.budati.calculator.expression;
+
+import com.budati.calculator.ast.*;
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculatorService;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles syntax trees into hidden classes implementing {@link CompiledExpression}.
+ *
+ * The generated {@code evaluate} method is straight-line code: literals
+ * become constants, variables become array loads, and the arithmetic of
+ * the built-in operation strategies is inlined as JVM instructions, so
+ * the JIT sees no megamorphic strategy calls.
+ *
+ * Inlining Rules:
+ * - An Operation is inlined only while its registered strategy is the
+ *   built-in implementation; otherwise the expression is not compiled
+ * - Division keeps the divide-by-zero check of {@link Divide}
+ * - Built-in functions call the matching {@link Math} method directly,
+ *   except mod, which becomes a DREM instruction
+ * - Other functions are invoked through their {@link ExpressionFunction} instance
+ *
+ * Generated classes are defined as hidden classes, so they are unloaded
+ * once the compiled expression is no longer referenced.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+public class BytecodeExpressionCompiler {
+
+    // Internal name prefix of generated classes; hidden classes must share the lookup's package
+    private static final String CLASS_NAME =
+            BytecodeExpressionCompiler.class.getPackageName().replace('.', '/') + "/GeneratedExpression";
+
+    private static final String FUNCTIONS_DESCRIPTOR = Type.getDescriptor(ExpressionFunction[].class);
+    private static final String FUNCTION_TYPE = Type.getInternalName(ExpressionFunction.class);
+    private static final String MATH_TYPE = Type.getInternalName(Math.class);
+
+    // Service whose registered strategies determine what may be inlined
+    private final CalculatorService calculatorService;
+
+    /**
+     * Creates a compiler inlining the strategies registered with a service.
+     *
+     * @param calculatorService Service providing the operation strategies
+     */
+    public BytecodeExpressionCompiler(CalculatorService calculatorService) {
+        this.calculatorService = calculatorService;
+    }
+
+    /**
+     * Compiles a parsed expression into a hidden class instance.
+     *
+     * @param parsedExpression Parsed syntax tree
+     * @return Compiled expression
+     * @throws UnsupportedOperationException If the expression uses an operation
+     *         whose strategy cannot be inlined, or is too large for a single method
+     */
+    public CompiledExpression compile(ParsedExpression parsedExpression) {
+        List<ExpressionFunction> functions = new ArrayList<>();
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+        classWriter.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER,
+                CLASS_NAME, null, "java/lang/Object",
+                new String[] {Type.getInternalName(CompiledExpression.class)});
+        classWriter.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, "functions",
+                FUNCTIONS_DESCRIPTOR, null, null).visitEnd();
+
+        writeConstructor(classWriter);
+
+        MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "evaluate", "([D)D", null, null);
+        method.visitCode();
+        parsedExpression.getRoot().accept(new BytecodeEmitter(method, functions));
+        method.visitInsn(Opcodes.DRETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+        classWriter.visitEnd();
+
+        try {
+            byte[] bytecode = classWriter.toByteArray();
+            MethodHandles.Lookup generated = MethodHandles.lookup().defineHiddenClass(bytecode, true);
+            return (CompiledExpression) generated
+                    .findConstructor(generated.lookupClass(),
+                            MethodType.methodType(void.class, ExpressionFunction[].class))
+                    .invoke(functions.toArray(new ExpressionFunction[0]));
+        } catch (RuntimeException e) {
+            throw new UnsupportedOperationException("Expression cannot be compiled to bytecode", e);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to instantiate compiled expression", e);
+        }
+    }
+
+    /**
+     * Writes a constructor storing the function table.
+     *
+     * @param classWriter Writer of the generated class
+     */
+    private static void writeConstructor(ClassWriter classWriter) {
+        MethodVisitor constructor = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "<init>",
+                "(" + FUNCTIONS_DESCRIPTOR + ")V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        constructor.visitVarInsn(Opcodes.ALOAD, 1);
+        constructor.visitFieldInsn(Opcodes.PUTFIELD, CLASS_NAME, "functions", FUNCTIONS_DESCRIPTOR);
+        constructor.visitInsn(Opcodes.RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+    }
+
+    /**
+     * Visitor emitting JVM instructions that leave each node's value on the operand stack.
+     */
+    private final class BytecodeEmitter implements ExpressionVisitor<Void> {
+
+        // Method body being written
+        private final MethodVisitor method;
+
+        // Non-builtin functions referenced through the functions field
+        private final List<ExpressionFunction> functions;
+
+        BytecodeEmitter(MethodVisitor method, List<ExpressionFunction> functions) {
+            this.method = method;
+            this.functions = functions;
+        }
+
+        @Override
+        public Void visitNumber(NumberLiteral node) {
+            method.visitLdcInsn(node.getValue());
+            return null;
+        }
+
+        @Override
+        public Void visitVariable(VariableReference node) {
+            method.visitVarInsn(Opcodes.ALOAD, 1);
+            method.visitLdcInsn(node.getSlot());
+            method.visitInsn(Opcodes.DALOAD);
+            return null;
+        }
+
+        @Override
+        public Void visitNegation(Negation node) {
+            node.getOperand().accept(this);
+            method.visitInsn(Opcodes.DNEG);
+            return null;
+        }
+
+        @Override
+        public Void visitBinary(BinaryOperation node) {
+            List<BinaryOperation> spine = node.leftSpine();
+            spine.get(0).getLeft().accept(this);
+            for (BinaryOperation binary : spine) {
+                binary.getRight().accept(this);
+                emitOperation(binary.getOperation());
+            }
+            return null;
+        }
+
+        /**
+         * Emits the inlined arithmetic of an operation on the two values on top of the stack.
+         *
+         * @param operation Operation to inline
+         */
+        private void emitOperation(Operation operation) {
+            if (!calculatorService.hasBuiltinStrategy(operation)) {
+                throw new UnsupportedOperationException("Strategy for " + operation + " cannot be inlined");
+            }
+
+            switch (operation) {
+                case ADD:
+                    method.visitInsn(Opcodes.DADD);
+                    break;
+                case SUBTRACT:
+                    method.visitInsn(Opcodes.DSUB);
+                    break;
+                case MULTIPLY:
+                    method.visitInsn(Opcodes.DMUL);
+                    break;
+                case DIVIDE:
+                    emitDivisorCheck();
+                    method.visitInsn(Opcodes.DDIV);
+                    break;
+                case POWER:
+                    method.visitMethodInsn(Opcodes.INVOKESTATIC, MATH_TYPE, "pow", "(DD)D", false);
+                    break;
+                default:
+                    throw new UnsupportedOperationException("Operation cannot be inlined: " + operation);
+            }
+        }
+
+        @Override
+        public Void visitFunctionCall(FunctionCall node) {
+            ExpressionFunction function = node.getFunction();
+            List<ExpressionNode> arguments = node.getArguments();
+
+            if (function instanceof BuiltinFunction) {
+                for (ExpressionNode argument : arguments) {
+                    argument.accept(this);
+                }
+                if (function == BuiltinFunction.MOD) {
+                    method.visitInsn(Opcodes.DREM);
+                    return null;
+                }
+                String descriptor = arguments.size() == 1 ? "(D)D" : "(DD)D";
+                String name = function.getName();
+                method.visitMethodInsn(Opcodes.INVOKESTATIC, MATH_TYPE, name, descriptor, false);
+                return null;
+            }
+
+            int index = functions.indexOf(function);
+            if (index < 0) {
+                index = functions.size();
+                functions.add(function);
+            }
+
+            // functions[index].invoke(new double[] {arguments...}, 0)
+            method.visitVarInsn(Opcodes.ALOAD, 0);
+            method.visitFieldInsn(Opcodes.GETFIELD, CLASS_NAME, "functions", FUNCTIONS_DESCRIPTOR);
+            method.visitLdcInsn(index);
+            method.visitInsn(Opcodes.AALOAD);
+            method.visitLdcInsn(arguments.size());
+            method.visitIntInsn(Opcodes.NEWARRAY, Opcodes.T_DOUBLE);
+            for (int position = 0; position < arguments.size(); position++) {
+                method.visitInsn(Opcodes.DUP);
+                method.visitLdcInsn(position);
+                arguments.get(position).accept(this);
+                method.visitInsn(Opcodes.DASTORE);
+            }
+            method.visitInsn(Opcodes.ICONST_0);
+            method.visitMethodInsn(Opcodes.INVOKEINTERFACE, FUNCTION_TYPE, "invoke", "([DI)D", true);
+            return null;
+        }
+
+        /**
+         * Emits the divide-by-zero check of {@link Divide} for the divisor on top of the stack.
+         */
+        private void emitDivisorCheck() {
+            Label nonZero = new Label();
+            method.visitInsn(Opcodes.DUP2);
+            method.visitInsn(Opcodes.DCONST_0);
+            method.visitInsn(Opcodes.DCMPL);
+            method.visitJumpInsn(Opcodes.IFNE, nonZero);
+            method.visitTypeInsn(Opcodes.NEW, "java/lang/IllegalArgumentException");
+            method.visitInsn(Opcodes.DUP);
+            method.visitLdcInsn("Cannot divide by zero");
+            method.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/IllegalArgumentException",
+                    "<init>", "(Ljava/lang/String;)V", false);
+            method.visitInsn(Opcodes.ATHROW);
+            method.visitLabel(nonZero);
+        }
+    }
+}
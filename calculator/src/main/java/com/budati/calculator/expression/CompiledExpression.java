@@ -0,0 +1,23 @@
+package com.budati.calculator.expression;
+
+/**
+ * Expression compiled to bytecode.
+ *
+ * Implementations are generated at run time as hidden classes by the
+ * {@link BytecodeExpressionCompiler}, with the arithmetic of the
+ * operation strategies inlined as straight-line code.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public interface CompiledExpression {
+
+    /**
+     * Evaluates the expression.
+     *
+     * @param vars Variable values indexed by slot
+     * @return Evaluation result
+     */
+    double evaluate(double[] vars);
+}
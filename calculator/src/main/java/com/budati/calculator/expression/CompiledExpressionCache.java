@@ -0,0 +1,138 @@
+package com.budati.calculator.expression;
+
+import com.budati.calculator.ast.ParsedExpression;
+import com.budati.calculator.dto.ExpressionCacheStatistics;
+import com.budati.calculator.metrics.CalculatorMetrics;
+import com.budati.calculator.metrics.NoOpCalculatorMetrics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, concurrent cache of compiled expression programs.
+ *
+ * Maps expression text to its {@link TieredExpression}, which wraps the
+ * immutable syntax tree and {@link ExpressionProgram}, so that repeated
+ * expressions skip tokenizing and parsing entirely and hot expressions
+ * can be promoted to bytecode. Syntax trees are simplified by the
+ * {@link ExpressionOptimizer} before either form is built.
+ *
+ * Key Characteristics:
+ * - W-TinyLFU eviction bounded by a configurable maximum size
+ * - Lock-free reads on cache hits
+ * - Hit, miss and eviction counters
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+public class CompiledExpressionCache {
+
+    // Compiler used to populate the cache on a miss
+    private final ExpressionCompiler expressionCompiler;
+
+    // Optimizer simplifying syntax trees before compilation
+    private final ExpressionOptimizer expressionOptimizer;
+
+    // Policy promoting hot expressions to bytecode
+    private final ExpressionTieringPolicy tieringPolicy;
+
+    // Compiled expressions keyed by raw expression text
+    private final Cache<String, TieredExpression> expressions;
+
+    // Instrumentation of parse and compile times
+    private CalculatorMetrics metrics = NoOpCalculatorMetrics.INSTANCE;
+
+    /**
+     * Creates the cache with the configured maximum size.
+     *
+     * @param expressionCompiler Compiler used on cache misses
+     * @param expressionOptimizer Optimizer simplifying syntax trees
+     * @param tieringPolicy Policy promoting hot expressions to bytecode
+     * @param maximumSize Maximum number of cached expressions
+     */
+    public CompiledExpressionCache(
+            ExpressionCompiler expressionCompiler,
+            ExpressionOptimizer expressionOptimizer,
+            ExpressionTieringPolicy tieringPolicy,
+            @Value("${calculator.expression-cache.maximum-size:10000}") long maximumSize) {
+        this.expressionCompiler = expressionCompiler;
+        this.expressionOptimizer = expressionOptimizer;
+        this.tieringPolicy = tieringPolicy;
+        this.expressions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Sets the instrumentation of parse and compile times.
+     *
+     * @param metrics Metrics to record
+     */
+    @Autowired(required = false)
+    public void setMetrics(CalculatorMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Invalidates the cache whenever the functions of a registry change.
+     *
+     * Compiled expressions hold the functions they were parsed with, so
+     * a redefined or removed function must not be served from the cache.
+     *
+     * @param functionRegistry Registry of the functions expressions may call
+     */
+    @Autowired(required = false)
+    public void setFunctionRegistry(FunctionRegistry functionRegistry) {
+        functionRegistry.addChangeListener(expressions::invalidateAll);
+    }
+
+    /**
+     * Retrieves the compiled form of an expression, compiling it on a miss.
+     *
+     * Expressions that fail to compile are not cached.
+     *
+     * @param rawExpression Expression text
+     * @return Compiled expression
+     * @throws IllegalArgumentException If the expression cannot be compiled
+     */
+    public TieredExpression getExpression(String rawExpression) {
+        return expressions.get(rawExpression, this::compile);
+    }
+
+    /**
+     * Parses, optimizes and compiles an expression on a cache miss.
+     *
+     * @param rawExpression Expression text
+     * @return Compiled expression in the interpreted tier
+     */
+    private TieredExpression compile(String rawExpression) {
+        long startNanos = System.nanoTime();
+        ParsedExpression parsedExpression = expressionOptimizer.optimize(expressionCompiler.parse(rawExpression));
+        TieredExpression expression =
+                tieringPolicy.createExpression(parsedExpression, expressionCompiler.compile(parsedExpression));
+        metrics.recordExpressionParse(System.nanoTime() - startNanos);
+        return expression;
+    }
+
+    /**
+     * Retrieves a snapshot of the cache counters.
+     *
+     * @return Cache statistics
+     */
+    public ExpressionCacheStatistics getStatistics() {
+        CacheStats stats = expressions.stats();
+        return new ExpressionCacheStatistics(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                expressions.estimatedSize(),
+                tieringPolicy.getCompiledCount(),
+                expressionOptimizer.getEliminatedNodeCount());
+    }
+}
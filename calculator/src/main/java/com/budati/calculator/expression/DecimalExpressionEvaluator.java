@@ -0,0 +1,177 @@
+package com.budati.calculator.expression;
+
+import com.budati.calculator.ast.*;
+import com.budati.calculator.model.BuiltinFunction;
+import com.budati.calculator.model.ExpressionFunction;
+import com.budati.calculator.parser.ExpressionLimitException;
+import com.budati.calculator.parser.ExpressionLimits;
+import com.budati.calculator.service.DecimalCalculatorService;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+
+/**
+ * Evaluates expressions in arbitrary precision.
+ *
+ * Walks the unoptimized syntax tree, as constant folding by the
+ * {@link ExpressionOptimizer} happens in double precision. Expressions
+ * are parsed on every call rather than cached: the decimal arithmetic
+ * outweighs parsing, and the compiled double forms cannot be reused.
+ *
+ * Precision:
+ * - Literals are converted through their shortest decimal form, so
+ *   literals of up to 15 significant digits are exact
+ * - abs, min, max and sqrt are evaluated in decimal
+ * - exp, log and non-built-in functions are evaluated in double and
+ *   rounded to the math context
+ *
+ * The cost of each operation grows with the precision, so besides the
+ * parse limits of the compiler an evaluation is bounded by the precision
+ * and time limits of {@link ExpressionLimits}; the time is checked
+ * before every operation.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+public class DecimalExpressionEvaluator {
+
+    // Parser producing the syntax trees
+    private final ExpressionCompiler expressionCompiler;
+
+    // Service applying the decimal operation strategies
+    private final DecimalCalculatorService decimalCalculatorService;
+
+    /**
+     * Creates an evaluator.
+     *
+     * @param expressionCompiler Parser producing the syntax trees
+     * @param decimalCalculatorService Service applying the decimal strategies
+     */
+    public DecimalExpressionEvaluator(ExpressionCompiler expressionCompiler,
+                                      DecimalCalculatorService decimalCalculatorService) {
+        this.expressionCompiler = expressionCompiler;
+        this.decimalCalculatorService = decimalCalculatorService;
+    }
+
+    /**
+     * Parses and evaluates an expression without variables.
+     *
+     * @param rawExpression Expression text
+     * @param mathContext Precision and rounding of every operation
+     * @return Evaluation result
+     * @throws IllegalArgumentException If the expression is invalid, uses
+     *         variables, or its result cannot be represented
+     * @throws ExpressionLimitException If the expression exceeds a limit,
+     *         including the precision and evaluation time limits
+     */
+    public BigDecimal evaluate(String rawExpression, MathContext mathContext) {
+        expressionCompiler.getLimits().checkPrecision(mathContext.getPrecision());
+        ParsedExpression parsedExpression = expressionCompiler.parse(rawExpression);
+        if (!parsedExpression.getVariableNames().isEmpty()) {
+            throw new IllegalArgumentException("Expected 0 variable value(s) but got "
+                    + parsedExpression.getVariableNames().size() + " variable(s)");
+        }
+        return parsedExpression.getRoot().accept(new Evaluator(mathContext, expressionCompiler.getLimits()));
+    }
+
+    /**
+     * Visitor computing the decimal value of each node.
+     */
+    private final class Evaluator implements ExpressionVisitor<BigDecimal> {
+
+        // Precision and rounding of every operation
+        private final MathContext mathContext;
+
+        // Limits bounding the evaluation time
+        private final ExpressionLimits limits;
+
+        // Value of System.nanoTime() when the evaluation started
+        private final long startNanos = System.nanoTime();
+
+        private Evaluator(MathContext mathContext, ExpressionLimits limits) {
+            this.mathContext = mathContext;
+            this.limits = limits;
+        }
+
+        @Override
+        public BigDecimal visitNumber(NumberLiteral node) {
+            return BigDecimal.valueOf(node.getValue());
+        }
+
+        @Override
+        public BigDecimal visitVariable(VariableReference node) {
+            throw new IllegalArgumentException("Unbound variable: " + node.getName());
+        }
+
+        @Override
+        public BigDecimal visitNegation(Negation node) {
+            BigDecimal operand = node.getOperand().accept(this);
+            limits.checkEvaluationTime(startNanos);
+            return operand.negate(mathContext);
+        }
+
+        @Override
+        public BigDecimal visitBinary(BinaryOperation node) {
+            List<BinaryOperation> spine = node.leftSpine();
+            BigDecimal result = spine.get(0).getLeft().accept(this);
+            for (BinaryOperation binary : spine) {
+                BigDecimal right = binary.getRight().accept(this);
+                limits.checkEvaluationTime(startNanos);
+                result = decimalCalculatorService.applyStrategy(binary.getOperation(), result, right, mathContext);
+            }
+            return result;
+        }
+
+        @Override
+        public BigDecimal visitFunctionCall(FunctionCall node) {
+            List<ExpressionNode> arguments = node.getArguments();
+            BigDecimal[] values = new BigDecimal[arguments.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = arguments.get(i).accept(this);
+            }
+            limits.checkEvaluationTime(startNanos);
+
+            ExpressionFunction function = node.getFunction();
+            if (function == BuiltinFunction.ABS) {
+                return values[0].abs(mathContext);
+            } else if (function == BuiltinFunction.MIN) {
+                return values[0].min(values[1]).round(mathContext);
+            } else if (function == BuiltinFunction.MAX) {
+                return values[0].max(values[1]).round(mathContext);
+            } else if (function == BuiltinFunction.MOD && values[1].signum() != 0) {
+                return values[0].remainder(values[1], mathContext).round(mathContext);
+            } else if (function == BuiltinFunction.SQRT && values[0].signum() >= 0) {
+                try {
+                    return values[0].sqrt(mathContext);
+                } catch (ArithmeticException e) {
+                    throw new IllegalArgumentException(e.getMessage(), e);
+                }
+            }
+            return invokeAsDouble(function, values);
+        }
+
+        /**
+         * Evaluates a function in double precision and rounds the result.
+         *
+         * @param function Function to invoke
+         * @param values Decimal arguments
+         * @return Rounded result
+         * @throws IllegalArgumentException If the result is not finite
+         */
+        private BigDecimal invokeAsDouble(ExpressionFunction function, BigDecimal[] values) {
+            double[] arguments = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                arguments[i] = values[i].doubleValue();
+            }
+            double result = function.invoke(arguments, 0);
+            if (Double.isNaN(result) || Double.isInfinite(result)) {
+                throw new IllegalArgumentException(function.getName() + " is not a finite real number");
+            }
+            return BigDecimal.valueOf(result).round(mathContext);
+        }
+    }
+}
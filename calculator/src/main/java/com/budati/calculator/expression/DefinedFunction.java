@@ -0,0 +1,132 @@
+package com.budati.calculator.expression;
+
+import com.budati.calculator.model.ExpressionFunction;
+import com.budati.calculator.service.CalculatorService;
+
+import java.util.List;
+
+/**
+ * Function defined by an expression over its parameters.
+ *
+ * Created from definitions such as "hypot3(x, y, z) = sqrt(x*x + y*y + z*z)"
+ * through {@link FunctionRegistry#define}. The body is compiled once; each
+ * invocation binds the arguments to the parameters and evaluates the
+ * compiled program with the strategies of the calculator service.
+ *
+ * Functions called by the body are resolved when it is defined, so later
+ * redefinitions of those functions do not affect this one.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class DefinedFunction implements ExpressionFunction {
+
+    // Name used to call the function
+    private final String name;
+
+    // Parameter names in argument order
+    private final List<String> parameters;
+
+    // Definition text, as given
+    private final String definition;
+
+    // Infix priority, 0 for functions that can only be called by name
+    private final int precedence;
+
+    // Compiled body
+    private final ExpressionProgram body;
+
+    // Variable slot of the body bound to each parameter, -1 for unused parameters
+    private final int[] parameterSlots;
+
+    // Service providing the operation strategies of the body
+    private final CalculatorService calculatorService;
+
+    /**
+     * Creates a function over a compiled body.
+     *
+     * @param name Name used to call the function
+     * @param parameters Parameter names in argument order
+     * @param definition Definition text
+     * @param precedence Infix priority, 0 for functions that can only be called by name
+     * @param body Compiled body, whose variables are all parameters
+     * @param calculatorService Service providing the operation strategies
+     */
+    DefinedFunction(String name, List<String> parameters, String definition, int precedence,
+                    ExpressionProgram body, CalculatorService calculatorService) {
+        this.name = name;
+        this.parameters = List.copyOf(parameters);
+        this.definition = definition;
+        this.precedence = precedence;
+        this.body = body;
+        this.calculatorService = calculatorService;
+        this.parameterSlots = new int[parameters.size()];
+        List<String> variables = body.getVariableNames();
+        for (int index = 0; index < parameterSlots.length; index++) {
+            parameterSlots[index] = variables.indexOf(parameters.get(index));
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getArity() {
+        return parameters.size();
+    }
+
+    @Override
+    public int getPrecedence() {
+        return precedence;
+    }
+
+    /**
+     * Retrieves the parameter names.
+     *
+     * @return Parameter names in argument order
+     */
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Retrieves the definition text.
+     *
+     * @return Definition, e.g. "hypot3(x, y, z) = sqrt(x*x + y*y + z*z)"
+     */
+    public String getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Retrieves the instructions one invocation executes.
+     *
+     * @return Steps of the body, including those of the functions it calls
+     */
+    long getSteps() {
+        return body.getSteps();
+    }
+
+    /**
+     * Evaluates the body with the arguments bound to the parameters.
+     *
+     * @param arguments Array holding the arguments
+     * @param offset Index of the first argument
+     * @return Result of the body
+     * @throws IllegalArgumentException If an operation of the body fails, such as a division by zero
+     */
+    @Override
+    public double invoke(double[] arguments, int offset) {
+        double[] variables = new double[body.getVariableNames().size()];
+        for (int index = 0; index < parameterSlots.length; index++) {
+            int slot = parameterSlots[index];
+            if (slot >= 0) {
+                variables[slot] = arguments[offset + index];
+            }
+        }
+        return body.evaluateAsDouble(calculatorService, variables);
+    }
+}
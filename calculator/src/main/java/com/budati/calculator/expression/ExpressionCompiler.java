@@ -0,0 +1,177 @@
+package com.budati.calculator.expression;
+
+import com.budati.calculator.ast.*;
+import com.budati.calculator.parser.ExpressionLimitException;
+import com.budati.calculator.parser.ExpressionLimits;
+import com.budati.calculator.parser.ExpressionParser;
+import com.budati.calculator.parser.ExpressionSyntaxException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Compiles textual expressions into {@link ExpressionProgram} instances.
+ *
+ * Parses the expression into an immutable syntax tree and flattens the
+ * tree into a postfix program whose operations are still dispatched
+ * through the registered operation strategies.
+ *
+ * The limits of the parser also bound the compiled programs: a program
+ * whose evaluation would execute more steps than allowed, counting the
+ * bodies of the defined functions it calls, is rejected here rather
+ * than on every evaluation.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+public class ExpressionCompiler {
+
+    // Parser producing syntax trees from expression text
+    private final ExpressionParser expressionParser;
+
+    /**
+     * Creates a compiler resolving the built-in functions only.
+     */
+    public ExpressionCompiler() {
+        this(new ExpressionParser());
+    }
+
+    /**
+     * Creates a compiler resolving functions through a registry.
+     *
+     * @param functionRegistry Registry of the functions expressions may call
+     */
+    public ExpressionCompiler(FunctionRegistry functionRegistry) {
+        this(functionRegistry, ExpressionLimits.UNLIMITED);
+    }
+
+    /**
+     * Creates a compiler resolving functions through a registry and
+     * rejecting expressions beyond the given limits.
+     *
+     * @param functionRegistry Registry of the functions expressions may call
+     * @param limits Bounds on the expressions compiled
+     */
+    @Autowired
+    public ExpressionCompiler(FunctionRegistry functionRegistry, ExpressionLimits limits) {
+        this(new ExpressionParser(functionRegistry::get, limits));
+    }
+
+    /**
+     * Creates a compiler using the given expression parser.
+     *
+     * @param expressionParser Parser producing syntax trees
+     */
+    public ExpressionCompiler(ExpressionParser expressionParser) {
+        this.expressionParser = expressionParser;
+    }
+
+    /**
+     * Compiles a raw expression into an immutable program.
+     *
+     * @param rawExpression Expression text
+     * @return Compiled program
+     * @throws ExpressionSyntaxException If the expression is malformed
+     * @throws ExpressionLimitException If the expression exceeds a limit
+     */
+    public ExpressionProgram compile(String rawExpression) {
+        return compile(parse(rawExpression));
+    }
+
+    /**
+     * Parses a raw expression into its syntax tree.
+     *
+     * @param rawExpression Expression text
+     * @return Parsed syntax tree and variables
+     * @throws ExpressionSyntaxException If the expression is malformed
+     * @throws ExpressionLimitException If the expression exceeds a length, token or depth limit
+     */
+    public ParsedExpression parse(String rawExpression) {
+        return expressionParser.parse(rawExpression);
+    }
+
+    /**
+     * Retrieves the limits enforced by this compiler.
+     *
+     * @return Bounds on the expressions compiled
+     */
+    public ExpressionLimits getLimits() {
+        return expressionParser.getLimits();
+    }
+
+    /**
+     * Compiles a parsed syntax tree into an immutable program.
+     *
+     * Expressions consisting of a single literal keep the literal's
+     * boxed form, so "5" still evaluates to the Integer 5.
+     *
+     * @param parsedExpression Parsed syntax tree and variables
+     * @return Compiled program
+     * @throws ExpressionLimitException If an evaluation would execute too many steps
+     */
+    public ExpressionProgram compile(ParsedExpression parsedExpression) {
+        ExpressionNode root = parsedExpression.getRoot();
+        ProgramBuilder builder = new ProgramBuilder();
+        root.accept(new InstructionEmitter(builder));
+
+        Number literal = root instanceof NumberLiteral ? ((NumberLiteral) root).toNumber() : null;
+        ExpressionProgram program = builder.build(parsedExpression.getVariableNames(), literal);
+        getLimits().checkSteps(program.getSteps());
+        return program;
+    }
+
+    /**
+     * Visitor emitting postfix instructions for each syntax tree node.
+     */
+    private static final class InstructionEmitter implements ExpressionVisitor<Void> {
+
+        // Builder receiving the emitted instructions
+        private final ProgramBuilder builder;
+
+        InstructionEmitter(ProgramBuilder builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        public Void visitNumber(NumberLiteral node) {
+            builder.pushConstant(node.getValue());
+            return null;
+        }
+
+        @Override
+        public Void visitVariable(VariableReference node) {
+            builder.pushVariable(node.getSlot());
+            return null;
+        }
+
+        @Override
+        public Void visitNegation(Negation node) {
+            node.getOperand().accept(this);
+            builder.negate();
+            return null;
+        }
+
+        @Override
+        public Void visitBinary(BinaryOperation node) {
+            List<BinaryOperation> spine = node.leftSpine();
+            spine.get(0).getLeft().accept(this);
+            for (BinaryOperation binary : spine) {
+                binary.getRight().accept(this);
+                builder.apply(binary.getOperation());
+            }
+            return null;
+        }
+
+        @Override
+        public Void visitFunctionCall(FunctionCall node) {
+            for (ExpressionNode argument : node.getArguments()) {
+                argument.accept(this);
+            }
+            builder.call(node.getFunction());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.budati.calculator.expression;
+
+import com.budati.calculator.ast.*;
+import com.budati.calculator.model.BuiltinFunction;
+import com.budati.calculator.model.ExpressionFunction;
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.service.CalculatorService;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Simplifies syntax trees before they are compiled.
+ *
+ * Folds constant subexpressions and removes algebraic identities that
+ * hold for every IEEE 754 double, so the cached and compiled forms do
+ * less work on each of their many evaluations.
+ *
+ * Folding Rules:
+ * - Operations on two literals are folded through the registered strategy;
+ *   an operation whose strategy throws, such as a division by zero, is kept
+ *   so that it still fails on every evaluation
+ * - Built-in functions of literals are folded; other functions are kept,
+ *   as they are not known to be pure
+ * - Negated literals and double negations are folded
+ *
+ * Identities (only while the operation has its built-in strategy):
+ * - x * 1, 1 * x, x / 1 and x ^ 1 become x
+ * - x - 0 and x + (-0) become x; x + 0 is kept, as -0 + 0 is +0
+ * - x ^ 0 becomes 1 unless evaluating x could throw
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+public class ExpressionOptimizer {
+
+    // Service providing the operation strategies used for folding
+    private final CalculatorService calculatorService;
+
+    // Number of syntax tree nodes removed across all optimized expressions
+    private final LongAdder eliminatedNodeCount = new LongAdder();
+
+    /**
+     * Creates an optimizer folding with the strategies of a service.
+     *
+     * @param calculatorService Service providing the operation strategies
+     */
+    public ExpressionOptimizer(CalculatorService calculatorService) {
+        this.calculatorService = calculatorService;
+    }
+
+    /**
+     * Optimizes a parsed expression.
+     *
+     * Variable slots are preserved even if references to a variable are
+     * removed, so callers still supply values for every variable.
+     *
+     * @param parsedExpression Parsed syntax tree
+     * @return Equivalent, possibly smaller syntax tree
+     */
+    public ParsedExpression optimize(ParsedExpression parsedExpression) {
+        ExpressionNode root = parsedExpression.getRoot();
+        ExpressionNode optimizedRoot = root.accept(new Simplifier());
+        if (optimizedRoot == root) {
+            return parsedExpression;
+        }
+
+        eliminatedNodeCount.add(countNodes(root) - countNodes(optimizedRoot));
+        return new ParsedExpression(optimizedRoot, parsedExpression.getVariableNames());
+    }
+
+    /**
+     * Retrieves the number of nodes removed by all optimizations so far.
+     *
+     * @return Eliminated node count
+     */
+    public long getEliminatedNodeCount() {
+        return eliminatedNodeCount.sum();
+    }
+
+    /**
+     * Counts the nodes of a syntax tree.
+     *
+     * @param node Root of the tree
+     * @return Number of nodes
+     */
+    public static int countNodes(ExpressionNode node) {
+        return node.accept(new ExpressionVisitor<Integer>() {
+            @Override
+            public Integer visitNumber(NumberLiteral literal) {
+                return 1;
+            }
+
+            @Override
+            public Integer visitVariable(VariableReference variable) {
+                return 1;
+            }
+
+            @Override
+            public Integer visitNegation(Negation negation) {
+                return 1 + negation.getOperand().accept(this);
+            }
+
+            @Override
+            public Integer visitBinary(BinaryOperation binary) {
+                List<BinaryOperation> spine = binary.leftSpine();
+                int count = spine.size() + spine.get(0).getLeft().accept(this);
+                for (BinaryOperation operation : spine) {
+                    count += operation.getRight().accept(this);
+                }
+                return count;
+            }
+
+            @Override
+            public Integer visitFunctionCall(FunctionCall call) {
+                int count = 1;
+                for (ExpressionNode argument : call.getArguments()) {
+                    count += argument.accept(this);
+                }
+                return count;
+            }
+        });
+    }
+
+    /**
+     * Visitor rebuilding the tree bottom-up, returning nodes unchanged
+     * when nothing below them could be simplified.
+     */
+    private final class Simplifier implements ExpressionVisitor<ExpressionNode> {
+
+        @Override
+        public ExpressionNode visitNumber(NumberLiteral node) {
+            return node;
+        }
+
+        @Override
+        public ExpressionNode visitVariable(VariableReference node) {
+            return node;
+        }
+
+        @Override
+        public ExpressionNode visitNegation(Negation node) {
+            ExpressionNode operand = node.getOperand().accept(this);
+            if (operand instanceof NumberLiteral) {
+                NumberLiteral literal = (NumberLiteral) operand;
+                return new NumberLiteral(-literal.getValue(), literal.isIntegral());
+            }
+            if (operand instanceof Negation) {
+                return ((Negation) operand).getOperand();
+            }
+            return operand == node.getOperand() ? node : new Negation(operand);
+        }
+
+        @Override
+        public ExpressionNode visitBinary(BinaryOperation node) {
+            List<BinaryOperation> spine = node.leftSpine();
+            ExpressionNode left = spine.get(0).getLeft().accept(this);
+            for (BinaryOperation binary : spine) {
+                left = simplify(binary, left, binary.getRight().accept(this));
+            }
+            return left;
+        }
+
+        /**
+         * Simplifies a binary operation whose operands have been simplified.
+         *
+         * @param node Original operation
+         * @param left Simplified left operand
+         * @param right Simplified right operand
+         * @return Simplified node, or the original if neither operand changed
+         *         and nothing could be folded
+         */
+        private ExpressionNode simplify(BinaryOperation node, ExpressionNode left, ExpressionNode right) {
+            Operation operation = node.getOperation();
+            if (left instanceof NumberLiteral && right instanceof NumberLiteral) {
+                try {
+                    double value = calculatorService.calculateAsDouble(operation,
+                            ((NumberLiteral) left).getValue(), ((NumberLiteral) right).getValue());
+                    return new NumberLiteral(value, false);
+                } catch (RuntimeException e) {
+                    // Keep the operation so that it fails on evaluation
+                }
+            } else if (calculatorService.hasBuiltinStrategy(operation)) {
+                ExpressionNode simplified = applyIdentity(operation, left, right);
+                if (simplified != null) {
+                    return simplified;
+                }
+            }
+
+            return left == node.getLeft() && right == node.getRight()
+                    ? node
+                    : new BinaryOperation(operation, left, right);
+        }
+
+        @Override
+        public ExpressionNode visitFunctionCall(FunctionCall node) {
+            List<ExpressionNode> arguments = new ArrayList<>(node.getArguments().size());
+            boolean changed = false;
+            boolean constant = true;
+            for (ExpressionNode argument : node.getArguments()) {
+                ExpressionNode optimized = argument.accept(this);
+                changed |= optimized != argument;
+                constant &= optimized instanceof NumberLiteral;
+                arguments.add(optimized);
+            }
+
+            ExpressionFunction function = node.getFunction();
+            if (constant && function instanceof BuiltinFunction) {
+                double[] values = new double[arguments.size()];
+                for (int index = 0; index < values.length; index++) {
+                    values[index] = ((NumberLiteral) arguments.get(index)).getValue();
+                }
+                return new NumberLiteral(function.invoke(values, 0), false);
+            }
+
+            return changed ? new FunctionCall(function, arguments) : node;
+        }
+
+        /**
+         * Applies an identity of a built-in operation.
+         *
+         * @param operation Operation with its built-in strategy
+         * @param left Simplified left operand
+         * @param right Simplified right operand
+         * @return Simplified node, or null if no identity applies
+         */
+        private ExpressionNode applyIdentity(Operation operation, ExpressionNode left, ExpressionNode right) {
+            switch (operation) {
+                case ADD:
+                    if (isNegativeZero(right)) {
+                        return left;
+                    }
+                    if (isNegativeZero(left)) {
+                        return right;
+                    }
+                    return null;
+                case SUBTRACT:
+                    return isPositiveZero(right) ? left : null;
+                case MULTIPLY:
+                    if (isLiteral(right, 1)) {
+                        return left;
+                    }
+                    if (isLiteral(left, 1)) {
+                        return right;
+                    }
+                    return null;
+                case DIVIDE:
+                    return isLiteral(right, 1) ? left : null;
+                case POWER:
+                    if (isLiteral(right, 1)) {
+                        return left;
+                    }
+                    if (isLiteral(right, 0) && !canThrow(left)) {
+                        return new NumberLiteral(1.0, false);
+                    }
+                    return null;
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * Determines whether evaluating a subtree may throw, in which case
+         * it must not be dropped.
+         *
+         * @param node Subtree to inspect
+         * @return True if the subtree divides, calls a non-builtin function
+         *         or uses a non-builtin strategy
+         */
+        private boolean canThrow(ExpressionNode node) {
+            // Walk the left spine in a loop, as flat chains may be long
+            while (node instanceof BinaryOperation) {
+                BinaryOperation binary = (BinaryOperation) node;
+                if (binary.getOperation() == Operation.DIVIDE
+                        || !calculatorService.hasBuiltinStrategy(binary.getOperation())
+                        || canThrow(binary.getRight())) {
+                    return true;
+                }
+                node = binary.getLeft();
+            }
+            if (node instanceof Negation) {
+                return canThrow(((Negation) node).getOperand());
+            }
+            if (node instanceof FunctionCall) {
+                FunctionCall call = (FunctionCall) node;
+                if (!(call.getFunction() instanceof BuiltinFunction)) {
+                    return true;
+                }
+                for (ExpressionNode argument : call.getArguments()) {
+                    if (canThrow(argument)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    private static boolean isLiteral(ExpressionNode node, double value) {
+        return node instanceof NumberLiteral && ((NumberLiteral) node).getValue() == value;
+    }
+
+    private static boolean isPositiveZero(ExpressionNode node) {
+        return node instanceof NumberLiteral
+                && Double.doubleToRawLongBits(((NumberLiteral) node).getValue()) == 0L;
+    }
+
+    private static boolean isNegativeZero(ExpressionNode node) {
+        return node instanceof NumberLiteral
+                && Double.doubleToRawLongBits(((NumberLiteral) node).getValue()) == Long.MIN_VALUE;
+    }
+}
@@ -0,0 +1,283 @@
+package com.budati.calculator.expression;
+
+import com.budati.calculator.kernel.ColumnKernels;
+import com.budati.calculator.model.ExpressionFunction;
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.service.CalculatorService;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable compiled form of a mathematical expression.
+ *
+ * Stores an expression as a postfix program of instructions over a
+ * constant pool, so that it can be evaluated repeatedly without
+ * tokenizing, parsing or resolving operation symbols again.
+ *
+ * Instruction Encoding:
+ * - The low byte of each instruction holds the opcode
+ * - The remaining bits hold the opcode's operand
+ * - {@link #OP_CONSTANT} pushes the constant at the operand index
+ * - {@link #OP_APPLY} applies the Operation with the operand ordinal
+ * - {@link #OP_VARIABLE} pushes the variable in the operand slot
+ * - {@link #OP_NEGATE} negates the topmost value
+ * - {@link #OP_CALL} calls the function at the operand index
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class ExpressionProgram {
+
+    // Opcode that pushes a constant from the constant pool
+    static final int OP_CONSTANT = 0;
+
+    // Opcode that applies a binary Operation to the two topmost values
+    static final int OP_APPLY = 1;
+
+    // Opcode that pushes a variable from the evaluation vector
+    static final int OP_VARIABLE = 2;
+
+    // Opcode that negates the topmost value
+    static final int OP_NEGATE = 3;
+
+    // Opcode that replaces the topmost arguments with a function result
+    static final int OP_CALL = 4;
+
+    // Empty variable vector for expressions without variables
+    static final double[] NO_VARIABLES = new double[0];
+
+    // Cached enum constants, avoiding the array clone performed by values()
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    // Encoded postfix instructions
+    private final int[] instructions;
+
+    // Constant pool referenced by OP_CONSTANT instructions
+    private final double[] constants;
+
+    // Function table referenced by OP_CALL instructions
+    private final ExpressionFunction[] functions;
+
+    // Variable names indexed by slot
+    private final List<String> variableNames;
+
+    // Maximum number of values on the stack during evaluation
+    private final int maxStackDepth;
+
+    // Instructions executed by one evaluation, including those of called defined functions
+    private final long steps;
+
+    // Original literal value when the expression is a single number; null otherwise
+    private final Number literal;
+
+    /**
+     * Creates a program from already encoded instructions.
+     *
+     * @param instructions Encoded postfix instructions
+     * @param constants Constant pool
+     * @param functions Function table
+     * @param variableNames Variable names indexed by slot
+     * @param maxStackDepth Maximum evaluation stack depth
+     * @param steps Instructions executed by one evaluation, including those of called defined functions
+     * @param literal Original literal for single-number expressions, or null
+     */
+    ExpressionProgram(int[] instructions, double[] constants, ExpressionFunction[] functions,
+                      List<String> variableNames, int maxStackDepth, long steps, Number literal) {
+        this.instructions = instructions;
+        this.constants = constants;
+        this.functions = functions;
+        this.variableNames = List.copyOf(variableNames);
+        this.maxStackDepth = maxStackDepth;
+        this.steps = steps;
+        this.literal = literal;
+    }
+
+    /**
+     * Encodes an instruction from an opcode and its operand.
+     *
+     * @param opcode Instruction opcode
+     * @param operand Instruction operand
+     * @return Encoded instruction
+     */
+    static int encode(int opcode, int operand) {
+        return (operand << 8) | opcode;
+    }
+
+    /**
+     * Retrieves the number of instructions in the program.
+     *
+     * @return Program length
+     */
+    public int getLength() {
+        return instructions.length;
+    }
+
+    /**
+     * Retrieves the number of instructions one evaluation executes.
+     *
+     * Programs are straight-line, so this is the program length plus the
+     * steps of every defined function called, counted once per call.
+     *
+     * @return Steps of one evaluation, saturating at Long.MAX_VALUE
+     */
+    public long getSteps() {
+        return steps;
+    }
+
+    /**
+     * Retrieves the maximum number of values on the stack during evaluation.
+     *
+     * @return Maximum evaluation stack depth
+     */
+    int getMaxStackDepth() {
+        return maxStackDepth;
+    }
+
+    /**
+     * Indicates whether the program consists of a single literal.
+     *
+     * @return True for single-number expressions
+     */
+    public boolean isLiteral() {
+        return literal != null;
+    }
+
+    /**
+     * Retrieves the names of the variables used by the program.
+     *
+     * @return Variable names indexed by slot
+     */
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+
+    /**
+     * Evaluates a program without variables using the strategies of the given service.
+     *
+     * Single-number expressions return their original literal so that,
+     * for example, "5" still evaluates to the Integer 5.
+     *
+     * @param calculatorService Service providing the operation strategies
+     * @return Evaluation result
+     * @throws IllegalArgumentException If the program uses variables
+     */
+    public Number evaluate(CalculatorService calculatorService) {
+        if (literal != null) {
+            return literal;
+        }
+        return evaluateAsDouble(calculatorService, NO_VARIABLES);
+    }
+
+    /**
+     * Evaluates the program on a primitive operand stack.
+     *
+     * @param calculatorService Service providing the operation strategies
+     * @param variables Variable values indexed by slot
+     * @return Evaluation result
+     * @throws IllegalArgumentException If fewer values than variables are supplied
+     */
+    public double evaluateAsDouble(CalculatorService calculatorService, double[] variables) {
+        if (variables.length < variableNames.size()) {
+            throw new IllegalArgumentException("Expected " + variableNames.size()
+                    + " variable value(s) but got " + variables.length);
+        }
+
+        double[] stack = new double[maxStackDepth];
+        int top = -1;
+
+        for (int instruction : instructions) {
+            int operand = instruction >>> 8;
+            switch (instruction & 0xFF) {
+                case OP_CONSTANT:
+                    stack[++top] = constants[operand];
+                    break;
+                case OP_APPLY:
+                    double right = stack[top--];
+                    stack[top] = calculatorService.calculateAsDouble(OPERATIONS[operand], stack[top], right);
+                    break;
+                case OP_VARIABLE:
+                    stack[++top] = variables[operand];
+                    break;
+                case OP_NEGATE:
+                    stack[top] = -stack[top];
+                    break;
+                case OP_CALL:
+                    ExpressionFunction function = functions[operand];
+                    int base = top - function.getArity() + 1;
+                    stack[base] = function.invoke(stack, base);
+                    top = base;
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown opcode: " + (instruction & 0xFF));
+            }
+        }
+
+        return stack[0];
+    }
+
+    /**
+     * Evaluates the program for a block of rows, executing each
+     * instruction over whole columns instead of row by row.
+     *
+     * Operations served by their built-in strategy run as column kernels;
+     * any other strategy and all functions are applied element by element.
+     *
+     * @param calculatorService Service providing the operation strategies
+     * @param kernels Column kernels for built-in operations
+     * @param columns Variable columns indexed by slot
+     * @param fromRow First row of the block
+     * @param length Number of rows in the block
+     * @param stack Column stack of at least {@link #getMaxStackDepth()} columns of {@code length} values
+     * @param results Array receiving the result of row {@code r} at index {@code r}
+     */
+    void evaluateColumns(CalculatorService calculatorService, ColumnKernels kernels, double[][] columns,
+                         int fromRow, int length, double[][] stack, double[] results) {
+        int top = -1;
+
+        for (int instruction : instructions) {
+            int operand = instruction >>> 8;
+            switch (instruction & 0xFF) {
+                case OP_CONSTANT:
+                    Arrays.fill(stack[++top], 0, length, constants[operand]);
+                    break;
+                case OP_APPLY:
+                    Operation operation = OPERATIONS[operand];
+                    double[] right = stack[top--];
+                    double[] left = stack[top];
+                    if (calculatorService.hasBuiltinStrategy(operation)) {
+                        kernels.forOperation(operation).apply(left, right, left, length);
+                    } else {
+                        for (int row = 0; row < length; row++) {
+                            left[row] = calculatorService.calculateAsDouble(operation, left[row], right[row]);
+                        }
+                    }
+                    break;
+                case OP_VARIABLE:
+                    System.arraycopy(columns[operand], fromRow, stack[++top], 0, length);
+                    break;
+                case OP_NEGATE:
+                    kernels.negate(stack[top], length);
+                    break;
+                case OP_CALL:
+                    ExpressionFunction function = functions[operand];
+                    int arity = function.getArity();
+                    int base = top - arity + 1;
+                    double[] arguments = new double[arity];
+                    for (int row = 0; row < length; row++) {
+                        for (int argument = 0; argument < arity; argument++) {
+                            arguments[argument] = stack[base + argument][row];
+                        }
+                        stack[base][row] = function.invoke(arguments, 0);
+                    }
+                    top = base;
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown opcode: " + (instruction & 0xFF));
+            }
+        }
+
+        System.arraycopy(stack[0], 0, results, fromRow, length);
+    }
+}
@@ -0,0 +1,104 @@
+package com.budati.calculator.expression;
+
+import com.budati.calculator.ast.ParsedExpression;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Policy promoting hot expressions from the interpreter to bytecode.
+ *
+ * Expressions are interpreted until they have been evaluated a
+ * configurable number of times, after which they are compiled by the
+ * {@link BytecodeExpressionCompiler}. A threshold of zero or less
+ * disables compilation.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+public class ExpressionTieringPolicy {
+
+    // Compiler generating bytecode for hot expressions
+    private final BytecodeExpressionCompiler bytecodeCompiler;
+
+    // Number of evaluations after which an expression is compiled
+    private final long compileThreshold;
+
+    // Number of expressions compiled to bytecode
+    private final LongAdder compiledCount = new LongAdder();
+
+    // Number of hot expressions that could not be compiled
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * Creates a tiering policy.
+     *
+     * @param bytecodeCompiler Compiler generating bytecode
+     * @param compileThreshold Evaluations after which an expression is compiled
+     */
+    public ExpressionTieringPolicy(
+            BytecodeExpressionCompiler bytecodeCompiler,
+            @Value("${calculator.expression-compiler.threshold:10000}") long compileThreshold) {
+        this.bytecodeCompiler = bytecodeCompiler;
+        this.compileThreshold = compileThreshold;
+    }
+
+    /**
+     * Creates a tiered expression in the interpreted tier.
+     *
+     * @param parsedExpression Syntax tree of the expression
+     * @param program Interpreted form of the expression
+     * @return Tiered expression governed by this policy
+     */
+    public TieredExpression createExpression(ParsedExpression parsedExpression, ExpressionProgram program) {
+        return new TieredExpression(parsedExpression, program, this);
+    }
+
+    /**
+     * Decides whether an expression has become hot enough to compile.
+     *
+     * @param invocationCount Number of evaluations so far
+     * @return True if the expression should be compiled
+     */
+    boolean shouldCompile(long invocationCount) {
+        return compileThreshold > 0 && invocationCount >= compileThreshold;
+    }
+
+    /**
+     * Compiles a hot expression.
+     *
+     * @param parsedExpression Syntax tree of the expression
+     * @return Compiled expression, or null if it cannot be compiled
+     */
+    CompiledExpression compile(ParsedExpression parsedExpression) {
+        try {
+            CompiledExpression compiled = bytecodeCompiler.compile(parsedExpression);
+            compiledCount.increment();
+            return compiled;
+        } catch (UnsupportedOperationException e) {
+            rejectedCount.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Retrieves the number of expressions compiled to bytecode.
+     *
+     * @return Compiled expression count
+     */
+    public long getCompiledCount() {
+        return compiledCount.sum();
+    }
+
+    /**
+     * Retrieves the number of hot expressions that could not be compiled.
+     *
+     * @return Rejected expression count
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
@@ -0,0 +1,315 @@
+package com.budati.calculator.expression;
+
+import com.budati.calculator.model.BuiltinFunction;
+import com.budati.calculator.model.ExpressionFunction;
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.parser.ExpressionLimits;
+import com.budati.calculator.parser.ExpressionParser;
+import com.budati.calculator.service.CalculatorService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of the functions that expressions may call, keyed by name.
+ *
+ * Sources, in registration order:
+ * - {@link BuiltinFunction} constants
+ * - Plugins: {@link ExpressionFunction} implementations listed in
+ *   {@code META-INF/services/com.budati.calculator.model.ExpressionFunction}
+ *   on the classpath, loaded with {@link ServiceLoader} at startup
+ * - Definitions: {@code calculator.functions.definitions}, separated by
+ *   ";", and {@link #define} at runtime, e.g. "hypot3(x, y, z) = sqrt(x*x + y*y + z*z)"
+ *
+ * Each function carries its arity and infix priority. Built-in and
+ * plugin functions are fixed; defined functions may be redefined or
+ * removed while the application runs. Bodies are compiled under the
+ * expression limits, so a chain of definitions calling each other cannot
+ * build a function whose single call runs more steps than allowed.
+ *
+ * The functions are published as an immutable map that is replaced on
+ * every change (copy-on-write), so lookups made while parsing take no
+ * lock even while functions are being defined. Listeners registered
+ * through {@link #addChangeListener} run after each change, so caches of
+ * parsed expressions can drop entries bound to a replaced definition.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+public class FunctionRegistry {
+
+    // Form of a definition: name, parameter list and body
+    private static final Pattern DEFINITION =
+            Pattern.compile("\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*\\(([^)]*)\\)\\s*=(.+)", Pattern.DOTALL);
+
+    // Form of function and parameter names
+    private static final Pattern NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    // Highest infix priority, that of the tightest-binding operation
+    private static final int MAXIMUM_PRECEDENCE = Operation.POWER.getPriority();
+
+    // Service providing the operation strategies of defined functions
+    private final CalculatorService calculatorService;
+
+    // Compiler of definition bodies, resolving functions through this registry
+    private final ExpressionCompiler expressionCompiler;
+
+    // Published functions keyed by name; replaced, never modified
+    private volatile Map<String, ExpressionFunction> functions = Map.of();
+
+    // Callbacks run after each change
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a registry of the built-in functions only.
+     *
+     * @param calculatorService Service providing the operation strategies of defined functions
+     */
+    public FunctionRegistry(CalculatorService calculatorService) {
+        this(calculatorService, ExpressionLimits.UNLIMITED);
+    }
+
+    /**
+     * Creates a registry of the built-in functions only, compiling definitions under limits.
+     *
+     * @param calculatorService Service providing the operation strategies of defined functions
+     * @param limits Bounds on the definition bodies
+     */
+    public FunctionRegistry(CalculatorService calculatorService, ExpressionLimits limits) {
+        this.calculatorService = calculatorService;
+        this.expressionCompiler = new ExpressionCompiler(new ExpressionParser(this::get, limits));
+        Map<String, ExpressionFunction> builtins = new HashMap<>();
+        for (BuiltinFunction function : BuiltinFunction.values()) {
+            builtins.put(function.getName(), function);
+        }
+        this.functions = Map.copyOf(builtins);
+    }
+
+    /**
+     * Creates the registry with the plugins on the classpath and the configured definitions.
+     *
+     * @param calculatorService Service providing the operation strategies of defined functions
+     * @param definitions Function definitions separated by ";", may be empty
+     * @throws IllegalStateException If a plugin or definition is invalid or reuses a name
+     */
+    public FunctionRegistry(CalculatorService calculatorService, String definitions) {
+        this(calculatorService, ExpressionLimits.UNLIMITED, definitions);
+    }
+
+    /**
+     * Creates the registry with the plugins on the classpath and the
+     * configured definitions, compiling definitions under limits.
+     *
+     * @param calculatorService Service providing the operation strategies of defined functions
+     * @param limits Bounds on the definition bodies
+     * @param definitions Function definitions separated by ";", may be empty
+     * @throws IllegalStateException If a plugin or definition is invalid or reuses a name
+     */
+    @Autowired
+    public FunctionRegistry(
+            CalculatorService calculatorService,
+            ExpressionLimits limits,
+            @Value("${calculator.functions.definitions:}") String definitions) {
+        this(calculatorService, limits);
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (ExpressionFunction plugin : ServiceLoader.load(ExpressionFunction.class, classLoader)) {
+            try {
+                register(plugin);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Invalid function plugin " + plugin.getClass().getName()
+                        + ": " + e.getMessage(), e);
+            }
+        }
+        for (String definition : definitions.split(";")) {
+            if (!definition.isBlank()) {
+                try {
+                    define(definition.trim(), 0);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalStateException("Invalid function definition '" + definition.trim()
+                            + "': " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves a function by name.
+     *
+     * @param name Function name
+     * @return Function, or null if none has that name
+     */
+    public ExpressionFunction get(String name) {
+        return functions.get(name);
+    }
+
+    /**
+     * Retrieves all functions.
+     *
+     * @return Snapshot of the registered functions
+     */
+    public Collection<ExpressionFunction> getFunctions() {
+        return functions.values();
+    }
+
+    /**
+     * Registers a plugin function.
+     *
+     * @param function Function to register
+     * @throws IllegalArgumentException If the name, arity or priority is invalid,
+     *         or a built-in or plugin function already has the name
+     */
+    public void register(ExpressionFunction function) {
+        validate(function.getName(), function.getArity(), function.getPrecedence());
+        publish(function);
+    }
+
+    /**
+     * Defines a function by an expression over its parameters, replacing
+     * any previous definition of the same name.
+     *
+     * The body may call functions registered before it, but not itself.
+     *
+     * @param definition Definition, e.g. "hypot3(x, y, z) = sqrt(x*x + y*y + z*z)"
+     * @param precedence Infix priority from 1 to 3 for binary functions, or 0 if
+     *        the function can only be called by name
+     * @return Defined function
+     * @throws IllegalArgumentException If the definition is malformed, uses a variable
+     *         that is not a parameter, or names a built-in or plugin function
+     */
+    public DefinedFunction define(String definition, int precedence) {
+        Matcher matcher = definition != null ? DEFINITION.matcher(definition) : null;
+        if (matcher == null || !matcher.matches()) {
+            throw new IllegalArgumentException("Function definition must have the form name(a, b) = expression");
+        }
+        String name = matcher.group(1);
+        List<String> parameters = parseParameters(matcher.group(2));
+        validate(name, parameters.size(), precedence);
+
+        ExpressionProgram body = expressionCompiler.compile(matcher.group(3));
+        for (String variable : body.getVariableNames()) {
+            if (!parameters.contains(variable)) {
+                throw new IllegalArgumentException("Unknown variable '" + variable + "' in the body of " + name);
+            }
+        }
+
+        DefinedFunction function = new DefinedFunction(
+                name, parameters, definition.trim(), precedence, body, calculatorService);
+        publish(function);
+        return function;
+    }
+
+    /**
+     * Removes a defined function.
+     *
+     * Expressions already compiled, such as prepared expressions, keep
+     * the definition they were compiled with.
+     *
+     * @param name Function name
+     * @return True if a defined function was removed, false if none has the name
+     * @throws IllegalArgumentException If the name belongs to a built-in or plugin function
+     */
+    public boolean remove(String name) {
+        synchronized (this) {
+            ExpressionFunction existing = functions.get(name);
+            if (existing == null) {
+                return false;
+            }
+            if (!(existing instanceof DefinedFunction)) {
+                throw new IllegalArgumentException("Function '" + name + "' cannot be removed");
+            }
+            Map<String, ExpressionFunction> next = new HashMap<>(functions);
+            next.remove(name);
+            functions = Map.copyOf(next);
+        }
+        changeListeners.forEach(Runnable::run);
+        return true;
+    }
+
+    /**
+     * Registers a callback run after every change of the functions.
+     *
+     * @param listener Callback, run on the thread making the change
+     */
+    public void addChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Publishes a new snapshot including a function.
+     *
+     * @param function Function to add or, if defined, to replace a previous definition
+     * @throws IllegalArgumentException If a built-in or plugin function already has the name
+     */
+    private void publish(ExpressionFunction function) {
+        synchronized (this) {
+            ExpressionFunction existing = functions.get(function.getName());
+            if (existing != null && !(existing instanceof DefinedFunction && function instanceof DefinedFunction)) {
+                throw new IllegalArgumentException("Function '" + function.getName() + "' is already registered");
+            }
+            Map<String, ExpressionFunction> next = new HashMap<>(functions);
+            next.put(function.getName(), function);
+            functions = Map.copyOf(next);
+        }
+        changeListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Checks the metadata of a function.
+     *
+     * @param name Function name
+     * @param arity Number of arguments
+     * @param precedence Infix priority, 0 if the function can only be called by name
+     * @throws IllegalArgumentException If any value is invalid
+     */
+    private static void validate(String name, int arity, int precedence) {
+        if (name == null || !NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid function name: " + name);
+        }
+        if (arity < 0) {
+            throw new IllegalArgumentException("Function '" + name + "' has a negative arity");
+        }
+        if (precedence < 0 || precedence > MAXIMUM_PRECEDENCE) {
+            throw new IllegalArgumentException("Infix priority of '" + name + "' must be from 0 to " + MAXIMUM_PRECEDENCE);
+        }
+        if (precedence > 0 && arity != 2) {
+            throw new IllegalArgumentException("Only functions of two arguments can be infix: " + name);
+        }
+    }
+
+    /**
+     * Splits a parameter list.
+     *
+     * @param parameterList Comma-separated parameter names, may be blank
+     * @return Parameter names in order
+     * @throws IllegalArgumentException If a name is invalid or repeated
+     */
+    private static List<String> parseParameters(String parameterList) {
+        List<String> parameters = new ArrayList<>();
+        if (parameterList.isBlank()) {
+            return parameters;
+        }
+        for (String parameter : parameterList.split(",")) {
+            String name = parameter.trim();
+            if (!NAME.matcher(name).matches()) {
+                throw new IllegalArgumentException("Invalid parameter name: '" + name + "'");
+            }
+            if (parameters.contains(name)) {
+                throw new IllegalArgumentException("Duplicate parameter: " + name);
+            }
+            parameters.add(name);
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,97 @@
+package com.budati.calculator.expression;
+
+import com.budati.calculator.service.CalculatorService;
+
+import java.util.List;
+
+/**
+ * Expression registered once and evaluated many times with different variable values.
+ *
+ * Comparable to a JDBC prepared statement: the expression text is parsed,
+ * optimized and compiled at registration, and each evaluation only binds
+ * a vector of variable values by slot. The underlying
+ * {@link TieredExpression} is shared with the compiled expression cache,
+ * so a prepared expression is promoted to bytecode once hot.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class PreparedExpression {
+
+    // Identifier returned to clients at registration
+    private final String id;
+
+    // Expression text as registered
+    private final String rawExpression;
+
+    // Compiled form shared with the expression cache
+    private final TieredExpression expression;
+
+    /**
+     * Creates a prepared expression.
+     *
+     * @param id Identifier returned to clients
+     * @param rawExpression Expression text as registered
+     * @param expression Compiled form of the expression
+     */
+    PreparedExpression(String id, String rawExpression, TieredExpression expression) {
+        this.id = id;
+        this.rawExpression = rawExpression;
+        this.expression = expression;
+    }
+
+    /**
+     * Retrieves the identifier of the prepared expression.
+     *
+     * @return Identifier
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the expression text as registered.
+     *
+     * @return Expression text
+     */
+    public String getRawExpression() {
+        return rawExpression;
+    }
+
+    /**
+     * Retrieves the variable names in the order their values are bound.
+     *
+     * @return Variable names indexed by slot
+     */
+    public List<String> getVariableNames() {
+        return expression.getVariableNames();
+    }
+
+    /**
+     * Indicates whether the expression has been promoted to bytecode.
+     *
+     * @return True once compiled
+     */
+    public boolean isCompiled() {
+        return expression.isCompiled();
+    }
+
+    /**
+     * Evaluates the expression with one value per variable.
+     *
+     * @param calculatorService Service providing the operation strategies
+     * @param variables Variable values in the order of {@link #getVariableNames()}
+     * @return Evaluation result
+     * @throws IllegalArgumentException If the number of values does not match
+     *         the number of variables, or the evaluation fails
+     */
+    public double evaluate(CalculatorService calculatorService, double[] variables) {
+        int variableCount = expression.getVariableNames().size();
+        if (variables.length != variableCount) {
+            throw new IllegalArgumentException("Expected " + variableCount
+                    + " variable value(s) but got " + variables.length);
+        }
+        return expression.evaluateAsDouble(calculatorService, variables);
+    }
+}
@@ -0,0 +1,98 @@
+package com.budati.calculator.expression;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Registry of prepared expressions keyed by identifier.
+ *
+ * Registration compiles the expression through the
+ * {@link CompiledExpressionCache} and pins the result under a new
+ * identifier, so evaluations by identifier never parse and are not
+ * affected by evictions from the text-keyed cache.
+ *
+ * Key Characteristics:
+ * - Bounded by a configurable maximum size; evicted identifiers must be registered again
+ * - Identifiers are random UUIDs, which clients cannot enumerate
+ * - Lock-free lookups
+ * - Registering the same text twice shares one compiled form
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+public class PreparedExpressionRegistry {
+
+    // Cache compiling expression text on registration
+    private final CompiledExpressionCache expressionCache;
+
+    // Prepared expressions keyed by identifier
+    private final Cache<String, PreparedExpression> preparedExpressions;
+
+    /**
+     * Creates the registry with the configured maximum size.
+     *
+     * @param expressionCache Cache compiling expressions on registration
+     * @param maximumSize Maximum number of registered expressions
+     */
+    public PreparedExpressionRegistry(
+            CompiledExpressionCache expressionCache,
+            @Value("${calculator.prepared-expressions.maximum-size:10000}") long maximumSize) {
+        this.expressionCache = expressionCache;
+        this.preparedExpressions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Compiles an expression and registers it under a new identifier.
+     *
+     * @param rawExpression Expression text, usually with variables
+     * @return Registered expression
+     * @throws IllegalArgumentException If the expression cannot be compiled
+     */
+    public PreparedExpression register(String rawExpression) {
+        if (rawExpression == null) {
+            throw new IllegalArgumentException("Expression must not be null");
+        }
+        TieredExpression expression = expressionCache.getExpression(rawExpression);
+        String id = UUID.randomUUID().toString();
+        PreparedExpression preparedExpression = new PreparedExpression(id, rawExpression, expression);
+        preparedExpressions.put(id, preparedExpression);
+        return preparedExpression;
+    }
+
+    /**
+     * Retrieves a registered expression.
+     *
+     * @param id Identifier returned at registration
+     * @return Registered expression, or null if unknown or evicted
+     */
+    public PreparedExpression get(String id) {
+        return preparedExpressions.getIfPresent(id);
+    }
+
+    /**
+     * Removes a registered expression.
+     *
+     * @param id Identifier returned at registration
+     * @return True if the expression was registered
+     */
+    public boolean remove(String id) {
+        return preparedExpressions.asMap().remove(id) != null;
+    }
+
+    /**
+     * Retrieves the approximate number of registered expressions.
+     *
+     * @return Number of registered expressions
+     */
+    public long size() {
+        return preparedExpressions.estimatedSize();
+    }
+}
@@ -0,0 +1,155 @@
+package com.budati.calculator.expression;
+
+import com.budati.calculator.model.ExpressionFunction;
+import com.budati.calculator.model.Operation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Incremental builder for {@link ExpressionProgram} instances.
+ *
+ * Emits postfix instructions while tracking the evaluation stack depth,
+ * so that compiled programs know exactly how much stack they need.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+final class ProgramBuilder {
+
+    // Encoded instructions emitted so far
+    private int[] instructions = new int[16];
+    private int instructionCount;
+
+    // Constant pool collected so far
+    private double[] constants = new double[8];
+    private int constantCount;
+
+    // Function table collected so far
+    private final List<ExpressionFunction> functions = new ArrayList<>();
+
+    // Current and maximum evaluation stack depth
+    private int depth;
+    private int maxDepth;
+
+    // Instructions one evaluation executes, including those of called defined functions
+    private long steps;
+
+    /**
+     * Emits an instruction pushing a constant value.
+     *
+     * @param value Constant to push
+     * @return This builder
+     */
+    ProgramBuilder pushConstant(double value) {
+        if (constantCount == constants.length) {
+            constants = Arrays.copyOf(constants, constantCount * 2);
+        }
+        constants[constantCount] = value;
+        emit(ExpressionProgram.encode(ExpressionProgram.OP_CONSTANT, constantCount++), 1);
+        return this;
+    }
+
+    /**
+     * Emits an instruction applying a binary operation.
+     *
+     * @param operation Operation to apply
+     * @return This builder
+     */
+    ProgramBuilder apply(Operation operation) {
+        emit(ExpressionProgram.encode(ExpressionProgram.OP_APPLY, operation.ordinal()), -1);
+        return this;
+    }
+
+    /**
+     * Emits an instruction pushing a variable value.
+     *
+     * @param slot Slot of the variable in the evaluation vector
+     * @return This builder
+     */
+    ProgramBuilder pushVariable(int slot) {
+        emit(ExpressionProgram.encode(ExpressionProgram.OP_VARIABLE, slot), 1);
+        return this;
+    }
+
+    /**
+     * Emits an instruction negating the topmost value.
+     *
+     * @return This builder
+     */
+    ProgramBuilder negate() {
+        emit(ExpressionProgram.encode(ExpressionProgram.OP_NEGATE, 0), 0);
+        return this;
+    }
+
+    /**
+     * Emits an instruction calling a function on the topmost values.
+     *
+     * @param function Function to call
+     * @return This builder
+     */
+    ProgramBuilder call(ExpressionFunction function) {
+        int index = functions.indexOf(function);
+        if (index < 0) {
+            index = functions.size();
+            functions.add(function);
+        }
+        if (function instanceof DefinedFunction) {
+            steps = saturatedAdd(steps, ((DefinedFunction) function).getSteps());
+        }
+        emit(ExpressionProgram.encode(ExpressionProgram.OP_CALL, index), 1 - function.getArity());
+        return this;
+    }
+
+    /**
+     * Builds the immutable program.
+     *
+     * @param variableNames Variable names indexed by slot
+     * @param literal Original literal for single-number expressions, or null
+     * @return Compiled program
+     * @throws IllegalStateException If the instructions do not leave exactly one result
+     */
+    ExpressionProgram build(List<String> variableNames, Number literal) {
+        if (depth != 1) {
+            throw new IllegalStateException("Unbalanced expression program");
+        }
+        return new ExpressionProgram(
+                Arrays.copyOf(instructions, instructionCount),
+                Arrays.copyOf(constants, constantCount),
+                functions.toArray(new ExpressionFunction[0]),
+                variableNames,
+                maxDepth,
+                steps,
+                literal);
+    }
+
+    /**
+     * Appends an encoded instruction and updates the stack depth.
+     *
+     * @param instruction Encoded instruction
+     * @param stackEffect Net change in stack depth
+     */
+    private void emit(int instruction, int stackEffect) {
+        if (instructionCount == instructions.length) {
+            instructions = Arrays.copyOf(instructions, instructionCount * 2);
+        }
+        instructions[instructionCount++] = instruction;
+        depth += stackEffect;
+        maxDepth = Math.max(maxDepth, depth);
+        steps = saturatedAdd(steps, 1);
+    }
+
+    /**
+     * Adds two step counts without overflowing.
+     *
+     * @param a First count
+     * @param b Second count
+     * @return Sum, or Long.MAX_VALUE if it overflows
+     */
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+}
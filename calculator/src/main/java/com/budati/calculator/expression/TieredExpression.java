@@ -0,0 +1,157 @@
+package com.budati.calculator.expression;
+
+import com.budati.calculator.ast.ParsedExpression;
+import com.budati.calculator.service.CalculatorService;
+
+import java.util.List;
+
+/**
+ * Cached expression that starts interpreted and is promoted to bytecode once hot.
+ *
+ * Holds the immutable syntax tree and postfix program of an expression,
+ * plus the tiering state: an approximate invocation counter and, after
+ * promotion, the {@link CompiledExpression} that replaces the interpreter.
+ *
+ * Tiering:
+ * - Tier 0 evaluates the {@link ExpressionProgram} through the operation strategies
+ * - Once the invocation count reaches the policy threshold, the expression
+ *   is compiled and subsequent evaluations use the generated class
+ * - Expressions that cannot be compiled stay interpreted
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class TieredExpression {
+
+    // Syntax tree, retained for compilation
+    private final ParsedExpression parsedExpression;
+
+    // Interpreted form
+    private final ExpressionProgram program;
+
+    // Policy deciding when to compile
+    private final ExpressionTieringPolicy tieringPolicy;
+
+    // Compiled form once promoted; null while interpreted
+    private volatile CompiledExpression compiledExpression;
+
+    // Approximate invocation count; races only delay promotion slightly
+    private long invocationCount;
+
+    /**
+     * Creates a tiered expression in the interpreted tier.
+     *
+     * @param parsedExpression Syntax tree of the expression
+     * @param program Interpreted form of the expression
+     * @param tieringPolicy Policy deciding when to compile
+     */
+    TieredExpression(ParsedExpression parsedExpression, ExpressionProgram program, ExpressionTieringPolicy tieringPolicy) {
+        this.parsedExpression = parsedExpression;
+        this.program = program;
+        this.tieringPolicy = tieringPolicy;
+    }
+
+    /**
+     * Retrieves the syntax tree of the expression.
+     *
+     * @return Parsed expression
+     */
+    public ParsedExpression getParsedExpression() {
+        return parsedExpression;
+    }
+
+    /**
+     * Retrieves the interpreted form of the expression.
+     *
+     * @return Postfix program
+     */
+    public ExpressionProgram getProgram() {
+        return program;
+    }
+
+    /**
+     * Retrieves the names of the variables used by the expression.
+     *
+     * @return Variable names indexed by slot
+     */
+    public List<String> getVariableNames() {
+        return program.getVariableNames();
+    }
+
+    /**
+     * Indicates whether the expression has been promoted to bytecode.
+     *
+     * @return True once compiled
+     */
+    public boolean isCompiled() {
+        return compiledExpression != null;
+    }
+
+    /**
+     * Evaluates an expression without variables.
+     *
+     * @param calculatorService Service providing the operation strategies
+     * @return Evaluation result, keeping the boxed form of single literals
+     */
+    public Number evaluate(CalculatorService calculatorService) {
+        if (program.isLiteral()) {
+            return program.evaluate(calculatorService);
+        }
+        return evaluateAsDouble(calculatorService, ExpressionProgram.NO_VARIABLES);
+    }
+
+    /**
+     * Evaluates the expression in its current tier.
+     *
+     * Each call counts as one invocation towards promotion.
+     *
+     * @param calculatorService Service providing the operation strategies
+     * @param variables Variable values indexed by slot
+     * @return Evaluation result
+     */
+    public double evaluateAsDouble(CalculatorService calculatorService, double[] variables) {
+        CompiledExpression compiled = compiledExpression;
+        if (compiled == null) {
+            compiled = recordInvocation();
+        }
+        if (compiled != null) {
+            if (variables.length < program.getVariableNames().size()) {
+                throw new IllegalArgumentException("Expected " + program.getVariableNames().size()
+                        + " variable value(s) but got " + variables.length);
+            }
+            return compiled.evaluate(variables);
+        }
+        return program.evaluateAsDouble(calculatorService, variables);
+    }
+
+    /**
+     * Records an invocation and promotes the expression once the threshold is reached.
+     *
+     * @return Compiled expression if promoted, null otherwise
+     */
+    private CompiledExpression recordInvocation() {
+        long count = invocationCount + 1;
+        invocationCount = count;
+        if (tieringPolicy.shouldCompile(count)) {
+            return promote();
+        }
+        return null;
+    }
+
+    /**
+     * Compiles the expression unless another thread already did.
+     *
+     * @return Compiled expression, or null if it cannot be compiled
+     */
+    private synchronized CompiledExpression promote() {
+        if (compiledExpression == null && invocationCount >= 0) {
+            compiledExpression = tieringPolicy.compile(parsedExpression);
+            if (compiledExpression == null) {
+                // Never retry expressions that cannot be compiled
+                invocationCount = Long.MIN_VALUE;
+            }
+        }
+        return compiledExpression;
+    }
+}
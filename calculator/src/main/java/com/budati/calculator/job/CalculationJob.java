@@ -0,0 +1,322 @@
+package com.budati.calculator.job;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Calculation submitted for asynchronous evaluation.
+ *
+ * Key Characteristics:
+ * - Moves from QUEUED to RUNNING to one of the terminal states exactly
+ *   once; a job cancelled while queued never runs
+ * - Progress is counted in units of work (steps or rows) out of a total
+ *   known at submission
+ * - A running job stops at its next progress report after cancellation
+ *   is requested
+ * - Listeners are notified of progress and of the terminal state
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class CalculationJob {
+
+    /**
+     * Lifecycle states of a job.
+     */
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED,
+        CANCELLED;
+
+        /**
+         * Checks whether the job has finished in this state.
+         *
+         * @return True for succeeded, failed and cancelled jobs
+         */
+        public boolean isTerminal() {
+            return this != QUEUED && this != RUNNING;
+        }
+    }
+
+    // Random identifier, as jobs hold results a client may not share
+    private final String id;
+
+    // Kind of calculation, e.g. sequence or batch
+    private final String kind;
+
+    // Scheduling priority
+    private final JobPriority priority;
+
+    // Units of work of the whole job
+    private final long total;
+
+    // Time the job was accepted
+    private final Instant submittedAt;
+
+    // Current lifecycle state
+    private final AtomicReference<Status> status = new AtomicReference<>(Status.QUEUED);
+
+    // Units of work completed so far
+    private volatile long completed;
+
+    // Set once cancellation is requested for a running job
+    private volatile boolean cancellationRequested;
+
+    // Result of a succeeded job
+    private volatile Object result;
+
+    // Reason of a failed job
+    private volatile String error;
+
+    // Time the job started and finished running
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    // Callbacks notified of progress and completion
+    private final List<Consumer<CalculationJob>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a queued job.
+     *
+     * @param id Identifier of the job
+     * @param kind Kind of calculation
+     * @param priority Scheduling priority
+     * @param total Units of work of the whole job
+     */
+    CalculationJob(String id, String kind, JobPriority priority, long total) {
+        this.id = id;
+        this.kind = kind;
+        this.priority = priority;
+        this.total = total;
+        this.submittedAt = Instant.now();
+    }
+
+    /**
+     * Records progress, stopping the job if cancellation was requested.
+     *
+     * Called by the running calculation between units of work.
+     *
+     * @param completed Units of work completed so far
+     * @throws CancellationException If cancellation was requested
+     */
+    public void advance(long completed) {
+        if (cancellationRequested) {
+            throw new CancellationException("Job " + id + " was cancelled");
+        }
+        this.completed = completed;
+        notifyListeners();
+    }
+
+    /**
+     * Moves a queued job to running.
+     *
+     * @return False if the job was cancelled while queued
+     */
+    boolean start() {
+        if (!status.compareAndSet(Status.QUEUED, Status.RUNNING)) {
+            return false;
+        }
+        startedAt = Instant.now();
+        notifyListeners();
+        return true;
+    }
+
+    /**
+     * Completes a running job with its result.
+     *
+     * @param result Result of the calculation
+     */
+    void succeed(Object result) {
+        this.result = result;
+        this.completed = total;
+        finish(Status.SUCCEEDED);
+    }
+
+    /**
+     * Completes a running job with the reason it failed.
+     *
+     * @param error Reason of the failure
+     */
+    void fail(String error) {
+        this.error = error;
+        finish(Status.FAILED);
+    }
+
+    /**
+     * Completes a running job after it stopped on cancellation.
+     */
+    void stopCancelled() {
+        finish(Status.CANCELLED);
+    }
+
+    /**
+     * Requests cancellation.
+     *
+     * A queued job is cancelled immediately; a running job stops at its
+     * next progress report.
+     *
+     * @return The status the job had, or null if it had already finished
+     */
+    Status cancel() {
+        if (status.compareAndSet(Status.QUEUED, Status.CANCELLED)) {
+            finishedAt = Instant.now();
+            notifyListeners();
+            return Status.QUEUED;
+        }
+        if (status.get() == Status.RUNNING) {
+            cancellationRequested = true;
+            return Status.RUNNING;
+        }
+        return null;
+    }
+
+    /**
+     * Moves a running job to a terminal state.
+     *
+     * @param terminal Terminal state
+     */
+    private void finish(Status terminal) {
+        finishedAt = Instant.now();
+        status.set(terminal);
+        notifyListeners();
+    }
+
+    /**
+     * Registers a callback notified of progress and of the terminal state.
+     *
+     * The callback is also notified immediately if the job has already
+     * finished, so that no completion is missed.
+     *
+     * @param listener Callback receiving this job
+     */
+    public void addListener(Consumer<CalculationJob> listener) {
+        listeners.add(listener);
+        if (getStatus().isTerminal()) {
+            listener.accept(this);
+        }
+    }
+
+    /**
+     * Unregisters a callback.
+     *
+     * @param listener Callback registered earlier
+     */
+    public void removeListener(Consumer<CalculationJob> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Notifies every listener of the current state.
+     */
+    private void notifyListeners() {
+        for (Consumer<CalculationJob> listener : listeners) {
+            listener.accept(this);
+        }
+    }
+
+    /**
+     * Retrieves the identifier of the job.
+     *
+     * @return Identifier
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the kind of calculation.
+     *
+     * @return Kind, e.g. sequence or batch
+     */
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * Retrieves the scheduling priority.
+     *
+     * @return Priority
+     */
+    public JobPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Retrieves the lifecycle state.
+     *
+     * @return Current status
+     */
+    public Status getStatus() {
+        return status.get();
+    }
+
+    /**
+     * Retrieves the units of work completed so far.
+     *
+     * @return Completed units
+     */
+    public long getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Retrieves the units of work of the whole job.
+     *
+     * @return Total units
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Retrieves the result of a succeeded job.
+     *
+     * @return Result, or null unless the job succeeded
+     */
+    public Object getResult() {
+        return result;
+    }
+
+    /**
+     * Retrieves the reason of a failed job.
+     *
+     * @return Reason, or null unless the job failed
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Retrieves the time the job was accepted.
+     *
+     * @return Submission time
+     */
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    /**
+     * Retrieves the time the job started running.
+     *
+     * @return Start time, or null if the job never ran
+     */
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Retrieves the time the job finished.
+     *
+     * @return Finish time, or null if the job has not finished
+     */
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+}
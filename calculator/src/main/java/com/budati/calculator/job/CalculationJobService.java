@@ -0,0 +1,416 @@
+package com.budati.calculator.job;
+
+import com.budati.calculator.dto.BatchComputationRequest;
+import com.budati.calculator.dto.CalculationRequest;
+import com.budati.calculator.dto.OperationDescriptor;
+import com.budati.calculator.expression.BatchExpressionEvaluator;
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.service.CalculatorService;
+import com.budati.calculator.service.ChainAccumulator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Runs long calculations in the background and keeps their results for polling.
+ *
+ * Key Characteristics:
+ * - A fixed number of workers runs jobs; the rest wait in a bounded
+ *   priority queue and submissions beyond its capacity are rejected
+ * - Queued jobs start by priority, then in submission order; jobs
+ *   submitted without a priority are HIGH up to the small job size and
+ *   LOW above it, so small jobs are not starved by queued large ones
+ * - Requests are validated at submission, so a job only fails on errors
+ *   of the calculation itself
+ * - Jobs report progress and check for cancellation once per chunk of
+ *   steps or rows
+ * - Finished jobs are kept for the retention period; queued and running
+ *   jobs never expire
+ *
+ * Batch jobs evaluate their rows on the job's worker, without the
+ * fork-join parallelism of /batch, so that the number of workers bounds
+ * the processors used by jobs.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Service
+public class CalculationJobService implements MeterBinder, DisposableBean {
+
+    private static final JobPriority[] PRIORITIES = JobPriority.values();
+
+    // Evaluator binding batch expressions to their columns
+    private final BatchExpressionEvaluator batchEvaluator;
+
+    // Service evaluating sequences
+    private final CalculatorService calculatorService;
+
+    // Maximum number of queued jobs
+    private final int queueCapacity;
+
+    // Largest job, in steps or rows, given HIGH priority by default
+    private final long smallJobSize;
+
+    // Units of work between progress reports
+    private final int chunkSize;
+
+    // Workers running the jobs, taking them from a priority queue
+    private final ThreadPoolExecutor executor;
+
+    // Jobs keyed by identifier, expiring once finished
+    private final Cache<String, CalculationJob> jobs;
+
+    // Submission order, breaking ties between jobs of equal priority
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Number of queued jobs, overall and by priority ordinal
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger[] queuedByPriority = new AtomicInteger[PRIORITIES.length];
+
+    // Number of running jobs
+    private final AtomicInteger running = new AtomicInteger();
+
+    // Number of finished jobs by status ordinal
+    private final LongAdder[] finishedByStatus = new LongAdder[CalculationJob.Status.values().length];
+
+    /**
+     * Creates the service with the configured limits.
+     *
+     * @param batchEvaluator Evaluator binding batch expressions to their columns
+     * @param calculatorService Service evaluating sequences
+     * @param concurrency Number of jobs running at the same time
+     * @param queueCapacity Maximum number of queued jobs
+     * @param smallJobSize Largest job, in steps or rows, given HIGH priority by default
+     * @param chunkSize Steps or rows between progress reports and cancellation checks
+     * @param retention Time finished jobs are kept for polling
+     */
+    public CalculationJobService(
+            BatchExpressionEvaluator batchEvaluator,
+            CalculatorService calculatorService,
+            @Value("${calculator.jobs.concurrency:2}") int concurrency,
+            @Value("${calculator.jobs.queue-capacity:1000}") int queueCapacity,
+            @Value("${calculator.jobs.small-job-size:10000}") long smallJobSize,
+            @Value("${calculator.jobs.chunk-size:8192}") int chunkSize,
+            @Value("${calculator.jobs.retention:10m}") Duration retention) {
+        this.batchEvaluator = batchEvaluator;
+        this.calculatorService = calculatorService;
+        this.queueCapacity = queueCapacity;
+        this.smallJobSize = smallJobSize;
+        this.chunkSize = Math.max(1, chunkSize);
+        for (int i = 0; i < queuedByPriority.length; i++) {
+            queuedByPriority[i] = new AtomicInteger();
+        }
+        for (int i = 0; i < finishedByStatus.length; i++) {
+            finishedByStatus[i] = new LongAdder();
+        }
+
+        int workers = Math.max(1, concurrency);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "calculation-job-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        long retentionNanos = retention.toNanos();
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, CalculationJob>() {
+                    @Override
+                    public long expireAfterCreate(String id, CalculationJob job, long currentTime) {
+                        return job.getStatus().isTerminal() ? retentionNanos : Long.MAX_VALUE;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String id, CalculationJob job, long currentTime, long currentDuration) {
+                        return job.getStatus().isTerminal() ? retentionNanos : Long.MAX_VALUE;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String id, CalculationJob job, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Submits a sequence of operations.
+     *
+     * The job's result is the value of the sequence, as returned by
+     * /sequence-compute. Arbitrary precision is not supported.
+     *
+     * @param request Initial value and steps of the sequence
+     * @param priority Scheduling priority, or null to derive it from the number of steps
+     * @return Queued job
+     * @throws IllegalArgumentException If the request is invalid
+     * @throws UnsupportedOperationException If no strategy is registered for an operation
+     * @throws RejectedExecutionException If the queue is full
+     */
+    public CalculationJob submitSequence(CalculationRequest request, JobPriority priority) {
+        if (request.getPrecision() != null || request.getRoundingMode() != null) {
+            throw new IllegalArgumentException("Arbitrary precision is not supported for jobs");
+        }
+        Number baseNumeric = request.getBaseNumeric();
+        if (baseNumeric == null) {
+            throw new IllegalArgumentException("baseNumeric must not be null");
+        }
+        List<OperationDescriptor> steps = request.getMathematicalSteps() != null
+                ? request.getMathematicalSteps()
+                : List.of();
+        Operation[] operations = new Operation[steps.size()];
+        Number[] operands = new Number[steps.size()];
+        for (int i = 0; i < operations.length; i++) {
+            operations[i] = Operation.getBySymbol(steps.get(i).getOperationSymbol());
+            if (calculatorService.getStrategy(operations[i]) == null) {
+                throw new UnsupportedOperationException("Operation not supported: " + operations[i]);
+            }
+            operands[i] = steps.get(i).getOperationValue();
+            if (operands[i] == null) {
+                throw new IllegalArgumentException("Step " + i + " has no operationValue");
+            }
+        }
+
+        return submit("sequence", priority, operations.length, job -> {
+            ChainAccumulator accumulator = calculatorService.newChainAccumulator(baseNumeric);
+            for (int i = 0; i < operations.length; i++) {
+                accumulator.push(operations[i], operands[i]);
+                if ((i + 1) % chunkSize == 0) {
+                    job.advance(i + 1);
+                }
+            }
+            return accumulator.complete();
+        });
+    }
+
+    /**
+     * Submits an expression evaluated over columns.
+     *
+     * The job's result holds one value per row, as returned by /batch.
+     *
+     * @param request Expression and columns
+     * @param priority Scheduling priority, or null to derive it from the number of rows
+     * @return Queued job
+     * @throws IllegalArgumentException If the expression is invalid, a column is
+     *         missing or the columns differ in length
+     * @throws RejectedExecutionException If the queue is full
+     */
+    public CalculationJob submitBatch(BatchComputationRequest request, JobPriority priority) {
+        BatchExpressionEvaluator.BoundBatch batch = batchEvaluator.bind(request.getExpression(), request.getColumns());
+        int rows = batch.getRows();
+
+        return submit("batch", priority, rows, job -> {
+            double[] results = new double[rows];
+            for (int fromRow = 0; fromRow < rows; fromRow += chunkSize) {
+                int toRow = Math.min(rows, fromRow + chunkSize);
+                batch.evaluate(fromRow, toRow, results);
+                job.advance(toRow);
+            }
+            return results;
+        });
+    }
+
+    /**
+     * Queues a job.
+     *
+     * @param kind Kind of calculation
+     * @param priority Scheduling priority, or null to derive it from the size
+     * @param total Units of work of the whole job
+     * @param calculation Calculation computing the job's result
+     * @return Queued job
+     * @throws RejectedExecutionException If the queue is full
+     */
+    private CalculationJob submit(
+            String kind, JobPriority priority, long total, Function<CalculationJob, Object> calculation) {
+        if (priority == null) {
+            priority = total <= smallJobSize ? JobPriority.HIGH : JobPriority.LOW;
+        }
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            throw new RejectedExecutionException("Job queue is full");
+        }
+        queuedByPriority[priority.ordinal()].incrementAndGet();
+
+        CalculationJob job = new CalculationJob(UUID.randomUUID().toString(), kind, priority, total);
+        jobs.put(job.getId(), job);
+        executor.execute(new JobRunner(job, calculation, sequence.getAndIncrement()));
+        return job;
+    }
+
+    /**
+     * Retrieves a job.
+     *
+     * @param id Identifier returned at submission
+     * @return Job, or null if unknown or expired
+     */
+    public CalculationJob get(String id) {
+        return jobs.getIfPresent(id);
+    }
+
+    /**
+     * Cancels a job.
+     *
+     * A queued job is cancelled immediately. A running job stops at its
+     * next progress report; a job finishing meanwhile keeps its result.
+     * Finished jobs are left unchanged.
+     *
+     * @param id Identifier returned at submission
+     * @return Job, or null if unknown or expired
+     */
+    public CalculationJob cancel(String id) {
+        CalculationJob job = jobs.getIfPresent(id);
+        if (job != null && job.cancel() == CalculationJob.Status.QUEUED) {
+            executor.getQueue().removeIf(runnable -> ((JobRunner) runnable).job == job);
+            releaseQueued(job);
+            finished(job);
+        }
+        return job;
+    }
+
+    /**
+     * Retrieves the number of jobs waiting for a worker.
+     *
+     * @return Number of queued jobs
+     */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * Retrieves the number of jobs being evaluated.
+     *
+     * @return Number of running jobs
+     */
+    public int getRunningCount() {
+        return running.get();
+    }
+
+    /**
+     * Releases the queue slot of a job that started or was cancelled.
+     *
+     * @param job Job leaving the queue
+     */
+    private void releaseQueued(CalculationJob job) {
+        queued.decrementAndGet();
+        queuedByPriority[job.getPriority().ordinal()].decrementAndGet();
+    }
+
+    /**
+     * Counts a finished job and starts its retention period.
+     *
+     * @param job Job in a terminal state
+     */
+    private void finished(CalculationJob job) {
+        finishedByStatus[job.getStatus().ordinal()].increment();
+        jobs.asMap().replace(job.getId(), job, job);
+    }
+
+    /**
+     * Registers gauges of the queue depth by priority and of the running
+     * jobs, and counters of the finished jobs by status.
+     *
+     * @param registry Registry receiving the meters
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (JobPriority priority : PRIORITIES) {
+            Gauge.builder("calculator.jobs.queued", queuedByPriority[priority.ordinal()], AtomicInteger::get)
+                    .description("Jobs waiting for a worker")
+                    .tag("priority", priority.name())
+                    .register(registry);
+        }
+        Gauge.builder("calculator.jobs.running", running, AtomicInteger::get)
+                .description("Jobs being evaluated")
+                .register(registry);
+        for (CalculationJob.Status status : CalculationJob.Status.values()) {
+            if (status.isTerminal()) {
+                FunctionCounter.builder("calculator.jobs.finished", finishedByStatus[status.ordinal()], LongAdder::doubleValue)
+                        .description("Jobs that finished")
+                        .tag("status", status.name())
+                        .register(registry);
+            }
+        }
+    }
+
+    /**
+     * Stops the workers, interrupting running jobs.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue entry running a job, ordered by priority, then submission.
+     */
+    private final class JobRunner implements Runnable, Comparable<JobRunner> {
+
+        private final CalculationJob job;
+        private final Function<CalculationJob, Object> calculation;
+        private final long sequenceNumber;
+
+        JobRunner(CalculationJob job, Function<CalculationJob, Object> calculation, long sequenceNumber) {
+            this.job = job;
+            this.calculation = calculation;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        @Override
+        public int compareTo(JobRunner other) {
+            int byPriority = job.getPriority().compareTo(other.job.getPriority());
+            return byPriority != 0 ? byPriority : Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+
+        @Override
+        public void run() {
+            if (!job.start()) {
+                // Cancelled while queued
+                return;
+            }
+            releaseQueued(job);
+            running.incrementAndGet();
+            Object result = null;
+            RuntimeException failure = null;
+            boolean cancelled = false;
+            try {
+                result = calculation.apply(job);
+            } catch (CancellationException e) {
+                cancelled = true;
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            // Settle the counts before listeners see the outcome
+            running.decrementAndGet();
+
+            if (cancelled) {
+                job.stopCancelled();
+            } else if (failure != null) {
+                job.fail(failure.getMessage() != null ? failure.getMessage() : failure.getClass().getSimpleName());
+            } else {
+                job.succeed(result);
+            }
+            finished(job);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.budati.calculator.job;
+
+/**
+ * Scheduling priority of calculation jobs.
+ *
+ * Queued jobs start in priority order, then in submission order. Jobs
+ * submitted without a priority get HIGH when they are small and LOW
+ * otherwise, so that small jobs never wait behind queued large ones.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public enum JobPriority {
+    HIGH,
+    NORMAL,
+    LOW
+}
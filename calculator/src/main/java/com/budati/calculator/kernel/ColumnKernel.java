@@ -0,0 +1,24 @@
+package com.budati.calculator.kernel;
+
+/**
+ * Element-wise binary kernel over columns of doubles.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@FunctionalInterface
+public interface ColumnKernel {
+
+    /**
+     * Applies the kernel to the first {@code length} elements of two columns.
+     * 
+     * The result column may be the same array as either input.
+     * 
+     * @param left Left-hand operands
+     * @param right Right-hand operands
+     * @param result Column receiving the results
+     * @param length Number of elements to process
+     */
+    void apply(double[] left, double[] right, double[] result, int length);
+}
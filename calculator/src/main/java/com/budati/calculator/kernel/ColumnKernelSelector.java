@@ -0,0 +1,53 @@
+package com.budati.calculator.kernel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Selects the column kernel implementation at startup.
+ *
+ * The vector kernels are chosen when they are enabled and the JVM was
+ * started with {@code --add-modules jdk.incubator.vector}; otherwise the
+ * scalar kernels are used. The vector implementation is loaded
+ * reflectively so that no Vector API class is linked when the module
+ * is absent.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class ColumnKernelSelector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ColumnKernelSelector.class);
+
+    // Module providing the Vector API
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    // Implementation class backed by the Vector API
+    private static final String VECTOR_KERNELS = "com.budati.calculator.kernel.VectorColumnKernels";
+
+    private ColumnKernelSelector() {
+    }
+
+    /**
+     * Selects the best available kernel implementation.
+     * 
+     * @param vectorEnabled Whether vector kernels may be used
+     * @return Selected kernel family
+     */
+    public static ColumnKernels select(boolean vectorEnabled) {
+        if (vectorEnabled && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                ColumnKernels kernels = (ColumnKernels) Class.forName(VECTOR_KERNELS)
+                        .getDeclaredConstructor()
+                        .newInstance();
+                LOGGER.info("Using {} column kernels", kernels.getName());
+                return kernels;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                LOGGER.warn("Vector column kernels unavailable, falling back to scalar kernels", e);
+            }
+        }
+        LOGGER.info("Using scalar column kernels");
+        return new ScalarColumnKernels();
+    }
+}
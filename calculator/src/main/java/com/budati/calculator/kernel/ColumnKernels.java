@@ -0,0 +1,43 @@
+package com.budati.calculator.kernel;
+
+import com.budati.calculator.model.Operation;
+
+/**
+ * Family of column kernels, one per {@link Operation}.
+ *
+ * Kernels reproduce the arithmetic of the built-in operation strategies,
+ * including the divide-by-zero check of division, over whole columns.
+ *
+ * Implementations:
+ * - {@link ScalarColumnKernels}: plain loops, available everywhere
+ * - {@link VectorColumnKernels}: SIMD loops on the incubating Vector API
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public interface ColumnKernels {
+
+    /**
+     * Retrieves the kernel for an operation.
+     * 
+     * @param operation Operation to apply
+     * @return Kernel applying the operation element-wise
+     */
+    ColumnKernel forOperation(Operation operation);
+
+    /**
+     * Negates the first {@code length} elements of a column in place.
+     * 
+     * @param values Column to negate
+     * @param length Number of elements to process
+     */
+    void negate(double[] values, int length);
+
+    /**
+     * Retrieves a short name identifying the implementation.
+     * 
+     * @return Implementation name
+     */
+    String getName();
+}
@@ -0,0 +1,86 @@
+package com.budati.calculator.kernel;
+
+import com.budati.calculator.model.Operation;
+
+/**
+ * Column kernels implemented as plain loops.
+ *
+ * Used when the Vector API module is not available. The simple loop
+ * shapes leave room for the JIT's own auto-vectorization.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ScalarColumnKernels implements ColumnKernels {
+
+    // Kernels indexed by Operation ordinal
+    private final ColumnKernel[] kernels = new ColumnKernel[Operation.values().length];
+
+    /**
+     * Creates the scalar kernel family.
+     */
+    public ScalarColumnKernels() {
+        kernels[Operation.ADD.ordinal()] = ScalarColumnKernels::add;
+        kernels[Operation.SUBTRACT.ordinal()] = ScalarColumnKernels::subtract;
+        kernels[Operation.MULTIPLY.ordinal()] = ScalarColumnKernels::multiply;
+        kernels[Operation.DIVIDE.ordinal()] = ScalarColumnKernels::divide;
+        kernels[Operation.POWER.ordinal()] = ScalarColumnKernels::power;
+    }
+
+    @Override
+    public ColumnKernel forOperation(Operation operation) {
+        return kernels[operation.ordinal()];
+    }
+
+    @Override
+    public void negate(double[] values, int length) {
+        for (int index = 0; index < length; index++) {
+            values[index] = -values[index];
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    private static void add(double[] left, double[] right, double[] result, int length) {
+        for (int index = 0; index < length; index++) {
+            result[index] = left[index] + right[index];
+        }
+    }
+
+    private static void subtract(double[] left, double[] right, double[] result, int length) {
+        for (int index = 0; index < length; index++) {
+            result[index] = left[index] - right[index];
+        }
+    }
+
+    private static void multiply(double[] left, double[] right, double[] result, int length) {
+        for (int index = 0; index < length; index++) {
+            result[index] = left[index] * right[index];
+        }
+    }
+
+    /**
+     * Divides element-wise, rejecting zero divisors after the loop so
+     * the loop body itself stays branch-free.
+     */
+    private static void divide(double[] left, double[] right, double[] result, int length) {
+        boolean zeroDivisor = false;
+        for (int index = 0; index < length; index++) {
+            zeroDivisor |= right[index] == 0;
+            result[index] = left[index] / right[index];
+        }
+        if (zeroDivisor) {
+            throw new IllegalArgumentException("Cannot divide by zero");
+        }
+    }
+
+    private static void power(double[] left, double[] right, double[] result, int length) {
+        for (int index = 0; index < length; index++) {
+            result[index] = Math.pow(left[index], right[index]);
+        }
+    }
+}
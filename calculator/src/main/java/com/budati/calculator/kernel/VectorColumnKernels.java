@@ -0,0 +1,133 @@
+package com.budati.calculator.kernel;
+
+import com.budati.calculator.model.Operation;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Column kernels on the incubating Vector API ({@code jdk.incubator.vector}).
+ *
+ * Each kernel processes as many lanes per instruction as the preferred
+ * species of the platform allows and finishes the tail with scalar code.
+ * This class must only be loaded when the module is present; use
+ * {@link ColumnKernelSelector} to obtain an instance.
+ *
+ * Key Characteristics:
+ * - Division tracks zero divisors in an accumulated lane mask and checks
+ *   it once after the loop, instead of branching per element
+ * - Exponentiation stays a scalar {@link Math#pow(double, double)} loop:
+ *   the lanewise POW operator may differ from it in the last ulp, and
+ *   results must not depend on the kernels selected
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class VectorColumnKernels implements ColumnKernels {
+
+    // Widest species supported by the platform
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    // Kernels indexed by Operation ordinal
+    private final ColumnKernel[] kernels = new ColumnKernel[Operation.values().length];
+
+    /**
+     * Creates the vector kernel family.
+     */
+    public VectorColumnKernels() {
+        kernels[Operation.ADD.ordinal()] = VectorColumnKernels::add;
+        kernels[Operation.SUBTRACT.ordinal()] = VectorColumnKernels::subtract;
+        kernels[Operation.MULTIPLY.ordinal()] = VectorColumnKernels::multiply;
+        kernels[Operation.DIVIDE.ordinal()] = VectorColumnKernels::divide;
+        kernels[Operation.POWER.ordinal()] = VectorColumnKernels::power;
+    }
+
+    @Override
+    public ColumnKernel forOperation(Operation operation) {
+        return kernels[operation.ordinal()];
+    }
+
+    @Override
+    public void negate(double[] values, int length) {
+        int bound = SPECIES.loopBound(length);
+        int index = 0;
+        for (; index < bound; index += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, values, index).neg().intoArray(values, index);
+        }
+        for (; index < length; index++) {
+            values[index] = -values[index];
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "vector-" + SPECIES.vectorBitSize();
+    }
+
+    private static void add(double[] left, double[] right, double[] result, int length) {
+        int bound = SPECIES.loopBound(length);
+        int index = 0;
+        for (; index < bound; index += SPECIES.length()) {
+            DoubleVector a = DoubleVector.fromArray(SPECIES, left, index);
+            DoubleVector b = DoubleVector.fromArray(SPECIES, right, index);
+            a.add(b).intoArray(result, index);
+        }
+        for (; index < length; index++) {
+            result[index] = left[index] + right[index];
+        }
+    }
+
+    private static void subtract(double[] left, double[] right, double[] result, int length) {
+        int bound = SPECIES.loopBound(length);
+        int index = 0;
+        for (; index < bound; index += SPECIES.length()) {
+            DoubleVector a = DoubleVector.fromArray(SPECIES, left, index);
+            DoubleVector b = DoubleVector.fromArray(SPECIES, right, index);
+            a.sub(b).intoArray(result, index);
+        }
+        for (; index < length; index++) {
+            result[index] = left[index] - right[index];
+        }
+    }
+
+    private static void multiply(double[] left, double[] right, double[] result, int length) {
+        int bound = SPECIES.loopBound(length);
+        int index = 0;
+        for (; index < bound; index += SPECIES.length()) {
+            DoubleVector a = DoubleVector.fromArray(SPECIES, left, index);
+            DoubleVector b = DoubleVector.fromArray(SPECIES, right, index);
+            a.mul(b).intoArray(result, index);
+        }
+        for (; index < length; index++) {
+            result[index] = left[index] * right[index];
+        }
+    }
+
+    private static void divide(double[] left, double[] right, double[] result, int length) {
+        int bound = SPECIES.loopBound(length);
+        int index = 0;
+        VectorMask<Double> zeroDivisors = SPECIES.maskAll(false);
+        for (; index < bound; index += SPECIES.length()) {
+            DoubleVector a = DoubleVector.fromArray(SPECIES, left, index);
+            DoubleVector b = DoubleVector.fromArray(SPECIES, right, index);
+            zeroDivisors = zeroDivisors.or(b.compare(VectorOperators.EQ, 0.0));
+            a.div(b).intoArray(result, index);
+        }
+        boolean zeroDivisor = zeroDivisors.anyTrue();
+        for (; index < length; index++) {
+            zeroDivisor |= right[index] == 0;
+            result[index] = left[index] / right[index];
+        }
+        if (zeroDivisor) {
+            throw new IllegalArgumentException("Cannot divide by zero");
+        }
+    }
+
+    private static void power(double[] left, double[] right, double[] result, int length) {
+        for (int index = 0; index < length; index++) {
+            result[index] = Math.pow(left[index], right[index]);
+        }
+    }
+}
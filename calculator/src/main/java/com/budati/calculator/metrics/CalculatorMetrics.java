@@ -0,0 +1,73 @@
+package com.budati.calculator.metrics;
+
+import com.budati.calculator.model.Operation;
+
+/**
+ * Instrumentation points of the calculation hot path.
+ *
+ * Timing is split into {@link #startTimer()} and a matching record
+ * method so that implementations can decide per call whether it is
+ * timed, and skip reading the clock for calls that are not.
+ *
+ * Implementations:
+ * - {@link MicrometerCalculatorMetrics}: publishes to a Micrometer registry
+ * - {@link NoOpCalculatorMetrics}: records nothing, for tests and disabled metrics
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public interface CalculatorMetrics {
+
+    // Start time returned for calls that are counted but not timed
+    long NOT_TIMED = Long.MIN_VALUE;
+
+    /**
+     * Starts timing a calculation or chain.
+     *
+     * @return Start time in nanoseconds, or {@link #NOT_TIMED}
+     */
+    long startTimer();
+
+    /**
+     * Records a completed single calculation.
+     *
+     * @param operation Operation that was applied
+     * @param startNanos Value returned by {@link #startTimer()}
+     */
+    void recordCalculation(Operation operation, long startNanos);
+
+    /**
+     * Records a completed chain calculation.
+     *
+     * Only the first operation and the number of steps are recorded, so
+     * that recording does not pass over the chain a second time.
+     *
+     * @param firstOperation Operation of the first step of the chain
+     * @param steps Number of steps of the chain
+     * @param startNanos Value returned by {@link #startTimer()}
+     */
+    void recordChain(Operation firstOperation, long steps, long startNanos);
+
+    /**
+     * Records the number of steps of a requested chain.
+     *
+     * @param length Number of steps
+     */
+    void recordChainLength(int length);
+
+    /**
+     * Records the time taken to parse and compile an expression.
+     *
+     * @param nanos Elapsed time in nanoseconds
+     */
+    void recordExpressionParse(long nanos);
+
+    /**
+     * Records a request that failed and was answered with an error message.
+     *
+     * @param endpoint Name of the failing endpoint
+     * @param exception Cause of the failure
+     */
+    void recordFailure(String endpoint, Exception exception);
+}
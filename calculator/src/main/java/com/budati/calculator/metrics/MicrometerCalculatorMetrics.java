@@ -0,0 +1,179 @@
+package com.budati.calculator.metrics;
+
+import com.budati.calculator.model.Operation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics implementation publishing to a Micrometer {@link MeterRegistry}.
+ *
+ * All meters are registered up front and kept in arrays indexed by
+ * Operation ordinal, so recording never looks up a meter by name and tags.
+ * Operation counts are kept in plain {@link LongAdder}s that the registry
+ * reads when scraped, which is cheaper per increment than a registry counter.
+ *
+ * Published Meters:
+ * - calculator.operations{operation, source}: single calculations, counted on every call
+ * - calculator.calculate{operation}: timer of single calculations
+ * - calculator.chain{operation}: timer of chain calculations
+ * - calculator.chain.steps{operation}: steps of completed chains
+ * - calculator.chain.length: histogram of requested chain lengths
+ * - calculator.expression.parse: histogram of expression parse and compile times
+ * - calculator.failures{endpoint, exception}: requests answered with an error message
+ *
+ * Chains are counted by their number of steps rather than per operation,
+ * so recording a chain is constant time whatever its length. The chain
+ * meters are tagged with the operation of the first step, which tells
+ * additive chains from multiplicative and power chains without passing
+ * over the steps a second time. Failure
+ * counters are registered on the first failure of each endpoint and
+ * exception type, and reused afterwards.
+ *
+ * Timers are sampled: only one call in {@code timerSampleRate} reads the
+ * clock, keeping the cost of an untimed call to a counter increment. The
+ * timer counts are therefore sample counts; use calculator.operations for
+ * totals.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class MicrometerCalculatorMetrics implements CalculatorMetrics {
+
+    // Cached enum constants, avoiding the array clone performed by values()
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    // Registry receiving the failure counters, which are created on demand
+    private final MeterRegistry registry;
+
+    // Failure counters by endpoint and exception type
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, Counter>> failureCounters =
+            new ConcurrentHashMap<>();
+
+    // One timed call per timerSampleRate calls
+    private final int timerSampleRate;
+
+    // Single calculation counts and timers indexed by Operation ordinal
+    private final LongAdder[] calculationCounts = new LongAdder[OPERATIONS.length];
+    private final Timer[] calculationTimers = new Timer[OPERATIONS.length];
+
+    // Steps and timers of completed chains indexed by the ordinal of their first Operation
+    private final LongAdder[] chainSteps = new LongAdder[OPERATIONS.length];
+    private final Timer[] chainTimers = new Timer[OPERATIONS.length];
+
+    private final DistributionSummary chainLength;
+    private final Timer expressionParseTimer;
+
+    /**
+     * Registers the calculator meters.
+     *
+     * @param registry Registry receiving the meters
+     * @param timerSampleRate One in this many calls is timed; 1 times every call
+     */
+    public MicrometerCalculatorMetrics(MeterRegistry registry, int timerSampleRate) {
+        this.registry = registry;
+        this.timerSampleRate = Math.max(1, timerSampleRate);
+
+        for (Operation operation : OPERATIONS) {
+            calculationCounts[operation.ordinal()] = registerCount(registry, operation, "calculate");
+            calculationTimers[operation.ordinal()] = Timer.builder("calculator.calculate")
+                    .description("Sampled duration of single calculations")
+                    .tag("operation", operation.name())
+                    .register(registry);
+
+            chainSteps[operation.ordinal()] = new LongAdder();
+            FunctionCounter.builder("calculator.chain.steps", chainSteps[operation.ordinal()], LongAdder::doubleValue)
+                    .description("Steps of completed chain calculations")
+                    .baseUnit("steps")
+                    .tag("operation", operation.name())
+                    .register(registry);
+            chainTimers[operation.ordinal()] = Timer.builder("calculator.chain")
+                    .description("Sampled duration of chain calculations")
+                    .tag("operation", operation.name())
+                    .register(registry);
+        }
+
+        chainLength = DistributionSummary.builder("calculator.chain.length")
+                .description("Number of steps per requested chain")
+                .baseUnit("steps")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(100_000.0)
+                .register(registry);
+        expressionParseTimer = Timer.builder("calculator.expression.parse")
+                .description("Time to parse and compile an expression on a cache miss")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * Registers an operation counter backed by a {@link LongAdder}.
+     *
+     * @param registry Registry receiving the counter
+     * @param operation Operation being counted
+     * @param source Entry point applying the operation
+     * @return Adder incremented per applied operation
+     */
+    private static LongAdder registerCount(MeterRegistry registry, Operation operation, String source) {
+        LongAdder count = new LongAdder();
+        FunctionCounter.builder("calculator.operations", count, LongAdder::doubleValue)
+                .description("Operations applied")
+                .tag("operation", operation.name())
+                .tag("source", source)
+                .register(registry);
+        return count;
+    }
+
+    @Override
+    public long startTimer() {
+        if (timerSampleRate == 1 || ThreadLocalRandom.current().nextInt(timerSampleRate) == 0) {
+            return System.nanoTime();
+        }
+        return NOT_TIMED;
+    }
+
+    @Override
+    public void recordCalculation(Operation operation, long startNanos) {
+        calculationCounts[operation.ordinal()].increment();
+        if (startNanos != NOT_TIMED) {
+            calculationTimers[operation.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordChain(Operation firstOperation, long steps, long startNanos) {
+        chainSteps[firstOperation.ordinal()].add(steps);
+        if (startNanos != NOT_TIMED) {
+            chainTimers[firstOperation.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordChainLength(int length) {
+        chainLength.record(length);
+    }
+
+    @Override
+    public void recordExpressionParse(long nanos) {
+        expressionParseTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordFailure(String endpoint, Exception exception) {
+        failureCounters.computeIfAbsent(endpoint, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(exception.getClass(), type -> Counter.builder("calculator.failures")
+                        .description("Requests answered with an error message")
+                        .tag("endpoint", endpoint)
+                        .tag("exception", type.getSimpleName())
+                        .register(registry))
+                .increment();
+    }
+}
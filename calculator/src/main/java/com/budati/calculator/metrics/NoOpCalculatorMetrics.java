@@ -0,0 +1,47 @@
+package com.budati.calculator.metrics;
+
+import com.budati.calculator.model.Operation;
+
+/**
+ * Metrics implementation that records nothing.
+ *
+ * Used when metrics are disabled and by components created outside a
+ * Spring context, such as in unit tests.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class NoOpCalculatorMetrics implements CalculatorMetrics {
+
+    // Shared stateless instance
+    public static final NoOpCalculatorMetrics INSTANCE = new NoOpCalculatorMetrics();
+
+    private NoOpCalculatorMetrics() {
+    }
+
+    @Override
+    public long startTimer() {
+        return NOT_TIMED;
+    }
+
+    @Override
+    public void recordCalculation(Operation operation, long startNanos) {
+    }
+
+    @Override
+    public void recordChain(Operation firstOperation, long steps, long startNanos) {
+    }
+
+    @Override
+    public void recordChainLength(int length) {
+    }
+
+    @Override
+    public void recordExpressionParse(long nanos) {
+    }
+
+    @Override
+    public void recordFailure(String endpoint, Exception exception) {
+    }
+}
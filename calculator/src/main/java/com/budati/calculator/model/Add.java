@@ -18,7 +18,7 @@ import org.springframework.stereotype.Component;
  * @since 2025-03-28
  */
 @Component
-public class Add implements OperationStrategy {
+public class Add implements DoubleOperationStrategy {
     
     /**
      * Performs addition of two numbers.
@@ -32,8 +32,8 @@ public class Add implements OperationStrategy {
      * @return Result of the addition operation
      */
     @Override
-    public Number apply(Number num1, Number num2) {
-        return num1.doubleValue() + num2.doubleValue();
+    public double applyAsDouble(double num1, double num2) {
+        return num1 + num2;
     }
     
     /**
@@ -0,0 +1,132 @@
+package com.budati.calculator.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Enumeration of functions available to every expression.
+ * 
+ * Each constant delegates to the corresponding {@link Math} method,
+ * except MOD, which applies the % operator.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public enum BuiltinFunction implements ExpressionFunction {
+    ABS("abs", 1) {
+        @Override
+        public double invoke(double[] arguments, int offset) {
+            return Math.abs(arguments[offset]);
+        }
+    },
+    SQRT("sqrt", 1) {
+        @Override
+        public double invoke(double[] arguments, int offset) {
+            return Math.sqrt(arguments[offset]);
+        }
+    },
+    EXP("exp", 1) {
+        @Override
+        public double invoke(double[] arguments, int offset) {
+            return Math.exp(arguments[offset]);
+        }
+    },
+    LOG("log", 1) {
+        @Override
+        public double invoke(double[] arguments, int offset) {
+            return Math.log(arguments[offset]);
+        }
+    },
+    MIN("min", 2) {
+        @Override
+        public double invoke(double[] arguments, int offset) {
+            return Math.min(arguments[offset], arguments[offset + 1]);
+        }
+    },
+    MAX("max", 2) {
+        @Override
+        public double invoke(double[] arguments, int offset) {
+            return Math.max(arguments[offset], arguments[offset + 1]);
+        }
+    },
+    HYPOT("hypot", 2) {
+        @Override
+        public double invoke(double[] arguments, int offset) {
+            return Math.hypot(arguments[offset], arguments[offset + 1]);
+        }
+    },
+    // Remainder of truncated division, like Java's %; also usable infix as "a mod b"
+    MOD("mod", 2, Operation.DIVIDE.getPriority()) {
+        @Override
+        public double invoke(double[] arguments, int offset) {
+            return arguments[offset] % arguments[offset + 1];
+        }
+    };
+
+    // Functions keyed by name
+    private static final Map<String, BuiltinFunction> BY_NAME = new HashMap<>();
+
+    static {
+        for (BuiltinFunction function : values()) {
+            BY_NAME.put(function.name, function);
+        }
+    }
+
+    // Name used to call the function
+    private final String name;
+
+    // Number of arguments accepted by the function
+    private final int arity;
+
+    // Infix priority, 0 for functions that can only be called by name
+    private final int precedence;
+
+    /**
+     * Constructor for functions called by name.
+     * 
+     * @param name Name used to call the function
+     * @param arity Number of arguments accepted by the function
+     */
+    BuiltinFunction(String name, int arity) {
+        this(name, arity, 0);
+    }
+
+    /**
+     * Constructor for BuiltinFunction enum.
+     * 
+     * @param name Name used to call the function
+     * @param arity Number of arguments accepted by the function
+     * @param precedence Infix priority, 0 for functions that can only be called by name
+     */
+    BuiltinFunction(String name, int arity, int precedence) {
+        this.name = name;
+        this.arity = arity;
+        this.precedence = precedence;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getArity() {
+        return arity;
+    }
+
+    @Override
+    public int getPrecedence() {
+        return precedence;
+    }
+
+    /**
+     * Retrieves a builtin function by its name.
+     * 
+     * @param name Function name
+     * @return Corresponding function, or null if none matches
+     */
+    public static BuiltinFunction getByName(String name) {
+        return BY_NAME.get(name);
+    }
+}
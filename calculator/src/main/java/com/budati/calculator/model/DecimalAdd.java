@@ -0,0 +1,43 @@
+package com.budati.calculator.model;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Implementation of the decimal addition operation strategy.
+ * 
+ * Arbitrary-precision counterpart of {@link Add}, rounding the result
+ * to the precision and rounding mode of the request.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+public class DecimalAdd implements DecimalOperationStrategy {
+
+    /**
+     * Performs addition of two decimal numbers.
+     * 
+     * @param num1 First number in the addition
+     * @param num2 Second number in the addition
+     * @param mathContext Precision and rounding of the result
+     * @return Result of the addition operation
+     */
+    @Override
+    public BigDecimal apply(BigDecimal num1, BigDecimal num2, MathContext mathContext) {
+        return num1.add(num2, mathContext);
+    }
+
+    /**
+     * Retrieves the corresponding Operation enum for this strategy.
+     * 
+     * @return The ADD operation from the Operation enum
+     */
+    @Override
+    public Operation getOperation() {
+        return Operation.ADD;
+    }
+}
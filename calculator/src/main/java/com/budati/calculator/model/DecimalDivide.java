@@ -0,0 +1,49 @@
+package com.budati.calculator.model;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Implementation of the decimal division operation strategy.
+ * 
+ * Arbitrary-precision counterpart of {@link Divide}, rounding the
+ * quotient to the precision and rounding mode of the request.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+public class DecimalDivide implements DecimalOperationStrategy {
+
+    /**
+     * Performs division of two decimal numbers with safety checks.
+     * 
+     * @param num1 Dividend (number to be divided)
+     * @param num2 Divisor (number to divide by)
+     * @param mathContext Precision and rounding of the result
+     * @return Result of the division operation
+     * @throws IllegalArgumentException If attempting to divide by zero
+     * @throws ArithmeticException If an exact quotient is requested but does not terminate
+     */
+    @Override
+    public BigDecimal apply(BigDecimal num1, BigDecimal num2, MathContext mathContext) {
+        // Same contract as the double strategy, rather than BigDecimal's ArithmeticException
+        if (num2.signum() == 0) {
+            throw new IllegalArgumentException("Cannot divide by zero");
+        }
+        return num1.divide(num2, mathContext);
+    }
+
+    /**
+     * Retrieves the corresponding Operation enum for this strategy.
+     * 
+     * @return The DIVIDE operation from the Operation enum
+     */
+    @Override
+    public Operation getOperation() {
+        return Operation.DIVIDE;
+    }
+}
@@ -0,0 +1,43 @@
+package com.budati.calculator.model;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Implementation of the decimal multiplication operation strategy.
+ * 
+ * Arbitrary-precision counterpart of {@link Multiply}, rounding the result
+ * to the precision and rounding mode of the request.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+public class DecimalMultiply implements DecimalOperationStrategy {
+
+    /**
+     * Performs multiplication of two decimal numbers.
+     * 
+     * @param num1 First number in the multiplication
+     * @param num2 Second number in the multiplication
+     * @param mathContext Precision and rounding of the result
+     * @return Result of the multiplication operation
+     */
+    @Override
+    public BigDecimal apply(BigDecimal num1, BigDecimal num2, MathContext mathContext) {
+        return num1.multiply(num2, mathContext);
+    }
+
+    /**
+     * Retrieves the corresponding Operation enum for this strategy.
+     * 
+     * @return The MULTIPLY operation from the Operation enum
+     */
+    @Override
+    public Operation getOperation() {
+        return Operation.MULTIPLY;
+    }
+}
@@ -0,0 +1,46 @@
+package com.budati.calculator.model;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Arbitrary-precision counterpart of the {@link OperationStrategy} contract.
+ * 
+ * Strategies implementing this interface compute on {@link BigDecimal}
+ * operands and round every result to the {@link MathContext} of the
+ * request, so that decimal inputs such as 0.1 are not collapsed to the
+ * nearest double.
+ * 
+ * Key Responsibilities:
+ * - Define the decimal form of the operation
+ * - Provide a way to identify the operation type
+ * 
+ * Design Pattern: Strategy Pattern
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public interface DecimalOperationStrategy {
+
+    // Largest number of digits of an exact result; longer ones make every further step slower
+    long MAX_EXACT_DIGITS = 100_000;
+
+    /**
+     * Apply the mathematical operation to two decimal numbers.
+     * 
+     * @param num1 First number in the operation
+     * @param num2 Second number in the operation
+     * @param mathContext Precision and rounding of the result; precision 0 requests an exact result
+     * @return Result of the mathematical operation
+     * @throws ArithmeticException If an exact result is requested but cannot be represented
+     */
+    BigDecimal apply(BigDecimal num1, BigDecimal num2, MathContext mathContext);
+
+    /**
+     * Retrieve the specific operation type.
+     * 
+     * @return The Operation enum corresponding to this strategy
+     */
+    Operation getOperation();
+}
@@ -0,0 +1,132 @@
+package com.budati.calculator.model;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Implementation of the decimal power (exponentiation) operation strategy.
+ * 
+ * Arbitrary-precision counterpart of {@link Power}.
+ * 
+ * Key Features:
+ * - Integer exponents use exponentiation by squaring, i.e. O(log n)
+ *   multiplications carried out with guard digits and rounded once
+ * - Negative integer exponents take the reciprocal of the positive power
+ * - Fractional exponents fall back to Math.pow, so their result carries
+ *   at most double precision
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+public class DecimalPower implements DecimalOperationStrategy {
+
+    // Largest integer exponent accepted when an exact result is requested
+    static final int MAX_EXACT_EXPONENT = 9999;
+
+    /**
+     * Performs power (exponentiation) operation on two decimal numbers.
+     * 
+     * @param num1 Base number
+     * @param num2 Exponent
+     * @param mathContext Precision and rounding of the result
+     * @return Result of raising num1 to the power of num2
+     * @throws IllegalArgumentException If the result is not a finite real number,
+     *         or an exact power is requested for an exponent or result that is too large
+     */
+    @Override
+    public BigDecimal apply(BigDecimal num1, BigDecimal num2, MathContext mathContext) {
+        int exponent;
+        try {
+            exponent = num2.intValueExact();
+        } catch (ArithmeticException e) {
+            return fractionalPower(num1, num2, mathContext);
+        }
+        return integerPower(num1, exponent, mathContext);
+    }
+
+    /**
+     * Raises a number to an integer power by repeated squaring.
+     * 
+     * Intermediate products keep enough guard digits that the single
+     * final rounding is accurate to the requested precision.
+     * 
+     * @param base Base number
+     * @param exponent Integer exponent
+     * @param mathContext Precision and rounding of the result
+     * @return base raised to exponent
+     */
+    static BigDecimal integerPower(BigDecimal base, int exponent, MathContext mathContext) {
+        if (exponent == 0) {
+            // Matches Math.pow, including 0^0
+            return BigDecimal.ONE;
+        }
+        long remaining = Math.abs((long) exponent);
+        MathContext workingContext;
+        if (mathContext.getPrecision() == 0) {
+            if (remaining > MAX_EXACT_EXPONENT) {
+                throw new IllegalArgumentException("Exponent too large for an exact result: " + exponent);
+            }
+            // Estimated as the base's digits times the exponent; without this bound, raising an
+            // exact power to another power squares numbers of millions of digits
+            if ((long) base.precision() * remaining > MAX_EXACT_DIGITS) {
+                throw new IllegalArgumentException("Result too large for an exact power: base of "
+                        + base.precision() + " digit(s) ^ " + exponent);
+            }
+            workingContext = MathContext.UNLIMITED;
+        } else {
+            int guardDigits = Long.toString(remaining).length() + 2;
+            workingContext = new MathContext(mathContext.getPrecision() + guardDigits, mathContext.getRoundingMode());
+        }
+
+        BigDecimal result = BigDecimal.ONE;
+        BigDecimal square = base;
+        while (true) {
+            if ((remaining & 1) != 0) {
+                result = result.multiply(square, workingContext);
+            }
+            remaining >>>= 1;
+            if (remaining == 0) {
+                break;
+            }
+            square = square.multiply(square, workingContext);
+        }
+
+        if (exponent < 0) {
+            if (result.signum() == 0) {
+                throw new IllegalArgumentException("Cannot divide by zero");
+            }
+            result = BigDecimal.ONE.divide(result, workingContext);
+        }
+        return result.round(mathContext);
+    }
+
+    /**
+     * Raises a number to a fractional power in double precision.
+     * 
+     * @param base Base number
+     * @param exponent Fractional exponent
+     * @param mathContext Precision and rounding of the result
+     * @return base raised to exponent, with at most double precision
+     */
+    private static BigDecimal fractionalPower(BigDecimal base, BigDecimal exponent, MathContext mathContext) {
+        double result = Math.pow(base.doubleValue(), exponent.doubleValue());
+        if (Double.isNaN(result) || Double.isInfinite(result)) {
+            throw new IllegalArgumentException("Power is not a finite real number: " + base + " ^ " + exponent);
+        }
+        return BigDecimal.valueOf(result).round(mathContext);
+    }
+
+    /**
+     * Retrieves the corresponding Operation enum for this strategy.
+     * 
+     * @return The POWER operation from the Operation enum
+     */
+    @Override
+    public Operation getOperation() {
+        return Operation.POWER;
+    }
+}
@@ -0,0 +1,43 @@
+package com.budati.calculator.model;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Implementation of the decimal subtraction operation strategy.
+ * 
+ * Arbitrary-precision counterpart of {@link Subtract}, rounding the result
+ * to the precision and rounding mode of the request.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+public class DecimalSubtract implements DecimalOperationStrategy {
+
+    /**
+     * Performs subtraction of two decimal numbers.
+     * 
+     * @param num1 First number in the subtraction
+     * @param num2 Second number in the subtraction
+     * @param mathContext Precision and rounding of the result
+     * @return Result of the subtraction operation
+     */
+    @Override
+    public BigDecimal apply(BigDecimal num1, BigDecimal num2, MathContext mathContext) {
+        return num1.subtract(num2, mathContext);
+    }
+
+    /**
+     * Retrieves the corresponding Operation enum for this strategy.
+     * 
+     * @return The SUBTRACT operation from the Operation enum
+     */
+    @Override
+    public Operation getOperation() {
+        return Operation.SUBTRACT;
+    }
+}
@@ -15,7 +15,7 @@ import org.springframework.stereotype.Component;
  * @since 2025-03-28
  */
 @Component
-public class Divide implements OperationStrategy {
+public class Divide implements DoubleOperationStrategy {
     
     /**
      * Performs division of two numbers with safety checks.
@@ -29,12 +29,12 @@ public class Divide implements OperationStrategy {
      * @throws IllegalArgumentException If attempting to divide by zero
      */
     @Override
-    public Number apply(Number num1, Number num2) {
+    public double applyAsDouble(double num1, double num2) {
         // Explicitly check for division by zero to prevent runtime errors
-        if (num2.doubleValue() == 0) {
+        if (num2 == 0) {
             throw new IllegalArgumentException("Cannot divide by zero");
         }
-        return num1.doubleValue() / num2.doubleValue();
+        return num1 / num2;
     }
 
     /**
@@ -0,0 +1,40 @@
+package com.budati.calculator.model;
+
+/**
+ * Primitive specialization of the {@link OperationStrategy} contract.
+ * 
+ * Strategies implementing this interface compute directly on
+ * {@code double} operands, which lets the evaluation engine run
+ * chained calculations without boxing intermediate results.
+ * 
+ * Key Responsibilities:
+ * - Define the primitive form of the operation
+ * - Provide the boxed {@link #apply(Number, Number)} form as a thin adapter
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public interface DoubleOperationStrategy extends OperationStrategy {
+
+    /**
+     * Apply the mathematical operation to two primitive operands.
+     * 
+     * @param left First operand in the operation
+     * @param right Second operand in the operation
+     * @return Result of the mathematical operation
+     */
+    double applyAsDouble(double left, double right);
+
+    /**
+     * Adapts the primitive operation to the boxed {@link Number} API.
+     * 
+     * @param num1 First number in the operation
+     * @param num2 Second number in the operation
+     * @return Result of the mathematical operation
+     */
+    @Override
+    default Number apply(Number num1, Number num2) {
+        return applyAsDouble(num1.doubleValue(), num2.doubleValue());
+    }
+}
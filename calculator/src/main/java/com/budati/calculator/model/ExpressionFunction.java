@@ -0,0 +1,50 @@
+package com.budati.calculator.model;
+
+/**
+ * Contract for named functions that can be called from expressions.
+ * 
+ * Functions read their arguments directly from the evaluation stack,
+ * so calling them does not require an argument array per invocation.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public interface ExpressionFunction {
+
+    /**
+     * Retrieve the name used to call the function.
+     * 
+     * @return Function name
+     */
+    String getName();
+
+    /**
+     * Retrieve the number of arguments the function accepts.
+     * 
+     * @return Function arity
+     */
+    int getArity();
+
+    /**
+     * Retrieve the priority at which the function may be written as an
+     * infix operator between its two arguments, as in "7 mod 3".
+     * 
+     * Priorities share the scale of {@link Operation#getPriority()} and
+     * infix functions associate from left to right.
+     * 
+     * @return Infix priority, or 0 if the function can only be called by name
+     */
+    default int getPrecedence() {
+        return 0;
+    }
+
+    /**
+     * Apply the function to consecutive arguments.
+     * 
+     * @param arguments Array holding the arguments
+     * @param offset Index of the first argument
+     * @return Result of the function
+     */
+    double invoke(double[] arguments, int offset);
+}
@@ -18,7 +18,7 @@ import org.springframework.stereotype.Component;
  * @since 2025-03-28
  */
 @Component
-public class Multiply implements OperationStrategy {
+public class Multiply implements DoubleOperationStrategy {
     
     /**
      * Performs multiplication of two numbers.
@@ -31,8 +31,8 @@ public class Multiply implements OperationStrategy {
      * @return Result of the multiplication operation
      */
     @Override
-    public Number apply(Number num1, Number num2) {
-        return num1.doubleValue() * num2.doubleValue();
+    public double applyAsDouble(double num1, double num2) {
+        return num1 * num2;
     }
 
     /**
@@ -0,0 +1,134 @@
+package com.budati.calculator.model;
+
+/**
+ * Enumeration of mathematical operations supported by the calculator.
+ * 
+ * Provides a comprehensive set of operations with:
+ * - Symbolic representation
+ * - Calculation priority levels
+ * - Utility methods for operation retrieval
+ * 
+ * Operation Hierarchy:
+ * - Lower priority operations: ADD, SUBTRACT (priority 1)
+ * - Higher priority operations: MULTIPLY, DIVIDE (priority 2)
+ * - Highest priority: POWER (priority 3)
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public enum Operation {
+    // Define supported mathematical operations with symbols and priorities
+    ADD("+", 1),
+    SUBTRACT("-", 1),
+    MULTIPLY("*", 2),
+    DIVIDE("/", 2),
+    POWER("^", 3);
+
+    // Operation of each ASCII symbol character, null for characters that are not symbols
+    private static final Operation[] BY_SYMBOL = new Operation[128];
+
+    static {
+        for (Operation operation : values()) {
+            String symbol = operation.getSymbol();
+            if (symbol.length() != 1 || symbol.charAt(0) >= BY_SYMBOL.length) {
+                throw new IllegalStateException("Operation symbol must be one ASCII character: " + operation);
+            }
+            if (BY_SYMBOL[symbol.charAt(0)] != null) {
+                throw new IllegalStateException("Duplicate operation symbol: " + symbol);
+            }
+            BY_SYMBOL[symbol.charAt(0)] = operation;
+        }
+    }
+
+    // Stores the symbolic representation of the operation
+    private final String symbol;
+    
+    // Stores the calculation priority of the operation
+    private final int priority;
+
+    /**
+     * Constructor for Operation enum.
+     * 
+     * @param symbol Symbolic representation of the operation
+     * @param priority Calculation priority of the operation
+     */
+    Operation(String symbol, int priority) {
+        this.symbol = symbol;
+        this.priority = priority;
+    }
+
+    /**
+     * Retrieves the symbolic representation of the operation.
+     * 
+     * @return Operation's symbol (e.g., "+", "-", "*")
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Retrieves the calculation priority of the operation.
+     * 
+     * @return Priority level for order of operations
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Indicates whether the operation groups from right to left in expressions.
+     * 
+     * Only exponentiation is right-associative, so "2 ^ 3 ^ 2" parses as
+     * "2 ^ (3 ^ 2)". Chained calculations always resolve equal priorities
+     * from left to right.
+     * 
+     * @return True if consecutive occurrences group from the right
+     */
+    public boolean isRightAssociative() {
+        return this == POWER;
+    }
+
+    /**
+     * Retrieves an Operation enum based on its symbolic representation.
+     * 
+     * @param symbol Symbolic representation of the operation
+     * @return Corresponding Operation enum
+     * @throws IllegalArgumentException If no matching operation is found
+     */
+    public static Operation getBySymbol(String symbol) {
+        Operation operation = symbol != null && symbol.length() == 1 ? findBySymbol(symbol.charAt(0)) : null;
+        if (operation == null) {
+            throw new IllegalArgumentException("Unknown operation symbol: " + symbol);
+        }
+        return operation;
+    }
+
+    /**
+     * Retrieves an Operation enum based on its symbol character.
+     * 
+     * @param symbol Symbol character of the operation
+     * @return Corresponding Operation enum
+     * @throws IllegalArgumentException If no matching operation is found
+     */
+    public static Operation getBySymbol(char symbol) {
+        Operation operation = findBySymbol(symbol);
+        if (operation == null) {
+            throw new IllegalArgumentException("Unknown operation symbol: " + symbol);
+        }
+        return operation;
+    }
+
+    /**
+     * Looks up the operation of a symbol character without failing.
+     * 
+     * Intended for scanners that test every character of their input,
+     * such as the expression lexer.
+     * 
+     * @param symbol Symbol character
+     * @return Matching operation, or null if the character is not a symbol
+     */
+    public static Operation findBySymbol(char symbol) {
+        return symbol < BY_SYMBOL.length ? BY_SYMBOL[symbol] : null;
+    }
+}
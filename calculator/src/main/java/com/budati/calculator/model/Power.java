@@ -18,7 +18,7 @@ import org.springframework.stereotype.Component;
  * @since 2025-03-28
  */
 @Component
-public class Power implements OperationStrategy {
+public class Power implements DoubleOperationStrategy {
     
     /**
      * Performs power (exponentiation) operation on two numbers.
@@ -31,8 +31,8 @@ public class Power implements OperationStrategy {
      * @return Result of raising num1 to the power of num2
      */
     @Override
-    public Number apply(Number num1, Number num2) {
-        return Math.pow(num1.doubleValue(), num2.doubleValue());
+    public double applyAsDouble(double num1, double num2) {
+        return Math.pow(num1, num2);
     }
     
     /**
@@ -0,0 +1,329 @@
+package com.budati.calculator.parser;
+
+import com.budati.calculator.model.Operation;
+
+/**
+ * Single-pass, character-scanning lexer for mathematical expressions.
+ *
+ * Splits an expression into tokens without regular expressions and
+ * without creating a substring per token. The lexer is a cursor: each
+ * call to {@link #next()} advances to the following token and exposes
+ * its type, position and value through accessors.
+ *
+ * Key Characteristics:
+ * - Whitespace between tokens is optional
+ * - Numbers are converted while scanning, without exception-driven fallbacks
+ * - Signs in prefix position are reported as {@link TokenType#UNARY_MINUS}
+ *   and {@link TokenType#UNARY_PLUS}
+ * - Identifiers name variables and functions
+ * - Syntax errors carry the position of the offending character
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class ExpressionLexer {
+
+    // Powers of ten that are exactly representable as doubles
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+            1e21, 1e22
+    };
+
+    // Largest integer mantissa for which double conversion is exact
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    // Significant digits collected in the mantissa; 18 digits always fit in a long
+    private static final int MAX_MANTISSA_DIGITS = 18;
+
+    // Expression being tokenized
+    private final CharSequence source;
+
+    // Position of the next character to scan
+    private int position;
+
+    // Current token state
+    private TokenType tokenType;
+    private int tokenStart;
+    private int tokenEnd;
+    private double numericValue;
+    private boolean integral;
+    private Operation operation;
+
+    /**
+     * Creates a lexer positioned before the first token of an expression.
+     *
+     * @param source Expression to tokenize
+     */
+    public ExpressionLexer(CharSequence source) {
+        this.source = source;
+    }
+
+    /**
+     * Advances to the next token.
+     *
+     * @return Type of the new current token
+     * @throws ExpressionSyntaxException If an unexpected character or malformed number is found
+     */
+    public TokenType next() {
+        TokenType previous = tokenType;
+        int length = source.length();
+
+        while (position < length && Character.isWhitespace(source.charAt(position))) {
+            position++;
+        }
+
+        tokenStart = position;
+        operation = null;
+
+        if (position == length) {
+            tokenEnd = position;
+            return tokenType = TokenType.END;
+        }
+
+        char current = source.charAt(position);
+        if (isDigit(current) || current == '.') {
+            scanNumber();
+            return tokenType = TokenType.NUMBER;
+        }
+
+        position++;
+        tokenEnd = position;
+
+        if (current == '(') {
+            return tokenType = TokenType.LEFT_PARENTHESIS;
+        }
+        if (current == ')') {
+            return tokenType = TokenType.RIGHT_PARENTHESIS;
+        }
+        if (current == ',') {
+            return tokenType = TokenType.COMMA;
+        }
+        if (isIdentifierStart(current)) {
+            while (position < length && isIdentifierPart(source.charAt(position))) {
+                position++;
+            }
+            tokenEnd = position;
+            return tokenType = TokenType.IDENTIFIER;
+        }
+
+        Operation symbolOperation = Operation.findBySymbol(current);
+        if (symbolOperation == null) {
+            throw new ExpressionSyntaxException("Unexpected character '" + current + "'", tokenStart);
+        }
+
+        // A sign that cannot follow an operand applies to the next one
+        if (!followsOperand(previous)) {
+            if (symbolOperation == Operation.SUBTRACT) {
+                return tokenType = TokenType.UNARY_MINUS;
+            }
+            if (symbolOperation == Operation.ADD) {
+                return tokenType = TokenType.UNARY_PLUS;
+            }
+        }
+
+        operation = symbolOperation;
+        return tokenType = TokenType.OPERATOR;
+    }
+
+    /**
+     * Retrieves the type of the current token.
+     *
+     * @return Current token type, or null before the first call to {@link #next()}
+     */
+    public TokenType getTokenType() {
+        return tokenType;
+    }
+
+    /**
+     * Retrieves the start position of the current token.
+     *
+     * @return Zero-based start position (inclusive)
+     */
+    public int getTokenStart() {
+        return tokenStart;
+    }
+
+    /**
+     * Retrieves the end position of the current token.
+     *
+     * @return Zero-based end position (exclusive)
+     */
+    public int getTokenEnd() {
+        return tokenEnd;
+    }
+
+    /**
+     * Retrieves the text of the current token.
+     *
+     * Unlike the other accessors this creates a new string, so it is only
+     * meant for tokens whose text is needed, such as identifiers.
+     *
+     * @return Token text
+     */
+    public String getTokenText() {
+        return source.subSequence(tokenStart, tokenEnd).toString();
+    }
+
+    /**
+     * Retrieves the value of the current {@link TokenType#NUMBER} token.
+     *
+     * @return Numeric value
+     */
+    public double getNumericValue() {
+        return numericValue;
+    }
+
+    /**
+     * Indicates whether the current number was written as an integer
+     * that fits into an {@code int}.
+     *
+     * @return True for integer literals within the int range
+     */
+    public boolean isIntegral() {
+        return integral;
+    }
+
+    /**
+     * Retrieves the operation of the current {@link TokenType#OPERATOR} token.
+     *
+     * @return Operation, or null for other token types
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Scans a number starting at the current position.
+     *
+     * Accumulates up to 18 significant digits in a long mantissa, so that it
+     * cannot overflow, and
+     * converts it with a single exact multiplication or division when
+     * both mantissa and exponent are small enough. Longer or more extreme
+     * literals fall back to {@link Double#parseDouble(String)}.
+     */
+    private void scanNumber() {
+        int length = source.length();
+        long mantissa = 0;
+        int significantDigits = 0;
+        int droppedDigits = 0;
+        int fractionDigits = 0;
+        boolean hasDigits = false;
+        boolean hasFraction = false;
+        boolean hasExponent = false;
+
+        while (position < length && isDigit(source.charAt(position))) {
+            int digit = source.charAt(position++) - '0';
+            hasDigits = true;
+            if (significantDigits < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + digit;
+                if (mantissa != 0) {
+                    significantDigits++;
+                }
+            } else {
+                droppedDigits++;
+            }
+        }
+
+        if (position < length && source.charAt(position) == '.') {
+            position++;
+            hasFraction = true;
+            while (position < length && isDigit(source.charAt(position))) {
+                int digit = source.charAt(position++) - '0';
+                hasDigits = true;
+                if (significantDigits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + digit;
+                    fractionDigits++;
+                    if (mantissa != 0) {
+                        significantDigits++;
+                    }
+                }
+            }
+        }
+
+        if (!hasDigits) {
+            throw new ExpressionSyntaxException("Malformed number", tokenStart);
+        }
+
+        int exponent = 0;
+        if (position < length && (source.charAt(position) == 'e' || source.charAt(position) == 'E')) {
+            position++;
+            hasExponent = true;
+            boolean negativeExponent = false;
+            if (position < length && (source.charAt(position) == '+' || source.charAt(position) == '-')) {
+                negativeExponent = source.charAt(position++) == '-';
+            }
+            if (position >= length || !isDigit(source.charAt(position))) {
+                throw new ExpressionSyntaxException("Malformed exponent", position);
+            }
+            while (position < length && isDigit(source.charAt(position))) {
+                // Saturate instead of overflowing; such values are out of double range anyway
+                exponent = Math.min(exponent * 10 + (source.charAt(position++) - '0'), 100_000);
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+
+        tokenEnd = position;
+        integral = !hasFraction && !hasExponent && droppedDigits == 0
+                && 0 <= mantissa && mantissa <= Integer.MAX_VALUE;
+
+        int decimalExponent = exponent + droppedDigits - fractionDigits;
+        if (mantissa == 0) {
+            numericValue = 0.0;
+        } else if (0 < mantissa && mantissa <= MAX_EXACT_MANTISSA
+                && decimalExponent >= -22 && decimalExponent <= 22) {
+            numericValue = decimalExponent < 0
+                    ? mantissa / POWERS_OF_TEN[-decimalExponent]
+                    : mantissa * POWERS_OF_TEN[decimalExponent];
+        } else {
+            numericValue = Double.parseDouble(source.subSequence(tokenStart, tokenEnd).toString());
+        }
+    }
+
+    /**
+     * Determines whether a token of the given type ends an operand.
+     *
+     * @param type Token type preceding the current one
+     * @return True if a following minus sign is a binary subtraction
+     */
+    private static boolean followsOperand(TokenType type) {
+        return type == TokenType.NUMBER
+                || type == TokenType.IDENTIFIER
+                || type == TokenType.RIGHT_PARENTHESIS;
+    }
+
+    /**
+     * Checks whether a character may start an identifier.
+     *
+     * @param character Character to check
+     * @return True for ASCII letters and underscore
+     */
+    private static boolean isIdentifierStart(char character) {
+        return (character >= 'a' && character <= 'z')
+                || (character >= 'A' && character <= 'Z')
+                || character == '_';
+    }
+
+    /**
+     * Checks whether a character may continue an identifier.
+     *
+     * @param character Character to check
+     * @return True for ASCII letters, digits and underscore
+     */
+    private static boolean isIdentifierPart(char character) {
+        return isIdentifierStart(character) || isDigit(character);
+    }
+
+    /**
+     * Checks whether a character is an ASCII decimal digit.
+     *
+     * @param character Character to check
+     * @return True for '0' through '9'
+     */
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+}
@@ -0,0 +1,80 @@
+package com.budati.calculator.parser;
+
+/**
+ * Exception raised when an expression exceeds one of its {@link ExpressionLimits}.
+ *
+ * Carries the limit that was exceeded and its configured maximum, so
+ * that callers can report the violation in a structured form rather
+ * than as a generic syntax error.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ExpressionLimitException extends IllegalArgumentException {
+
+    /**
+     * Limits an expression can exceed.
+     */
+    public enum Limit {
+        LENGTH("length"),
+        TOKENS("tokens"),
+        DEPTH("depth"),
+        STEPS("steps"),
+        PRECISION("precision"),
+        TIME("time");
+
+        // Name used in error reports
+        private final String name;
+
+        Limit(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Retrieves the name used in error reports.
+         *
+         * @return Lowercase name, e.g. "depth"
+         */
+        public String getName() {
+            return name;
+        }
+    }
+
+    // Limit that was exceeded
+    private final Limit limit;
+
+    // Configured maximum of the limit; milliseconds for TIME
+    private final long maximum;
+
+    /**
+     * Constructs a limit exception.
+     *
+     * @param limit Limit that was exceeded
+     * @param maximum Configured maximum of the limit
+     * @param message Description of the violation
+     */
+    public ExpressionLimitException(Limit limit, long maximum, String message) {
+        super(message);
+        this.limit = limit;
+        this.maximum = maximum;
+    }
+
+    /**
+     * Retrieves the limit that was exceeded.
+     *
+     * @return Exceeded limit
+     */
+    public Limit getLimit() {
+        return limit;
+    }
+
+    /**
+     * Retrieves the configured maximum of the exceeded limit.
+     *
+     * @return Maximum characters, tokens, levels, steps or digits, or milliseconds for TIME
+     */
+    public long getMaximum() {
+        return maximum;
+    }
+}
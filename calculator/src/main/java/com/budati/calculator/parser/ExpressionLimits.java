@@ -0,0 +1,173 @@
+package com.budati.calculator.parser;
+
+import java.time.Duration;
+
+/**
+ * Bounds on the cost of parsing, compiling and evaluating one expression.
+ *
+ * Limits:
+ * - Length: characters of the expression text, checked before lexing
+ * - Tokens: tokens read by the parser
+ * - Depth: nesting of parentheses, signs, function arguments and
+ *   right-associative operators, which bounds the recursion of the parser
+ *   and of every visitor over the tree; left-associative chains are
+ *   walked iteratively and bounded by the token limit
+ * - Steps: instructions one evaluation executes, including those of the
+ *   defined functions it calls; programs are straight-line, so this is
+ *   known when they are compiled. Evaluations over many rows are bounded
+ *   separately by their callers
+ * - Precision: significant digits of an arbitrary-precision evaluation,
+ *   which bounds the cost of each of its operations
+ * - Evaluation time: wall-clock budget of an arbitrary-precision
+ *   evaluation, checked between operations; double-precision
+ *   evaluations are bounded by their steps only
+ *
+ * Instances are immutable and may be shared between threads.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class ExpressionLimits {
+
+    // Limits that never reject an expression
+    public static final ExpressionLimits UNLIMITED = new ExpressionLimits(
+            Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE, null);
+
+    // Maximum characters of an expression
+    private final int maxLength;
+
+    // Maximum tokens of an expression
+    private final int maxTokens;
+
+    // Maximum nesting depth of an expression
+    private final int maxDepth;
+
+    // Maximum instructions executed by one evaluation
+    private final long maxSteps;
+
+    // Maximum significant digits of an arbitrary-precision evaluation
+    private final int maxPrecision;
+
+    // Maximum duration of an arbitrary-precision evaluation in nanoseconds, Long.MAX_VALUE if unbounded
+    private final long maxEvaluationNanos;
+
+    /**
+     * Creates limits.
+     *
+     * @param maxLength Maximum characters of an expression
+     * @param maxTokens Maximum tokens of an expression
+     * @param maxDepth Maximum nesting depth of an expression
+     * @param maxSteps Maximum instructions executed by one evaluation
+     * @param maxPrecision Maximum significant digits of an arbitrary-precision evaluation
+     * @param maxEvaluationTime Maximum duration of an arbitrary-precision evaluation, or null if unbounded
+     * @throws IllegalArgumentException If a limit is not positive
+     */
+    public ExpressionLimits(int maxLength, int maxTokens, int maxDepth, long maxSteps, int maxPrecision,
+                            Duration maxEvaluationTime) {
+        if (maxLength <= 0 || maxTokens <= 0 || maxDepth <= 0 || maxSteps <= 0 || maxPrecision <= 0
+                || (maxEvaluationTime != null && (maxEvaluationTime.isNegative() || maxEvaluationTime.isZero()))) {
+            throw new IllegalArgumentException("Expression limits must be positive");
+        }
+        this.maxLength = maxLength;
+        this.maxTokens = maxTokens;
+        this.maxDepth = maxDepth;
+        this.maxSteps = maxSteps;
+        this.maxPrecision = maxPrecision;
+        this.maxEvaluationNanos = maxEvaluationTime == null ? Long.MAX_VALUE : maxEvaluationTime.toNanos();
+    }
+
+    /**
+     * Retrieves the maximum characters of an expression.
+     *
+     * @return Maximum length
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Retrieves the maximum tokens of an expression.
+     *
+     * @return Maximum token count
+     */
+    public int getMaxTokens() {
+        return maxTokens;
+    }
+
+    /**
+     * Retrieves the maximum nesting depth of an expression.
+     *
+     * @return Maximum depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Retrieves the maximum instructions executed by one evaluation.
+     *
+     * @return Maximum steps
+     */
+    public long getMaxSteps() {
+        return maxSteps;
+    }
+
+    /**
+     * Retrieves the maximum significant digits of an arbitrary-precision evaluation.
+     *
+     * @return Maximum precision
+     */
+    public int getMaxPrecision() {
+        return maxPrecision;
+    }
+
+    /**
+     * Retrieves the maximum duration of an arbitrary-precision evaluation.
+     *
+     * @return Maximum duration in nanoseconds, Long.MAX_VALUE if unbounded
+     */
+    public long getMaxEvaluationNanos() {
+        return maxEvaluationNanos;
+    }
+
+    /**
+     * Checks the number of instructions one evaluation of a program executes.
+     *
+     * @param steps Instructions executed, including those of called functions
+     * @throws ExpressionLimitException If the steps exceed the limit
+     */
+    public void checkSteps(long steps) {
+        if (steps > maxSteps) {
+            throw new ExpressionLimitException(ExpressionLimitException.Limit.STEPS, maxSteps,
+                    "Expression evaluates " + steps + " steps, more than the limit of " + maxSteps);
+        }
+    }
+
+    /**
+     * Checks the precision of an arbitrary-precision evaluation.
+     *
+     * @param precision Significant digits, 0 for exact results
+     * @throws ExpressionLimitException If the precision exceeds the limit
+     */
+    public void checkPrecision(int precision) {
+        if (precision > maxPrecision) {
+            throw new ExpressionLimitException(ExpressionLimitException.Limit.PRECISION, maxPrecision,
+                    "Precision of " + precision + " digits is more than the limit of " + maxPrecision);
+        }
+    }
+
+    /**
+     * Checks the time spent on an arbitrary-precision evaluation.
+     *
+     * @param startNanos Value of {@link System#nanoTime()} when the evaluation started
+     * @throws ExpressionLimitException If the evaluation has run longer than the limit
+     */
+    public void checkEvaluationTime(long startNanos) {
+        if (System.nanoTime() - startNanos > maxEvaluationNanos) {
+            long maxMillis = maxEvaluationNanos / 1_000_000;
+            throw new ExpressionLimitException(ExpressionLimitException.Limit.TIME, maxMillis,
+                    "Expression evaluation exceeded the time limit of " + maxMillis + " ms");
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.budati.calculator.parser;
+
+import com.budati.calculator.ast.*;
+import com.budati.calculator.model.BuiltinFunction;
+import com.budati.calculator.model.ExpressionFunction;
+import com.budati.calculator.model.Operation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Precedence-climbing (Pratt) parser producing immutable syntax trees.
+ *
+ * Grammar Summary:
+ * - Binary operators bind according to {@link Operation#getPriority()}
+ * - "^" is right-associative, all other operators are left-associative
+ * - Prefix "-" and "+" bind tighter than every operator except "^",
+ *   so "-2 ^ 2" is "-(2 ^ 2)"
+ * - Parentheses group sub-expressions
+ * - "name(arg, ...)" calls a function; any other name is a variable
+ * - A function with an infix priority may also be written between its
+ *   two arguments, as in "7 mod 3", binding like an operator of that
+ *   priority and associating from left to right
+ *
+ * Expressions are checked against the length, token and depth bounds of
+ * the parser's {@link ExpressionLimits} while they are parsed, so oversized input
+ * is rejected before the whole of it is read and deep nesting cannot
+ * overflow the stack of the parser or of later visitors. Depth counts
+ * parentheses, signs, function arguments and right-associative operators;
+ * left-associative chains such as "1 + 1 + 1" are parsed in a loop and
+ * walked iteratively by visitors, so only the token limit bounds them.
+ *
+ * A parser instance holds no state between calls and may be shared
+ * between threads.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ExpressionParser {
+
+    // Binding power of prefix signs, just below exponentiation
+    private static final int PREFIX_PRIORITY = Operation.POWER.getPriority();
+
+    // Resolves function names used in expressions
+    private final Function<String, ExpressionFunction> functionResolver;
+
+    // Bounds on the expressions accepted
+    private final ExpressionLimits limits;
+
+    /**
+     * Creates a parser resolving the built-in functions.
+     */
+    public ExpressionParser() {
+        this(BuiltinFunction::getByName);
+    }
+
+    /**
+     * Creates a parser resolving function names through a lookup.
+     *
+     * The lookup is called while parsing, possibly from several threads.
+     *
+     * @param functionResolver Returns the function of a name, or null if none
+     */
+    public ExpressionParser(Function<String, ExpressionFunction> functionResolver) {
+        this(functionResolver, ExpressionLimits.UNLIMITED);
+    }
+
+    /**
+     * Creates a parser resolving function names through a lookup and
+     * rejecting expressions beyond the given limits.
+     *
+     * @param functionResolver Returns the function of a name, or null if none
+     * @param limits Bounds on the expressions accepted
+     */
+    public ExpressionParser(Function<String, ExpressionFunction> functionResolver, ExpressionLimits limits) {
+        this.functionResolver = functionResolver;
+        this.limits = limits;
+    }
+
+    /**
+     * Retrieves the limits enforced by this parser.
+     *
+     * @return Bounds on the expressions accepted
+     */
+    public ExpressionLimits getLimits() {
+        return limits;
+    }
+
+    /**
+     * Parses an expression into its syntax tree.
+     *
+     * @param expression Expression text
+     * @return Parsed syntax tree and variable names
+     * @throws ExpressionSyntaxException If the expression is malformed
+     * @throws ExpressionLimitException If the expression is too long, has
+     *         too many tokens or nests too deeply
+     */
+    public ParsedExpression parse(String expression) {
+        if (expression.length() > limits.getMaxLength()) {
+            throw new ExpressionLimitException(ExpressionLimitException.Limit.LENGTH, limits.getMaxLength(),
+                    "Expression has " + expression.length() + " characters, more than the limit of "
+                            + limits.getMaxLength());
+        }
+        return new ParseState(expression).parseAll();
+    }
+
+    /**
+     * Resolves a function name used in an expression.
+     *
+     * @param name Function name
+     * @return Function, or null if no function has that name
+     */
+    protected ExpressionFunction resolveFunction(String name) {
+        return functionResolver.apply(name);
+    }
+
+    /**
+     * Mutable cursor over a single expression being parsed.
+     */
+    private final class ParseState {
+
+        // Token source for the expression
+        private final ExpressionLexer lexer;
+
+        // Variable slots in order of first appearance
+        private final Map<String, VariableReference> variables = new LinkedHashMap<>();
+
+        // Tokens read so far
+        private int tokenCount;
+
+        // Current recursion depth of parseExpression
+        private int nesting;
+
+        // Depth to which visitors recurse into the syntax tree most recently
+        // parsed; the left spine of binary operations is walked iteratively
+        private int height;
+
+        ParseState(String expression) {
+            this.lexer = new ExpressionLexer(expression);
+        }
+
+        /**
+         * Parses the complete expression and checks that all input was consumed.
+         *
+         * @return Parsed expression
+         */
+        ParsedExpression parseAll() {
+            next();
+            ExpressionNode root = parseExpression(0);
+            if (lexer.getTokenType() != TokenType.END) {
+                throw unexpectedToken();
+            }
+            return new ParsedExpression(root, new ArrayList<>(variables.keySet()));
+        }
+
+        /**
+         * Parses operators binding at least as tightly as the given priority.
+         *
+         * @param minimumPriority Lowest operator priority to consume
+         * @return Parsed sub-expression
+         */
+        private ExpressionNode parseExpression(int minimumPriority) {
+            checkDepth(++nesting);
+            ExpressionNode left = parsePrefix();
+            int leftHeight = height;
+
+            while (true) {
+                if (lexer.getTokenType() == TokenType.OPERATOR) {
+                    Operation operation = lexer.getOperation();
+                    int priority = operation.getPriority();
+                    if (priority < minimumPriority) {
+                        break;
+                    }
+
+                    next();
+                    int rightPriority = operation.isRightAssociative() ? priority : priority + 1;
+                    left = new BinaryOperation(operation, left, parseExpression(rightPriority));
+                    leftHeight = checkDepth(Math.max(leftHeight, height + 1));
+                } else if (lexer.getTokenType() == TokenType.IDENTIFIER) {
+                    ExpressionFunction function = resolveInfixFunction(lexer.getTokenText());
+                    if (function == null || function.getPrecedence() < minimumPriority) {
+                        break;
+                    }
+
+                    next();
+                    ExpressionNode right = parseExpression(function.getPrecedence() + 1);
+                    left = new FunctionCall(function, List.of(left, right));
+                    leftHeight = checkDepth(Math.max(leftHeight, height) + 1);
+                } else {
+                    break;
+                }
+            }
+
+            nesting--;
+            height = leftHeight;
+            return left;
+        }
+
+        /**
+         * Resolves a name following an operand as an infix function.
+         *
+         * @param name Function name
+         * @return Binary function with an infix priority, or null if the name is not one
+         */
+        private ExpressionFunction resolveInfixFunction(String name) {
+            ExpressionFunction function = resolveFunction(name);
+            return function != null && function.getPrecedence() > 0 && function.getArity() == 2 ? function : null;
+        }
+
+        /**
+         * Parses a literal, variable, function call, parenthesized
+         * expression or signed operand.
+         *
+         * @return Parsed operand
+         */
+        private ExpressionNode parsePrefix() {
+            switch (lexer.getTokenType()) {
+                case NUMBER: {
+                    NumberLiteral literal = new NumberLiteral(lexer.getNumericValue(), lexer.isIntegral());
+                    next();
+                    height = 1;
+                    return literal;
+                }
+                case OPERATOR:
+                    // A sign after an infix function name is lexed as an operator
+                    if (lexer.getOperation() == Operation.SUBTRACT) {
+                        return parseNegation();
+                    }
+                    if (lexer.getOperation() == Operation.ADD) {
+                        next();
+                        return parseExpression(PREFIX_PRIORITY);
+                    }
+                    throw unexpectedToken();
+                case UNARY_MINUS:
+                    return parseNegation();
+                case UNARY_PLUS: {
+                    next();
+                    return parseExpression(PREFIX_PRIORITY);
+                }
+                case LEFT_PARENTHESIS: {
+                    next();
+                    ExpressionNode inner = parseExpression(0);
+                    expect(TokenType.RIGHT_PARENTHESIS);
+                    return inner;
+                }
+                case IDENTIFIER:
+                    return parseIdentifier();
+                default:
+                    throw unexpectedToken();
+            }
+        }
+
+        /**
+         * Parses a negated operand, with the current token being its sign.
+         *
+         * @return Negation, or a negative literal
+         */
+        private ExpressionNode parseNegation() {
+            next();
+            ExpressionNode operand = parseExpression(PREFIX_PRIORITY);
+            // Fold the sign into literals so that "-5" stays a literal
+            if (operand instanceof NumberLiteral) {
+                NumberLiteral literal = (NumberLiteral) operand;
+                return new NumberLiteral(-literal.getValue(), literal.isIntegral());
+            }
+            height = checkDepth(height + 1);
+            return new Negation(operand);
+        }
+
+        /**
+         * Parses a variable reference or a function call.
+         *
+         * @return Parsed node
+         */
+        private ExpressionNode parseIdentifier() {
+            String name = lexer.getTokenText();
+            int start = lexer.getTokenStart();
+
+            if (next() != TokenType.LEFT_PARENTHESIS) {
+                height = 1;
+                return variables.computeIfAbsent(name, key -> new VariableReference(key, variables.size()));
+            }
+
+            ExpressionFunction function = resolveFunction(name);
+            if (function == null) {
+                throw new ExpressionSyntaxException("Unknown function '" + name + "'", start);
+            }
+
+            List<ExpressionNode> arguments = new ArrayList<>(function.getArity());
+            int argumentHeight = 0;
+            if (next() != TokenType.RIGHT_PARENTHESIS) {
+                arguments.add(parseExpression(0));
+                argumentHeight = height;
+                while (lexer.getTokenType() == TokenType.COMMA) {
+                    next();
+                    arguments.add(parseExpression(0));
+                    argumentHeight = Math.max(argumentHeight, height);
+                }
+            }
+            expect(TokenType.RIGHT_PARENTHESIS);
+
+            if (arguments.size() != function.getArity()) {
+                throw new ExpressionSyntaxException("Function '" + name + "' expects "
+                        + function.getArity() + " argument(s) but got " + arguments.size(), start);
+            }
+            height = checkDepth(argumentHeight + 1);
+            return new FunctionCall(function, arguments);
+        }
+
+        /**
+         * Consumes a token of the expected type.
+         *
+         * @param type Expected token type
+         */
+        private void expect(TokenType type) {
+            if (lexer.getTokenType() != type) {
+                throw unexpectedToken();
+            }
+            next();
+        }
+
+        /**
+         * Advances to the next token, counting it against the token limit.
+         *
+         * @return Type of the new current token
+         * @throws ExpressionLimitException If the expression has too many tokens
+         */
+        private TokenType next() {
+            TokenType type = lexer.next();
+            if (type != TokenType.END && ++tokenCount > limits.getMaxTokens()) {
+                throw new ExpressionLimitException(ExpressionLimitException.Limit.TOKENS, limits.getMaxTokens(),
+                        "Expression has more than " + limits.getMaxTokens() + " tokens at position "
+                                + lexer.getTokenStart());
+            }
+            return type;
+        }
+
+        /**
+         * Checks a nesting depth against the depth limit.
+         *
+         * @param depth Depth of the syntax tree or of the parser recursion
+         * @return The depth, if within the limit
+         * @throws ExpressionLimitException If the expression nests too deeply
+         */
+        private int checkDepth(int depth) {
+            if (depth > limits.getMaxDepth()) {
+                throw new ExpressionLimitException(ExpressionLimitException.Limit.DEPTH, limits.getMaxDepth(),
+                        "Expression nests deeper than " + limits.getMaxDepth() + " levels at position "
+                                + lexer.getTokenStart());
+            }
+            return depth;
+        }
+
+        /**
+         * Creates an error describing the current token.
+         *
+         * @return Syntax exception positioned at the current token
+         */
+        private ExpressionSyntaxException unexpectedToken() {
+            if (lexer.getTokenType() == TokenType.END) {
+                return new ExpressionSyntaxException("Unexpected end of expression", lexer.getTokenStart());
+            }
+            return new ExpressionSyntaxException("Unexpected token '" + lexer.getTokenText() + "'", lexer.getTokenStart());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.budati.calculator.parser;
+
+/**
+ * Exception raised when an expression cannot be tokenized or parsed.
+ * 
+ * Carries the zero-based position in the expression at which the
+ * problem was detected.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ExpressionSyntaxException extends IllegalArgumentException {
+
+    // Zero-based position of the offending input
+    private final int position;
+
+    /**
+     * Constructs a syntax exception for a position in the expression.
+     * 
+     * @param message Description of the syntax error
+     * @param position Zero-based position of the offending input
+     */
+    public ExpressionSyntaxException(String message, int position) {
+        super(message + " at position " + position);
+        this.position = position;
+    }
+
+    /**
+     * Retrieves the position at which the error was detected.
+     * 
+     * @return Zero-based position in the expression
+     */
+    public int getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,37 @@
+package com.budati.calculator.parser;
+
+/**
+ * Enumeration of token types recognized by the {@link ExpressionLexer}.
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public enum TokenType {
+    // Numeric literal such as 42, 3.14 or 1e-3
+    NUMBER,
+
+    // One of the binary Operation symbols
+    OPERATOR,
+
+    // Minus sign in prefix position, negating the following operand
+    UNARY_MINUS,
+
+    // Plus sign in prefix position, leaving the following operand unchanged
+    UNARY_PLUS,
+
+    // Name of a variable or function
+    IDENTIFIER,
+
+    // Separator between function arguments
+    COMMA,
+
+    // Opening parenthesis
+    LEFT_PARENTHESIS,
+
+    // Closing parenthesis
+    RIGHT_PARENTHESIS,
+
+    // End of the expression
+    END
+}
@@ -0,0 +1,268 @@
+package com.budati.calculator.service;
+
+import com.budati.calculator.model.Operation;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Memoization cache for single calculations.
+ *
+ * Caches the results of {@link CalculatorService#calculate} for selected
+ * operations, keyed on the operation and the raw IEEE 754 bits of both
+ * operands, so a lookup never boxes or hashes a {@link Number}. Only
+ * operations served by a primitive strategy are cached, as their result
+ * depends on nothing but the double value of the operands.
+ *
+ * Key Characteristics:
+ * - Direct-mapped: each key has a single slot, and a new result replaces
+ *   the entry in its slot, which bounds the cache to its fixed capacity
+ * - Lock-free: entries are immutable and published through a plain array,
+ *   so a lookup sees either a complete entry or none
+ * - A hit returns the boxed result stored on the miss and allocates nothing
+ * - Cached operations can be changed at runtime; doing so empties the cache
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class CalculationResultCache implements MeterBinder {
+
+    // Cached enum constants, avoiding the array clone performed by values()
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    // Slots indexed by key hash; replaced wholesale on reconfiguration
+    private volatile Entry[] entries;
+
+    // Whether each operation, by ordinal, is cached; replaced on reconfiguration
+    private volatile boolean[] enabled;
+
+    // Hit and miss counts indexed by Operation ordinal
+    private final LongAdder[] hitCounts = new LongAdder[OPERATIONS.length];
+    private final LongAdder[] missCounts = new LongAdder[OPERATIONS.length];
+
+    // Number of entries replaced by a different key
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a cache.
+     *
+     * @param maximumSize Number of slots, rounded up to a power of two
+     * @param operations Operations whose results are cached
+     */
+    public CalculationResultCache(int maximumSize, Set<Operation> operations) {
+        int capacity = Integer.highestOneBit(Math.max(1, Math.min(maximumSize, 1 << 30)) * 2 - 1);
+        this.entries = new Entry[capacity];
+        this.enabled = toFlags(operations);
+        for (Operation operation : OPERATIONS) {
+            hitCounts[operation.ordinal()] = new LongAdder();
+            missCounts[operation.ordinal()] = new LongAdder();
+        }
+    }
+
+    /**
+     * Indicates whether results of an operation are cached.
+     *
+     * @param operation The operation
+     * @return True if the operation is cached
+     */
+    public boolean isEnabled(Operation operation) {
+        return enabled[operation.ordinal()];
+    }
+
+    /**
+     * Retrieves the cached operations.
+     *
+     * @return Cached operations
+     */
+    public Set<Operation> getEnabledOperations() {
+        boolean[] flags = enabled;
+        Set<Operation> operations = EnumSet.noneOf(Operation.class);
+        for (Operation operation : OPERATIONS) {
+            if (flags[operation.ordinal()]) {
+                operations.add(operation);
+            }
+        }
+        return operations;
+    }
+
+    /**
+     * Changes the cached operations and empties the cache.
+     *
+     * @param operations Operations whose results are cached from now on
+     */
+    public void setEnabledOperations(Set<Operation> operations) {
+        enabled = toFlags(operations);
+        entries = new Entry[entries.length];
+    }
+
+    /**
+     * Looks up the result of an operation.
+     *
+     * @param ordinal Ordinal of the operation
+     * @param left Raw bits of the first operand
+     * @param right Raw bits of the second operand
+     * @return Cached result, or null on a miss
+     */
+    public Number get(int ordinal, long left, long right) {
+        Entry[] table = entries;
+        Entry entry = table[index(table, ordinal, left, right)];
+        if (entry != null && entry.left == left && entry.right == right && entry.ordinal == ordinal) {
+            hitCounts[ordinal].increment();
+            return entry.result;
+        }
+        missCounts[ordinal].increment();
+        return null;
+    }
+
+    /**
+     * Stores the result of an operation, replacing the entry in its slot.
+     *
+     * @param ordinal Ordinal of the operation
+     * @param left Raw bits of the first operand
+     * @param right Raw bits of the second operand
+     * @param result Result of the operation
+     */
+    public void put(int ordinal, long left, long right, Number result) {
+        Entry[] table = entries;
+        int index = index(table, ordinal, left, right);
+        if (table[index] != null) {
+            evictionCount.increment();
+        }
+        table[index] = new Entry(ordinal, left, right, result);
+    }
+
+    /**
+     * Retrieves the number of slots.
+     *
+     * @return Capacity of the cache
+     */
+    public int getMaximumSize() {
+        return entries.length;
+    }
+
+    /**
+     * Retrieves the number of lookups served from the cache.
+     *
+     * @return Hit count over all operations
+     */
+    public long getHitCount() {
+        return sum(hitCounts);
+    }
+
+    /**
+     * Retrieves the number of lookups that computed the result.
+     *
+     * @return Miss count over all operations
+     */
+    public long getMissCount() {
+        return sum(missCounts);
+    }
+
+    /**
+     * Retrieves the number of entries replaced by a different key.
+     *
+     * @return Eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Publishes calculator.memoization.gets{operation, result} and
+     * calculator.memoization.evictions.
+     *
+     * @param registry Registry receiving the meters
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Operation operation : OPERATIONS) {
+            registerGets(registry, operation, "hit", hitCounts[operation.ordinal()]);
+            registerGets(registry, operation, "miss", missCounts[operation.ordinal()]);
+        }
+        FunctionCounter.builder("calculator.memoization.evictions", evictionCount, LongAdder::doubleValue)
+                .description("Memoized results replaced by a different calculation")
+                .register(registry);
+    }
+
+    /**
+     * Registers a lookup counter.
+     *
+     * @param registry Registry receiving the counter
+     * @param operation Operation looked up
+     * @param result Outcome counted, hit or miss
+     * @param count Adder holding the count
+     */
+    private static void registerGets(MeterRegistry registry, Operation operation, String result, LongAdder count) {
+        FunctionCounter.builder("calculator.memoization.gets", count, LongAdder::doubleValue)
+                .description("Lookups of memoized single calculations")
+                .tag("operation", operation.name())
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Computes the slot of a key.
+     *
+     * @param table Slots
+     * @param ordinal Ordinal of the operation
+     * @param left Raw bits of the first operand
+     * @param right Raw bits of the second operand
+     * @return Slot index
+     */
+    private static int index(Entry[] table, int ordinal, long left, long right) {
+        long hash = left * 0x9E3779B97F4A7C15L + right;
+        hash = (hash ^ (hash >>> 32)) * 0xBF58476D1CE4E5B9L + ordinal;
+        hash ^= hash >>> 29;
+        return (int) hash & (table.length - 1);
+    }
+
+    /**
+     * Converts a set of operations to flags indexed by ordinal.
+     *
+     * @param operations Operations to flag
+     * @return Flags indexed by Operation ordinal
+     */
+    private static boolean[] toFlags(Set<Operation> operations) {
+        boolean[] flags = new boolean[OPERATIONS.length];
+        for (Operation operation : operations) {
+            flags[operation.ordinal()] = true;
+        }
+        return flags;
+    }
+
+    /**
+     * Sums a set of adders.
+     *
+     * @param counts Adders to sum
+     * @return Total count
+     */
+    private static long sum(LongAdder[] counts) {
+        long total = 0;
+        for (LongAdder count : counts) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Immutable cached result; final fields make it safe to publish without locking.
+     */
+    private static final class Entry {
+        final int ordinal;
+        final long left;
+        final long right;
+        final Number result;
+
+        Entry(int ordinal, long left, long right, Number result) {
+            this.ordinal = ordinal;
+            this.left = left;
+            this.right = right;
+            this.result = result;
+        }
+    }
+}
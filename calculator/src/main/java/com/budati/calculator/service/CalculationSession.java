@@ -0,0 +1,99 @@
+package com.budati.calculator.service;
+
+import com.budati.calculator.dto.CalculationSessionState;
+import com.budati.calculator.model.Operation;
+
+/**
+ * A chained calculation built one step at a time by a client.
+ *
+ * Keeps the pending operand and operator stacks of the chain as
+ * resumable state, so appending a step and reading the value take
+ * constant time however many steps came before.
+ *
+ * Key Characteristics:
+ * - Steps are applied to a copy of the stacks, so a failing step, such as
+ *   a division by zero, is rejected and leaves the session unchanged
+ * - Appends to the same session are serialized
+ * - The value is computed once per append and served from the session
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class CalculationSession {
+
+    // Identifier of the session
+    private final String id;
+
+    // Stacks of the chain so far; replaced on every successful append
+    private ChainAccumulator accumulator;
+
+    // Value of the chain so far
+    private Number value;
+
+    // Approximate memory held by the session, read by the registry without locking
+    private volatile long size;
+
+    /**
+     * Creates a session.
+     *
+     * @param id Identifier of the session
+     * @param accumulator Chain starting at the initial value of the session
+     */
+    CalculationSession(String id, ChainAccumulator accumulator) {
+        this.id = id;
+        this.accumulator = accumulator;
+        this.value = accumulator.currentValue();
+        this.size = accumulator.estimateSize();
+    }
+
+    /**
+     * Retrieves the identifier of the session.
+     *
+     * @return Identifier
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Appends a step to the chain.
+     *
+     * @param operation The operation to apply
+     * @param operand The operand of the step
+     * @return State of the session after the step
+     * @throws IllegalArgumentException If the step makes the chain fail, such as a division by zero
+     * @throws UnsupportedOperationException If no strategy is registered for the operation
+     */
+    public synchronized CalculationSessionState append(Operation operation, Number operand) {
+        if (operation == null || operand == null) {
+            throw new IllegalArgumentException("Steps need an operation and an operand");
+        }
+        ChainAccumulator next = accumulator.copy();
+        next.push(operation, operand);
+        Number nextValue = next.currentValue();
+
+        accumulator = next;
+        value = nextValue;
+        size = next.estimateSize();
+        return getState();
+    }
+
+    /**
+     * Retrieves the state of the session.
+     *
+     * @return Identifier, number of steps and value of the chain so far
+     */
+    public synchronized CalculationSessionState getState() {
+        return new CalculationSessionState(id, accumulator.getLength(), value);
+    }
+
+    /**
+     * Estimates the memory held by the session.
+     *
+     * @return Approximate size in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+}
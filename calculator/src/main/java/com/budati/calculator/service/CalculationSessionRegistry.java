@@ -0,0 +1,121 @@
+package com.budati.calculator.service;
+
+import com.budati.calculator.dto.CalculationSessionState;
+import com.budati.calculator.model.Operation;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Registry of calculation sessions keyed by identifier.
+ *
+ * Key Characteristics:
+ * - Sessions expire after a configurable idle timeout
+ * - The estimated memory of all sessions is bounded by a configurable
+ *   budget; sessions are evicted, oldest and least used first, beyond it
+ * - Identifiers are random, as sessions hold state a client can modify
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+public class CalculationSessionRegistry {
+
+    // Service creating the chain of each session
+    private final CalculatorService calculatorService;
+
+    // Sessions keyed by identifier, weighed by their estimated size
+    private final Cache<String, CalculationSession> sessions;
+
+    /**
+     * Creates the registry with the configured timeout and memory budget.
+     *
+     * @param calculatorService Service creating the chain of each session
+     * @param idleTimeout Time after the last access at which a session expires
+     * @param memoryBudget Maximum estimated memory of all sessions
+     */
+    public CalculationSessionRegistry(
+            CalculatorService calculatorService,
+            @Value("${calculator.sessions.idle-timeout:30m}") Duration idleTimeout,
+            @Value("${calculator.sessions.memory-budget:64MB}") DataSize memoryBudget) {
+        this.calculatorService = calculatorService;
+        this.sessions = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumWeight(memoryBudget.toBytes())
+                .weigher((String id, CalculationSession session) -> (int) Math.min(session.getSize(), Integer.MAX_VALUE))
+                .build();
+    }
+
+    /**
+     * Creates a session starting at a value.
+     *
+     * @param baseNumeric Initial value of the chain
+     * @return New session
+     * @throws IllegalArgumentException If the initial value is missing
+     */
+    public CalculationSession create(Number baseNumeric) {
+        if (baseNumeric == null) {
+            throw new IllegalArgumentException("baseNumeric must not be null");
+        }
+        String id = UUID.randomUUID().toString();
+        CalculationSession session = new CalculationSession(id, calculatorService.newChainAccumulator(baseNumeric));
+        sessions.put(id, session);
+        return session;
+    }
+
+    /**
+     * Retrieves a session.
+     *
+     * @param id Identifier returned at creation
+     * @return Session, or null if unknown, expired or evicted
+     */
+    public CalculationSession get(String id) {
+        return sessions.getIfPresent(id);
+    }
+
+    /**
+     * Appends a step to a session.
+     *
+     * @param id Identifier returned at creation
+     * @param operation The operation to apply
+     * @param operand The operand of the step
+     * @return State of the session after the step, or null if the session is unknown
+     * @throws IllegalArgumentException If the step makes the chain fail
+     * @throws UnsupportedOperationException If no strategy is registered for the operation
+     */
+    public CalculationSessionState append(String id, Operation operation, Number operand) {
+        CalculationSession session = sessions.getIfPresent(id);
+        if (session == null) {
+            return null;
+        }
+        CalculationSessionState state = session.append(operation, operand);
+        // Re-weigh the session, unless it was removed meanwhile
+        sessions.asMap().replace(id, session, session);
+        return state;
+    }
+
+    /**
+     * Removes a session.
+     *
+     * @param id Identifier returned at creation
+     * @return True if the session existed
+     */
+    public boolean remove(String id) {
+        return sessions.asMap().remove(id) != null;
+    }
+
+    /**
+     * Retrieves the approximate number of sessions.
+     *
+     * @return Number of sessions
+     */
+    public long size() {
+        return sessions.estimatedSize();
+    }
+}
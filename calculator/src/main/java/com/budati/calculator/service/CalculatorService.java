@@ -0,0 +1,437 @@
+package com.budati.calculator.service;
+
+import com.budati.calculator.metrics.CalculatorMetrics;
+import com.budati.calculator.metrics.NoOpCalculatorMetrics;
+import com.budati.calculator.model.*;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Service class responsible for performing mathematical calculations
+ * using a strategy-based approach.
+ * 
+ * This service supports both single and chained mathematical operations
+ * with a flexible and extensible design that allows for easy addition 
+ * of new operation types.
+ * 
+ * Key Features:
+ * - Supports dynamic operation selection via strategy pattern
+ * - Handles complex chain calculations with operation priority
+ * - Provides a robust error handling mechanism
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Service
+public class CalculatorService {
+
+    // Built-in strategy class of each operation, whose arithmetic other engines may reproduce
+    private static final Map<Operation, Class<? extends OperationStrategy>> BUILTIN_STRATEGIES =
+            new EnumMap<>(Operation.class);
+
+    static {
+        BUILTIN_STRATEGIES.put(Operation.ADD, Add.class);
+        BUILTIN_STRATEGIES.put(Operation.SUBTRACT, Subtract.class);
+        BUILTIN_STRATEGIES.put(Operation.MULTIPLY, Multiply.class);
+        BUILTIN_STRATEGIES.put(Operation.DIVIDE, Divide.class);
+        BUILTIN_STRATEGIES.put(Operation.POWER, Power.class);
+    }
+
+    // Cached enum constants, avoiding the array clone performed by values()
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    /**
+     * Dispatch table of the available mathematical operation strategies.
+     * 
+     * Indexed by Operation ordinal and built once at construction, so
+     * selecting a strategy is an array load rather than a map lookup;
+     * unsupported operations have a null entry.
+     */
+    private final OperationStrategy[] strategies = new OperationStrategy[OPERATIONS.length];
+
+    /**
+     * Primitive evaluation engine used when every registered strategy
+     * implements {@link DoubleOperationStrategy}; null otherwise.
+     */
+    private final DoubleChainEvaluator chainEvaluator;
+
+    /**
+     * Exact engine for chains of integers, reproducing the built-in strategies.
+     */
+    private final IntegerChainEvaluator integerChainEvaluator = new IntegerChainEvaluator();
+
+    // Whether each operation, by ordinal, may be evaluated by the exact integer engine
+    private final boolean[] exactOperations = new boolean[OPERATIONS.length];
+
+    // Default minimum number of steps for which chains are evaluated in parallel
+    static final int DEFAULT_PARALLEL_THRESHOLD = 65536;
+
+    // Default maximum number of steps evaluated by a single fork-join task
+    static final int DEFAULT_SEGMENT_SIZE = 8192;
+
+    /**
+     * Fork-join engine for very long chains, splitting them into additive terms.
+     */
+    private ParallelChainEvaluator parallelChainEvaluator;
+
+    // Minimum number of steps for which chains are evaluated in parallel; 0 disables
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    // Whether each operation, by ordinal, has a primitive strategy whose results may be memoized
+    private final boolean[] memoizableOperations = new boolean[OPERATIONS.length];
+
+    // Memoized results of single calculations; null when memoization is not configured
+    private CalculationResultCache resultCache;
+
+    // Instrumentation of calculate and chainCalculate
+    private CalculatorMetrics metrics = NoOpCalculatorMetrics.INSTANCE;
+
+    /**
+     * Constructor for CalculatorService that accepts a map of operation strategies.
+     * 
+     * Uses Spring's dependency injection to provide a flexible configuration
+     * of available mathematical operations.
+     * 
+     * @param operationMap A map of supported operations to their strategy implementations
+     */
+    @Autowired
+    public CalculatorService(Map<Operation, OperationStrategy> operationMap) {
+        for (Map.Entry<Operation, OperationStrategy> entry : operationMap.entrySet()) {
+            strategies[entry.getKey().ordinal()] = entry.getValue();
+        }
+        this.chainEvaluator = createChainEvaluator(strategies);
+        for (Operation operation : OPERATIONS) {
+            exactOperations[operation.ordinal()] = hasBuiltinStrategy(operation);
+            memoizableOperations[operation.ordinal()] = strategies[operation.ordinal()] instanceof DoubleOperationStrategy;
+        }
+        this.parallelChainEvaluator =
+                new ParallelChainEvaluator(chainEvaluator, integerChainEvaluator, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Configures parallel evaluation of very long chains.
+     * 
+     * @param parallelThreshold Minimum number of steps for which chains are evaluated in parallel; 0 disables
+     * @param segmentSize Maximum number of steps evaluated by a single fork-join task
+     */
+    @Autowired
+    public void setParallelism(
+            @Value("${calculator.chain.parallel-threshold:" + DEFAULT_PARALLEL_THRESHOLD + "}") int parallelThreshold,
+            @Value("${calculator.chain.segment-size:" + DEFAULT_SEGMENT_SIZE + "}") int segmentSize) {
+        this.parallelThreshold = parallelThreshold;
+        this.parallelChainEvaluator = new ParallelChainEvaluator(chainEvaluator, integerChainEvaluator, segmentSize);
+    }
+
+    /**
+     * Builds the primitive evaluation engine for the registered strategies.
+     * 
+     * @param strategies Registered strategies by Operation ordinal, null for unsupported operations
+     * @return Primitive chain evaluator, or null if any strategy only supports the boxed API
+     */
+    private static DoubleChainEvaluator createChainEvaluator(OperationStrategy[] strategies) {
+        DoubleOperationStrategy[] primitives = new DoubleOperationStrategy[strategies.length];
+        for (int ordinal = 0; ordinal < strategies.length; ordinal++) {
+            OperationStrategy strategy = strategies[ordinal];
+            if (strategy == null) {
+                continue;
+            }
+            if (!(strategy instanceof DoubleOperationStrategy)) {
+                return null;
+            }
+            primitives[ordinal] = (DoubleOperationStrategy) strategy;
+        }
+        return new DoubleChainEvaluator(primitives);
+    }
+
+    /**
+     * Sets the instrumentation of calculate and chainCalculate.
+     * 
+     * Services created without a Spring context record no metrics.
+     * 
+     * @param metrics Metrics to record
+     */
+    @Autowired(required = false)
+    public void setMetrics(CalculatorMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Sets the cache memoizing single calculations.
+     * 
+     * Services created without a Spring context do not memoize.
+     * 
+     * @param resultCache Cache of single calculation results
+     */
+    @Autowired(required = false)
+    public void setResultCache(CalculationResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * Retrieves the strategy registered for an operation.
+     * 
+     * @param op The mathematical operation
+     * @return Registered strategy, or null if the operation is not supported
+     */
+    public OperationStrategy getStrategy(Operation op) {
+        return strategies[op.ordinal()];
+    }
+
+    /**
+     * Indicates whether an operation is served by its built-in strategy.
+     * 
+     * Engines that reproduce the arithmetic of an operation directly,
+     * such as generated bytecode or column kernels, may only do so while
+     * this holds; otherwise they must dispatch through the strategy.
+     * 
+     * @param op The mathematical operation
+     * @return True if the registered strategy is exactly the built-in implementation
+     */
+    public boolean hasBuiltinStrategy(Operation op) {
+        OperationStrategy strategy = strategies[op.ordinal()];
+        return strategy != null && strategy.getClass() == BUILTIN_STRATEGIES.get(op);
+    }
+
+    /**
+     * Performs a single mathematical operation between two numbers.
+     * 
+     * Retrieves the appropriate operation strategy based on the 
+     * provided Operation enum and applies it to the input numbers.
+     * 
+     * Results of operations enabled in the {@link CalculationResultCache}
+     * are memoized.
+     * 
+     * @param op The mathematical operation to perform
+     * @param num1 The first number in the operation
+     * @param num2 The second number in the operation
+     * @return The result of the mathematical operation
+     * @throws UnsupportedOperationException If no strategy is found for the given operation
+     */
+    public Number calculate(Operation op, Number num1, Number num2) {
+        long startNanos = metrics.startTimer();
+        CalculationResultCache cache = resultCache;
+        Number result = cache != null && memoizableOperations[op.ordinal()] && cache.isEnabled(op)
+                ? calculateMemoized(cache, op, num1, num2)
+                : applyStrategy(op, num1, num2);
+        metrics.recordCalculation(op, startNanos);
+        return result;
+    }
+
+    /**
+     * Performs a single operation through the memoization cache.
+     * 
+     * @param cache Cache of single calculation results
+     * @param op The mathematical operation to perform, with a primitive strategy
+     * @param num1 The first number in the operation
+     * @param num2 The second number in the operation
+     * @return The cached or newly computed result
+     */
+    private Number calculateMemoized(CalculationResultCache cache, Operation op, Number num1, Number num2) {
+        int ordinal = op.ordinal();
+        long left = Double.doubleToRawLongBits(num1.doubleValue());
+        long right = Double.doubleToRawLongBits(num2.doubleValue());
+        Number result = cache.get(ordinal, left, right);
+        if (result == null) {
+            result = applyStrategy(op, num1, num2);
+            cache.put(ordinal, left, right, result);
+        }
+        return result;
+    }
+
+    /**
+     * Applies the registered strategy of an operation without recording metrics.
+     * 
+     * @param op The mathematical operation to perform
+     * @param num1 The first number in the operation
+     * @param num2 The second number in the operation
+     * @return The result of the mathematical operation
+     * @throws UnsupportedOperationException If no strategy is found for the given operation
+     */
+    private Number applyStrategy(Operation op, Number num1, Number num2) {
+        // Retrieve the strategy for the specified operation
+        OperationStrategy strategy = strategies[op.ordinal()];
+        
+        // Validate and execute the operation
+        if (strategy != null) {
+            return strategy.apply(num1, num2);
+        } else {
+            throw new UnsupportedOperationException("Operation not supported: " + op);
+        }
+    }
+
+    /**
+     * Performs a single mathematical operation on primitive operands.
+     * 
+     * Dispatches directly to the primitive strategy when available, and
+     * otherwise adapts the boxed strategy. Unlike
+     * {@link #calculate(Operation, Number, Number)} this records no metrics,
+     * as it is called once per operator of an evaluated expression.
+     * 
+     * @param op The mathematical operation to perform
+     * @param num1 The first operand
+     * @param num2 The second operand
+     * @return The result of the mathematical operation
+     * @throws UnsupportedOperationException If no strategy is found for the given operation
+     */
+    public double calculateAsDouble(Operation op, double num1, double num2) {
+        if (chainEvaluator != null) {
+            return chainEvaluator.apply(op.ordinal(), num1, num2);
+        }
+        return applyStrategy(op, num1, num2).doubleValue();
+    }
+
+    /**
+     * Performs a chain of mathematical operations with priority-based execution.
+     * 
+     * This method allows complex calculations by applying a sequence of operations
+     * to an initial value. Operations are processed considering their priority,
+     * similar to standard mathematical precedence rules.
+     * 
+     * Example: Starting with 2, chain [(MULTIPLY, 5), (ADD, 3)] would compute 2 * 5 + 3
+     * 
+     * Algorithm Steps:
+     * 1. Initialize stacks for numbers and operations
+     * 2. Process operations considering their priority
+     * 3. Resolve operations from left to right while respecting precedence
+     * 
+     * When every operand is an integer and every operation used has its
+     * built-in strategy, the chain is evaluated exactly by
+     * {@link IntegerChainEvaluator} and the result is a Long, or a
+     * BigInteger once it overflows. Chains without an exact integer result,
+     * such as 7 / 2, are evaluated in double precision like any other.
+     * 
+     * When every registered strategy implements {@link DoubleOperationStrategy},
+     * the chain is evaluated by {@link DoubleChainEvaluator} on primitive stacks
+     * and only the final result is boxed.
+     * 
+     * Chains of at least the parallel threshold are split into additive
+     * terms evaluated by {@link ParallelChainEvaluator}, with results
+     * identical to serial evaluation.
+     * 
+     * @param initialValue The starting value for the chain of calculations
+     * @param operations A list of operation-value pairs to apply sequentially
+     * @return The final result after applying all operations
+     */
+    public Number chainCalculate(Number initialValue, List<Pair<Operation, Number>> operations) {
+        // An empty chain yields the initial value unchanged
+        if (operations.isEmpty()) {
+            return initialValue;
+        }
+
+        long startNanos = metrics.startTimer();
+
+        boolean parallel = parallelThreshold > 0 && operations.size() >= parallelThreshold;
+
+        // Integer chains stay exact; otherwise prefer the unboxed primitive engine
+        Number result = null;
+        if (isExactChain(initialValue, operations)) {
+            result = parallel
+                    ? parallelChainEvaluator.evaluateExact(initialValue, operations)
+                    : integerChainEvaluator.evaluate(initialValue, operations);
+        }
+        if (result == null) {
+            if (chainEvaluator == null) {
+                result = chainCalculateBoxed(initialValue, operations);
+            } else if (parallel) {
+                result = parallelChainEvaluator.evaluate(initialValue.doubleValue(), operations);
+            } else {
+                result = chainEvaluator.evaluate(initialValue.doubleValue(), operations);
+            }
+        }
+
+        metrics.recordChain(operations.get(0).getLeft(), operations.size(), startNanos);
+        return result;
+    }
+
+    /**
+     * Starts a chain of operations whose steps are supplied one at a time.
+     * 
+     * Used for chains too long to be held in memory, such as chains read
+     * from a request body as it is parsed. The accumulator resolves the
+     * steps as they arrive, with the same result as
+     * {@link #chainCalculate(Number, List)} on the complete chain.
+     * 
+     * @param initialValue The starting value for the chain of calculations
+     * @return Accumulator receiving the steps of the chain
+     */
+    public ChainAccumulator newChainAccumulator(Number initialValue) {
+        Objects.requireNonNull(initialValue, "initialValue");
+        return new ChainAccumulator(initialValue, strategies, chainEvaluator, integerChainEvaluator,
+                exactOperations, metrics);
+    }
+
+    /**
+     * Checks whether a chain can be evaluated by the exact integer engine.
+     * 
+     * @param initialValue The starting value for the chain of calculations
+     * @param operations A list of operation-value pairs to apply sequentially
+     * @return True if every operand is integral and every operation has its built-in strategy
+     */
+    private boolean isExactChain(Number initialValue, List<Pair<Operation, Number>> operations) {
+        if (!IntegerChainEvaluator.isIntegral(initialValue)) {
+            return false;
+        }
+        for (Pair<Operation, Number> step : operations) {
+            if (!exactOperations[step.getLeft().ordinal()] || !IntegerChainEvaluator.isIntegral(step.getRight())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Performs a chain of operations on boxed stacks, dispatching every
+     * step through its registered strategy.
+     * 
+     * @param initialValue The starting value for the chain of calculations
+     * @param operations A non-empty list of operation-value pairs to apply sequentially
+     * @return The final result after applying all operations
+     */
+    private Number chainCalculateBoxed(Number initialValue, List<Pair<Operation, Number>> operations) {
+        // Stacks to manage numbers and operations during calculation
+        Deque<Number> numbers = new ArrayDeque<>();
+        Deque<Operation> operators = new ArrayDeque<>();
+
+        // Push the initial value as the first number
+        numbers.push(initialValue);
+
+        // Process each operation in the chain
+        for (Pair<Operation, Number> op : operations) {
+            Operation currentOperation = op.getLeft();
+            Number currentValue = op.getRight();
+
+            // Handle operation priority by processing higher-priority operations first
+            while (!operators.isEmpty() && currentOperation.getPriority() <= operators.peek().getPriority()) {
+                // Resolve operations with higher or equal priority
+                Number lastNumber = numbers.pop();
+                Number secondLastNumber = numbers.pop();
+                Operation lastOperator = operators.pop();
+
+                Number result = applyStrategy(lastOperator, secondLastNumber, lastNumber);
+                numbers.push(result);
+            }
+
+            // Push current operation and value to respective stacks
+            operators.push(currentOperation);
+            numbers.push(currentValue);
+        }
+
+        // Process any remaining operations in the stack
+        while (!operators.isEmpty()) {
+            Operation operator = operators.pop();
+            Number lastNumber = numbers.pop();
+            Number secondLastNumber = numbers.pop();
+
+            Number result = applyStrategy(operator, secondLastNumber, lastNumber);
+            numbers.push(result);
+        }
+
+        // Return the final calculated result
+        return numbers.pop();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,283 @@
+package com.budati.calculator.service;
+
+import com.budati.calculator.metrics.CalculatorMetrics;
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.model.OperationStrategy;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Incremental evaluation of a chained calculation.
+ *
+ * Receives the steps of a chain one at a time and resolves them as they
+ * arrive, producing the same result as
+ * {@link CalculatorService#chainCalculate(Number, List)} on the complete
+ * chain without ever holding the chain itself. Memory use is bounded by
+ * the number of priority levels, independently of the chain length.
+ *
+ * Evaluation Tiers:
+ * - While every operand is an integer and every operation has its built-in
+ *   strategy, the chain is also evaluated exactly by an
+ *   {@link IntegerChainEvaluator.Accumulator}
+ * - The chain is always evaluated in double precision alongside, on
+ *   primitive stacks when every strategy supports them and on boxed stacks
+ *   otherwise, since the steps are not retained for a second pass
+ * - The exact result is returned when the chain has one
+ *
+ * Instances are created by {@link CalculatorService#newChainAccumulator(Number)}
+ * and are not thread-safe.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ChainAccumulator {
+
+    // Approximate size of an accumulator with its stacks, in bytes
+    private static final long SHALLOW_SIZE = 512;
+
+    // Approximate size of a boxed operand with its stack entry, in bytes
+    private static final long BOXED_ENTRY_SIZE = 48;
+
+    // Strategies of the service by Operation ordinal, used by the boxed tier and to validate operations
+    private final OperationStrategy[] strategies;
+
+    // Whether each operation, by ordinal, may be evaluated by the exact tier
+    private final boolean[] exactOperations;
+
+    // Instrumentation of completed chains
+    private final CalculatorMetrics metrics;
+
+    // Starting value, returned unchanged by an empty chain
+    private final Number initialValue;
+
+    // Exact tier; null once the chain has no exact integer result
+    private IntegerChainEvaluator.Accumulator exact;
+
+    // Primitive tier; null when a strategy only supports the boxed API
+    private final DoubleChainEvaluator.Accumulator primitive;
+
+    // Boxed tier, used instead of the primitive tier
+    private final Deque<Number> numbers;
+    private final Deque<Operation> operators;
+
+    // Operation of the first step, tagging the recorded chain; null while empty
+    private Operation firstOperation;
+
+    // Total number of steps applied
+    private long length;
+
+    // Result of the completed chain; null until complete() is called
+    private Number result;
+
+    /**
+     * Creates an accumulator over the engines of a calculator service.
+     *
+     * @param initialValue The starting value for the chain
+     * @param strategies Strategies of the service by Operation ordinal, null for unsupported operations
+     * @param chainEvaluator Primitive engine, or null if a strategy only supports the boxed API
+     * @param integerChainEvaluator Exact integer engine
+     * @param exactOperations Whether each operation, by ordinal, has its built-in strategy
+     * @param metrics Instrumentation of completed chains
+     */
+    ChainAccumulator(Number initialValue, OperationStrategy[] strategies,
+                     DoubleChainEvaluator chainEvaluator, IntegerChainEvaluator integerChainEvaluator,
+                     boolean[] exactOperations, CalculatorMetrics metrics) {
+        this.initialValue = initialValue;
+        this.strategies = strategies;
+        this.exactOperations = exactOperations;
+        this.metrics = metrics;
+        this.exact = IntegerChainEvaluator.isIntegral(initialValue)
+                ? integerChainEvaluator.newAccumulator(initialValue)
+                : null;
+        if (chainEvaluator != null) {
+            this.primitive = chainEvaluator.newAccumulator(initialValue.doubleValue());
+            this.numbers = null;
+            this.operators = null;
+        } else {
+            this.primitive = null;
+            this.numbers = new ArrayDeque<>();
+            this.operators = new ArrayDeque<>();
+            numbers.push(initialValue);
+        }
+    }
+
+    /**
+     * Creates an independent copy of an accumulator.
+     *
+     * @param other Accumulator to copy
+     */
+    private ChainAccumulator(ChainAccumulator other) {
+        this.initialValue = other.initialValue;
+        this.strategies = other.strategies;
+        this.exactOperations = other.exactOperations;
+        this.metrics = other.metrics;
+        this.exact = other.exact != null ? other.exact.copy() : null;
+        this.primitive = other.primitive != null ? other.primitive.copy() : null;
+        this.numbers = other.numbers != null ? new ArrayDeque<>(other.numbers) : null;
+        this.operators = other.operators != null ? new ArrayDeque<>(other.operators) : null;
+        this.firstOperation = other.firstOperation;
+        this.length = other.length;
+        this.result = other.result;
+    }
+
+    /**
+     * Creates an independent copy of the chain so far.
+     *
+     * Takes constant time, as the stacks are bounded by the number of
+     * priority levels. Used to apply a step tentatively and keep the
+     * original if the step fails.
+     *
+     * @return Copy of this accumulator
+     */
+    public ChainAccumulator copy() {
+        return new ChainAccumulator(this);
+    }
+
+    /**
+     * Appends a step to the chain.
+     *
+     * @param operation The operation to apply
+     * @param value The operand of the step
+     * @throws UnsupportedOperationException If no strategy is registered for the operation
+     * @throws IllegalArgumentException If the chain divides by zero
+     * @throws IllegalStateException If the chain is already complete
+     */
+    public void push(Operation operation, Number value) {
+        if (result != null) {
+            throw new IllegalStateException("Chain is already complete");
+        }
+        if (strategies[operation.ordinal()] == null) {
+            throw new UnsupportedOperationException("Operation not supported: " + operation);
+        }
+        int ordinal = operation.ordinal();
+
+        if (exact != null && (!exactOperations[ordinal] || !IntegerChainEvaluator.isIntegral(value)
+                || !exact.push(ordinal, value))) {
+            exact = null;
+        }
+
+        if (primitive != null) {
+            primitive.push(ordinal, value.doubleValue());
+        } else {
+            pushBoxed(operation, value);
+        }
+
+        if (length == 0) {
+            firstOperation = operation;
+        }
+        length++;
+    }
+
+    /**
+     * Returns the number of steps appended so far.
+     *
+     * @return Number of steps
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the value of the chain so far without completing it.
+     *
+     * Pending operations are resolved on the side, so further steps can
+     * still be pushed. Takes constant time.
+     *
+     * @return The result after applying every step pushed
+     * @throws IllegalArgumentException If the chain divides by zero
+     */
+    public Number currentValue() {
+        if (result != null) {
+            return result;
+        }
+        if (length == 0) {
+            return initialValue;
+        }
+
+        Number exactResult = exact != null ? exact.result() : null;
+        if (exactResult != null) {
+            return exactResult;
+        }
+        return primitive != null ? (Number) primitive.result() : currentBoxed();
+    }
+
+    /**
+     * Estimates the memory held by the chain.
+     *
+     * @return Approximate size in bytes
+     */
+    public long estimateSize() {
+        long size = SHALLOW_SIZE;
+        if (exact != null) {
+            size += exact.getBigIntegerBytes();
+        }
+        if (numbers != null) {
+            for (Number number : numbers) {
+                size += BOXED_ENTRY_SIZE;
+                if (number instanceof BigInteger) {
+                    size += ((BigInteger) number).bitLength() / Byte.SIZE;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Completes the chain and returns its result.
+     *
+     * The result is the same as that of
+     * {@link CalculatorService#chainCalculate(Number, List)} on the steps
+     * pushed. Completed chains are recorded in the metrics, counted but not
+     * timed, since their steps arrive at the pace of the caller.
+     *
+     * @return The final result after applying all operations
+     * @throws IllegalArgumentException If the chain divides by zero
+     */
+    public Number complete() {
+        if (result != null) {
+            return result;
+        }
+        Number value = currentValue();
+        if (length > 0) {
+            metrics.recordChain(firstOperation, length, CalculatorMetrics.NOT_TIMED);
+        }
+        result = value;
+        return result;
+    }
+
+    /**
+     * Appends a step to the boxed stacks.
+     *
+     * @param operation The operation to apply
+     * @param value The operand of the step
+     */
+    private void pushBoxed(Operation operation, Number value) {
+        // Resolve pending operations with higher or equal priority
+        while (!operators.isEmpty() && operation.getPriority() <= operators.peek().getPriority()) {
+            Number right = numbers.pop();
+            numbers.push(strategies[operators.pop().ordinal()].apply(numbers.pop(), right));
+        }
+        operators.push(operation);
+        numbers.push(value);
+    }
+
+    /**
+     * Resolves the pending operations on the boxed stacks, leaving them in place.
+     *
+     * @return The result after applying every step pushed
+     */
+    private Number currentBoxed() {
+        // Both stacks iterate from their top, resolving from right to left
+        Iterator<Number> values = numbers.iterator();
+        Number value = values.next();
+        for (Operation operator : operators) {
+            value = strategies[operator.ordinal()].apply(values.next(), value);
+        }
+        return value;
+    }
+}
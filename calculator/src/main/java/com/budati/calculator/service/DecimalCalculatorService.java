@@ -0,0 +1,292 @@
+package com.budati.calculator.service;
+
+import com.budati.calculator.metrics.CalculatorMetrics;
+import com.budati.calculator.metrics.NoOpCalculatorMetrics;
+import com.budati.calculator.model.DecimalOperationStrategy;
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.parser.ExpressionLimitException;
+import com.budati.calculator.parser.ExpressionLimits;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service performing calculations in arbitrary precision.
+ * 
+ * Decimal counterpart of {@link CalculatorService}: operands are
+ * converted to {@link BigDecimal} instead of double and every operation
+ * is rounded to a per-request {@link MathContext}. Chains follow the
+ * same priority rules as the double path.
+ * 
+ * Key Features:
+ * - Dispatches to the registered {@link DecimalOperationStrategy} of each operation
+ * - Precision 0 requests exact results, failing when none exists (e.g. 1 / 3)
+ *   or when an intermediate result would exceed
+ *   {@link DecimalOperationStrategy#MAX_EXACT_DIGITS} digits
+ * - Arithmetic failures are reported as IllegalArgumentException, like the double path
+ * 
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Service
+public class DecimalCalculatorService {
+
+    // Rounding used when a request gives a precision but no rounding mode
+    public static final RoundingMode DEFAULT_ROUNDING_MODE = RoundingMode.HALF_EVEN;
+
+    // Decimal strategy of each operation, indexed by ordinal
+    private final DecimalOperationStrategy[] strategies = new DecimalOperationStrategy[Operation.values().length];
+
+    // Instrumentation shared with the double path
+    private CalculatorMetrics metrics = NoOpCalculatorMetrics.INSTANCE;
+
+    /**
+     * Creates the service over the registered decimal strategies.
+     * 
+     * @param operationMap A map of supported operations to their decimal strategy implementations
+     */
+    @Autowired
+    public DecimalCalculatorService(Map<Operation, DecimalOperationStrategy> operationMap) {
+        for (Map.Entry<Operation, DecimalOperationStrategy> entry : operationMap.entrySet()) {
+            strategies[entry.getKey().ordinal()] = entry.getValue();
+        }
+    }
+
+    /**
+     * Sets the instrumentation of calculate and chainCalculate.
+     * 
+     * @param metrics Metrics to record
+     */
+    @Autowired(required = false)
+    public void setMetrics(CalculatorMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Builds the math context of a request.
+     * 
+     * @param precision Number of significant digits, 0 for exact results, or null for double mode
+     * @param roundingMode Rounding mode, or null for {@link #DEFAULT_ROUNDING_MODE}
+     * @return Math context, or null if the request asks for double mode
+     * @throws IllegalArgumentException If the precision is negative
+     */
+    public static MathContext createMathContext(Integer precision, RoundingMode roundingMode) {
+        if (precision == null) {
+            if (roundingMode != null) {
+                throw new IllegalArgumentException("A rounding mode requires a precision");
+            }
+            return null;
+        }
+        if (precision < 0) {
+            throw new IllegalArgumentException("Precision must not be negative: " + precision);
+        }
+        return new MathContext(precision, roundingMode != null ? roundingMode : DEFAULT_ROUNDING_MODE);
+    }
+
+    /**
+     * Builds the math context of a request, bounding its precision.
+     * 
+     * Every operation costs more as the precision grows, so requests
+     * beyond the precision limit are refused before any is applied.
+     * 
+     * @param precision Number of significant digits, 0 for exact results, or null for double mode
+     * @param roundingMode Rounding mode, or null for {@link #DEFAULT_ROUNDING_MODE}
+     * @param limits Limits providing the maximum precision
+     * @return Math context, or null if the request asks for double mode
+     * @throws IllegalArgumentException If the precision is negative
+     * @throws ExpressionLimitException If the precision exceeds the limit
+     */
+    public static MathContext createMathContext(Integer precision, RoundingMode roundingMode, ExpressionLimits limits) {
+        MathContext mathContext = createMathContext(precision, roundingMode);
+        if (mathContext != null) {
+            limits.checkPrecision(mathContext.getPrecision());
+        }
+        return mathContext;
+    }
+
+    /**
+     * Converts a number to a decimal without passing through binary floating point where avoidable.
+     * 
+     * Doubles and floats are converted through their shortest decimal
+     * representation, so that 0.1 becomes exactly 0.1.
+     * 
+     * @param number Number to convert
+     * @return Decimal value
+     * @throws IllegalArgumentException If the number is NaN or infinite
+     */
+    public static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (number instanceof Integer || number instanceof Long
+                || number instanceof Short || number instanceof Byte) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        double value = number.doubleValue();
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Not a finite number: " + number);
+        }
+        return number instanceof Float ? new BigDecimal(number.toString()) : BigDecimal.valueOf(value);
+    }
+
+    /**
+     * Performs a single operation in arbitrary precision.
+     * 
+     * @param op The mathematical operation to perform
+     * @param num1 The first number in the operation
+     * @param num2 The second number in the operation
+     * @param mathContext Precision and rounding of the result
+     * @return The result of the mathematical operation
+     * @throws UnsupportedOperationException If no strategy is found for the given operation
+     * @throws IllegalArgumentException If the result cannot be represented
+     */
+    public BigDecimal calculate(Operation op, Number num1, Number num2, MathContext mathContext) {
+        long startNanos = metrics.startTimer();
+        BigDecimal result = applyStrategy(op, toBigDecimal(num1), toBigDecimal(num2), mathContext);
+        metrics.recordCalculation(op, startNanos);
+        return result;
+    }
+
+    /**
+     * Applies the registered decimal strategy of an operation without recording metrics.
+     * 
+     * Exact results are bounded by {@link DecimalOperationStrategy#MAX_EXACT_DIGITS}:
+     * sums and products are refused before they are computed when their
+     * operands imply a longer result, and any other result is checked once
+     * computed. Without the bound, every step of an exact chain such as
+     * x * x * x ... would multiply ever longer numbers.
+     * 
+     * @param op The mathematical operation to perform
+     * @param num1 The first operand
+     * @param num2 The second operand
+     * @param mathContext Precision and rounding of the result
+     * @return The result of the mathematical operation
+     * @throws UnsupportedOperationException If no strategy is found for the given operation
+     * @throws IllegalArgumentException If the result cannot be represented, or is exact and too long
+     */
+    public BigDecimal applyStrategy(Operation op, BigDecimal num1, BigDecimal num2, MathContext mathContext) {
+        DecimalOperationStrategy strategy = strategies[op.ordinal()];
+        if (strategy == null) {
+            throw new UnsupportedOperationException("Operation not supported: " + op);
+        }
+        boolean exact = mathContext.getPrecision() == 0;
+        if (exact && estimateExactDigits(op, num1, num2) > DecimalOperationStrategy.MAX_EXACT_DIGITS) {
+            throw new IllegalArgumentException("Result too large for an exact " + op.name().toLowerCase());
+        }
+        BigDecimal result;
+        try {
+            result = strategy.apply(num1, num2, mathContext);
+        } catch (ArithmeticException e) {
+            // Non-terminating exact quotients, exponent overflow and the like
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+        if (exact && result.precision() > DecimalOperationStrategy.MAX_EXACT_DIGITS) {
+            throw new IllegalArgumentException("Result too large for an exact " + op.name().toLowerCase());
+        }
+        return result;
+    }
+
+    /**
+     * Estimates the number of digits of an exact result from its operands.
+     * 
+     * @param op The mathematical operation to perform
+     * @param num1 The first operand
+     * @param num2 The second operand
+     * @return Upper bound of the digits of a sum or product, 0 for other
+     *         operations, whose results are checked once computed
+     */
+    private static long estimateExactDigits(Operation op, BigDecimal num1, BigDecimal num2) {
+        switch (op) {
+            case ADD:
+            case SUBTRACT:
+                // Integer digits of the larger operand, fraction digits of the finer one and a carry
+                return Math.max((long) num1.precision() - num1.scale(), (long) num2.precision() - num2.scale())
+                        + Math.max(num1.scale(), num2.scale()) + 1;
+            case MULTIPLY:
+                return (long) num1.precision() + num2.precision();
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Performs a chain of operations in arbitrary precision without a time limit.
+     * 
+     * @param initialValue The starting value for the chain of calculations
+     * @param operations A list of operation-value pairs to apply sequentially
+     * @param mathContext Precision and rounding of every step
+     * @return The final result after applying all operations
+     * @see #chainCalculate(Number, List, MathContext, ExpressionLimits)
+     */
+    public BigDecimal chainCalculate(Number initialValue, List<Pair<Operation, Number>> operations,
+                                     MathContext mathContext) {
+        return chainCalculate(initialValue, operations, mathContext, ExpressionLimits.UNLIMITED);
+    }
+
+    /**
+     * Performs a chain of operations in arbitrary precision.
+     * 
+     * Operations are resolved with the same priority rules as
+     * {@link CalculatorService#chainCalculate(Number, List)}, each
+     * intermediate result rounded to the math context. The evaluation
+     * time limit is checked before every operation is applied, as in
+     * the evaluation of an arbitrary-precision expression.
+     * 
+     * @param initialValue The starting value for the chain of calculations
+     * @param operations A list of operation-value pairs to apply sequentially
+     * @param mathContext Precision and rounding of every step
+     * @param limits Limits providing the maximum evaluation time
+     * @return The final result after applying all operations
+     * @throws ExpressionLimitException If the chain runs longer than the time limit
+     */
+    public BigDecimal chainCalculate(Number initialValue, List<Pair<Operation, Number>> operations,
+                                     MathContext mathContext, ExpressionLimits limits) {
+        BigDecimal initialDecimal = toBigDecimal(initialValue);
+        if (operations.isEmpty()) {
+            return initialDecimal;
+        }
+
+        long evaluationStartNanos = System.nanoTime();
+        long startNanos = metrics.startTimer();
+
+        Deque<BigDecimal> numbers = new ArrayDeque<>();
+        Deque<Operation> operators = new ArrayDeque<>();
+        numbers.push(initialDecimal);
+
+        for (Pair<Operation, Number> op : operations) {
+            Operation currentOperation = op.getLeft();
+
+            // Resolve pending operations with higher or equal priority first
+            while (!operators.isEmpty() && currentOperation.getPriority() <= operators.peek().getPriority()) {
+                limits.checkEvaluationTime(evaluationStartNanos);
+                BigDecimal lastNumber = numbers.pop();
+                numbers.push(applyStrategy(operators.pop(), numbers.pop(), lastNumber, mathContext));
+            }
+
+            operators.push(currentOperation);
+            numbers.push(toBigDecimal(op.getRight()));
+        }
+
+        while (!operators.isEmpty()) {
+            limits.checkEvaluationTime(evaluationStartNanos);
+            BigDecimal lastNumber = numbers.pop();
+            numbers.push(applyStrategy(operators.pop(), numbers.pop(), lastNumber, mathContext));
+        }
+
+        metrics.recordChain(operations.get(0).getLeft(), operations.size(), startNanos);
+        return numbers.pop();
+    }
+}
@@ -0,0 +1,253 @@
+package com.budati.calculator.service;
+
+import com.budati.calculator.model.DoubleOperationStrategy;
+import com.budati.calculator.model.Operation;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.List;
+
+/**
+ * Primitive evaluation engine for chained calculations.
+ *
+ * Resolves a chain of operations with the same priority rules as
+ * {@link CalculatorService#chainCalculate(Number, List)}, but keeps
+ * operands on a primitive {@code double} stack and operators on a stack
+ * of {@link Operation} ordinals.
+ *
+ * Key Characteristics:
+ * - Strategies are dispatched through an array indexed by ordinal
+ * - The operator stack only ever holds strictly increasing priorities,
+ *   so both stacks are bounded by the number of distinct priority levels
+ * - With three priority levels, {@link #evaluate} keeps the stacks in
+ *   local variables, one pending operation per level, so a chain of any
+ *   length allocates nothing and holds no per-thread state
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class DoubleChainEvaluator {
+
+    // Cached enum constants, avoiding the array clone performed by values()
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    // Priority levels, each holding at most one pending operation
+    private static final int ADDITIVE = Operation.ADD.getPriority();
+    private static final int MULTIPLICATIVE = Operation.MULTIPLY.getPriority();
+    private static final int POWER = Operation.POWER.getPriority();
+
+    // Marks a priority level without a pending operation
+    private static final int NONE = -1;
+
+    // Primitive strategies indexed by Operation ordinal; null when unsupported
+    private final DoubleOperationStrategy[] strategies;
+
+    // Operation priorities indexed by Operation ordinal
+    private final int[] priorities;
+
+    // Maximum number of pending operators, one per priority level
+    private final int depth;
+
+    /**
+     * Creates an evaluator over an ordinal-indexed strategy table.
+     *
+     * @param strategies Primitive strategies indexed by Operation ordinal
+     */
+    public DoubleChainEvaluator(DoubleOperationStrategy[] strategies) {
+        this.strategies = strategies.clone();
+        this.priorities = new int[OPERATIONS.length];
+
+        for (Operation operation : OPERATIONS) {
+            int priority = operation.getPriority();
+            if (priority != ADDITIVE && priority != MULTIPLICATIVE && priority != POWER) {
+                throw new IllegalStateException("Unsupported priority level of " + operation + ": " + priority);
+            }
+            priorities[operation.ordinal()] = priority;
+        }
+
+        this.depth = POWER + 1;
+    }
+
+    /**
+     * Applies a single operation to two primitive operands.
+     *
+     * @param ordinal Ordinal of the operation to apply
+     * @param left First operand
+     * @param right Second operand
+     * @return Result of the operation
+     * @throws UnsupportedOperationException If no strategy is registered for the operation
+     */
+    public double apply(int ordinal, double left, double right) {
+        DoubleOperationStrategy strategy = strategies[ordinal];
+        if (strategy == null) {
+            throw new UnsupportedOperationException("Operation not supported: " + OPERATIONS[ordinal]);
+        }
+        return strategy.applyAsDouble(left, right);
+    }
+
+    /**
+     * Evaluates a complete chain of operations.
+     *
+     * @param initialValue The starting value for the chain
+     * @param operations Operation-value pairs to apply
+     * @return The final result after applying all operations
+     */
+    public double evaluate(double initialValue, List<Pair<Operation, Number>> operations) {
+        return evaluate(initialValue, operations, 0, operations.size());
+    }
+
+    /**
+     * Evaluates a sub-range of a chain of operations.
+     *
+     * @param initialValue The starting value for the sub-chain
+     * @param operations Operation-value pairs to apply
+     * @param fromIndex Index of the first step to apply (inclusive)
+     * @param toIndex Index of the last step to apply (exclusive)
+     * @return The result of the sub-chain
+     */
+    public double evaluate(double initialValue, List<Pair<Operation, Number>> operations, int fromIndex, int toIndex) {
+        // Pending operation of each priority level and its left operand
+        int additive = NONE;
+        int multiplicative = NONE;
+        int power = NONE;
+        double additiveLeft = 0;
+        double multiplicativeLeft = 0;
+        double powerLeft = 0;
+
+        double value = initialValue;
+        for (int index = fromIndex; index <= toIndex; index++) {
+            // Past the last step, every pending operation is resolved
+            Pair<Operation, Number> step = index < toIndex ? operations.get(index) : null;
+            int ordinal = step != null ? step.getLeft().ordinal() : NONE;
+            int priority = step != null ? priorities[ordinal] : 0;
+
+            // Resolve pending operations with higher or equal priority, from right to left
+            if (power != NONE && priority <= POWER) {
+                value = apply(power, powerLeft, value);
+                power = NONE;
+            }
+            if (multiplicative != NONE && priority <= MULTIPLICATIVE) {
+                value = apply(multiplicative, multiplicativeLeft, value);
+                multiplicative = NONE;
+            }
+            if (additive != NONE && priority <= ADDITIVE) {
+                value = apply(additive, additiveLeft, value);
+                additive = NONE;
+            }
+            if (step == null) {
+                break;
+            }
+
+            if (priority == ADDITIVE) {
+                additive = ordinal;
+                additiveLeft = value;
+            } else if (priority == MULTIPLICATIVE) {
+                multiplicative = ordinal;
+                multiplicativeLeft = value;
+            } else {
+                power = ordinal;
+                powerLeft = value;
+            }
+            value = step.getRight().doubleValue();
+        }
+
+        return value;
+    }
+
+    /**
+     * Starts an incremental evaluation of a chain whose steps are supplied one at a time.
+     *
+     * @param initialValue The starting value for the chain
+     * @return Accumulator receiving the steps of the chain
+     */
+    public Accumulator newAccumulator(double initialValue) {
+        return new Accumulator(initialValue);
+    }
+
+    /**
+     * Incremental counterpart of {@link #evaluate(double, List)}.
+     *
+     * Steps are resolved as they arrive with the same priority rules, so
+     * the accumulator holds at most one pending operator per priority
+     * level however long the chain grows. Not thread-safe.
+     */
+    public final class Accumulator {
+
+        // Operand and operator stacks of this chain
+        private final Frame frame = new Frame(depth);
+
+        private int valueTop;
+        private int operatorTop;
+
+        private Accumulator(double initialValue) {
+            frame.values[0] = initialValue;
+        }
+
+        private Accumulator(Accumulator other) {
+            System.arraycopy(other.frame.values, 0, frame.values, 0, other.valueTop + 1);
+            System.arraycopy(other.frame.operators, 0, frame.operators, 0, other.operatorTop);
+            this.valueTop = other.valueTop;
+            this.operatorTop = other.operatorTop;
+        }
+
+        /**
+         * Creates an independent copy of the chain so far, in constant time.
+         *
+         * @return Copy of this accumulator
+         */
+        public Accumulator copy() {
+            return new Accumulator(this);
+        }
+
+        /**
+         * Appends a step to the chain.
+         *
+         * @param ordinal Ordinal of the operation to apply
+         * @param value Operand of the step
+         */
+        public void push(int ordinal, double value) {
+            double[] values = frame.values;
+            int[] operators = frame.operators;
+            int priority = priorities[ordinal];
+
+            // Resolve pending operations with higher or equal priority
+            while (operatorTop > 0 && priority <= priorities[operators[operatorTop - 1]]) {
+                double right = values[valueTop--];
+                values[valueTop] = apply(operators[--operatorTop], values[valueTop], right);
+            }
+
+            operators[operatorTop++] = ordinal;
+            values[++valueTop] = value;
+        }
+
+        /**
+         * Returns the value of the chain so far, leaving the pending operations in place.
+         *
+         * @return The result after applying every step pushed
+         */
+        public double result() {
+            double[] values = frame.values;
+            int[] operators = frame.operators;
+
+            // Resolve the remaining operations from right to left
+            double value = values[valueTop];
+            for (int top = operatorTop; top > 0; top--) {
+                value = apply(operators[top - 1], values[top - 1], value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Operand and operator stacks of one chain.
+     */
+    private static final class Frame {
+        final double[] values;
+        final int[] operators;
+
+        Frame(int depth) {
+            this.values = new double[depth + 1];
+            this.operators = new int[depth];
+        }
+    }
+}
@@ -0,0 +1,658 @@
+package com.budati.calculator.service;
+
+import com.budati.calculator.model.Operation;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Exact evaluation engine for chained calculations on integers.
+ *
+ * Resolves a chain with the same priority rules as
+ * {@link CalculatorService#chainCalculate(Number, List)}, reproducing the
+ * built-in strategies in integer arithmetic so that results above 2^53
+ * stay exact and no operand is converted to double.
+ *
+ * Evaluation Tiers:
+ * - Chains are first evaluated in primitive {@code long} locals, one
+ *   pending operation per priority level as in {@link DoubleChainEvaluator},
+ *   using {@link Math#addExact}, {@link Math#subtractExact} and {@link Math#multiplyExact}
+ * - On overflow the chain is re-evaluated with {@link BigInteger}
+ * - A division with a remainder, or a negative exponent, has no integer
+ *   result; the evaluator then reports the chain as inexact and the caller
+ *   evaluates it in double precision instead
+ * - So does an intermediate result longer than {@link #MAX_EXACT_BITS},
+ *   which bounds the cost of every operation of a long chain
+ *
+ * Results that fit in a long are returned as {@link Long}, others as
+ * {@link BigInteger}.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class IntegerChainEvaluator {
+
+    // Cached enum constants, avoiding the array clone performed by values()
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    // Largest exact result or intermediate, in bits; chains producing larger ones are left to double precision
+    static final long MAX_EXACT_BITS = 1 << 16;
+
+    // Priority levels, each holding at most one pending operation
+    private static final int ADDITIVE = Operation.ADD.getPriority();
+    private static final int MULTIPLICATIVE = Operation.MULTIPLY.getPriority();
+    private static final int POWER = Operation.POWER.getPriority();
+
+    // Marks a priority level without a pending operation
+    private static final int NONE = -1;
+
+    // Operation priorities indexed by Operation ordinal
+    private final int[] priorities;
+
+    // Maximum number of pending operators, one per priority level
+    private final int depth;
+
+    /**
+     * Creates an evaluator.
+     */
+    public IntegerChainEvaluator() {
+        this.priorities = new int[OPERATIONS.length];
+
+        for (Operation operation : OPERATIONS) {
+            int priority = operation.getPriority();
+            if (priority != ADDITIVE && priority != MULTIPLICATIVE && priority != POWER) {
+                throw new IllegalStateException("Unsupported priority level of " + operation + ": " + priority);
+            }
+            priorities[operation.ordinal()] = priority;
+        }
+
+        this.depth = POWER + 1;
+    }
+
+    /**
+     * Indicates whether a number has an integer type handled by this evaluator.
+     *
+     * @param number Number to check
+     * @return True for Integer, Long, Short, Byte and BigInteger
+     */
+    public static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long
+                || number instanceof Short || number instanceof Byte
+                || number instanceof BigInteger;
+    }
+
+    /**
+     * Evaluates a chain whose operands are all integral.
+     *
+     * @param initialValue The integral starting value for the chain
+     * @param operations Operation-value pairs with integral values
+     * @return Long or BigInteger result, or null if the chain has no exact integer result
+     * @throws IllegalArgumentException If the chain divides by zero
+     */
+    public Number evaluate(Number initialValue, List<Pair<Operation, Number>> operations) {
+        return evaluate(initialValue, operations, 0, operations.size());
+    }
+
+    /**
+     * Evaluates a sub-range of a chain whose operands are all integral.
+     *
+     * @param initialValue The integral starting value for the sub-chain
+     * @param operations Operation-value pairs with integral values
+     * @param fromIndex Index of the first step to apply (inclusive)
+     * @param toIndex Index of the last step to apply (exclusive)
+     * @return Long or BigInteger result, or null if the sub-chain has no exact integer result
+     * @throws IllegalArgumentException If the sub-chain divides by zero
+     */
+    public Number evaluate(Number initialValue, List<Pair<Operation, Number>> operations, int fromIndex, int toIndex) {
+        try {
+            if (fitsInLong(initialValue) && !hasBigIntegerValue(operations, fromIndex, toIndex)) {
+                return evaluateLong(initialValue.longValue(), operations, fromIndex, toIndex);
+            }
+        } catch (ArithmeticException e) {
+            // Overflow; promote the whole chain to BigInteger
+        }
+        BigInteger result = evaluateBig(toBigInteger(initialValue), operations, fromIndex, toIndex);
+        if (result == null) {
+            return null;
+        }
+        return result.bitLength() < Long.SIZE ? (Number) result.longValue() : result;
+    }
+
+    /**
+     * Evaluates a chain in primitive long arithmetic.
+     *
+     * @param initialValue The starting value for the chain
+     * @param operations Operation-value pairs with values that fit in a long
+     * @param fromIndex Index of the first step to apply (inclusive)
+     * @param toIndex Index of the last step to apply (exclusive)
+     * @return Long result, or null if the chain has no exact integer result
+     * @throws ArithmeticException If an intermediate result overflows a long
+     */
+    private Long evaluateLong(long initialValue, List<Pair<Operation, Number>> operations, int fromIndex, int toIndex) {
+        // Pending operation of each priority level and its left operand
+        int additive = NONE;
+        int multiplicative = NONE;
+        int power = NONE;
+        long additiveLeft = 0;
+        long multiplicativeLeft = 0;
+        long powerLeft = 0;
+
+        long value = initialValue;
+        for (int index = fromIndex; index <= toIndex; index++) {
+            // Past the last step, every pending operation is resolved
+            Pair<Operation, Number> step = index < toIndex ? operations.get(index) : null;
+            int ordinal = step != null ? step.getLeft().ordinal() : NONE;
+            int priority = step != null ? priorities[ordinal] : 0;
+
+            // Resolve pending operations with higher or equal priority, from right to left
+            if (power != NONE && priority <= POWER) {
+                if (!isExactLong(power, powerLeft, value)) {
+                    return null;
+                }
+                value = applyLong(power, powerLeft, value);
+                power = NONE;
+            }
+            if (multiplicative != NONE && priority <= MULTIPLICATIVE) {
+                if (!isExactLong(multiplicative, multiplicativeLeft, value)) {
+                    return null;
+                }
+                value = applyLong(multiplicative, multiplicativeLeft, value);
+                multiplicative = NONE;
+            }
+            if (additive != NONE && priority <= ADDITIVE) {
+                value = applyLong(additive, additiveLeft, value);
+                additive = NONE;
+            }
+            if (step == null) {
+                break;
+            }
+
+            if (priority == ADDITIVE) {
+                additive = ordinal;
+                additiveLeft = value;
+            } else if (priority == MULTIPLICATIVE) {
+                multiplicative = ordinal;
+                multiplicativeLeft = value;
+            } else {
+                power = ordinal;
+                powerLeft = value;
+            }
+            value = step.getRight().longValue();
+        }
+
+        return value;
+    }
+
+    /**
+     * Determines whether one operation has an exact integer result.
+     *
+     * @param ordinal Ordinal of the operation to apply
+     * @param left First operand
+     * @param right Second operand
+     * @return False for a division with a remainder or a negative exponent
+     */
+    private static boolean isExactLong(int ordinal, long left, long right) {
+        switch (OPERATIONS[ordinal]) {
+            case DIVIDE:
+                // Division by zero is reported by applyLong
+                return right == 0 || left % right == 0;
+            case POWER:
+                return right >= 0;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Applies one operation with an exact integer result in long arithmetic.
+     *
+     * @param ordinal Ordinal of the operation to apply
+     * @param left First operand
+     * @param right Second operand
+     * @return Result of the operation
+     * @throws ArithmeticException If the result overflows a long
+     * @throws IllegalArgumentException If the operation divides by zero
+     */
+    private static long applyLong(int ordinal, long left, long right) {
+        switch (OPERATIONS[ordinal]) {
+            case ADD:
+                return Math.addExact(left, right);
+            case SUBTRACT:
+                return Math.subtractExact(left, right);
+            case MULTIPLY:
+                return Math.multiplyExact(left, right);
+            case DIVIDE:
+                if (right == 0) {
+                    throw new IllegalArgumentException("Cannot divide by zero");
+                }
+                if (left == Long.MIN_VALUE && right == -1) {
+                    throw new ArithmeticException("long overflow");
+                }
+                return left / right;
+            case POWER:
+                return powExact(left, right);
+            default:
+                throw new UnsupportedOperationException("Operation not supported: " + OPERATIONS[ordinal]);
+        }
+    }
+
+    /**
+     * Raises a long to a non-negative power by repeated squaring.
+     *
+     * @param base Base number
+     * @param exponent Non-negative exponent
+     * @return base raised to exponent
+     * @throws ArithmeticException If the result overflows a long
+     */
+    private static long powExact(long base, long exponent) {
+        if (base == 0 || base == 1) {
+            return exponent == 0 ? 1 : base;
+        }
+        if (base == -1) {
+            return (exponent & 1) == 0 ? 1 : -1;
+        }
+        long result = 1;
+        while (true) {
+            if ((exponent & 1) != 0) {
+                result = Math.multiplyExact(result, base);
+            }
+            exponent >>>= 1;
+            if (exponent == 0) {
+                return result;
+            }
+            base = Math.multiplyExact(base, base);
+        }
+    }
+
+    /**
+     * Evaluates a chain in BigInteger arithmetic.
+     *
+     * @param initialValue The starting value for the chain
+     * @param operations Operation-value pairs with integral values
+     * @param fromIndex Index of the first step to apply (inclusive)
+     * @param toIndex Index of the last step to apply (exclusive)
+     * @return Result, or null if the chain has no exact integer result
+     */
+    private BigInteger evaluateBig(BigInteger initialValue, List<Pair<Operation, Number>> operations,
+                                   int fromIndex, int toIndex) {
+        Frame frame = new Frame(depth);
+        BigInteger[] values = frame.bigValues;
+        int[] operators = frame.operators;
+
+        int valueTop = 0;
+        int operatorTop = 0;
+        values[0] = initialValue;
+
+        for (int index = fromIndex; index < toIndex; index++) {
+            Pair<Operation, Number> step = operations.get(index);
+            int ordinal = step.getLeft().ordinal();
+            int priority = priorities[ordinal];
+
+            while (operatorTop > 0 && priority <= priorities[operators[operatorTop - 1]]) {
+                BigInteger right = values[valueTop--];
+                values[valueTop] = applyBig(operators[--operatorTop], values[valueTop], right);
+                if (values[valueTop] == null) {
+                    return null;
+                }
+            }
+
+            operators[operatorTop++] = ordinal;
+            values[++valueTop] = toBigInteger(step.getRight());
+        }
+
+        while (operatorTop > 0) {
+            BigInteger right = values[valueTop--];
+            values[valueTop] = applyBig(operators[--operatorTop], values[valueTop], right);
+            if (values[valueTop] == null) {
+                return null;
+            }
+        }
+
+        return values[0];
+    }
+
+    /**
+     * Applies one operation in BigInteger arithmetic.
+     *
+     * Results longer than {@link #MAX_EXACT_BITS} are reported as inexact,
+     * so that long chains of multiplications cannot grow a number whose
+     * every further operation costs more than the last.
+     *
+     * @param ordinal Ordinal of the operation to apply
+     * @param left First operand
+     * @param right Second operand
+     * @return Result, or null if the operation has no exact integer result
+     *         or its result would exceed {@link #MAX_EXACT_BITS}
+     */
+    private static BigInteger applyBig(int ordinal, BigInteger left, BigInteger right) {
+        BigInteger result = applyBigUnbounded(ordinal, left, right);
+        return result == null || result.bitLength() > MAX_EXACT_BITS ? null : result;
+    }
+
+    /**
+     * Applies one operation in BigInteger arithmetic, bounding only the operand sizes of multiplications.
+     *
+     * @param ordinal Ordinal of the operation to apply
+     * @param left First operand
+     * @param right Second operand
+     * @return Result, or null if the operation has no exact integer result
+     *         or a product would exceed {@link #MAX_EXACT_BITS}
+     */
+    private static BigInteger applyBigUnbounded(int ordinal, BigInteger left, BigInteger right) {
+        switch (OPERATIONS[ordinal]) {
+            case ADD:
+                return left.add(right);
+            case SUBTRACT:
+                return left.subtract(right);
+            case MULTIPLY:
+                if ((long) left.bitLength() + right.bitLength() > MAX_EXACT_BITS + 1) {
+                    return null;
+                }
+                return left.multiply(right);
+            case DIVIDE:
+                if (right.signum() == 0) {
+                    throw new IllegalArgumentException("Cannot divide by zero");
+                }
+                BigInteger[] quotientAndRemainder = left.divideAndRemainder(right);
+                return quotientAndRemainder[1].signum() == 0 ? quotientAndRemainder[0] : null;
+            case POWER:
+                return powBig(left, right);
+            default:
+                throw new UnsupportedOperationException("Operation not supported: " + OPERATIONS[ordinal]);
+        }
+    }
+
+    /**
+     * Raises a BigInteger to a power when the result is a reasonably sized integer.
+     *
+     * @param base Base number
+     * @param exponent Exponent
+     * @return base raised to exponent, or null if the exponent is negative
+     *         or the result would exceed {@link #MAX_EXACT_BITS}
+     */
+    private static BigInteger powBig(BigInteger base, BigInteger exponent) {
+        if (exponent.signum() < 0) {
+            return null;
+        }
+        if (base.signum() == 0 || base.equals(BigInteger.ONE)) {
+            return exponent.signum() == 0 ? BigInteger.ONE : base;
+        }
+        if (base.equals(BigInteger.ONE.negate())) {
+            return exponent.testBit(0) ? base : BigInteger.ONE;
+        }
+        if (exponent.bitLength() >= Integer.SIZE
+                || (long) (base.bitLength() - 1) * exponent.intValue() > MAX_EXACT_BITS) {
+            return null;
+        }
+        return base.pow(exponent.intValue());
+    }
+
+    /**
+     * Checks whether any step value needs BigInteger arithmetic.
+     *
+     * @param operations Operation-value pairs
+     * @param fromIndex Index of the first step to check (inclusive)
+     * @param toIndex Index of the last step to check (exclusive)
+     * @return True if any value is a BigInteger outside the long range
+     */
+    private static boolean hasBigIntegerValue(List<Pair<Operation, Number>> operations, int fromIndex, int toIndex) {
+        for (int index = fromIndex; index < toIndex; index++) {
+            if (!fitsInLong(operations.get(index).getRight())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether an integral number fits in a long.
+     *
+     * @param number Integral number
+     * @return False only for BigIntegers outside the long range
+     */
+    private static boolean fitsInLong(Number number) {
+        return !(number instanceof BigInteger) || ((BigInteger) number).bitLength() < Long.SIZE;
+    }
+
+    /**
+     * Converts an integral number to a BigInteger.
+     *
+     * @param number Integral number
+     * @return BigInteger value
+     */
+    static BigInteger toBigInteger(Number number) {
+        return number instanceof BigInteger ? (BigInteger) number : BigInteger.valueOf(number.longValue());
+    }
+
+    /**
+     * Starts an incremental evaluation of a chain whose steps are supplied one at a time.
+     *
+     * @param initialValue The integral starting value for the chain
+     * @return Accumulator receiving the steps of the chain
+     */
+    public Accumulator newAccumulator(Number initialValue) {
+        return new Accumulator(initialValue);
+    }
+
+    /**
+     * Incremental counterpart of {@link #evaluate(Number, List)}.
+     *
+     * Steps are resolved as they arrive, on long stacks until an operand or
+     * an intermediate result needs BigInteger arithmetic; the stacks are then
+     * converted in place, as the steps already resolved are not retained.
+     * Once a step has no exact integer result the accumulator stops
+     * evaluating and reports the chain as inexact. Not thread-safe.
+     */
+    public final class Accumulator {
+
+        // Operand and operator stacks of this chain
+        private final Frame frame = new Frame(depth);
+
+        private int valueTop;
+        private int operatorTop;
+
+        // Whether the operands are held in the BigInteger stack
+        private boolean big;
+
+        // Whether every step so far had an exact integer result
+        private boolean exact = true;
+
+        private Accumulator(Number initialValue) {
+            if (fitsInLong(initialValue)) {
+                frame.values[0] = initialValue.longValue();
+            } else {
+                big = true;
+                frame.bigValues[0] = (BigInteger) initialValue;
+            }
+        }
+
+        private Accumulator(Accumulator other) {
+            System.arraycopy(other.frame.values, 0, frame.values, 0, other.valueTop + 1);
+            System.arraycopy(other.frame.bigValues, 0, frame.bigValues, 0, other.valueTop + 1);
+            System.arraycopy(other.frame.operators, 0, frame.operators, 0, other.operatorTop);
+            this.valueTop = other.valueTop;
+            this.operatorTop = other.operatorTop;
+            this.big = other.big;
+            this.exact = other.exact;
+        }
+
+        /**
+         * Creates an independent copy of the chain so far, in constant time.
+         *
+         * @return Copy of this accumulator
+         */
+        public Accumulator copy() {
+            return new Accumulator(this);
+        }
+
+        /**
+         * Estimates the memory held by BigInteger operands.
+         *
+         * @return Approximate size of the BigInteger magnitudes in bytes
+         */
+        public long getBigIntegerBytes() {
+            if (!big || !exact) {
+                return 0;
+            }
+            long bytes = 0;
+            for (int index = 0; index <= valueTop; index++) {
+                bytes += frame.bigValues[index].bitLength() / Byte.SIZE;
+            }
+            return bytes;
+        }
+
+        /**
+         * Appends a step to the chain.
+         *
+         * @param ordinal Ordinal of the operation to apply
+         * @param value Integral operand of the step
+         * @return False if the chain no longer has an exact integer result
+         * @throws IllegalArgumentException If the chain divides by zero
+         */
+        public boolean push(int ordinal, Number value) {
+            if (!exact) {
+                return false;
+            }
+            int priority = priorities[ordinal];
+
+            // Resolve pending operations with higher or equal priority
+            while (operatorTop > 0 && priority <= priorities[frame.operators[operatorTop - 1]]) {
+                if (!resolve()) {
+                    return false;
+                }
+            }
+
+            frame.operators[operatorTop++] = ordinal;
+            valueTop++;
+            if (!big && !fitsInLong(value)) {
+                promote(valueTop - 1);
+            }
+            if (big) {
+                frame.bigValues[valueTop] = toBigInteger(value);
+            } else {
+                frame.values[valueTop] = value.longValue();
+            }
+            return true;
+        }
+
+        /**
+         * Returns the value of the chain so far, leaving the pending operations in place.
+         *
+         * @return Long or BigInteger result, or null if the chain has no exact integer result
+         * @throws IllegalArgumentException If the chain divides by zero
+         */
+        public Number result() {
+            if (!exact) {
+                return null;
+            }
+            int top = operatorTop;
+            if (!big) {
+                long value = frame.values[valueTop];
+                try {
+                    // Resolve the remaining operations from right to left
+                    for (; top > 0; top--) {
+                        if (!isExactLong(frame.operators[top - 1], frame.values[top - 1], value)) {
+                            return null;
+                        }
+                        value = applyLong(frame.operators[top - 1], frame.values[top - 1], value);
+                    }
+                    return value;
+                } catch (ArithmeticException e) {
+                    // Overflow; resolve the rest in BigInteger
+                    return resultBig(top, BigInteger.valueOf(value));
+                }
+            }
+            return resultBig(top, frame.bigValues[valueTop]);
+        }
+
+        /**
+         * Resolves the pending operations below an index in BigInteger arithmetic.
+         *
+         * @param top Number of pending operations left to resolve
+         * @param value Value of the operations above them
+         * @return Long or BigInteger result, or null if the chain has no exact integer result
+         */
+        private Number resultBig(int top, BigInteger value) {
+            for (; top > 0; top--) {
+                BigInteger left = big ? frame.bigValues[top - 1] : BigInteger.valueOf(frame.values[top - 1]);
+                value = applyBig(frame.operators[top - 1], left, value);
+                if (value == null) {
+                    return null;
+                }
+            }
+            return value.bitLength() < Long.SIZE ? (Number) value.longValue() : value;
+        }
+
+        /**
+         * Applies the topmost pending operation.
+         *
+         * @return False if the operation has no exact integer result
+         */
+        private boolean resolve() {
+            int ordinal = frame.operators[--operatorTop];
+            if (!big) {
+                try {
+                    long left = frame.values[valueTop - 1];
+                    if (!isExactLong(ordinal, left, frame.values[valueTop])) {
+                        return inexact();
+                    }
+                    frame.values[valueTop - 1] = applyLong(ordinal, left, frame.values[valueTop]);
+                    valueTop--;
+                    return true;
+                } catch (ArithmeticException e) {
+                    // Overflow; continue in BigInteger
+                    promote(valueTop);
+                }
+            }
+            BigInteger right = frame.bigValues[valueTop];
+            frame.bigValues[valueTop--] = null;
+            BigInteger result = applyBig(ordinal, frame.bigValues[valueTop], right);
+            if (result == null) {
+                return inexact();
+            }
+            frame.bigValues[valueTop] = result;
+            return true;
+        }
+
+        /**
+         * Converts the operands up to an index from the long to the BigInteger stack.
+         *
+         * @param top Index of the topmost operand to convert
+         */
+        private void promote(int top) {
+            for (int index = 0; index <= top; index++) {
+                frame.bigValues[index] = BigInteger.valueOf(frame.values[index]);
+            }
+            big = true;
+        }
+
+        /**
+         * Marks the chain as inexact and releases its operands.
+         *
+         * @return Always false
+         */
+        private boolean inexact() {
+            exact = false;
+            Arrays.fill(frame.bigValues, null);
+            return false;
+        }
+    }
+
+    /**
+     * Operand and operator stacks of one chain.
+     */
+    private static final class Frame {
+        final long[] values;
+        final BigInteger[] bigValues;
+        final int[] operators;
+
+        Frame(int depth) {
+            this.values = new long[depth + 1];
+            this.bigValues = new BigInteger[depth + 1];
+            this.operators = new int[depth];
+        }
+    }
+}
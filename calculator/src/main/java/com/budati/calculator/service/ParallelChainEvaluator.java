@@ -0,0 +1,245 @@
+package com.budati.calculator.service;
+
+import com.budati.calculator.model.Operation;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join evaluation engine for very long chained calculations.
+ *
+ * A chain is a left-to-right sum of additive terms: every {@code +} or
+ * {@code -} step resolves all pending higher-priority operations before
+ * it, so the result is {@code ((t0 ± t1) ± t2) ± ...} where each term is
+ * an independent run of {@code *}, {@code /} and {@code ^} steps. This
+ * engine splits the chain at its additive steps, evaluates the terms in
+ * parallel on the common {@link ForkJoinPool} and combines them on the
+ * calling thread.
+ *
+ * Equivalence with the serial engines:
+ * - Each term is evaluated by the same serial engine, on the same operands
+ * - In double precision the terms are combined in their original order
+ *   through the same strategies, so results are bit-identical; no
+ *   floating-point reassociation takes place
+ * - In exact integer arithmetic the terms are summed exactly, which gives
+ *   the same value in any order
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ParallelChainEvaluator {
+
+    // Priority of the operations separating terms
+    private static final int ADDITIVE_PRIORITY = Operation.ADD.getPriority();
+
+    // Serial engine evaluating double terms; null if the strategies only support the boxed API
+    private final DoubleChainEvaluator doubleChainEvaluator;
+
+    // Serial engine evaluating exact integer terms
+    private final IntegerChainEvaluator integerChainEvaluator;
+
+    // Maximum number of steps evaluated by a single task
+    private final int segmentSize;
+
+    /**
+     * Creates a parallel engine over the serial engines.
+     *
+     * @param doubleChainEvaluator Serial double engine, or null
+     * @param integerChainEvaluator Serial exact integer engine
+     * @param segmentSize Maximum number of steps evaluated by a single task
+     */
+    public ParallelChainEvaluator(DoubleChainEvaluator doubleChainEvaluator,
+                                  IntegerChainEvaluator integerChainEvaluator,
+                                  int segmentSize) {
+        this.doubleChainEvaluator = doubleChainEvaluator;
+        this.integerChainEvaluator = integerChainEvaluator;
+        this.segmentSize = Math.max(1, segmentSize);
+    }
+
+    /**
+     * Evaluates a chain in double precision, bit-identically to {@link DoubleChainEvaluator}.
+     *
+     * @param initialValue The starting value for the chain
+     * @param operations Operation-value pairs to apply
+     * @return The final result after applying all operations
+     * @throws IllegalStateException If the strategies do not support the primitive API
+     */
+    public double evaluate(double initialValue, List<Pair<Operation, Number>> operations) {
+        if (doubleChainEvaluator == null) {
+            throw new IllegalStateException("Parallel evaluation requires primitive strategies");
+        }
+        int[] additiveSteps = findAdditiveSteps(operations);
+        double[] terms = new double[additiveSteps.length + 1];
+        invoke(new TermTask(initialValue, operations, additiveSteps, terms, null, 0, terms.length));
+
+        double result = terms[0];
+        for (int term = 1; term < terms.length; term++) {
+            int ordinal = operations.get(additiveSteps[term - 1]).getLeft().ordinal();
+            result = doubleChainEvaluator.apply(ordinal, result, terms[term]);
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates a chain of built-in operations on integral operands exactly.
+     *
+     * @param initialValue The integral starting value for the chain
+     * @param operations Operation-value pairs with integral values
+     * @return Long or BigInteger result, or null if the chain has no exact integer result
+     *         or one larger than {@link IntegerChainEvaluator#MAX_EXACT_BITS}
+     */
+    public Number evaluateExact(Number initialValue, List<Pair<Operation, Number>> operations) {
+        int[] additiveSteps = findAdditiveSteps(operations);
+        Number[] terms = new Number[additiveSteps.length + 1];
+        invoke(new TermTask(initialValue, operations, additiveSteps, null, terms, 0, terms.length));
+
+        long sum = 0;
+        BigInteger bigSum = null;
+        for (int term = 0; term < terms.length; term++) {
+            Number value = terms[term];
+            if (value == null) {
+                return null;
+            }
+            boolean subtract = term > 0 && operations.get(additiveSteps[term - 1]).getLeft() == Operation.SUBTRACT;
+            if (bigSum == null && value instanceof Long) {
+                try {
+                    sum = subtract ? Math.subtractExact(sum, (Long) value) : Math.addExact(sum, (Long) value);
+                    continue;
+                } catch (ArithmeticException e) {
+                    bigSum = BigInteger.valueOf(sum);
+                }
+            } else if (bigSum == null) {
+                bigSum = BigInteger.valueOf(sum);
+            }
+            BigInteger bigValue = IntegerChainEvaluator.toBigInteger(value);
+            bigSum = subtract ? bigSum.subtract(bigValue) : bigSum.add(bigValue);
+            if (bigSum.bitLength() > IntegerChainEvaluator.MAX_EXACT_BITS) {
+                return null;
+            }
+        }
+
+        if (bigSum == null) {
+            return sum;
+        }
+        return bigSum.bitLength() < Long.SIZE ? (Number) bigSum.longValue() : bigSum;
+    }
+
+    /**
+     * Runs a task on the common pool and rethrows its original failure.
+     *
+     * ForkJoinTask rethrows failures from worker threads as reflective copies
+     * whose message wraps the original; callers should see the same exception
+     * as with serial evaluation.
+     *
+     * @param task The task to run
+     */
+    private static void invoke(TermTask task) {
+        ForkJoinPool.commonPool().execute(task);
+        task.quietlyJoin();
+        Throwable failure = task.getException();
+        while (failure != null && failure.getCause() != null && failure.getCause().getClass() == failure.getClass()) {
+            failure = failure.getCause();
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+    }
+
+    /**
+     * Finds the steps separating additive terms.
+     *
+     * @param operations Operation-value pairs
+     * @return Indexes of the additive steps, in order
+     */
+    static int[] findAdditiveSteps(List<Pair<Operation, Number>> operations) {
+        List<Integer> indexes = new ArrayList<>();
+        for (int index = 0; index < operations.size(); index++) {
+            if (operations.get(index).getLeft().getPriority() == ADDITIVE_PRIORITY) {
+                indexes.add(index);
+            }
+        }
+        int[] additiveSteps = new int[indexes.size()];
+        for (int i = 0; i < additiveSteps.length; i++) {
+            additiveSteps[i] = indexes.get(i);
+        }
+        return additiveSteps;
+    }
+
+    /**
+     * Fork-join task evaluating a range of terms into a shared array.
+     *
+     * Exactly one of the double and exact result arrays is set.
+     */
+    private final class TermTask extends RecursiveAction {
+
+        private final Number initialValue;
+        private final List<Pair<Operation, Number>> operations;
+        private final int[] additiveSteps;
+        private final double[] doubleTerms;
+        private final Number[] exactTerms;
+        private final int fromTerm;
+        private final int toTerm;
+
+        TermTask(Number initialValue, List<Pair<Operation, Number>> operations, int[] additiveSteps,
+                 double[] doubleTerms, Number[] exactTerms, int fromTerm, int toTerm) {
+            this.initialValue = initialValue;
+            this.operations = operations;
+            this.additiveSteps = additiveSteps;
+            this.doubleTerms = doubleTerms;
+            this.exactTerms = exactTerms;
+            this.fromTerm = fromTerm;
+            this.toTerm = toTerm;
+        }
+
+        @Override
+        protected void compute() {
+            if (toTerm - fromTerm == 1 || termEnd(toTerm - 1) - termStart(fromTerm) <= segmentSize) {
+                for (int term = fromTerm; term < toTerm; term++) {
+                    evaluateTerm(term);
+                }
+                return;
+            }
+            int middle = (fromTerm + toTerm) >>> 1;
+            invokeAll(
+                    new TermTask(initialValue, operations, additiveSteps, doubleTerms, exactTerms, fromTerm, middle),
+                    new TermTask(initialValue, operations, additiveSteps, doubleTerms, exactTerms, middle, toTerm));
+        }
+
+        /**
+         * Evaluates one term on the calling thread.
+         *
+         * @param term Index of the term
+         */
+        private void evaluateTerm(int term) {
+            int from = term == 0 ? 0 : additiveSteps[term - 1] + 1;
+            int to = termEnd(term);
+            Number start = term == 0 ? initialValue : operations.get(from - 1).getRight();
+            if (doubleTerms != null) {
+                doubleTerms[term] = doubleChainEvaluator.evaluate(start.doubleValue(), operations, from, to);
+            } else {
+                exactTerms[term] = integerChainEvaluator.evaluate(start, operations, from, to);
+            }
+        }
+
+        /**
+         * Index of the first step belonging to a term, including its additive step.
+         */
+        private int termStart(int term) {
+            return term == 0 ? 0 : additiveSteps[term - 1];
+        }
+
+        /**
+         * Index after the last step belonging to a term.
+         */
+        private int termEnd(int term) {
+            return term < additiveSteps.length ? additiveSteps[term] : operations.size();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.budati.calculator.service;
+
+import com.budati.calculator.dto.CalculationRequest;
+import com.budati.calculator.model.Operation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads {@link CalculationRequest} JSON bodies token by token.
+ *
+ * Instead of binding the body, with every step, into a request object,
+ * each step of {@code mathematicalSteps} is pushed into a
+ * {@link ChainAccumulator} as soon as it has been parsed, so memory use
+ * does not depend on the number of steps.
+ *
+ * Streaming Constraints:
+ * - {@code baseNumeric} must precede {@code mathematicalSteps}, since the
+ *   first steps are resolved before the rest of the body is read
+ * - Arbitrary-precision requests are not supported; {@code precision}
+ *   and {@code roundingMode} must be absent or null
+ * - Unknown fields are skipped, as when binding the body
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Service
+public class StreamingSequenceReader {
+
+    private final CalculatorService calculatorService;
+    private final ObjectMapper objectMapper;
+
+    // Whether numbers bind to the parser's own number types, allowing a fast path
+    private final boolean nativeNumbers;
+
+    /**
+     * Creates a reader feeding chains of the calculator service.
+     *
+     * @param calculatorService Service evaluating the chains
+     * @param objectMapper Mapper whose parser settings and number handling are used
+     */
+    public StreamingSequenceReader(CalculatorService calculatorService, ObjectMapper objectMapper) {
+        this.calculatorService = calculatorService;
+        this.objectMapper = objectMapper;
+        this.nativeNumbers = !objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                && !objectMapper.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)
+                && !objectMapper.isEnabled(DeserializationFeature.USE_LONG_FOR_INTS);
+    }
+
+    /**
+     * Reads a request body and pushes its steps into a new chain.
+     *
+     * @param body JSON body of a {@link CalculationRequest}
+     * @return Accumulator holding every step of the body, not yet completed
+     * @throws IOException If the body cannot be read or is not valid JSON
+     * @throws IllegalArgumentException If the request is incomplete, uses an
+     *         unknown operation symbol or asks for arbitrary precision
+     */
+    public ChainAccumulator read(InputStream body) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+
+            Number baseNumeric = null;
+            ChainAccumulator accumulator = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                switch (field) {
+                    case "baseNumeric":
+                        baseNumeric = readNumber(parser, token);
+                        break;
+                    case "mathematicalSteps":
+                        if (baseNumeric == null) {
+                            throw new IllegalArgumentException("baseNumeric must precede mathematicalSteps");
+                        }
+                        accumulator = calculatorService.newChainAccumulator(baseNumeric);
+                        readSteps(parser, token, accumulator);
+                        break;
+                    case "precision":
+                    case "roundingMode":
+                        if (token != JsonToken.VALUE_NULL) {
+                            throw new IllegalArgumentException("Arbitrary precision is not supported for streamed sequences");
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (accumulator == null) {
+                throw new IllegalArgumentException("Missing mathematicalSteps");
+            }
+            return accumulator;
+        }
+    }
+
+    /**
+     * Reads the array of steps, pushing each step once both of its fields are known.
+     *
+     * @param parser Parser positioned on the array
+     * @param token Current token
+     * @param accumulator Chain receiving the steps
+     * @throws IOException If the body cannot be read
+     */
+    private void readSteps(JsonParser parser, JsonToken token, ChainAccumulator accumulator) throws IOException {
+        expect(token, JsonToken.START_ARRAY);
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(token, JsonToken.START_OBJECT);
+
+            String symbol = null;
+            Number value = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if ("operationSymbol".equals(field)) {
+                    symbol = valueToken == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                } else if ("operationValue".equals(field)) {
+                    value = readNumber(parser, valueToken);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (value == null) {
+                throw new IllegalArgumentException("Missing operationValue");
+            }
+            accumulator.push(Operation.getBySymbol(symbol), value);
+        }
+    }
+
+    /**
+     * Reads a numeric value as the mapper would bind it to {@link Number}.
+     *
+     * @param parser Parser positioned on the value
+     * @param token Current token
+     * @return Integer, Long or BigInteger for integers, Double for decimals, or null
+     * @throws IOException If the value is not a number
+     */
+    private Number readNumber(JsonParser parser, JsonToken token) throws IOException {
+        if (nativeNumbers && (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT)) {
+            return parser.getNumberValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        // Numbers given as strings, and number types the mapper is configured for
+        return parser.readValueAs(Number.class);
+    }
+
+    /**
+     * Checks the structure of the body.
+     *
+     * @param actual Current token
+     * @param expected Required token
+     */
+    private static void expect(JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw new IllegalArgumentException("Expected " + expected + " but found " + actual);
+        }
+    }
+}
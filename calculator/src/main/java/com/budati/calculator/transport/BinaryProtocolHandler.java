@@ -0,0 +1,141 @@
+package com.budati.calculator.transport;
+
+import com.budati.calculator.admission.AdmissionControl;
+import com.budati.calculator.admission.AdmissionRejectedException;
+import com.budati.calculator.admission.ConcurrencyLimiter;
+import com.budati.calculator.admission.TrafficClass;
+import com.budati.calculator.client.BinaryProtocol;
+import com.budati.calculator.metrics.CalculatorMetrics;
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.service.CalculatorService;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+import java.util.List;
+
+/**
+ * Answers the request frames of one binary protocol connection.
+ *
+ * Every complete frame received in a read is calculated in order and its
+ * response appended to one output buffer, which is flushed once the read
+ * completes; a pipelining client therefore costs one write per read rather
+ * than one per operation. Incomplete frames are kept until the rest arrives.
+ *
+ * The complete frames of a read are admitted as one cheap request
+ * weighed by their number of operations, and the permit is held while
+ * they are calculated.
+ *
+ * Failures are answered with an error status and the connection is kept:
+ * - {@link BinaryProtocol#STATUS_INVALID_ARGUMENT}: the strategy rejected the
+ *   operands, such as a division by zero
+ * - {@link BinaryProtocol#STATUS_UNSUPPORTED_OPERATION}: unknown operation code,
+ *   or no strategy registered for the operation
+ * - {@link BinaryProtocol#STATUS_REJECTED}: the read was over the admission
+ *   limit, and none of its frames was calculated
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+class BinaryProtocolHandler extends ByteToMessageDecoder {
+
+    // Cached constants, avoiding the array clone performed by values()
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    // Service performing the calculations
+    private final CalculatorService calculatorService;
+
+    // Instrumentation of the calculations
+    private final CalculatorMetrics metrics;
+
+    // Limits the frames of each read are admitted against
+    private final AdmissionControl admissionControl;
+
+    /**
+     * Creates the handler of a connection.
+     *
+     * @param calculatorService Service performing the calculations
+     * @param metrics Instrumentation of the calculations
+     * @param admissionControl Limits the frames of each read are admitted against
+     */
+    BinaryProtocolHandler(CalculatorService calculatorService, CalculatorMetrics metrics,
+                          AdmissionControl admissionControl) {
+        this.calculatorService = calculatorService;
+        this.metrics = metrics;
+        this.admissionControl = admissionControl;
+    }
+
+    /**
+     * Calculates every complete request frame and writes the responses.
+     *
+     * @param ctx Channel context
+     * @param in Received bytes
+     * @param out Decoded messages; unused, as responses are written directly
+     */
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        int count = in.readableBytes() / BinaryProtocol.REQUEST_SIZE;
+        if (count == 0) {
+            return;
+        }
+        ByteBuf responses = ctx.alloc().buffer(count * BinaryProtocol.RESPONSE_SIZE);
+        ConcurrencyLimiter.Permit permit;
+        try {
+            permit = admissionControl.admitOperations(TrafficClass.CHEAP, count);
+        } catch (AdmissionRejectedException e) {
+            in.skipBytes(count * BinaryProtocol.REQUEST_SIZE);
+            for (int i = 0; i < count; i++) {
+                responses.writeByte(BinaryProtocol.STATUS_REJECTED).writeDouble(Double.NaN);
+            }
+            ctx.write(responses, ctx.voidPromise());
+            return;
+        }
+        try (permit) {
+            for (int i = 0; i < count; i++) {
+                int code = in.readUnsignedByte();
+                double left = in.readDouble();
+                double right = in.readDouble();
+                writeResponse(responses, code, left, right);
+            }
+        }
+        ctx.write(responses, ctx.voidPromise());
+    }
+
+    /**
+     * Flushes the responses of the completed read.
+     *
+     * @param ctx Channel context
+     */
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        ctx.flush();
+        ctx.fireChannelReadComplete();
+    }
+
+    /**
+     * Calculates one request and appends its response frame.
+     *
+     * @param responses Output buffer
+     * @param code Operation code
+     * @param left First operand
+     * @param right Second operand
+     */
+    private void writeResponse(ByteBuf responses, int code, double left, double right) {
+        if (code >= OPERATIONS.length) {
+            responses.writeByte(BinaryProtocol.STATUS_UNSUPPORTED_OPERATION).writeDouble(Double.NaN);
+            return;
+        }
+        Operation operation = OPERATIONS[code];
+        long startNanos = metrics.startTimer();
+        try {
+            double result = calculatorService.calculateAsDouble(operation, left, right);
+            metrics.recordCalculation(operation, startNanos);
+            responses.writeByte(BinaryProtocol.STATUS_OK).writeDouble(result);
+        } catch (IllegalArgumentException e) {
+            responses.writeByte(BinaryProtocol.STATUS_INVALID_ARGUMENT).writeDouble(Double.NaN);
+        } catch (UnsupportedOperationException e) {
+            responses.writeByte(BinaryProtocol.STATUS_UNSUPPORTED_OPERATION).writeDouble(Double.NaN);
+        }
+    }
+}
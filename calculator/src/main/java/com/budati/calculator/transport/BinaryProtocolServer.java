@@ -0,0 +1,184 @@
+package com.budati.calculator.transport;
+
+import com.budati.calculator.admission.AdmissionControl;
+import com.budati.calculator.metrics.CalculatorMetrics;
+import com.budati.calculator.service.CalculatorService;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TCP listener of the calculator binary protocol, next to the HTTP server.
+ *
+ * Serves single operations as fixed-size frames, see
+ * {@link com.budati.calculator.client.BinaryProtocol}, for clients that
+ * need a higher rate than JSON over HTTP allows. Calculations run on the
+ * Netty event loop threads, as each takes well under a microsecond.
+ *
+ * The frames of each read are admitted together as cheap traffic,
+ * weighed by their number of operations, against the same limit as the
+ * cheap HTTP endpoints; frames over the limit are answered with
+ * {@link com.budati.calculator.client.BinaryProtocol#STATUS_REJECTED}.
+ *
+ * Configuration:
+ * - {@code calculator.binary.enabled}: starts the listener
+ * - {@code calculator.binary.port}: port to listen on, 0 for any free port
+ * - {@code calculator.binary.worker-threads}: event loop threads, 0 for
+ *   Netty's default of twice the available processors
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+@Component
+@ConditionalOnProperty(name = "calculator.binary.enabled", havingValue = "true")
+public class BinaryProtocolServer implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryProtocolServer.class);
+
+    // Service performing the calculations
+    private final CalculatorService calculatorService;
+
+    // Instrumentation of the calculations
+    private final CalculatorMetrics metrics;
+
+    // Limits the frames of each read are admitted against
+    private AdmissionControl admissionControl = AdmissionControl.UNLIMITED;
+
+    // Configured port, 0 for any free port
+    private final int port;
+
+    // Number of event loop threads, 0 for Netty's default
+    private final int workerThreads;
+
+    // Event loops accepting and serving connections while running
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+
+    // Bound server channel while running
+    private volatile Channel serverChannel;
+
+    /**
+     * Creates the listener with the configured port and threads.
+     *
+     * @param calculatorService Service performing the calculations
+     * @param metrics Instrumentation of the calculations
+     * @param port Port to listen on, 0 for any free port
+     * @param workerThreads Number of event loop threads, 0 for Netty's default
+     */
+    public BinaryProtocolServer(
+            CalculatorService calculatorService,
+            CalculatorMetrics metrics,
+            @Value("${calculator.binary.port:7070}") int port,
+            @Value("${calculator.binary.worker-threads:0}") int workerThreads) {
+        this.calculatorService = calculatorService;
+        this.metrics = metrics;
+        this.port = port;
+        this.workerThreads = workerThreads;
+    }
+
+    /**
+     * Sets the limits the frames of each read are admitted against.
+     *
+     * Listeners created without a Spring context, or without a servlet
+     * web application, admit every frame.
+     *
+     * @param admissionControl Limits of the cheap traffic
+     */
+    @Autowired(required = false)
+    public void setAdmissionControl(AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    /**
+     * Binds the listener.
+     *
+     * @throws IllegalStateException If the port cannot be bound
+     */
+    @Override
+    public synchronized void start() {
+        if (serverChannel != null) {
+            return;
+        }
+        bossGroup = new NioEventLoopGroup(1, new DefaultThreadFactory("binary-boss"));
+        workerGroup = new NioEventLoopGroup(workerThreads, new DefaultThreadFactory("binary-worker"));
+        try {
+            serverChannel = new ServerBootstrap()
+                    .group(bossGroup, workerGroup)
+                    .channel(NioServerSocketChannel.class)
+                    .childOption(ChannelOption.TCP_NODELAY, true)
+                    .childHandler(new ChannelInitializer<SocketChannel>() {
+                        @Override
+                        protected void initChannel(SocketChannel channel) {
+                            channel.pipeline().addLast(new BinaryProtocolHandler(calculatorService, metrics, admissionControl));
+                        }
+                    })
+                    .bind(port)
+                    .syncUninterruptibly()
+                    .channel();
+        } catch (RuntimeException e) {
+            shutdownGroups();
+            throw new IllegalStateException("Cannot bind binary protocol port " + port, e);
+        }
+        LOGGER.info("Binary protocol listening on port {}", getPort());
+    }
+
+    /**
+     * Closes the listener and its connections.
+     */
+    @Override
+    public synchronized void stop() {
+        if (serverChannel == null) {
+            return;
+        }
+        serverChannel.close().syncUninterruptibly();
+        serverChannel = null;
+        shutdownGroups();
+    }
+
+    /**
+     * Indicates whether the listener is bound.
+     *
+     * @return True while running
+     */
+    @Override
+    public boolean isRunning() {
+        return serverChannel != null;
+    }
+
+    /**
+     * Retrieves the port the listener is bound to.
+     *
+     * @return Bound port, or -1 if not running
+     */
+    public int getPort() {
+        Channel channel = serverChannel;
+        return channel != null ? ((InetSocketAddress) channel.localAddress()).getPort() : -1;
+    }
+
+    /**
+     * Shuts the event loops down, waiting for their threads to end.
+     */
+    private void shutdownGroups() {
+        bossGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+        workerGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+        bossGroup = null;
+        workerGroup = null;
+    }
+}
@@ -0,0 +1,190 @@
+package com.budati.calculator;
+
+import com.budati.calculator.admission.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for AdmissionControl and ConcurrencyLimiter.
+ *
+ * Verifies weighted admission, the additive increase and multiplicative
+ * decrease of the limit, rejections per traffic class, and how the
+ * interceptor weighs request bodies.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class AdmissionControlTest {
+
+    /**
+     * Test that requests are admitted by weight up to the limit, and always when idle.
+     */
+    @Test
+    public void testWeightedAdmission() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(4, 1, 10, 0.5, Long.MAX_VALUE);
+
+        ConcurrencyLimiter.Permit heavy = limiter.tryAcquire(3);
+        assertNotNull(heavy);
+        assertNotNull(limiter.tryAcquire(1));
+        assertNull(limiter.tryAcquire(1));
+        assertEquals(4, limiter.getInflight());
+        assertEquals(1, limiter.getRejected());
+
+        heavy.close();
+        heavy.close();
+        assertEquals(1, limiter.getInflight());
+
+        // Heavier than the whole limit, admitted only once nothing else runs
+        ConcurrencyLimiter idle = new ConcurrencyLimiter(4, 1, 10, 0.5, Long.MAX_VALUE);
+        ConcurrencyLimiter.Permit oversized = idle.tryAcquire(50);
+        assertNotNull(oversized);
+        assertNull(idle.tryAcquire(1));
+        oversized.close();
+        assertEquals(0, idle.getInflight());
+    }
+
+    /**
+     * Test that fast requests grow a busy limit by one and slow requests shrink it.
+     */
+    @Test
+    public void testAdditiveIncreaseMultiplicativeDecrease() {
+        ConcurrencyLimiter fast = new ConcurrencyLimiter(4, 1, 5, 0.5, Long.MAX_VALUE);
+        List<ConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            permits.add(fast.tryAcquire(1));
+        }
+        permits.forEach(ConcurrencyLimiter.Permit::close);
+        // Grown once per busy sample, capped at the maximum
+        assertEquals(5, fast.getLimit());
+
+        // A lightly used limit does not grow
+        ConcurrencyLimiter quiet = new ConcurrencyLimiter(8, 1, 20, 0.5, Long.MAX_VALUE);
+        quiet.tryAcquire(1).close();
+        assertEquals(8, quiet.getLimit());
+
+        ConcurrencyLimiter slow = new ConcurrencyLimiter(8, 2, 20, 0.5, 0);
+        slow.tryAcquire(1).close();
+        assertEquals(4, slow.getLimit());
+        slow.tryAcquire(1).close();
+        slow.tryAcquire(1).close();
+        assertEquals(2, slow.getLimit());
+        assertTrue(slow.getAverageLatencyNanos() > 0);
+    }
+
+    /**
+     * Test that admission weighs requests by size or operations and rejects them with a retry hint.
+     */
+    @Test
+    public void testAdmissionControl() {
+        ConcurrencyLimiter expensive = new ConcurrencyLimiter(3, 1, 3, 0.9, Long.MAX_VALUE);
+        AdmissionControl admission = new AdmissionControl(Map.of(TrafficClass.EXPENSIVE, expensive), 1000, 100);
+
+        ConcurrencyLimiter.Permit permit = admission.admit(TrafficClass.EXPENSIVE, 2500);
+        assertEquals(3, expensive.getInflight());
+        AdmissionRejectedException rejection = assertThrows(AdmissionRejectedException.class,
+                () -> admission.admit(TrafficClass.EXPENSIVE, 0));
+        assertEquals(TrafficClass.EXPENSIVE, rejection.getTrafficClass());
+        assertTrue(rejection.getRetryAfterSeconds() >= 1);
+
+        // Classes without a limiter, and the unlimited instance, admit everything
+        admission.admit(TrafficClass.CHEAP, Long.MAX_VALUE).close();
+        AdmissionControl.UNLIMITED.admit(TrafficClass.EXPENSIVE, Long.MAX_VALUE).close();
+
+        permit.close();
+        assertEquals(0, expensive.getInflight());
+        admission.admit(TrafficClass.EXPENSIVE, 0).close();
+
+        // Operations are weighed one plus one per unit of operations
+        ConcurrencyLimiter.Permit operations = admission.admitOperations(TrafficClass.EXPENSIVE, 250);
+        assertEquals(3, expensive.getInflight());
+        operations.close();
+        admission.admitOperations(TrafficClass.EXPENSIVE, 99).close();
+        assertEquals(0, expensive.getInflight());
+    }
+
+    /**
+     * Test that a request of unknown size, such as a chunked body, weighs
+     * the maximum limit of its class and so only runs alone.
+     */
+    @Test
+    public void testUnknownSize() {
+        ConcurrencyLimiter expensive = new ConcurrencyLimiter(4, 1, 10, 0.5, Long.MAX_VALUE);
+        AdmissionControl admission = new AdmissionControl(Map.of(TrafficClass.EXPENSIVE, expensive), 1000, 100);
+
+        ConcurrencyLimiter.Permit chunked = admission.admit(TrafficClass.EXPENSIVE, -1);
+        assertEquals(10, expensive.getInflight());
+        assertThrows(AdmissionRejectedException.class, () -> admission.admit(TrafficClass.EXPENSIVE, 0));
+        chunked.close();
+
+        ConcurrencyLimiter.Permit small = admission.admit(TrafficClass.EXPENSIVE, 0);
+        assertThrows(AdmissionRejectedException.class, () -> admission.admit(TrafficClass.EXPENSIVE, -1));
+        small.close();
+        assertEquals(0, expensive.getInflight());
+
+        // Classes without a limiter still admit everything
+        admission.admit(TrafficClass.CHEAP, -1).close();
+    }
+
+    /**
+     * Test that the interceptor weighs a request by its declared length,
+     * a request without a body as empty, and a chunked body at the maximum.
+     */
+    @Test
+    public void testInterceptorBodySize() throws Exception {
+        ConcurrencyLimiter expensive = new ConcurrencyLimiter(4, 1, 10, 0.5, Long.MAX_VALUE);
+        AdmissionInterceptor interceptor = new AdmissionInterceptor(
+                new AdmissionControl(Map.of(TrafficClass.EXPENSIVE, expensive), 1000, 100));
+        HandlerMethod handler = new HandlerMethod(new AdmittedHandler(), "handle");
+
+        MockHttpServletRequest declared = new MockHttpServletRequest("POST", "/");
+        declared.setContent(new byte[2500]);
+        MockHttpServletRequest empty = new MockHttpServletRequest("POST", "/");
+        MockHttpServletRequest chunked = new MockHttpServletRequest("POST", "/");
+        chunked.addHeader(HttpHeaders.TRANSFER_ENCODING, "chunked");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(declared, response, handler));
+        assertEquals(3, expensive.getInflight());
+        assertTrue(interceptor.preHandle(empty, response, handler));
+        assertEquals(4, expensive.getInflight());
+        assertFalse(interceptor.preHandle(chunked, response, handler));
+        assertEquals(429, response.getStatus());
+
+        interceptor.afterCompletion(declared, response, handler, null);
+        interceptor.afterCompletion(empty, response, handler, null);
+        assertTrue(interceptor.preHandle(chunked, new MockHttpServletResponse(), handler));
+        assertEquals(10, expensive.getInflight());
+        interceptor.afterCompletion(chunked, response, handler, null);
+        assertEquals(0, expensive.getInflight());
+    }
+
+    /**
+     * Test that inconsistent limits are rejected.
+     */
+    @Test
+    public void testInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter(0, 0, 10, 0.5, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter(20, 1, 10, 0.5, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter(5, 1, 10, 1.0, 1));
+    }
+
+    /**
+     * Handler admitted against the expensive traffic class.
+     */
+    private static final class AdmittedHandler {
+
+        @Admitted(TrafficClass.EXPENSIVE)
+        public void handle() {
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.budati.calculator;
+
+import com.budati.calculator.expression.*;
+import com.budati.calculator.kernel.ColumnKernelSelector;
+import com.budati.calculator.kernel.ColumnKernels;
+import com.budati.calculator.kernel.ScalarColumnKernels;
+import com.budati.calculator.model.*;
+import com.budati.calculator.parser.ExpressionLimitException;
+import com.budati.calculator.service.CalculatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test class for BatchExpressionEvaluator.
+ *
+ * Verifies that columnar evaluation, serial or parallel, with scalar or
+ * vector kernels, matches evaluating each row on its own.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class BatchExpressionEvaluatorTest {
+
+    // Service providing the operation strategies
+    private CalculatorService calculatorService;
+
+    // Cache shared by the evaluators under test
+    private CompiledExpressionCache expressionCache;
+
+    /**
+     * Creates a service and an expression cache before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+        calculatorService = new CalculatorService(strategies);
+
+        ExpressionTieringPolicy tieringPolicy =
+                new ExpressionTieringPolicy(new BytecodeExpressionCompiler(calculatorService), 1000);
+        expressionCache = new CompiledExpressionCache(
+                new ExpressionCompiler(), new ExpressionOptimizer(calculatorService), tieringPolicy, 100);
+    }
+
+    /**
+     * Test that serial, parallel and compiled batches match row-by-row evaluation.
+     */
+    @Test
+    public void testBatchMatchesRowEvaluation() {
+        int rows = 5000;
+        double[] price = new double[rows];
+        double[] quantity = new double[rows];
+        for (int row = 0; row < rows; row++) {
+            price[row] = row * 0.25;
+            quantity[row] = rows - row;
+        }
+        Map<String, double[]> columns = new HashMap<>();
+        columns.put("price", price);
+        columns.put("quantity", quantity);
+
+        String expression = "price * quantity - price / 2 * 4 + -quantity";
+        double[] expected = new double[rows];
+        ExpressionProgram program = new ExpressionCompiler().compile(expression);
+        for (int row = 0; row < rows; row++) {
+            expected[row] = program.evaluateAsDouble(calculatorService, new double[] {price[row], quantity[row]});
+        }
+
+        for (ColumnKernels kernels : new ColumnKernels[] {new ScalarColumnKernels(), ColumnKernelSelector.select(true)}) {
+            BatchExpressionEvaluator serial =
+                    new BatchExpressionEvaluator(expressionCache, calculatorService, kernels, rows + 1, 64, Long.MAX_VALUE);
+            BatchExpressionEvaluator parallel =
+                    new BatchExpressionEvaluator(expressionCache, calculatorService, kernels, 1, 64, Long.MAX_VALUE);
+
+            assertArrayEquals(expected, serial.evaluate(expression, columns), kernels.getName());
+            assertArrayEquals(expected, parallel.evaluate(expression, columns), kernels.getName());
+        }
+    }
+
+    /**
+     * Test that functions and custom strategies are applied element by element.
+     */
+    @Test
+    public void testFunctionsAndCustomStrategies() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new OperationStrategy() {
+            @Override
+            public Number apply(Number num1, Number num2) {
+                return num1.doubleValue() + 2 * num2.doubleValue();
+            }
+
+            @Override
+            public Operation getOperation() {
+                return Operation.ADD;
+            }
+        });
+        CalculatorService customService = new CalculatorService(strategies);
+        BatchExpressionEvaluator evaluator = new BatchExpressionEvaluator(
+                expressionCache, customService, new ScalarColumnKernels(), 100, 10, Long.MAX_VALUE);
+
+        Map<String, double[]> columns = new HashMap<>();
+        columns.put("a", new double[] {-1, 4, -9});
+
+        assertArrayEquals(new double[] {3, 12, 11}, evaluator.evaluate("abs(a) + max(a, 1)", columns));
+    }
+
+    /**
+     * Test that a zero divisor in any row fails the batch.
+     */
+    @Test
+    public void testDivideByZero() {
+        BatchExpressionEvaluator evaluator = new BatchExpressionEvaluator(
+                expressionCache, calculatorService, ColumnKernelSelector.select(true), 100, 10, Long.MAX_VALUE);
+        double[] divisors = new double[2000];
+        Arrays.fill(divisors, 2);
+        divisors[1500] = 0;
+
+        Map<String, double[]> columns = new HashMap<>();
+        columns.put("a", new double[2000]);
+        columns.put("b", divisors);
+
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate("a / b", columns));
+    }
+
+    /**
+     * Test that invalid column payloads are rejected.
+     */
+    @Test
+    public void testInvalidColumns() {
+        BatchExpressionEvaluator evaluator = new BatchExpressionEvaluator(
+                expressionCache, calculatorService, new ScalarColumnKernels(), 100, 10, Long.MAX_VALUE);
+        Map<String, double[]> columns = new HashMap<>();
+        columns.put("a", new double[] {1, 2});
+
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate("a + b", columns));
+
+        columns.put("b", new double[] {1});
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate("a + b", columns));
+    }
+
+    /**
+     * Test that batches whose steps times rows exceed the limit are refused before evaluation.
+     */
+    @Test
+    public void testStepLimit() {
+        long steps = new ExpressionCompiler().compile("a * b + a").getSteps();
+        BatchExpressionEvaluator evaluator = new BatchExpressionEvaluator(
+                expressionCache, calculatorService, new ScalarColumnKernels(), 100, 10, steps * 10);
+        Map<String, double[]> columns = new HashMap<>();
+        columns.put("a", new double[10]);
+        columns.put("b", new double[10]);
+        assertArrayEquals(new double[10], evaluator.evaluate("a * b + a", columns));
+
+        columns.put("a", new double[11]);
+        columns.put("b", new double[11]);
+        ExpressionLimitException exception = assertThrows(ExpressionLimitException.class,
+                () -> evaluator.bind("a * b + a", columns));
+        assertEquals(ExpressionLimitException.Limit.STEPS, exception.getLimit());
+        assertEquals(steps * 10, exception.getMaximum());
+    }
+}
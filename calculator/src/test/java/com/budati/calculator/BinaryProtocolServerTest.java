@@ -0,0 +1,188 @@
+package com.budati.calculator;
+
+import com.budati.calculator.admission.AdmissionControl;
+import com.budati.calculator.admission.ConcurrencyLimiter;
+import com.budati.calculator.admission.TrafficClass;
+import com.budati.calculator.client.BinaryProtocol;
+import com.budati.calculator.client.CalculatorClient;
+import com.budati.calculator.client.Opcode;
+import com.budati.calculator.metrics.NoOpCalculatorMetrics;
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculatorService;
+import com.budati.calculator.transport.BinaryProtocolServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for BinaryProtocolServer.
+ *
+ * Verifies the binary protocol end to end through {@link CalculatorClient}
+ * against a listener bound to a free port.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class BinaryProtocolServerTest {
+
+    private CalculatorService calculatorService;
+    private BinaryProtocolServer server;
+    private CalculatorClient client;
+
+    /**
+     * Starts a listener without the POWER strategy and connects a client before each test.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        calculatorService = new CalculatorService(strategies);
+        server = new BinaryProtocolServer(calculatorService, NoOpCalculatorMetrics.INSTANCE, 0, 1);
+        server.start();
+        client = CalculatorClient.connect("localhost", server.getPort());
+    }
+
+    /**
+     * Closes the client and the listener after each test.
+     */
+    @AfterEach
+    public void tearDown() throws IOException {
+        client.close();
+        server.stop();
+    }
+
+    /**
+     * Test that operation codes match the server's operations.
+     */
+    @Test
+    public void testOpcodesMatchOperations() {
+        Operation[] operations = Operation.values();
+        assertEquals(operations.length, Opcode.values().length);
+        for (Operation operation : operations) {
+            assertEquals(operation.name(), Opcode.of(operation.ordinal()).name());
+        }
+    }
+
+    /**
+     * Test single calculations.
+     */
+    @Test
+    public void testSingleCalculation() throws IOException {
+        assertEquals(12.5, client.calculate(Opcode.ADD, 10, 2.5));
+        assertEquals(-3.0, client.calculate(Opcode.SUBTRACT, 2, 5));
+        assertEquals(0.1 * 3, client.calculate(Opcode.MULTIPLY, 0.1, 3));
+        assertEquals(2.5, client.calculate(Opcode.DIVIDE, 5, 2));
+    }
+
+    /**
+     * Test that pipelined calculations are answered in order, across several windows.
+     */
+    @Test
+    public void testPipelinedCalculations() throws IOException {
+        int count = CalculatorClient.PIPELINE_DEPTH * 2 + 17;
+        Opcode[] opcodes = new Opcode[count];
+        double[] left = new double[count];
+        double[] right = new double[count];
+        double[] results = new double[count];
+        for (int i = 0; i < count; i++) {
+            opcodes[i] = i % 2 == 0 ? Opcode.ADD : Opcode.MULTIPLY;
+            left[i] = i;
+            right[i] = 3;
+        }
+
+        client.calculate(opcodes, left, right, results);
+
+        for (int i = 0; i < count; i++) {
+            assertEquals(i % 2 == 0 ? i + 3.0 : i * 3.0, results[i], "index " + i);
+        }
+    }
+
+    /**
+     * Test that a failing calculation is reported and the connection stays usable.
+     */
+    @Test
+    public void testFailuresKeepConnection() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> client.calculate(Opcode.DIVIDE, 1, 0));
+        assertThrows(UnsupportedOperationException.class, () -> client.calculate(Opcode.POWER, 2, 3));
+
+        double[] results = new double[3];
+        IllegalArgumentException failure = assertThrows(IllegalArgumentException.class,
+                () -> client.calculate(
+                        new Opcode[] {Opcode.ADD, Opcode.DIVIDE, Opcode.ADD},
+                        new double[] {1, 1, 2}, new double[] {1, 0, 2}, results));
+        assertEquals("Invalid operands", failure.getMessage());
+        assertArrayEquals(new double[] {2, Double.NaN, 4}, results);
+
+        assertEquals(7.0, client.calculate(Opcode.ADD, 3, 4));
+    }
+
+    /**
+     * Test raw frames, including an unknown operation code and a frame split across writes.
+     */
+    @Test
+    public void testRawFrames() throws IOException {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+
+            out.writeByte(99);
+            out.writeDouble(1);
+            out.writeDouble(2);
+            out.writeByte(Opcode.ADD.code());
+            out.writeDouble(1);
+            out.flush();
+            out.writeDouble(2);
+            out.flush();
+
+            assertEquals(BinaryProtocol.STATUS_UNSUPPORTED_OPERATION, in.readByte());
+            assertTrue(Double.isNaN(in.readDouble()));
+            assertEquals(BinaryProtocol.STATUS_OK, in.readByte());
+            assertEquals(3.0, in.readDouble());
+        }
+    }
+
+    /**
+     * Test that frames are admitted against the cheap limit and rejected
+     * without being calculated while it is used up.
+     */
+    @Test
+    public void testAdmissionControl() throws IOException {
+        ConcurrencyLimiter cheap = new ConcurrencyLimiter(1, 1, 1, 0.9, Long.MAX_VALUE);
+        BinaryProtocolServer admitted =
+                new BinaryProtocolServer(calculatorService, NoOpCalculatorMetrics.INSTANCE, 0, 1);
+        admitted.setAdmissionControl(new AdmissionControl(Map.of(TrafficClass.CHEAP, cheap), 1, 1024));
+        admitted.start();
+        try (CalculatorClient admittedClient = CalculatorClient.connect("localhost", admitted.getPort())) {
+            assertEquals(3.0, admittedClient.calculate(Opcode.ADD, 1, 2));
+            assertEquals(1, cheap.getAdmitted());
+
+            // Another request holds the whole limit
+            ConcurrencyLimiter.Permit busy = cheap.tryAcquire(1);
+            double[] results = new double[2];
+            assertThrows(RejectedExecutionException.class, () -> admittedClient.calculate(
+                    new Opcode[] {Opcode.ADD, Opcode.ADD}, new double[] {1, 2}, new double[] {1, 2}, results));
+            assertArrayEquals(new double[] {Double.NaN, Double.NaN}, results);
+            assertEquals(1, cheap.getRejected());
+
+            busy.close();
+            assertEquals(7.0, admittedClient.calculate(Opcode.ADD, 3, 4));
+            assertEquals(0, cheap.getInflight());
+        } finally {
+            admitted.stop();
+        }
+    }
+}
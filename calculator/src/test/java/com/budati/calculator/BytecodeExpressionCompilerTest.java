@@ -0,0 +1,132 @@
+package com.budati.calculator;
+
+import com.budati.calculator.ast.ParsedExpression;
+import com.budati.calculator.expression.BytecodeExpressionCompiler;
+import com.budati.calculator.expression.CompiledExpression;
+import com.budati.calculator.expression.ExpressionCompiler;
+import com.budati.calculator.model.*;
+import com.budati.calculator.parser.ExpressionParser;
+import com.budati.calculator.service.CalculatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test class for BytecodeExpressionCompiler.
+ *
+ * Verifies that generated classes produce the same results and errors
+ * as the interpreted programs they replace.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class BytecodeExpressionCompilerTest {
+
+    // Strategies registered with the service
+    private Map<Operation, OperationStrategy> strategies;
+
+    // Service providing the operation strategies
+    private CalculatorService calculatorService;
+
+    // Compiler producing interpreted programs for comparison
+    private final ExpressionCompiler expressionCompiler = new ExpressionCompiler(new ExpressionParser() {
+        @Override
+        protected ExpressionFunction resolveFunction(String name) {
+            return "cube".equals(name) ? CUBE : super.resolveFunction(name);
+        }
+    });
+
+    // Non-builtin function invoked through its interface
+    private static final ExpressionFunction CUBE = new ExpressionFunction() {
+        @Override
+        public String getName() {
+            return "cube";
+        }
+
+        @Override
+        public int getArity() {
+            return 1;
+        }
+
+        @Override
+        public double invoke(double[] arguments, int offset) {
+            return arguments[offset] * arguments[offset] * arguments[offset];
+        }
+    };
+
+    /**
+     * Creates a service with every built-in strategy before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+        calculatorService = new CalculatorService(strategies);
+    }
+
+    /**
+     * Test that compiled expressions match the interpreter.
+     */
+    @Test
+    public void testCompiledMatchesInterpreted() {
+        String[] expressions = {
+                "1 + 2 * 3 - 4 / 5", "-(x ^ 2) + y / 3", "2 ^ 3 ^ 2", "max(x, y) - min(x, sqrt(y))",
+                "abs(-x) * exp(log(y))", "cube(x + 1) - cube(y)", "x / -0.5",
+                "hypot(x, y) + y mod x * 2", "mod(-7, y) - x mod -1"
+        };
+        double[] variables = {1.5, 4};
+
+        for (String expression : expressions) {
+            ParsedExpression parsed = expressionCompiler.parse(expression);
+            CompiledExpression compiled = new BytecodeExpressionCompiler(calculatorService).compile(parsed);
+
+            double expected = expressionCompiler.compile(parsed).evaluateAsDouble(calculatorService, variables);
+            assertEquals(expected, compiled.evaluate(variables), expression);
+        }
+    }
+
+    /**
+     * Test that the divide-by-zero check of Divide is preserved.
+     */
+    @Test
+    public void testDivideByZero() {
+        CompiledExpression compiled = new BytecodeExpressionCompiler(calculatorService)
+                .compile(expressionCompiler.parse("1 / (x - 1)"));
+
+        assertEquals(0.5, compiled.evaluate(new double[] {3}));
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> compiled.evaluate(new double[] {1}));
+        assertEquals("Cannot divide by zero", exception.getMessage());
+    }
+
+    /**
+     * Test that expressions using replaced strategies are not compiled.
+     */
+    @Test
+    public void testCustomStrategyIsNotInlined() {
+        strategies.put(Operation.ADD, new DoubleOperationStrategy() {
+            @Override
+            public double applyAsDouble(double left, double right) {
+                return left + right + 1;
+            }
+
+            @Override
+            public Operation getOperation() {
+                return Operation.ADD;
+            }
+        });
+        BytecodeExpressionCompiler compiler = new BytecodeExpressionCompiler(new CalculatorService(strategies));
+
+        assertThrows(UnsupportedOperationException.class, () -> compiler.compile(expressionCompiler.parse("1 + 2")));
+    }
+}
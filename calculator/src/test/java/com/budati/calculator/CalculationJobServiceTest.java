@@ -0,0 +1,335 @@
+package com.budati.calculator;
+
+import com.budati.calculator.dto.BatchComputationRequest;
+import com.budati.calculator.dto.CalculationRequest;
+import com.budati.calculator.dto.OperationDescriptor;
+import com.budati.calculator.expression.*;
+import com.budati.calculator.job.CalculationJob;
+import com.budati.calculator.job.CalculationJobService;
+import com.budati.calculator.job.JobPriority;
+import com.budati.calculator.kernel.ScalarColumnKernels;
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculatorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for CalculationJobService.
+ *
+ * Verifies results, progress, priority ordering, cancellation and the
+ * queue bound of background calculation jobs.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class CalculationJobServiceTest {
+
+    // Service providing the operation strategies
+    private CalculatorService calculatorService;
+
+    // Evaluator of batch jobs
+    private BatchExpressionEvaluator batchEvaluator;
+
+    // Services created by the test, stopped after it
+    private final List<CalculationJobService> services = new ArrayList<>();
+
+    // Released to let a job blocked by blockWorker() proceed
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    // Counted down when a blocking step starts
+    private final CountDownLatch blocked = new CountDownLatch(1);
+
+    /**
+     * Creates the evaluators before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        // Blocks the calling worker until released, so that tests control when it is free
+        strategies.put(Operation.POWER, new OperationStrategy() {
+            @Override
+            public Number apply(Number num1, Number num2) {
+                blocked.countDown();
+                awaitLatch(release);
+                return num1;
+            }
+
+            @Override
+            public Operation getOperation() {
+                return Operation.POWER;
+            }
+        });
+        calculatorService = new CalculatorService(strategies);
+
+        ExpressionTieringPolicy tieringPolicy =
+                new ExpressionTieringPolicy(new BytecodeExpressionCompiler(calculatorService), 1000);
+        CompiledExpressionCache expressionCache = new CompiledExpressionCache(
+                new ExpressionCompiler(), new ExpressionOptimizer(calculatorService), tieringPolicy, 100);
+        batchEvaluator = new BatchExpressionEvaluator(
+                expressionCache, calculatorService, new ScalarColumnKernels(), 65536, 8192, Long.MAX_VALUE);
+    }
+
+    /**
+     * Releases blocked jobs and stops the services after each test.
+     */
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        services.forEach(CalculationJobService::destroy);
+    }
+
+    /**
+     * Test that a sequence job computes the same value as a synchronous chain.
+     */
+    @Test
+    public void testSequenceJob() throws InterruptedException {
+        CalculationJobService jobs = createService(1, 10, 4);
+
+        CalculationJob job = jobs.submitSequence(sequence(10, 100, "+", 1), null);
+        awaitTerminal(job);
+
+        assertEquals(CalculationJob.Status.SUCCEEDED, job.getStatus());
+        assertEquals(110, ((Number) job.getResult()).doubleValue());
+        assertEquals(100, job.getCompleted());
+        assertEquals(100, job.getTotal());
+        assertEquals(JobPriority.LOW, job.getPriority());
+        assertSame(job, jobs.get(job.getId()));
+    }
+
+    /**
+     * Test that a batch job matches /batch and reports its progress chunk by chunk.
+     */
+    @Test
+    public void testBatchJobProgress() throws InterruptedException {
+        CalculationJobService jobs = createService(1, 10, 1000);
+        double[] x = new double[2500];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+        }
+        BatchComputationRequest request = new BatchComputationRequest();
+        request.setExpression("x * 2 + 1");
+        request.setColumns(Map.of("x", x));
+
+        // Hold the job in the queue so the listener is registered before any progress
+        blockWorker(jobs);
+        CalculationJob job = jobs.submitBatch(request, JobPriority.NORMAL);
+        List<Long> progress = Collections.synchronizedList(new ArrayList<>());
+        job.addListener(updated -> progress.add(updated.getCompleted()));
+        release.countDown();
+        awaitTerminal(job);
+
+        assertEquals(CalculationJob.Status.SUCCEEDED, job.getStatus());
+        assertArrayEquals(batchEvaluator.evaluate("x * 2 + 1", Map.of("x", x)), (double[]) job.getResult());
+        assertTrue(progress.containsAll(List.of(1000L, 2000L, 2500L)), progress::toString);
+    }
+
+    /**
+     * Test that queued jobs start by priority, small jobs ahead of large ones by default.
+     */
+    @Test
+    public void testPriorityOrder() throws InterruptedException {
+        CalculationJobService jobs = createService(1, 10, 1000);
+        blockWorker(jobs);
+
+        List<String> started = Collections.synchronizedList(new ArrayList<>());
+        CalculationJob large = jobs.submitSequence(sequence(0, 50, "+", 1), null);
+        CalculationJob normal = jobs.submitSequence(sequence(0, 5, "+", 1), JobPriority.NORMAL);
+        CalculationJob small = jobs.submitSequence(sequence(0, 5, "+", 1), null);
+        for (CalculationJob job : List.of(large, normal, small)) {
+            job.addListener(updated -> {
+                if (updated.getStatus() == CalculationJob.Status.RUNNING) {
+                    started.add(updated.getId());
+                }
+            });
+        }
+        assertEquals(JobPriority.LOW, large.getPriority());
+        assertEquals(3, jobs.getQueuedCount());
+
+        release.countDown();
+        awaitTerminal(large);
+        assertEquals(List.of(small.getId(), normal.getId(), large.getId()), started);
+        assertEquals(0, jobs.getQueuedCount());
+    }
+
+    /**
+     * Test that a job cancelled while queued never runs.
+     */
+    @Test
+    public void testCancelQueued() throws InterruptedException {
+        CalculationJobService jobs = createService(1, 10, 1000);
+        CalculationJob blocker = blockWorker(jobs);
+        CalculationJob job = jobs.submitSequence(sequence(0, 5, "+", 1), null);
+
+        assertSame(job, jobs.cancel(job.getId()));
+        assertEquals(CalculationJob.Status.CANCELLED, job.getStatus());
+        assertEquals(0, jobs.getQueuedCount());
+
+        release.countDown();
+        awaitTerminal(blocker);
+        assertEquals(CalculationJob.Status.CANCELLED, job.getStatus());
+        assertNull(job.getStartedAt());
+        assertNull(jobs.cancel("unknown"));
+    }
+
+    /**
+     * Test that a running job stops at its next progress report once cancelled.
+     */
+    @Test
+    public void testCancelRunning() throws InterruptedException {
+        CalculationJobService jobs = createService(1, 10, 10);
+        blockWorker(jobs);
+        CountDownLatch progressed = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        CalculationJob job = jobs.submitSequence(sequence(0, 1000, "+", 1), null);
+        job.addListener(updated -> {
+            if (updated.getCompleted() > 0 && !updated.getStatus().isTerminal()) {
+                progressed.countDown();
+                awaitLatch(resume);
+            }
+        });
+        release.countDown();
+
+        assertTrue(progressed.await(10, TimeUnit.SECONDS));
+        assertEquals(CalculationJob.Status.RUNNING, jobs.cancel(job.getId()).getStatus());
+        resume.countDown();
+        awaitTerminal(job);
+
+        assertEquals(CalculationJob.Status.CANCELLED, job.getStatus());
+        assertNull(job.getResult());
+        assertEquals(10, job.getCompleted());
+        assertEquals(0, jobs.getRunningCount());
+    }
+
+    /**
+     * Test that submissions beyond the queue capacity are rejected.
+     */
+    @Test
+    public void testQueueCapacity() {
+        CalculationJobService jobs = createService(1, 1, 1000);
+        blockWorker(jobs);
+        jobs.submitSequence(sequence(0, 5, "+", 1), null);
+
+        assertThrows(RejectedExecutionException.class, () -> jobs.submitSequence(sequence(0, 5, "+", 1), null));
+        assertEquals(1, jobs.getQueuedCount());
+    }
+
+    /**
+     * Test that invalid requests are rejected at submission, and calculation errors fail the job.
+     */
+    @Test
+    public void testFailures() throws InterruptedException {
+        CalculationJobService jobs = createService(1, 10, 1000);
+
+        assertThrows(IllegalArgumentException.class, () -> jobs.submitSequence(sequence(0, 5, "?", 1), null));
+        assertThrows(UnsupportedOperationException.class, () -> jobs.submitSequence(sequence(0, 5, "-", 1), null));
+        BatchComputationRequest batch = new BatchComputationRequest();
+        batch.setExpression("x +");
+        batch.setColumns(Map.of("x", new double[1]));
+        assertThrows(IllegalArgumentException.class, () -> jobs.submitBatch(batch, null));
+        assertEquals(0, jobs.getQueuedCount());
+
+        CalculationJob job = jobs.submitSequence(sequence(1, 5, "/", 0), null);
+        awaitTerminal(job);
+        assertEquals(CalculationJob.Status.FAILED, job.getStatus());
+        assertNotNull(job.getError());
+    }
+
+    /**
+     * Creates a service whose finished jobs are kept for the whole test.
+     *
+     * @param concurrency Number of workers
+     * @param queueCapacity Maximum number of queued jobs
+     * @param chunkSize Units of work between progress reports
+     * @return Job service
+     */
+    private CalculationJobService createService(int concurrency, int queueCapacity, int chunkSize) {
+        CalculationJobService jobs = new CalculationJobService(
+                batchEvaluator, calculatorService, concurrency, queueCapacity, 10, chunkSize, Duration.ofMinutes(1));
+        services.add(jobs);
+        return jobs;
+    }
+
+    /**
+     * Occupies a worker with a job blocked in its calculation until the release latch.
+     *
+     * @param jobs Service whose worker to occupy
+     * @return Blocking job, already running
+     */
+    private CalculationJob blockWorker(CalculationJobService jobs) {
+        CalculationJob blocker = jobs.submitSequence(sequence(0, 1, "^", 1), JobPriority.HIGH);
+        try {
+            assertTrue(blocked.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return blocker;
+    }
+
+    /**
+     * Waits for a latch on a worker.
+     *
+     * @param latch Latch to wait for
+     */
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until a job has finished.
+     *
+     * @param job Job to wait for
+     */
+    private static void awaitTerminal(CalculationJob job) throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        job.addListener(updated -> {
+            if (updated.getStatus().isTerminal()) {
+                finished.countDown();
+            }
+        });
+        assertTrue(finished.await(10, TimeUnit.SECONDS), "Job did not finish");
+    }
+
+    /**
+     * Creates a sequence request repeating one step.
+     *
+     * @param baseNumeric Initial value
+     * @param steps Number of steps
+     * @param symbol Operation symbol of every step
+     * @param operand Operand of every step
+     * @return Request
+     */
+    private static CalculationRequest sequence(Number baseNumeric, int steps, String symbol, Number operand) {
+        List<OperationDescriptor> descriptors = new ArrayList<>();
+        for (int i = 0; i < steps; i++) {
+            OperationDescriptor descriptor = new OperationDescriptor();
+            descriptor.setOperationSymbol(symbol);
+            descriptor.setOperationValue(operand);
+            descriptors.add(descriptor);
+        }
+        CalculationRequest request = new CalculationRequest();
+        request.setBaseNumeric(baseNumeric);
+        request.setMathematicalSteps(descriptors);
+        return request;
+    }
+}
@@ -0,0 +1,114 @@
+package com.budati.calculator;
+
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculationResultCache;
+import com.budati.calculator.service.CalculatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for CalculationResultCache.
+ *
+ * Verifies memoization of single calculations through
+ * {@link CalculatorService#calculate}.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class CalculationResultCacheTest {
+
+    private CalculatorService calculatorService;
+    private CalculationResultCache resultCache;
+
+    /**
+     * Creates a service memoizing POWER before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+        calculatorService = new CalculatorService(strategies);
+        resultCache = new CalculationResultCache(1000, EnumSet.of(Operation.POWER));
+        calculatorService.setResultCache(resultCache);
+    }
+
+    /**
+     * Test that repeated calculations are served from the cache.
+     */
+    @Test
+    public void testRepeatedCalculationIsHit() {
+        Number first = calculatorService.calculate(Operation.POWER, 1.0001, 4000);
+        Number second = calculatorService.calculate(Operation.POWER, 1.0001, 4000.0);
+
+        assertEquals(Math.pow(1.0001, 4000), first);
+        assertSame(first, second);
+        assertEquals(1, resultCache.getHitCount());
+        assertEquals(1, resultCache.getMissCount());
+        assertEquals(1024, resultCache.getMaximumSize());
+    }
+
+    /**
+     * Test that only enabled operations are memoized, and that reconfiguration empties the cache.
+     */
+    @Test
+    public void testPerOperationPolicy() {
+        assertEquals(5.0, calculatorService.calculate(Operation.ADD, 2, 3));
+        assertEquals(0, resultCache.getMissCount());
+
+        calculatorService.calculate(Operation.POWER, 2, 10);
+        resultCache.setEnabledOperations(EnumSet.of(Operation.ADD));
+        assertEquals(EnumSet.of(Operation.ADD), resultCache.getEnabledOperations());
+        assertTrue(resultCache.isEnabled(Operation.ADD));
+
+        calculatorService.calculate(Operation.ADD, 2, 3);
+        calculatorService.calculate(Operation.ADD, 2, 3);
+        calculatorService.calculate(Operation.POWER, 2, 10);
+        assertEquals(1, resultCache.getHitCount());
+        assertEquals(2, resultCache.getMissCount());
+    }
+
+    /**
+     * Test that keys distinguish operand bits and that failures are not cached.
+     */
+    @Test
+    public void testKeys() {
+        assertEquals(Double.POSITIVE_INFINITY, calculatorService.calculate(Operation.POWER, 0.0, -1));
+        assertEquals(Double.NEGATIVE_INFINITY, calculatorService.calculate(Operation.POWER, -0.0, -1));
+        assertEquals(0, resultCache.getHitCount());
+
+        resultCache.setEnabledOperations(EnumSet.of(Operation.DIVIDE));
+        assertThrows(IllegalArgumentException.class, () -> calculatorService.calculate(Operation.DIVIDE, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> calculatorService.calculate(Operation.DIVIDE, 1, 0));
+        assertEquals(0, resultCache.getHitCount());
+    }
+
+    /**
+     * Test that the cache holds at most its capacity, replacing entries on collision.
+     */
+    @Test
+    public void testSizeBound() {
+        CalculationResultCache cache = new CalculationResultCache(4, EnumSet.of(Operation.POWER));
+        for (int value = 0; value < 100; value++) {
+            cache.put(Operation.POWER.ordinal(), Double.doubleToRawLongBits(value), 0, 1.0);
+        }
+        int cached = 0;
+        for (int value = 0; value < 100; value++) {
+            if (cache.get(Operation.POWER.ordinal(), Double.doubleToRawLongBits(value), 0) != null) {
+                cached++;
+            }
+        }
+        assertTrue(cached <= 4);
+        assertTrue(cache.getEvictionCount() >= 96);
+    }
+}
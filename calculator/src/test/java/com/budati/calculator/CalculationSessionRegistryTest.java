@@ -0,0 +1,125 @@
+package com.budati.calculator;
+
+import com.budati.calculator.dto.CalculationSessionState;
+import com.budati.calculator.dto.ResultType;
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculationSession;
+import com.budati.calculator.service.CalculationSessionRegistry;
+import com.budati.calculator.service.CalculatorService;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for CalculationSessionRegistry.
+ *
+ * Verifies that a session built one step at a time reports, after every
+ * step, the value {@link CalculatorService#chainCalculate} gives for the
+ * whole sequence so far.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class CalculationSessionRegistryTest {
+
+    private CalculatorService calculatorService;
+    private CalculationSessionRegistry registry;
+
+    /**
+     * Creates the service and registry before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+        calculatorService = new CalculatorService(strategies);
+        registry = new CalculationSessionRegistry(calculatorService, Duration.ofMinutes(30), DataSize.ofMegabytes(64));
+    }
+
+    /**
+     * Test that every append reports the value of the sequence so far.
+     */
+    @Test
+    public void testAppendMatchesChainCalculate() {
+        Random random = new Random(3);
+        Operation[] operations = Operation.values();
+        for (int sequence = 0; sequence < 20; sequence++) {
+            boolean integral = sequence % 2 == 0;
+            CalculationSession session = registry.create(4);
+            List<Pair<Operation, Number>> steps = new ArrayList<>();
+            for (int step = 0; step < 30; step++) {
+                Operation operation = operations[random.nextInt(operations.length)];
+                Number value = operation == Operation.POWER ? random.nextInt(3)
+                        : integral ? (Number) (1 + random.nextInt(100)) : (Number) (0.5 + random.nextDouble());
+                steps.add(Pair.of(operation, value));
+
+                CalculationSessionState state = registry.append(session.getId(), operation, value);
+                assertEquals(calculatorService.chainCalculate(4, steps), state.getValue(), "steps " + steps);
+                assertEquals(steps.size(), state.getSteps());
+            }
+        }
+    }
+
+    /**
+     * Test that a failing step is rejected and leaves the session unchanged.
+     */
+    @Test
+    public void testFailingStepLeavesSessionUnchanged() {
+        CalculationSession session = registry.create(10);
+        registry.append(session.getId(), Operation.ADD, 6);
+        registry.append(session.getId(), Operation.DIVIDE, 2);
+
+        // 10 + 6 / 2 / 0 fails as soon as the division by zero is resolved
+        assertThrows(IllegalArgumentException.class, () -> registry.append(session.getId(), Operation.DIVIDE, 0));
+
+        CalculationSessionState state = registry.get(session.getId()).getState();
+        assertEquals(2, state.getSteps());
+        assertEquals(13L, state.getValue());
+        assertEquals(16L, registry.append(session.getId(), Operation.MULTIPLY, 2).getValue());
+    }
+
+    /**
+     * Test that sessions stay exact, including past the long range.
+     */
+    @Test
+    public void testExactValues() {
+        CalculationSession session = registry.create(Long.MAX_VALUE);
+        CalculationSessionState state = registry.append(session.getId(), Operation.ADD, 1);
+
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE), state.getValue());
+        assertEquals(ResultType.BIG_INTEGER, state.getType());
+        assertEquals(ResultType.DOUBLE, registry.append(session.getId(), Operation.DIVIDE, 3).getType());
+    }
+
+    /**
+     * Test the lifecycle of a session.
+     */
+    @Test
+    public void testLifecycle() {
+        CalculationSession session = registry.create(1.5);
+        assertEquals(1.5, session.getState().getValue());
+        assertSame(session, registry.get(session.getId()));
+
+        assertTrue(registry.remove(session.getId()));
+        assertNull(registry.get(session.getId()));
+        assertNull(registry.append(session.getId(), Operation.ADD, 1));
+        assertFalse(registry.remove(session.getId()));
+        assertThrows(IllegalArgumentException.class, () -> registry.create(null));
+    }
+}
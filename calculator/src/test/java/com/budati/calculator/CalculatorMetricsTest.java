@@ -0,0 +1,130 @@
+package com.budati.calculator;
+
+import com.budati.calculator.expression.*;
+import com.budati.calculator.metrics.MicrometerCalculatorMetrics;
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculatorService;
+import com.budati.calculator.service.ChainAccumulator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit test class for MicrometerCalculatorMetrics.
+ *
+ * Verifies the meters recorded by the service and the expression cache
+ * when every call is timed.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class CalculatorMetricsTest {
+
+    // Registry collecting the recorded meters
+    private SimpleMeterRegistry registry;
+
+    // Metrics timing every call
+    private MicrometerCalculatorMetrics metrics;
+
+    // Instrumented service
+    private CalculatorService calculatorService;
+
+    /**
+     * Creates an instrumented service before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+
+        registry = new SimpleMeterRegistry();
+        metrics = new MicrometerCalculatorMetrics(registry, 1);
+        calculatorService = new CalculatorService(strategies);
+        calculatorService.setMetrics(metrics);
+    }
+
+    /**
+     * Test that single calculations are counted and timed per operation.
+     */
+    @Test
+    public void testCalculationMeters() {
+        calculatorService.calculate(Operation.ADD, 1, 2);
+        calculatorService.calculate(Operation.ADD, 3, 4);
+        calculatorService.calculate(Operation.DIVIDE, 8, 2);
+
+        assertEquals(2, registry.get("calculator.operations")
+                .tags("operation", "ADD", "source", "calculate").functionCounter().count());
+        assertEquals(2, registry.get("calculator.calculate").tag("operation", "ADD").timer().count());
+        assertEquals(1, registry.get("calculator.calculate").tag("operation", "DIVIDE").timer().count());
+    }
+
+    /**
+     * Test that chain steps are counted and the chain is timed once,
+     * both tagged with the operation of the first step.
+     */
+    @Test
+    public void testChainMeters() {
+        calculatorService.chainCalculate(2, Arrays.asList(
+                Pair.of(Operation.MULTIPLY, 5),
+                Pair.of(Operation.ADD, 3),
+                Pair.of(Operation.MULTIPLY, 2)));
+        ChainAccumulator accumulator = calculatorService.newChainAccumulator(1);
+        accumulator.push(Operation.ADD, 1);
+        accumulator.push(Operation.ADD, 1);
+        accumulator.complete();
+
+        assertEquals(3, registry.get("calculator.chain.steps")
+                .tag("operation", "MULTIPLY").functionCounter().count());
+        assertEquals(2, registry.get("calculator.chain.steps")
+                .tag("operation", "ADD").functionCounter().count());
+        assertEquals(0, registry.get("calculator.operations")
+                .tags("operation", "ADD", "source", "calculate").functionCounter().count());
+        assertEquals(1, registry.get("calculator.chain").tag("operation", "MULTIPLY").timer().count());
+        assertEquals(0, registry.get("calculator.chain").tag("operation", "ADD").timer().count());
+    }
+
+    /**
+     * Test that parse times are recorded on cache misses only.
+     */
+    @Test
+    public void testExpressionParseTimer() {
+        ExpressionTieringPolicy tieringPolicy =
+                new ExpressionTieringPolicy(new BytecodeExpressionCompiler(calculatorService), 0);
+        CompiledExpressionCache cache = new CompiledExpressionCache(
+                new ExpressionCompiler(), new ExpressionOptimizer(calculatorService), tieringPolicy, 10);
+        cache.setMetrics(metrics);
+
+        cache.getExpression("1 + 2");
+        cache.getExpression("1 + 2");
+        cache.getExpression("3 * 4");
+
+        assertEquals(2, registry.get("calculator.expression.parse").timer().count());
+    }
+
+    /**
+     * Test that failures are counted by endpoint and exception type.
+     */
+    @Test
+    public void testFailureCounter() {
+        metrics.recordFailure("expression-compute", new IllegalArgumentException());
+        metrics.recordFailure("expression-compute", new IllegalArgumentException());
+
+        assertEquals(2, registry.get("calculator.failures")
+                .tags("endpoint", "expression-compute", "exception", "IllegalArgumentException")
+                .counter().count());
+        metrics.recordFailure("expression-compute", new ArithmeticException());
+        assertEquals(2, registry.get("calculator.failures").counters().size());
+    }
+}
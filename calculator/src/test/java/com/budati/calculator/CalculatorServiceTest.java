@@ -80,7 +80,7 @@ public class CalculatorServiceTest {
                 Pair.of(Operation.MULTIPLY, 2)     // 31 * 2 = 62
         );
         
-        // Verify the final result of the chain of operations
-        assertEquals(26.0, calculatorService.chainCalculate(2, operations));
+        // Verify the final result of the chain of operations, computed exactly on integers
+        assertEquals(26L, calculatorService.chainCalculate(2, operations));
     }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.budati.calculator;
+
+import com.budati.calculator.kernel.ColumnKernelSelector;
+import com.budati.calculator.kernel.ColumnKernels;
+import com.budati.calculator.kernel.ScalarColumnKernels;
+import com.budati.calculator.kernel.VectorColumnKernels;
+import com.budati.calculator.model.Operation;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for the column kernels.
+ *
+ * Verifies that scalar and vector kernels agree with the built-in
+ * strategies, including the tail that does not fill a whole vector.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ColumnKernelsTest {
+
+    // Column length that leaves a scalar tail for every vector width
+    private static final int LENGTH = 1027;
+
+    /**
+     * Test that the vector kernels are selected when the module is enabled.
+     */
+    @Test
+    public void testSelection() {
+        assertInstanceOf(ScalarColumnKernels.class, ColumnKernelSelector.select(false));
+        assertInstanceOf(VectorColumnKernels.class, ColumnKernelSelector.select(true));
+    }
+
+    /**
+     * Test that both implementations match scalar arithmetic element by element.
+     */
+    @Test
+    public void testKernelsMatchScalarArithmetic() {
+        Random random = new Random(42);
+        double[] left = new double[LENGTH];
+        double[] right = new double[LENGTH];
+        for (int index = 0; index < LENGTH; index++) {
+            left[index] = random.nextDouble() * 100;
+            right[index] = random.nextDouble() * 4 + 0.5;
+        }
+
+        for (ColumnKernels kernels : new ColumnKernels[] {new ScalarColumnKernels(), new VectorColumnKernels()}) {
+            assertColumn(kernels, Operation.ADD, left, right);
+            assertColumn(kernels, Operation.SUBTRACT, left, right);
+            assertColumn(kernels, Operation.MULTIPLY, left, right);
+            assertColumn(kernels, Operation.DIVIDE, left, right);
+            assertColumn(kernels, Operation.POWER, left, right);
+
+            double[] negated = left.clone();
+            kernels.negate(negated, LENGTH);
+            for (int index = 0; index < LENGTH; index++) {
+                assertEquals(-left[index], negated[index]);
+            }
+        }
+    }
+
+    /**
+     * Test that vector and scalar exponentiation agree bit for bit, including
+     * negative bases, integral and fractional exponents and special values.
+     */
+    @Test
+    public void testPowerMatchesScalarBitForBit() {
+        double[] specials = {0.0, -0.0, 1.0, -1.0, 0.5, -2.0, 10.0, 1e300, Double.MIN_VALUE,
+                Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN};
+        Random random = new Random(7);
+        double[] left = new double[LENGTH];
+        double[] right = new double[LENGTH];
+        for (int index = 0; index < LENGTH; index++) {
+            if (index < specials.length * specials.length) {
+                left[index] = specials[index / specials.length];
+                right[index] = specials[index % specials.length];
+            } else {
+                left[index] = (random.nextDouble() - 0.5) * 1e3;
+                right[index] = random.nextBoolean() ? random.nextInt(41) - 20 : (random.nextDouble() - 0.5) * 40;
+            }
+        }
+
+        double[] scalar = new double[LENGTH];
+        double[] vector = new double[LENGTH];
+        new ScalarColumnKernels().forOperation(Operation.POWER).apply(left, right, scalar, LENGTH);
+        new VectorColumnKernels().forOperation(Operation.POWER).apply(left, right, vector, LENGTH);
+        for (int index = 0; index < LENGTH; index++) {
+            assertEquals(Double.doubleToRawLongBits(scalar[index]), Double.doubleToRawLongBits(vector[index]),
+                    left[index] + " ^ " + right[index] + " at " + index);
+        }
+    }
+
+    /**
+     * Test that a zero divisor is detected in the vector body and in the tail.
+     */
+    @Test
+    public void testDivideByZeroMask() {
+        for (ColumnKernels kernels : new ColumnKernels[] {new ScalarColumnKernels(), new VectorColumnKernels()}) {
+            for (int zeroIndex : new int[] {0, 500, LENGTH - 1}) {
+                double[] left = new double[LENGTH];
+                double[] right = new double[LENGTH];
+                Arrays.fill(right, 1);
+                right[zeroIndex] = 0;
+
+                IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                        () -> kernels.forOperation(Operation.DIVIDE).apply(left, right, new double[LENGTH], LENGTH));
+                assertEquals("Cannot divide by zero", exception.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Applies a kernel and compares every element with scalar arithmetic.
+     */
+    private static void assertColumn(ColumnKernels kernels, Operation operation, double[] left, double[] right) {
+        double[] result = new double[LENGTH];
+        kernels.forOperation(operation).apply(left, right, result, LENGTH);
+
+        for (int index = 0; index < LENGTH; index++) {
+            double expected;
+            switch (operation) {
+                case ADD: expected = left[index] + right[index]; break;
+                case SUBTRACT: expected = left[index] - right[index]; break;
+                case MULTIPLY: expected = left[index] * right[index]; break;
+                case DIVIDE: expected = left[index] / right[index]; break;
+                default: expected = Math.pow(left[index], right[index]); break;
+            }
+            assertEquals(expected, result[index], kernels.getName() + " " + operation + " at " + index);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.budati.calculator;
+
+import com.budati.calculator.dto.ExpressionCacheStatistics;
+import com.budati.calculator.expression.BytecodeExpressionCompiler;
+import com.budati.calculator.expression.CompiledExpressionCache;
+import com.budati.calculator.expression.ExpressionCompiler;
+import com.budati.calculator.expression.ExpressionOptimizer;
+import com.budati.calculator.expression.ExpressionTieringPolicy;
+import com.budati.calculator.expression.TieredExpression;
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test class for CompiledExpressionCache.
+ *
+ * Verifies that compiled programs evaluate like chained calculations
+ * and that repeated expressions are served from the cache.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class CompiledExpressionCacheTest {
+
+    // Service providing the operation strategies
+    private CalculatorService calculatorService;
+
+    // The cache under test
+    private CompiledExpressionCache expressionCache;
+
+    /**
+     * Creates a service with every strategy and an empty cache before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+
+        calculatorService = new CalculatorService(strategies);
+        ExpressionTieringPolicy tieringPolicy =
+                new ExpressionTieringPolicy(new BytecodeExpressionCompiler(calculatorService), 3);
+        expressionCache = new CompiledExpressionCache(
+                new ExpressionCompiler(), new ExpressionOptimizer(calculatorService), tieringPolicy, 100);
+    }
+
+    /**
+     * Test that compiled programs respect operation priority.
+     */
+    @Test
+    public void testProgramEvaluation() {
+        assertEquals(26.0, evaluate("2 * 5 + 3 * 2 + 5 * 2"));
+        assertEquals(-1.0, evaluate("1 - 4 / 2 ^ 1"));
+        assertEquals(7, evaluate("7"));
+        assertEquals(-7.0, evaluate("2*-5+3"));
+    }
+
+    /**
+     * Test that repeated expressions are served from the cache.
+     */
+    @Test
+    public void testRepeatedExpressionIsCached() {
+        TieredExpression first = expressionCache.getExpression("1 + 2");
+        TieredExpression second = expressionCache.getExpression("1 + 2");
+
+        ExpressionCacheStatistics statistics = expressionCache.getStatistics();
+        assertSame(first, second);
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+    }
+
+    /**
+     * Test that invalid expressions are rejected and evaluation errors are preserved.
+     */
+    @Test
+    public void testInvalidExpressions() {
+        assertThrows(IllegalArgumentException.class, () -> expressionCache.getExpression("1 % 2"));
+        assertThrows(IllegalArgumentException.class, () -> evaluate("1 / 0"));
+    }
+
+    /**
+     * Test that hot expressions are promoted to bytecode with unchanged results.
+     */
+    @Test
+    public void testHotExpressionIsCompiled() {
+        for (int invocation = 0; invocation < 5; invocation++) {
+            TieredExpression expression = expressionCache.getExpression("(x + 2) * 3 / 2");
+            assertEquals(4.5, expression.evaluateAsDouble(calculatorService, new double[] {1}));
+        }
+
+        assertTrue(expressionCache.getExpression("(x + 2) * 3 / 2").isCompiled());
+        assertEquals(1, expressionCache.getStatistics().getCompiledCount());
+    }
+
+    /**
+     * Test that constant subexpressions are folded before caching.
+     */
+    @Test
+    public void testConstantExpressionIsFolded() {
+        assertEquals(4.5, evaluate("(1 + 2) * 3 / 2"));
+        assertTrue(expressionCache.getExpression("(1 + 2) * 3 / 2").getProgram().isLiteral());
+        assertEquals(6, expressionCache.getStatistics().getEliminatedNodeCount());
+    }
+
+    /**
+     * Evaluates an expression through the cache.
+     *
+     * @param rawExpression Expression text
+     * @return Evaluation result
+     */
+    private Number evaluate(String rawExpression) {
+        return expressionCache.getExpression(rawExpression).evaluate(calculatorService);
+    }
+}
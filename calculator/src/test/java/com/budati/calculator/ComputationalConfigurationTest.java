@@ -0,0 +1,96 @@
+package com.budati.calculator;
+
+import com.budati.calculator.config.ComputationalConfiguration;
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculatorService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for strategy registration and operation lookup.
+ *
+ * Verifies that {@link ComputationalConfiguration} indexes strategy beans
+ * by operation and rejects incomplete or ambiguous registrations, and the
+ * symbol table of {@link Operation}.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ComputationalConfigurationTest {
+
+    private final ComputationalConfiguration configuration = new ComputationalConfiguration();
+
+    /**
+     * Creates the built-in strategy of every operation.
+     *
+     * @return Strategy beans
+     */
+    private static List<OperationStrategy> builtinStrategies() {
+        return new ArrayList<>(List.of(new Add(), new Subtract(), new Multiply(), new Divide(), new Power()));
+    }
+
+    /**
+     * Test that strategies are registered under the operation they report.
+     */
+    @Test
+    public void testStrategiesIndexedByOperation() {
+        Map<Operation, OperationStrategy> registry = configuration.registerComputationalStrategies(builtinStrategies());
+
+        for (Operation operation : Operation.values()) {
+            assertEquals(operation, registry.get(operation).getOperation());
+        }
+        CalculatorService service = new CalculatorService(registry);
+        assertEquals(1024.0, service.calculate(Operation.POWER, 2, 10));
+        assertSame(registry.get(Operation.DIVIDE), service.getStrategy(Operation.DIVIDE));
+    }
+
+    /**
+     * Test that startup fails when an operation has no strategy.
+     */
+    @Test
+    public void testMissingStrategyRejected() {
+        List<OperationStrategy> strategies = builtinStrategies();
+        strategies.removeIf(strategy -> strategy.getOperation() == Operation.POWER);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> configuration.registerComputationalStrategies(strategies));
+        assertEquals("No operation strategy registered for [POWER]", e.getMessage());
+        assertThrows(IllegalStateException.class, () -> configuration.registerDecimalStrategies(List.of()));
+    }
+
+    /**
+     * Test that startup fails when an operation has two strategies.
+     */
+    @Test
+    public void testDuplicateStrategyRejected() {
+        List<OperationStrategy> strategies = builtinStrategies();
+        strategies.add(new Add());
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> configuration.registerComputationalStrategies(strategies));
+        assertTrue(e.getMessage().startsWith("Duplicate operation strategies for ADD"));
+    }
+
+    /**
+     * Test lookup of operations by symbol.
+     */
+    @Test
+    public void testGetBySymbol() {
+        for (Operation operation : Operation.values()) {
+            assertSame(operation, Operation.getBySymbol(operation.getSymbol()));
+            assertSame(operation, Operation.getBySymbol(operation.getSymbol().charAt(0)));
+        }
+        assertNull(Operation.findBySymbol('%'));
+        assertNull(Operation.findBySymbol('€'));
+        assertThrows(IllegalArgumentException.class, () -> Operation.getBySymbol("**"));
+        assertThrows(IllegalArgumentException.class, () -> Operation.getBySymbol(""));
+        assertThrows(IllegalArgumentException.class, () -> Operation.getBySymbol((String) null));
+        assertThrows(IllegalArgumentException.class, () -> Operation.getBySymbol('x'));
+    }
+}
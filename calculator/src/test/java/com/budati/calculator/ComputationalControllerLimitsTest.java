@@ -0,0 +1,107 @@
+package com.budati.calculator;
+
+import com.budati.calculator.controller.ComputationalController;
+import com.budati.calculator.model.*;
+import com.budati.calculator.parser.ExpressionLimits;
+import com.budati.calculator.service.CalculatorService;
+import com.budati.calculator.service.DecimalCalculatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit test class for the limits enforced by ComputationalController.
+ *
+ * Verifies that single and sequence computations beyond the precision
+ * limit are rejected with status 422 and a problem detail naming the
+ * limit, before any decimal operation is applied.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ComputationalControllerLimitsTest {
+
+    // Client bound to the controller under test
+    private MockMvc mockMvc;
+
+    /**
+     * Binds a client to a controller with a precision limit of 50 digits before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+
+        Map<Operation, DecimalOperationStrategy> decimalStrategies = new EnumMap<>(Operation.class);
+        decimalStrategies.put(Operation.ADD, new DecimalAdd());
+        decimalStrategies.put(Operation.SUBTRACT, new DecimalSubtract());
+        decimalStrategies.put(Operation.MULTIPLY, new DecimalMultiply());
+        decimalStrategies.put(Operation.DIVIDE, new DecimalDivide());
+        decimalStrategies.put(Operation.POWER, new DecimalPower());
+
+        ComputationalController controller = new ComputationalController();
+        ReflectionTestUtils.setField(controller, "calculatorService", new CalculatorService(strategies));
+        ReflectionTestUtils.setField(controller, "decimalCalculatorService",
+                new DecimalCalculatorService(decimalStrategies));
+        ReflectionTestUtils.setField(controller, "expressionLimits",
+                new ExpressionLimits(1000, 100, 32, 1000, 50, Duration.ofSeconds(1)));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    /**
+     * Test that a single computation beyond the precision limit is rejected.
+     */
+    @Test
+    public void testSingleComputePrecision() throws Exception {
+        mockMvc.perform(post("/api/computational/single-compute")
+                        .param("operation", "DIVIDE").param("firstOperand", "1").param("secondOperand", "3")
+                        .param("precision", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0.33333"));
+
+        mockMvc.perform(post("/api/computational/single-compute")
+                        .param("operation", "DIVIDE").param("firstOperand", "1").param("secondOperand", "3")
+                        .param("precision", "2000000000"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.limit").value("precision"))
+                .andExpect(jsonPath("$.maximum").value(50));
+    }
+
+    /**
+     * Test that a sequence beyond the precision limit is rejected rather
+     * than reported as an invalid sequence.
+     */
+    @Test
+    public void testSequenceComputePrecision() throws Exception {
+        String steps = "\"mathematicalSteps\":[{\"operationSymbol\":\"/\",\"operationValue\":3}]";
+        mockMvc.perform(post("/api/computational/sequence-compute")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"baseNumeric\":1,\"precision\":3," + steps + "}"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0.333"));
+
+        mockMvc.perform(post("/api/computational/sequence-compute")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"baseNumeric\":1,\"precision\":2000000000," + steps + "}"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.limit").value("precision"))
+                .andExpect(jsonPath("$.detail").value("Precision of 2000000000 digits is more than the limit of 50"));
+    }
+}
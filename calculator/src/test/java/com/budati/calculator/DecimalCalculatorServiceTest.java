@@ -0,0 +1,187 @@
+package com.budati.calculator;
+
+import com.budati.calculator.expression.DecimalExpressionEvaluator;
+import com.budati.calculator.expression.ExpressionCompiler;
+import com.budati.calculator.model.*;
+import com.budati.calculator.parser.ExpressionLimitException;
+import com.budati.calculator.parser.ExpressionLimits;
+import com.budati.calculator.service.DecimalCalculatorService;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for DecimalCalculatorService and DecimalExpressionEvaluator.
+ *
+ * Verifies arbitrary-precision results, rounding and the error contract
+ * shared with the double path.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class DecimalCalculatorServiceTest {
+
+    // Thirty-four significant digits, rounding half-even
+    private static final MathContext DECIMAL128 = MathContext.DECIMAL128;
+
+    // Exact results
+    private static final MathContext EXACT = new MathContext(0);
+
+    // The service under test
+    private DecimalCalculatorService decimalCalculatorService;
+
+    // Expression evaluator over the service
+    private DecimalExpressionEvaluator expressionEvaluator;
+
+    /**
+     * Creates a service with every decimal strategy before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        Map<Operation, DecimalOperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new DecimalAdd());
+        strategies.put(Operation.SUBTRACT, new DecimalSubtract());
+        strategies.put(Operation.MULTIPLY, new DecimalMultiply());
+        strategies.put(Operation.DIVIDE, new DecimalDivide());
+        strategies.put(Operation.POWER, new DecimalPower());
+        decimalCalculatorService = new DecimalCalculatorService(strategies);
+        expressionEvaluator = new DecimalExpressionEvaluator(new ExpressionCompiler(), decimalCalculatorService);
+    }
+
+    /**
+     * Test that decimal inputs are not collapsed to binary doubles.
+     */
+    @Test
+    public void testDecimalInputsAreExact() {
+        assertEquals(new BigDecimal("0.3"),
+                decimalCalculatorService.calculate(Operation.ADD, 0.1, 0.2, EXACT));
+        assertEquals(new BigDecimal("0.3"), expressionEvaluator.evaluate("0.1 + 0.2", EXACT));
+    }
+
+    /**
+     * Test that results are rounded to the requested precision and rounding mode.
+     */
+    @Test
+    public void testRoundingToMathContext() {
+        assertEquals(new BigDecimal("0.6666666666666666666666666666666667"),
+                decimalCalculatorService.calculate(Operation.DIVIDE, 2, 3, DECIMAL128));
+        assertEquals(new BigDecimal("0.666"),
+                decimalCalculatorService.calculate(Operation.DIVIDE, 2, 3, new MathContext(3, RoundingMode.DOWN)));
+        assertThrows(IllegalArgumentException.class,
+                () -> decimalCalculatorService.calculate(Operation.DIVIDE, 1, 3, EXACT));
+        assertThrows(IllegalArgumentException.class,
+                () -> decimalCalculatorService.calculate(Operation.DIVIDE, 1, 0, DECIMAL128));
+    }
+
+    /**
+     * Test that integer powers by squaring match BigDecimal.pow, including negative exponents.
+     */
+    @Test
+    public void testIntegerPower() {
+        BigDecimal base = new BigDecimal("1.0001");
+        for (int exponent : new int[] {0, 1, 2, 7, 64, 1000, 12345}) {
+            assertEquals(base.pow(exponent, DECIMAL128),
+                    decimalCalculatorService.calculate(Operation.POWER, base, exponent, DECIMAL128), "^" + exponent);
+        }
+        assertEquals(new BigDecimal("2").pow(100), decimalCalculatorService.calculate(Operation.POWER, 2, 100, EXACT));
+        assertEquals(new BigDecimal("0.0009765625"),
+                decimalCalculatorService.calculate(Operation.POWER, 2, -10, EXACT));
+        assertEquals(new BigDecimal("2.25"), decimalCalculatorService.calculate(Operation.POWER, 1.5, 2.0, EXACT));
+        assertThrows(IllegalArgumentException.class,
+                () -> decimalCalculatorService.calculate(Operation.POWER, 0, -1, DECIMAL128));
+        assertThrows(IllegalArgumentException.class,
+                () -> decimalCalculatorService.calculate(Operation.POWER, -8, 0.5, DECIMAL128));
+        // Exact results of more digits than allowed are refused, rounded ones are not
+        assertThrows(IllegalArgumentException.class,
+                () -> decimalCalculatorService.calculate(Operation.POWER, 1234567890123L, 9999, EXACT));
+        assertNotNull(decimalCalculatorService.calculate(Operation.POWER, 1234567890123L, 9999, DECIMAL128));
+    }
+
+    /**
+     * Test that chains follow the priority rules of the double path.
+     */
+    @Test
+    public void testChainCalculate() {
+        BigDecimal result = decimalCalculatorService.chainCalculate(new BigDecimal("0.1"), Arrays.asList(
+                Pair.of(Operation.ADD, (Number) 0.2),
+                Pair.of(Operation.MULTIPLY, (Number) 3),
+                Pair.of(Operation.SUBTRACT, (Number) 0.7)), DECIMAL128);
+
+        assertEquals(new BigDecimal("0.0"), result);
+    }
+
+    /**
+     * Test that exact chains refuse intermediate results beyond the digit limit, and rounded ones do not.
+     */
+    @Test
+    public void testExactChainDigitLimit() {
+        // Each product adds 1000 digits, passing the limit after 100 steps
+        Number factor = new BigDecimal("7".repeat(1000));
+        List<Pair<Operation, Number>> products = Collections.nCopies(200, Pair.of(Operation.MULTIPLY, factor));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> decimalCalculatorService.chainCalculate(factor, products, EXACT));
+        assertNotNull(decimalCalculatorService.chainCalculate(factor, products, DECIMAL128));
+
+        // Refused before the sum of a million digits is computed
+        assertThrows(IllegalArgumentException.class, () -> decimalCalculatorService.chainCalculate(
+                new BigDecimal("1E+1000000"), List.of(Pair.of(Operation.ADD, (Number) 1)), EXACT));
+        assertEquals(new BigDecimal("2E+1000000"), decimalCalculatorService.chainCalculate(
+                new BigDecimal("1E+1000000"), List.of(Pair.of(Operation.ADD, (Number) new BigDecimal("1E+1000000"))),
+                EXACT));
+        assertThrows(IllegalArgumentException.class,
+                () -> expressionEvaluator.evaluate("(2 ^ 9999) ^ 30 * (2 ^ 9999) ^ 30", EXACT));
+    }
+
+    /**
+     * Test that chains are bounded by the evaluation time limit.
+     */
+    @Test
+    public void testChainTimeLimit() {
+        ExpressionLimits limits = new ExpressionLimits(1000, 100, 32, 1000, 50, Duration.ofNanos(1));
+        List<Pair<Operation, Number>> operations = Collections.nCopies(1000, Pair.of(Operation.ADD, (Number) 1));
+
+        ExpressionLimitException exception = assertThrows(ExpressionLimitException.class,
+                () -> decimalCalculatorService.chainCalculate(0, operations, DECIMAL128, limits));
+        assertEquals(ExpressionLimitException.Limit.TIME, exception.getLimit());
+        assertEquals(new BigDecimal("1000"), decimalCalculatorService.chainCalculate(
+                0, operations, DECIMAL128, ExpressionLimits.UNLIMITED));
+    }
+
+    /**
+     * Test that expressions evaluate functions and reject variables.
+     */
+    @Test
+    public void testExpressionEvaluation() {
+        assertEquals(new BigDecimal("1.414213562373095048801688724209698"),
+                expressionEvaluator.evaluate("sqrt(2)", DECIMAL128));
+        assertEquals(new BigDecimal("-2.5"), expressionEvaluator.evaluate("-max(1, 2.5) ^ 1", DECIMAL128));
+        assertThrows(IllegalArgumentException.class, () -> expressionEvaluator.evaluate("x + 1", DECIMAL128));
+        assertThrows(IllegalArgumentException.class, () -> expressionEvaluator.evaluate("log(0)", DECIMAL128));
+    }
+
+    /**
+     * Test the mapping of request parameters to a math context.
+     */
+    @Test
+    public void testCreateMathContext() {
+        assertNull(DecimalCalculatorService.createMathContext(null, null));
+        assertEquals(new MathContext(10, RoundingMode.HALF_EVEN), DecimalCalculatorService.createMathContext(10, null));
+        assertThrows(IllegalArgumentException.class, () -> DecimalCalculatorService.createMathContext(-1, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> DecimalCalculatorService.createMathContext(null, RoundingMode.UP));
+    }
+}
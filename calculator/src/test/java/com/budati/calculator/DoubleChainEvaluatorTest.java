@@ -0,0 +1,161 @@
+package com.budati.calculator;
+
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculatorService;
+import com.budati.calculator.service.DoubleChainEvaluator;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test class for DoubleChainEvaluator.
+ *
+ * Verifies that the primitive evaluation engine resolves chains with the
+ * same priority rules and error handling as the boxed calculation path.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class DoubleChainEvaluatorTest {
+
+    // The evaluator under test, covering every supported operation
+    private DoubleChainEvaluator evaluator;
+
+    /**
+     * Builds an ordinal-indexed strategy table before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        DoubleOperationStrategy[] strategies = new DoubleOperationStrategy[Operation.values().length];
+        strategies[Operation.ADD.ordinal()] = new Add();
+        strategies[Operation.SUBTRACT.ordinal()] = new Subtract();
+        strategies[Operation.MULTIPLY.ordinal()] = new Multiply();
+        strategies[Operation.DIVIDE.ordinal()] = new Divide();
+        strategies[Operation.POWER.ordinal()] = new Power();
+        evaluator = new DoubleChainEvaluator(strategies);
+    }
+
+    /**
+     * Test that operation priority is respected across mixed levels.
+     *
+     * The test calculates: 2 + 3 * 2 ^ 3 - 8 / 4 = 24
+     */
+    @Test
+    public void testMixedPriorityChain() {
+        List<Pair<Operation, Number>> operations = Arrays.asList(
+                Pair.of(Operation.ADD, 3),
+                Pair.of(Operation.MULTIPLY, 2),
+                Pair.of(Operation.POWER, 3),
+                Pair.of(Operation.SUBTRACT, 8),
+                Pair.of(Operation.DIVIDE, 4)
+        );
+
+        assertEquals(24.0, evaluator.evaluate(2, operations));
+    }
+
+    /**
+     * Test that random chains of every priority pattern evaluate bit for
+     * bit like the incremental accumulator, which resolves them on stacks.
+     */
+    @Test
+    public void testMatchesAccumulator() {
+        Operation[] operations = Operation.values();
+        Random random = new Random(42);
+        for (int chain = 0; chain < 1_000; chain++) {
+            double initialValue = random.nextInt(19) - 9;
+            List<Pair<Operation, Number>> steps = new ArrayList<>();
+            DoubleChainEvaluator.Accumulator accumulator = evaluator.newAccumulator(initialValue);
+            for (int length = random.nextInt(12); length > 0; length--) {
+                Operation operation = operations[random.nextInt(operations.length)];
+                // Non-zero operands, as division by zero is rejected
+                double value = (random.nextInt(9) + 1) * (random.nextBoolean() ? 1 : -0.5);
+                steps.add(Pair.of(operation, value));
+                accumulator.push(operation.ordinal(), value);
+            }
+
+            assertEquals(Double.doubleToRawLongBits(accumulator.result()),
+                    Double.doubleToRawLongBits(evaluator.evaluate(initialValue, steps)), steps.toString());
+        }
+    }
+
+    /**
+     * Test that equal-priority operations are resolved from left to right.
+     *
+     * The test calculates: 2 ^ 3 ^ 2 = 64
+     */
+    @Test
+    public void testEqualPriorityIsLeftAssociative() {
+        List<Pair<Operation, Number>> operations = Arrays.asList(
+                Pair.of(Operation.POWER, 3),
+                Pair.of(Operation.POWER, 2)
+        );
+
+        assertEquals(64.0, evaluator.evaluate(2, operations));
+    }
+
+    /**
+     * Test that the division-by-zero check of Divide is preserved.
+     */
+    @Test
+    public void testDivideByZero() {
+        List<Pair<Operation, Number>> operations = Collections.singletonList(Pair.of(Operation.DIVIDE, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate(1, operations));
+    }
+
+    /**
+     * Test that the service falls back to the boxed path when a strategy
+     * does not implement the primitive contract, with identical results.
+     */
+    @Test
+    public void testBoxedStrategyFallback() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.MULTIPLY, new OperationStrategy() {
+            @Override
+            public Number apply(Number num1, Number num2) {
+                return num1.doubleValue() * num2.doubleValue();
+            }
+
+            @Override
+            public Operation getOperation() {
+                return Operation.MULTIPLY;
+            }
+        });
+        CalculatorService service = new CalculatorService(strategies);
+
+        List<Pair<Operation, Number>> operations = Arrays.asList(
+                Pair.of(Operation.MULTIPLY, 5),
+                Pair.of(Operation.ADD, 3)
+        );
+
+        assertEquals(13.0, service.chainCalculate(2, operations));
+        assertEquals(7, service.chainCalculate(7, Collections.emptyList()));
+    }
+
+    /**
+     * Test that a missing strategy is reported as an unsupported operation.
+     */
+    @Test
+    public void testUnsupportedOperation() {
+        DoubleOperationStrategy[] strategies = new DoubleOperationStrategy[Operation.values().length];
+        strategies[Operation.ADD.ordinal()] = new Add();
+        DoubleChainEvaluator partialEvaluator = new DoubleChainEvaluator(strategies);
+
+        List<Pair<Operation, Number>> operations = Collections.singletonList(Pair.of(Operation.POWER, 2));
+
+        assertThrows(UnsupportedOperationException.class, () -> partialEvaluator.evaluate(3, operations));
+    }
+}
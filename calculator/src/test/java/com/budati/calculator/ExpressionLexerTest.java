@@ -0,0 +1,104 @@
+package com.budati.calculator;
+
+import com.budati.calculator.model.Operation;
+import com.budati.calculator.parser.ExpressionLexer;
+import com.budati.calculator.parser.ExpressionSyntaxException;
+import com.budati.calculator.parser.TokenType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for ExpressionLexer.
+ *
+ * Verifies tokenization without whitespace, numeric conversion,
+ * unary minus detection and positioned syntax errors.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ExpressionLexerTest {
+
+    /**
+     * Test that tokens are recognized without separating whitespace.
+     */
+    @Test
+    public void testTokensWithoutWhitespace() {
+        ExpressionLexer lexer = new ExpressionLexer("-(2.5*-3)^2");
+
+        assertEquals(TokenType.UNARY_MINUS, lexer.next());
+        assertEquals(TokenType.LEFT_PARENTHESIS, lexer.next());
+        assertEquals(TokenType.NUMBER, lexer.next());
+        assertEquals(2.5, lexer.getNumericValue());
+        assertEquals(TokenType.OPERATOR, lexer.next());
+        assertEquals(Operation.MULTIPLY, lexer.getOperation());
+        assertEquals(TokenType.UNARY_MINUS, lexer.next());
+        assertEquals(TokenType.NUMBER, lexer.next());
+        assertEquals(TokenType.RIGHT_PARENTHESIS, lexer.next());
+        assertEquals(TokenType.OPERATOR, lexer.next());
+        assertEquals(Operation.POWER, lexer.getOperation());
+        assertEquals(TokenType.NUMBER, lexer.next());
+        assertEquals(TokenType.END, lexer.next());
+    }
+
+    /**
+     * Test that numeric literals convert exactly like Double.parseDouble.
+     */
+    @Test
+    public void testNumberConversion() {
+        String[] literals = {
+                "0", "42", "0.1", ".5", "3.14159", "1e3", "2.5E-4", "123456789012345678901234",
+                "0.000000000000000000000000001", "1.7976931348623157e308", "4.9e-324", "9007199254740993",
+                // 19 and 20 significant digits, at and above 2^63
+                "9999999999999999999", "9223372036854775808", "0.9999999999999999999", "18446744073709551615",
+                "99999999999999999999", "12345678901234567890.5"
+        };
+
+        for (String literal : literals) {
+            ExpressionLexer lexer = new ExpressionLexer(literal);
+            assertEquals(TokenType.NUMBER, lexer.next(), literal);
+            assertEquals(Double.parseDouble(literal), lexer.getNumericValue(), literal);
+            assertEquals(TokenType.END, lexer.next(), literal);
+        }
+    }
+
+    /**
+     * Test that integer literals within the int range are flagged as integral.
+     */
+    @Test
+    public void testIntegralDetection() {
+        assertTrue(integral("2147483647"));
+        assertFalse(integral("2147483648"));
+        assertFalse(integral("5.0"));
+        assertFalse(integral("5e0"));
+        assertFalse(integral("9999999999999999999"));
+        assertFalse(integral("99999999999999999999"));
+    }
+
+    /**
+     * Test that syntax errors report the offending position.
+     */
+    @Test
+    public void testSyntaxErrorPosition() {
+        ExpressionLexer lexer = new ExpressionLexer("1 + $");
+        lexer.next();
+        lexer.next();
+
+        ExpressionSyntaxException exception = assertThrows(ExpressionSyntaxException.class, lexer::next);
+        assertEquals(4, exception.getPosition());
+        assertThrows(ExpressionSyntaxException.class, () -> new ExpressionLexer("1e+").next());
+    }
+
+    /**
+     * Tokenizes a single literal and reports whether it is integral.
+     *
+     * @param literal Numeric literal
+     * @return Integral flag of the literal
+     */
+    private boolean integral(String literal) {
+        ExpressionLexer lexer = new ExpressionLexer(literal);
+        lexer.next();
+        return lexer.isIntegral();
+    }
+}
@@ -0,0 +1,211 @@
+package com.budati.calculator;
+
+import com.budati.calculator.ast.NumberLiteral;
+import com.budati.calculator.ast.ParsedExpression;
+import com.budati.calculator.expression.*;
+import com.budati.calculator.model.*;
+import com.budati.calculator.parser.ExpressionLimitException;
+import com.budati.calculator.parser.ExpressionLimits;
+import com.budati.calculator.parser.ExpressionParser;
+import com.budati.calculator.service.CalculatorService;
+import com.budati.calculator.service.DecimalCalculatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for ExpressionLimits.
+ *
+ * Verifies that the length, token, depth, step, precision and time limits reject
+ * expressions beyond them with the limit that was exceeded, and accept
+ * expressions within them.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ExpressionLimitsTest {
+
+    // Limits small enough to reach in a test
+    private static final ExpressionLimits LIMITS = new ExpressionLimits(200, 40, 8, 50, 100, Duration.ofSeconds(10));
+
+    // Service providing the operation strategies
+    private CalculatorService calculatorService;
+
+    // Registry compiling definitions under the limits
+    private FunctionRegistry functionRegistry;
+
+    // Compiler under test, resolving functions through the registry
+    private ExpressionCompiler expressionCompiler;
+
+    /**
+     * Creates a registry and compiler under the test limits before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+        calculatorService = new CalculatorService(strategies);
+        functionRegistry = new FunctionRegistry(calculatorService, LIMITS);
+        expressionCompiler = new ExpressionCompiler(functionRegistry, LIMITS);
+    }
+
+    private ExpressionLimitException.Limit rejectedLimit(String expression) {
+        return assertThrows(ExpressionLimitException.class, () -> expressionCompiler.compile(expression)).getLimit();
+    }
+
+    /**
+     * Test that long expressions and expressions of many tokens are rejected.
+     */
+    @Test
+    public void testLengthAndTokens() {
+        assertEquals(ExpressionLimitException.Limit.LENGTH, rejectedLimit("1" + " ".repeat(200)));
+
+        ExpressionParser parser = new ExpressionParser(BuiltinFunction::getByName,
+                new ExpressionLimits(200, 40, 100, 1000, 100, null));
+        // 39 tokens
+        assertNotNull(parser.parse("1" + "+1".repeat(19)));
+        ExpressionLimitException exception = assertThrows(ExpressionLimitException.class,
+                () -> parser.parse("1" + "+1".repeat(20)));
+        assertEquals(ExpressionLimitException.Limit.TOKENS, exception.getLimit());
+        assertEquals(40, exception.getMaximum());
+        assertTrue(exception.getMessage().contains("40 tokens"));
+    }
+
+    /**
+     * Test that deep syntax trees and deep parser recursion are both rejected.
+     */
+    @Test
+    public void testDepth() {
+        assertEquals(1, expressionCompiler.compile("(".repeat(7) + "1" + ")".repeat(7)).evaluate(calculatorService));
+        // Parentheses add no tree nodes but nest the parser
+        assertEquals(ExpressionLimitException.Limit.DEPTH, rejectedLimit("(".repeat(8) + "1" + ")".repeat(8)));
+        assertEquals(ExpressionLimitException.Limit.DEPTH, rejectedLimit("+".repeat(8) + "1"));
+        // Right-associative chains nest the parser
+        assertEquals(ExpressionLimitException.Limit.DEPTH, rejectedLimit("2" + "^2".repeat(8)));
+        // Infix functions are visited recursively through their left argument
+        assertEquals(ExpressionLimitException.Limit.DEPTH, rejectedLimit("x" + " mod x".repeat(8)));
+        assertEquals(ExpressionLimitException.Limit.DEPTH, rejectedLimit("abs(".repeat(8) + "x" + ")".repeat(8)));
+        assertEquals(ExpressionLimitException.Limit.DEPTH, rejectedLimit("-(".repeat(8) + "x" + ")".repeat(8)));
+        assertEquals(7.0, expressionCompiler.compile("x" + "+x".repeat(6)).evaluateAsDouble(calculatorService,
+                new double[] {1}));
+
+        // Unlimited parsers accept what the limited one rejects
+        assertNotNull(new ExpressionParser().parse("2" + "^2".repeat(8)));
+    }
+
+    /**
+     * Test that left-associative chains longer than the depth limit are
+     * accepted, and that visitors walk them without deep recursion.
+     */
+    @Test
+    public void testFlatChain() {
+        assertEquals(-11.0, expressionCompiler.compile("x" + "-x".repeat(12)).evaluateAsDouble(calculatorService,
+                new double[] {1}));
+        assertEquals(4096.0, expressionCompiler.compile("2" + "*2".repeat(11)).evaluateAsDouble(calculatorService,
+                new double[0]));
+
+        int terms = 100_000;
+        ExpressionLimits limits = new ExpressionLimits(Integer.MAX_VALUE, Integer.MAX_VALUE, 256, Long.MAX_VALUE,
+                100, null);
+        ExpressionCompiler compiler = new ExpressionCompiler(new ExpressionParser(BuiltinFunction::getByName, limits));
+        ParsedExpression sum = compiler.parse("x" + "+x".repeat(terms - 1));
+        assertEquals(terms, compiler.compile(sum).evaluateAsDouble(calculatorService, new double[] {1}));
+
+        ExpressionOptimizer optimizer = new ExpressionOptimizer(calculatorService);
+        assertEquals(2 * terms - 1, ExpressionOptimizer.countNodes(sum.getRoot()));
+        ParsedExpression folded = optimizer.optimize(compiler.parse("1" + "+1".repeat(terms - 1)));
+        assertEquals(terms, assertInstanceOf(NumberLiteral.class, folded.getRoot()).getValue());
+        assertSame(sum, optimizer.optimize(sum));
+
+        // Too large for one method, but rejected rather than overflowing the emitter
+        BytecodeExpressionCompiler bytecodeCompiler = new BytecodeExpressionCompiler(calculatorService);
+        assertThrows(UnsupportedOperationException.class, () -> bytecodeCompiler.compile(sum));
+        assertEquals(1_000.0, bytecodeCompiler.compile(compiler.parse("x" + "+x".repeat(999)))
+                .evaluate(new double[] {1}));
+
+        Map<Operation, DecimalOperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new DecimalAdd());
+        DecimalExpressionEvaluator decimalEvaluator =
+                new DecimalExpressionEvaluator(compiler, new DecimalCalculatorService(strategies));
+        assertEquals(0, BigDecimal.valueOf(terms).compareTo(
+                decimalEvaluator.evaluate("1" + "+1".repeat(terms - 1), MathContext.DECIMAL64)));
+    }
+
+    /**
+     * Test that steps count the bodies of called functions, so chains of
+     * definitions cannot multiply the cost of a call past the limit.
+     */
+    @Test
+    public void testSteps() {
+        // x + x: 3 steps
+        functionRegistry.define("f1(x) = x + x", 0);
+        ExpressionProgram program = expressionCompiler.compile("f1(2)");
+        // Constant and call, plus the body of f1
+        assertEquals(5, program.getSteps());
+        assertEquals(4.0, program.evaluateAsDouble(calculatorService, new double[0]));
+
+        // f2: 5 + 2 * 3 = 11 steps, f3: 5 + 2 * 11 = 27 steps, f4 would take 59
+        functionRegistry.define("f2(x) = f1(x) + f1(x)", 0);
+        functionRegistry.define("f3(x) = f2(x) + f2(x)", 0);
+        assertEquals(29, expressionCompiler.compile("f3(1)").getSteps());
+        ExpressionLimitException exception = assertThrows(ExpressionLimitException.class,
+                () -> functionRegistry.define("f4(x) = f3(x) + f3(x)", 0));
+        assertEquals(ExpressionLimitException.Limit.STEPS, exception.getLimit());
+        assertNull(functionRegistry.get("f4"));
+        assertEquals(ExpressionLimitException.Limit.STEPS, rejectedLimit("f3(1) + f3(1)"));
+    }
+
+    /**
+     * Test that arbitrary-precision evaluations are refused beyond the
+     * precision limit and stop once they exceed the time limit.
+     */
+    @Test
+    public void testEvaluationTime() {
+        Map<Operation, DecimalOperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new DecimalAdd());
+        strategies.put(Operation.SUBTRACT, new DecimalSubtract());
+        strategies.put(Operation.MULTIPLY, new DecimalMultiply());
+        strategies.put(Operation.DIVIDE, new DecimalDivide());
+        strategies.put(Operation.POWER, new DecimalPower());
+        DecimalCalculatorService decimalCalculatorService = new DecimalCalculatorService(strategies);
+        String expression = "sqrt(2) + sqrt(3) + sqrt(5)";
+        MathContext mathContext = new MathContext(2_000);
+
+        ExpressionLimits timed = new ExpressionLimits(200, 40, 8, 50, 2_000, Duration.ofNanos(1));
+        DecimalExpressionEvaluator limited = new DecimalExpressionEvaluator(
+                new ExpressionCompiler(new ExpressionParser(BuiltinFunction::getByName, timed)),
+                decimalCalculatorService);
+        ExpressionLimitException exception = assertThrows(ExpressionLimitException.class,
+                () -> limited.evaluate(expression, mathContext));
+        assertEquals(ExpressionLimitException.Limit.TIME, exception.getLimit());
+        exception = assertThrows(ExpressionLimitException.class,
+                () -> limited.evaluate(expression, new MathContext(2_001)));
+        assertEquals(ExpressionLimitException.Limit.PRECISION, exception.getLimit());
+
+        DecimalExpressionEvaluator unlimited =
+                new DecimalExpressionEvaluator(new ExpressionCompiler(), decimalCalculatorService);
+        assertEquals(2_000, unlimited.evaluate(expression, mathContext).precision());
+    }
+
+    /**
+     * Test that limits must be positive.
+     */
+    @Test
+    public void testInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpressionLimits(0, 1, 1, 1, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> new ExpressionLimits(1, 1, 1, 1, 1, Duration.ZERO));
+        assertEquals(Long.MAX_VALUE, ExpressionLimits.UNLIMITED.getMaxEvaluationNanos());
+    }
+}
@@ -0,0 +1,123 @@
+package com.budati.calculator;
+
+import com.budati.calculator.ast.*;
+import com.budati.calculator.expression.ExpressionCompiler;
+import com.budati.calculator.expression.ExpressionOptimizer;
+import com.budati.calculator.model.*;
+import com.budati.calculator.parser.ExpressionParser;
+import com.budati.calculator.service.CalculatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for ExpressionOptimizer.
+ *
+ * Verifies constant folding and that only identities exact under IEEE 754
+ * semantics are applied.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ExpressionOptimizerTest {
+
+    // Parser producing the trees to optimize
+    private final ExpressionParser parser = new ExpressionParser();
+
+    // Service providing the operation strategies
+    private CalculatorService calculatorService;
+
+    // The optimizer under test
+    private ExpressionOptimizer optimizer;
+
+    /**
+     * Creates an optimizer over the built-in strategies before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+        calculatorService = new CalculatorService(strategies);
+        optimizer = new ExpressionOptimizer(calculatorService);
+    }
+
+    /**
+     * Test that constant subexpressions and built-in functions are folded.
+     */
+    @Test
+    public void testConstantFolding() {
+        ExpressionNode root = optimize("2 ^ 10 + sqrt(16) * x");
+
+        BinaryOperation sum = assertInstanceOf(BinaryOperation.class, root);
+        assertEquals(1024.0, assertInstanceOf(NumberLiteral.class, sum.getLeft()).getValue());
+        BinaryOperation product = assertInstanceOf(BinaryOperation.class, sum.getRight());
+        assertEquals(4.0, assertInstanceOf(NumberLiteral.class, product.getLeft()).getValue());
+        assertEquals(3, optimizer.getEliminatedNodeCount());
+    }
+
+    /**
+     * Test that safe identities reduce to the variable itself.
+     */
+    @Test
+    public void testSafeIdentities() {
+        for (String expression : new String[] {"x * 1", "1 * x", "x / 1", "x ^ 1", "x - 0", "x + -0", "--x"}) {
+            assertInstanceOf(VariableReference.class, optimize(expression), expression);
+        }
+        assertEquals(1.0, assertInstanceOf(NumberLiteral.class, optimize("(x * y) ^ 0")).getValue());
+    }
+
+    /**
+     * Test that identities which do not hold for every double are kept.
+     */
+    @Test
+    public void testUnsafeIdentitiesAreKept() {
+        // -0 + 0 is +0, and 0 * x is NaN for infinite x
+        assertInstanceOf(BinaryOperation.class, optimize("x + 0"));
+        assertInstanceOf(BinaryOperation.class, optimize("0 * x"));
+        assertInstanceOf(BinaryOperation.class, optimize("x - -0"));
+        // Dropping the base would also drop its division by zero
+        assertInstanceOf(BinaryOperation.class, optimize("(1 / x) ^ 0"));
+    }
+
+    /**
+     * Test that a division by a zero literal is kept and still fails on evaluation.
+     */
+    @Test
+    public void testDivisionByZeroIsNotFolded() {
+        ParsedExpression optimized = optimizer.optimize(parser.parse("x + 1 / 0"));
+
+        BinaryOperation sum = assertInstanceOf(BinaryOperation.class, optimized.getRoot());
+        assertInstanceOf(BinaryOperation.class, sum.getRight());
+        assertThrows(IllegalArgumentException.class, () -> new ExpressionCompiler().compile(optimized)
+                .evaluateAsDouble(calculatorService, new double[] {1}));
+    }
+
+    /**
+     * Test that folded results keep the boxed type of the unoptimized evaluation.
+     */
+    @Test
+    public void testFoldedRootEvaluatesAsDouble() {
+        ParsedExpression optimized = optimizer.optimize(parser.parse("2 + 3"));
+
+        assertEquals(5.0, new ExpressionCompiler().compile(optimized).evaluate(calculatorService));
+    }
+
+    /**
+     * Parses and optimizes an expression.
+     *
+     * @param expression Expression text
+     * @return Root of the optimized tree
+     */
+    private ExpressionNode optimize(String expression) {
+        return optimizer.optimize(parser.parse(expression)).getRoot();
+    }
+}
@@ -0,0 +1,118 @@
+package com.budati.calculator;
+
+import com.budati.calculator.ast.BinaryOperation;
+import com.budati.calculator.ast.NumberLiteral;
+import com.budati.calculator.ast.ParsedExpression;
+import com.budati.calculator.expression.ExpressionCompiler;
+import com.budati.calculator.model.*;
+import com.budati.calculator.parser.ExpressionParser;
+import com.budati.calculator.parser.ExpressionSyntaxException;
+import com.budati.calculator.service.CalculatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for ExpressionParser.
+ *
+ * Verifies operator precedence and associativity, grouping, prefix
+ * signs, function calls and variables, both on the syntax tree and
+ * through compiled evaluation.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ExpressionParserTest {
+
+    // The parser under test
+    private final ExpressionParser parser = new ExpressionParser();
+
+    // Compiler turning parsed expressions into programs
+    private final ExpressionCompiler compiler = new ExpressionCompiler(parser);
+
+    // Service providing the operation strategies
+    private CalculatorService calculatorService;
+
+    /**
+     * Creates a service with every strategy before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+        calculatorService = new CalculatorService(strategies);
+    }
+
+    /**
+     * Test that exponentiation groups from the right.
+     */
+    @Test
+    public void testPowerIsRightAssociative() {
+        BinaryOperation root = (BinaryOperation) parser.parse("2 ^ 3 ^ 2").getRoot();
+
+        assertEquals(Operation.POWER, root.getOperation());
+        assertInstanceOf(NumberLiteral.class, root.getLeft());
+        assertInstanceOf(BinaryOperation.class, root.getRight());
+        assertEquals(512.0, evaluate("2 ^ 3 ^ 2"));
+    }
+
+    /**
+     * Test precedence, left associativity and parentheses.
+     */
+    @Test
+    public void testPrecedenceAndGrouping() {
+        assertEquals(14.0, evaluate("2 + 3 * 4"));
+        assertEquals(20.0, evaluate("(2 + 3) * 4"));
+        assertEquals(1.0, evaluate("8 - 4 - 3"));
+        assertEquals(1.0, evaluate("16 / 4 / 4"));
+        assertEquals(-4.0, evaluate("-2 ^ 2"));
+        assertEquals(0.25, evaluate("2 ^ -2"));
+        assertEquals(5.0, evaluate("+2 - -3"));
+        assertEquals(-3, evaluate("-3"));
+    }
+
+    /**
+     * Test function calls and variables.
+     */
+    @Test
+    public void testFunctionsAndVariables() {
+        assertEquals(5.0, evaluate("max(sqrt(16), min(5, 7))"));
+
+        ParsedExpression parsed = parser.parse("a * b + a");
+        assertEquals(Arrays.asList("a", "b"), parsed.getVariableNames());
+        assertEquals(9.0, compiler.compile(parsed).evaluateAsDouble(calculatorService, new double[] {3, 2}));
+    }
+
+    /**
+     * Test that malformed expressions are rejected with a position.
+     */
+    @Test
+    public void testSyntaxErrors() {
+        assertEquals(6, assertThrows(ExpressionSyntaxException.class, () -> parser.parse("(1 + 2")).getPosition());
+        assertEquals(3, assertThrows(ExpressionSyntaxException.class, () -> parser.parse("1 +")).getPosition());
+        assertEquals(0, assertThrows(ExpressionSyntaxException.class, () -> parser.parse("foo(1)")).getPosition());
+        assertThrows(ExpressionSyntaxException.class, () -> parser.parse("max(1)"));
+        assertThrows(ExpressionSyntaxException.class, () -> parser.parse("1 2"));
+        assertThrows(IllegalArgumentException.class, () -> evaluate("x + 1"));
+    }
+
+    /**
+     * Compiles and evaluates an expression without variables.
+     *
+     * @param expression Expression text
+     * @return Evaluation result
+     */
+    private Number evaluate(String expression) {
+        return compiler.compile(expression).evaluate(calculatorService);
+    }
+}
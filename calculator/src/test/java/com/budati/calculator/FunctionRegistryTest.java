@@ -0,0 +1,181 @@
+package com.budati.calculator;
+
+import com.budati.calculator.expression.BytecodeExpressionCompiler;
+import com.budati.calculator.expression.CompiledExpressionCache;
+import com.budati.calculator.expression.DefinedFunction;
+import com.budati.calculator.expression.ExpressionCompiler;
+import com.budati.calculator.expression.ExpressionOptimizer;
+import com.budati.calculator.expression.ExpressionTieringPolicy;
+import com.budati.calculator.expression.FunctionRegistry;
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for FunctionRegistry.
+ *
+ * Verifies plugin loading, runtime definitions, infix functions and
+ * invalidation of cached expressions when a definition changes. The
+ * {@link Discount} plugin is listed in the test resources under
+ * META-INF/services.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class FunctionRegistryTest {
+
+    private CalculatorService calculatorService;
+    private FunctionRegistry functionRegistry;
+    private ExpressionCompiler expressionCompiler;
+
+    /**
+     * Plugin function loaded through ServiceLoader: price less a percentage.
+     */
+    public static class Discount implements ExpressionFunction {
+
+        @Override
+        public String getName() {
+            return "discount";
+        }
+
+        @Override
+        public int getArity() {
+            return 2;
+        }
+
+        @Override
+        public int getPrecedence() {
+            return 2;
+        }
+
+        @Override
+        public double invoke(double[] arguments, int offset) {
+            return arguments[offset] * (1 - arguments[offset + 1] / 100);
+        }
+    }
+
+    /**
+     * Creates a registry with one configured definition before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+        calculatorService = new CalculatorService(strategies);
+        functionRegistry = new FunctionRegistry(calculatorService, "square(x) = x * x; ");
+        expressionCompiler = new ExpressionCompiler(functionRegistry);
+    }
+
+    private double evaluate(String expression, double... variables) {
+        return expressionCompiler.compile(expression).evaluateAsDouble(calculatorService, variables);
+    }
+
+    /**
+     * Test that built-in, plugin and configured functions are registered.
+     */
+    @Test
+    public void testSources() {
+        assertSame(BuiltinFunction.MOD, functionRegistry.get("mod"));
+        assertInstanceOf(Discount.class, functionRegistry.get("discount"));
+        assertInstanceOf(DefinedFunction.class, functionRegistry.get("square"));
+        assertEquals(BuiltinFunction.values().length + 2, functionRegistry.getFunctions().size());
+
+        assertEquals(90.0, evaluate("discount(100, 10)"));
+        assertEquals(49.0, evaluate("square(x)", 7));
+        assertEquals(5.0, evaluate("hypot(3, 4)"));
+    }
+
+    /**
+     * Test infix use of functions with a priority.
+     */
+    @Test
+    public void testInfixFunctions() {
+        assertEquals(1.0, evaluate("7 mod 3"));
+        assertEquals(-1.0, evaluate("-7 mod 3"));
+        assertEquals(1.0, evaluate("7 mod -3"));
+        assertEquals(4.0, evaluate("1 + 7 mod 3 * 3"));
+        assertEquals(3.0, evaluate("17 mod 7 mod 4"));
+        assertEquals(9.0, evaluate("100 discount 10 mod 20 - x", 1));
+        assertEquals(3.0, evaluate("mod + 1", 2));
+
+        assertThrows(IllegalArgumentException.class, () -> evaluate("7 mod"));
+        assertThrows(IllegalArgumentException.class, () -> evaluate("7 square 3"));
+    }
+
+    /**
+     * Test runtime definitions, redefinition and removal.
+     */
+    @Test
+    public void testDefine() {
+        DefinedFunction hypot3 = functionRegistry.define("hypot3(x, y, z) = sqrt(square(x) + y*y + z*z)", 0);
+        assertEquals(3, hypot3.getArity());
+        assertEquals(List.of("x", "y", "z"), hypot3.getParameters());
+        assertEquals(7.0, evaluate("hypot3(2, 3, 6)"));
+
+        functionRegistry.define("avg(a, b) = (a + b) / 2", 1);
+        assertEquals(5.0, evaluate("2 avg 4 * 2"));
+
+        functionRegistry.define("avg(a, b) = a", 0);
+        assertThrows(IllegalArgumentException.class, () -> evaluate("2 avg 4"));
+        assertEquals(2.0, evaluate("avg(2, 4)"));
+
+        functionRegistry.define("one() = 1", 0);
+        assertEquals(1.0, evaluate("one()"));
+
+        assertTrue(functionRegistry.remove("avg"));
+        assertFalse(functionRegistry.remove("avg"));
+        assertNull(functionRegistry.get("avg"));
+        assertThrows(IllegalArgumentException.class, () -> functionRegistry.remove("sqrt"));
+        assertThrows(IllegalArgumentException.class, () -> functionRegistry.remove("discount"));
+    }
+
+    /**
+     * Test that invalid definitions are rejected and leave the registry unchanged.
+     */
+    @Test
+    public void testInvalidDefinitions() {
+        int size = functionRegistry.getFunctions().size();
+        String[] definitions = {
+                "f(x)", "f(x) = x +", "f(x) = y", "f(x, x) = x", "f(1) = 1", "sqrt(x) = x", "discount(a, b) = a",
+                "f(x) = f(x)", "f(x) = unknown(x)"
+        };
+        for (String definition : definitions) {
+            assertThrows(IllegalArgumentException.class, () -> functionRegistry.define(definition, 0), definition);
+        }
+        assertThrows(IllegalArgumentException.class, () -> functionRegistry.define("f(x) = x", 2));
+        assertThrows(IllegalArgumentException.class, () -> functionRegistry.define("f(x, y) = x", 4));
+        assertEquals(size, functionRegistry.getFunctions().size());
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new FunctionRegistry(calculatorService, "g(x) = x; g(x) = y"));
+        assertEquals("Invalid function definition 'g(x) = y': Unknown variable 'y' in the body of g", e.getMessage());
+    }
+
+    /**
+     * Test that a redefinition invalidates cached expressions.
+     */
+    @Test
+    public void testRedefinitionInvalidatesCache() {
+        CompiledExpressionCache cache = new CompiledExpressionCache(expressionCompiler,
+                new ExpressionOptimizer(calculatorService),
+                new ExpressionTieringPolicy(new BytecodeExpressionCompiler(calculatorService), 0), 100);
+        cache.setFunctionRegistry(functionRegistry);
+        functionRegistry.define("price(x) = x * 2", 0);
+
+        assertEquals(20.0, cache.getExpression("price(10)").evaluate(calculatorService).doubleValue());
+        functionRegistry.define("price(x) = x * 3", 0);
+        assertEquals(30.0, cache.getExpression("price(10)").evaluate(calculatorService).doubleValue());
+    }
+}
@@ -0,0 +1,184 @@
+package com.budati.calculator;
+
+import com.budati.calculator.dto.ResultType;
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculatorService;
+import com.budati.calculator.service.ChainAccumulator;
+import com.budati.calculator.service.IntegerChainEvaluator;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+/**
+ * Unit test class for IntegerChainEvaluator.
+ *
+ * Verifies through {@link CalculatorService#chainCalculate} that integer
+ * chains stay exact, promote to BigInteger on overflow and fall back to
+ * double precision only when no exact integer result exists.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class IntegerChainEvaluatorTest {
+
+    // Service with every built-in strategy
+    private CalculatorService calculatorService;
+
+    /**
+     * Creates a service with the built-in strategies before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        calculatorService = new CalculatorService(createStrategies());
+    }
+
+    /**
+     * Test that integer chains above 2^53 are exact and typed as long.
+     */
+    @Test
+    public void testExactAboveDoublePrecision() {
+        // 2^53 + 1 is not representable as a double
+        Number result = calculatorService.chainCalculate(9007199254740992L, List.of(Pair.of(Operation.ADD, 1)));
+
+        assertEquals(9007199254740993L, result);
+        assertEquals(ResultType.LONG, ResultType.of(result));
+    }
+
+    /**
+     * Test that overflowing chains are promoted to BigInteger, and results
+     * that fit again are returned as long.
+     */
+    @Test
+    public void testOverflowPromotion() {
+        Number overflowed = calculatorService.chainCalculate(Long.MAX_VALUE, Arrays.asList(
+                Pair.of(Operation.MULTIPLY, 4),
+                Pair.of(Operation.ADD, 3)));
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(4)).add(BigInteger.valueOf(3)),
+                overflowed);
+
+        Number power = calculatorService.chainCalculate(3, List.of(Pair.of(Operation.POWER, 100)));
+        assertEquals(BigInteger.valueOf(3).pow(100), power);
+
+        Number narrowed = calculatorService.chainCalculate(Long.MAX_VALUE - 1, Arrays.asList(
+                Pair.of(Operation.MULTIPLY, 4),
+                Pair.of(Operation.DIVIDE, 8)));
+        assertEquals((Long.MAX_VALUE - 1) / 2, narrowed);
+    }
+
+    /**
+     * Test that long multiplication chains stop growing exact results past
+     * the size bound and fall back to double precision, serially, in parallel
+     * and incrementally.
+     */
+    @Test
+    public void testLongMultiplicationChain() {
+        List<Pair<Operation, Number>> doublings = Collections.nCopies(2_000, Pair.of(Operation.MULTIPLY, 2));
+        assertEquals(BigInteger.ONE.shiftLeft(2_000), calculatorService.chainCalculate(1, doublings));
+
+        List<Pair<Operation, Number>> operations =
+                Collections.nCopies(100_000, Pair.of(Operation.MULTIPLY, 2_000_000_000));
+        assertTimeout(Duration.ofSeconds(5), () -> {
+            assertEquals(Double.POSITIVE_INFINITY, calculatorService.chainCalculate(1, operations));
+            CalculatorService serialService = new CalculatorService(createStrategies());
+            serialService.setParallelism(0, 8192);
+            assertEquals(Double.POSITIVE_INFINITY, serialService.chainCalculate(1, operations));
+
+            ChainAccumulator accumulator = calculatorService.newChainAccumulator(1);
+            for (Pair<Operation, Number> step : operations) {
+                accumulator.push(step.getLeft(), step.getRight());
+            }
+            assertEquals(Double.POSITIVE_INFINITY, accumulator.complete());
+        });
+    }
+
+    /**
+     * Test that random chains, including overflowing and inexact ones,
+     * evaluate like the incremental accumulator, which resolves them on stacks.
+     */
+    @Test
+    public void testMatchesAccumulator() {
+        IntegerChainEvaluator evaluator = new IntegerChainEvaluator();
+        Operation[] operations = Operation.values();
+        Random random = new Random(42);
+        for (int chain = 0; chain < 1_000; chain++) {
+            long initialValue = random.nextInt(19) - 9;
+            List<Pair<Operation, Number>> steps = new ArrayList<>();
+            IntegerChainEvaluator.Accumulator accumulator = evaluator.newAccumulator(initialValue);
+            for (int length = random.nextInt(12); length > 0; length--) {
+                Operation operation = operations[random.nextInt(operations.length)];
+                // Non-zero operands, as division by zero is rejected
+                long value = (random.nextInt(9) + 1) * (random.nextBoolean() ? 1 : -100_000L);
+                steps.add(Pair.of(operation, value));
+                accumulator.push(operation.ordinal(), value);
+            }
+
+            assertEquals(accumulator.result(), evaluator.evaluate(initialValue, steps), steps.toString());
+        }
+    }
+
+    /**
+     * Test that exact divisions stay integral and inexact ones use double precision.
+     */
+    @Test
+    public void testDivision() {
+        assertEquals(5L, calculatorService.chainCalculate(20, List.of(Pair.of(Operation.DIVIDE, 4))));
+        assertEquals(3.5, calculatorService.chainCalculate(7, List.of(Pair.of(Operation.DIVIDE, 2))));
+        assertEquals(0.25, calculatorService.chainCalculate(2, List.of(Pair.of(Operation.POWER, -2))));
+        assertThrows(IllegalArgumentException.class,
+                () -> calculatorService.chainCalculate(7, List.of(Pair.of(Operation.DIVIDE, 0))));
+    }
+
+    /**
+     * Test that mixed chains and custom strategies keep the double path.
+     */
+    @Test
+    public void testDoublePathIsKept() {
+        assertEquals(7.5, calculatorService.chainCalculate(5, List.of(Pair.of(Operation.ADD, 2.5))));
+
+        Map<Operation, OperationStrategy> strategies = createStrategies();
+        strategies.put(Operation.ADD, new DoubleOperationStrategy() {
+            @Override
+            public double applyAsDouble(double left, double right) {
+                return left + right + 1;
+            }
+
+            @Override
+            public Operation getOperation() {
+                return Operation.ADD;
+            }
+        });
+        CalculatorService customService = new CalculatorService(strategies);
+        assertEquals(6.0, customService.chainCalculate(2, List.of(Pair.of(Operation.ADD, 3))));
+        assertEquals(6L, customService.chainCalculate(2, List.of(Pair.of(Operation.MULTIPLY, 3))));
+    }
+
+    /**
+     * Creates the built-in strategies.
+     *
+     * @return Mutable map of strategies
+     */
+    private static Map<Operation, OperationStrategy> createStrategies() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+        return strategies;
+    }
+}
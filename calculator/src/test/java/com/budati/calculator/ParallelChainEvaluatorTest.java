@@ -0,0 +1,122 @@
+package com.budati.calculator;
+
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculatorService;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for ParallelChainEvaluator.
+ *
+ * Verifies through {@link CalculatorService#chainCalculate} that chains
+ * split into terms and evaluated in parallel give exactly the results of
+ * serial evaluation, bit for bit in double precision.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ParallelChainEvaluatorTest {
+
+    // Service evaluating every chain serially
+    private CalculatorService serialService;
+
+    // Service evaluating every chain in parallel, in small segments
+    private CalculatorService parallelService;
+
+    /**
+     * Creates a serial and a parallel service before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        serialService = new CalculatorService(createStrategies());
+        serialService.setParallelism(0, 1);
+        parallelService = new CalculatorService(createStrategies());
+        parallelService.setParallelism(1, 64);
+    }
+
+    /**
+     * Test that long double chains are bit-identical to serial evaluation.
+     */
+    @Test
+    public void testDoubleChainIsBitIdentical() {
+        Random random = new Random(42);
+        Operation[] operations = {Operation.ADD, Operation.SUBTRACT, Operation.MULTIPLY, Operation.DIVIDE};
+        for (int chain = 0; chain < 5; chain++) {
+            List<Pair<Operation, Number>> steps = new ArrayList<>();
+            for (int step = 0; step < 100_000; step++) {
+                steps.add(Pair.of(operations[random.nextInt(operations.length)], 0.5 + random.nextDouble() * 3));
+            }
+            // Powers, and a chain that starts with a multiplicative run
+            steps.add(Pair.of(Operation.POWER, 1.5));
+            steps.add(0, Pair.of(Operation.MULTIPLY, 0.1));
+
+            double serial = serialService.chainCalculate(0.3, steps).doubleValue();
+            double parallel = parallelService.chainCalculate(0.3, steps).doubleValue();
+            assertEquals(Double.doubleToRawLongBits(serial), Double.doubleToRawLongBits(parallel));
+        }
+    }
+
+    /**
+     * Test that long integer chains stay exact, including overflow and inexact division.
+     */
+    @Test
+    public void testIntegerChainIsExact() {
+        Random random = new Random(7);
+        Operation[] operations = {Operation.ADD, Operation.SUBTRACT, Operation.MULTIPLY};
+        List<Pair<Operation, Number>> steps = new ArrayList<>();
+        for (int step = 0; step < 50_000; step++) {
+            steps.add(Pair.of(operations[random.nextInt(operations.length)], random.nextInt(1 << 20)));
+        }
+        steps.add(Pair.of(Operation.ADD, Long.MAX_VALUE));
+        steps.add(Pair.of(Operation.MULTIPLY, Long.MAX_VALUE));
+
+        Number serial = serialService.chainCalculate(3, steps);
+        assertInstanceOf(BigInteger.class, serial);
+        assertEquals(serial, parallelService.chainCalculate(3, steps));
+
+        steps.add(Pair.of(Operation.DIVIDE, 3));
+        steps.add(Pair.of(Operation.SUBTRACT, 1));
+        assertEquals(serialService.chainCalculate(3, steps), parallelService.chainCalculate(3, steps));
+    }
+
+    /**
+     * Test that failures surface as in serial evaluation.
+     */
+    @Test
+    public void testDivisionByZero() {
+        List<Pair<Operation, Number>> steps = new ArrayList<>();
+        for (int step = 0; step < 1000; step++) {
+            steps.add(Pair.of(step == 700 ? Operation.DIVIDE : Operation.ADD, step == 700 ? 0 : step));
+        }
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> parallelService.chainCalculate(1, steps));
+        assertEquals("Cannot divide by zero", e.getMessage());
+    }
+
+    /**
+     * Creates the built-in strategies.
+     *
+     * @return Map of strategies
+     */
+    private static Map<Operation, OperationStrategy> createStrategies() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+        return strategies;
+    }
+}
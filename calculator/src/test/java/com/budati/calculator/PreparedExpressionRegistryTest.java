@@ -0,0 +1,120 @@
+package com.budati.calculator;
+
+import com.budati.calculator.expression.BytecodeExpressionCompiler;
+import com.budati.calculator.expression.CompiledExpressionCache;
+import com.budati.calculator.expression.ExpressionCompiler;
+import com.budati.calculator.expression.ExpressionOptimizer;
+import com.budati.calculator.expression.ExpressionTieringPolicy;
+import com.budati.calculator.expression.PreparedExpression;
+import com.budati.calculator.expression.PreparedExpressionRegistry;
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for PreparedExpressionRegistry.
+ *
+ * Verifies that prepared expressions are compiled once and evaluated by
+ * identifier with a vector of variable values.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class PreparedExpressionRegistryTest {
+
+    // Service providing the operation strategies
+    private CalculatorService calculatorService;
+
+    // Cache compiling registered expressions
+    private CompiledExpressionCache expressionCache;
+
+    // The registry under test
+    private PreparedExpressionRegistry registry;
+
+    /**
+     * Creates an empty registry over a fresh expression cache before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+
+        calculatorService = new CalculatorService(strategies);
+        ExpressionTieringPolicy tieringPolicy =
+                new ExpressionTieringPolicy(new BytecodeExpressionCompiler(calculatorService), 3);
+        expressionCache = new CompiledExpressionCache(
+                new ExpressionCompiler(), new ExpressionOptimizer(calculatorService), tieringPolicy, 100);
+        registry = new PreparedExpressionRegistry(expressionCache, 100);
+    }
+
+    /**
+     * Test that a registered expression evaluates by identifier without re-parsing.
+     */
+    @Test
+    public void testEvaluateById() {
+        PreparedExpression prepared = registry.register("a * b + c");
+
+        assertEquals(Arrays.asList("a", "b", "c"), prepared.getVariableNames());
+        for (int invocation = 0; invocation < 5; invocation++) {
+            PreparedExpression byId = registry.get(prepared.getId());
+            assertEquals(invocation * 2.0 + 1, byId.evaluate(calculatorService, new double[] {invocation, 2, 1}));
+        }
+
+        assertTrue(prepared.isCompiled());
+        assertEquals(1, expressionCache.getStatistics().getMissCount());
+    }
+
+    /**
+     * Test that identifiers are unique while the compiled form is shared.
+     */
+    @Test
+    public void testRegisteringTwiceSharesCompiledForm() {
+        PreparedExpression first = registry.register("x / y");
+        PreparedExpression second = registry.register("x / y");
+
+        assertNotEquals(first.getId(), second.getId());
+        // Random rather than sequential, so identifiers cannot be enumerated
+        assertEquals(4, UUID.fromString(second.getId()).version());
+        assertEquals(1, expressionCache.getStatistics().getMissCount());
+        assertEquals(2, registry.size());
+    }
+
+    /**
+     * Test that a variable vector of the wrong length is rejected.
+     */
+    @Test
+    public void testVariableCountMismatch() {
+        PreparedExpression prepared = registry.register("a - b");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> prepared.evaluate(calculatorService, new double[] {1}));
+        assertThrows(IllegalArgumentException.class,
+                () -> prepared.evaluate(calculatorService, new double[] {1, 2, 3}));
+    }
+
+    /**
+     * Test that invalid expressions are not registered and removed identifiers are unknown.
+     */
+    @Test
+    public void testInvalidAndRemovedExpressions() {
+        assertThrows(IllegalArgumentException.class, () -> registry.register("a +"));
+
+        PreparedExpression prepared = registry.register("a + 1");
+        assertTrue(registry.remove(prepared.getId()));
+        assertNull(registry.get(prepared.getId()));
+        assertFalse(registry.remove(prepared.getId()));
+    }
+}
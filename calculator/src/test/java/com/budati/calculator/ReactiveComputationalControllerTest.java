@@ -0,0 +1,255 @@
+package com.budati.calculator;
+
+import com.budati.calculator.controller.ReactiveComputationalController;
+import com.budati.calculator.dto.MathematicalExpression;
+import com.budati.calculator.dto.StreamedComputationResult;
+import com.budati.calculator.expression.*;
+import com.budati.calculator.metrics.NoOpCalculatorMetrics;
+import com.budati.calculator.model.*;
+import com.budati.calculator.parser.ExpressionLimits;
+import com.budati.calculator.service.CalculatorService;
+import com.budati.calculator.service.DecimalCalculatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for ReactiveComputationalController.
+ *
+ * Posts NDJSON streams and verifies that every element yields one
+ * result in input order, including elements that fail or exceed the
+ * precision limit, and that evaluations do not block the event loop.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class ReactiveComputationalControllerTest {
+
+    // Service performing the double-precision calculations
+    private CalculatorService calculatorService;
+
+    // Cache providing compiled expressions
+    private CompiledExpressionCache expressionCache;
+
+    // Client bound to the controller under test
+    private WebTestClient client;
+
+    /**
+     * Binds a client to a controller with the built-in strategies before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+        calculatorService = new CalculatorService(strategies);
+
+        ExpressionTieringPolicy tieringPolicy =
+                new ExpressionTieringPolicy(new BytecodeExpressionCompiler(calculatorService), 0);
+        expressionCache = new CompiledExpressionCache(
+                new ExpressionCompiler(), new ExpressionOptimizer(calculatorService), tieringPolicy, 100);
+
+        Map<Operation, DecimalOperationStrategy> decimalStrategies = new EnumMap<>(Operation.class);
+        decimalStrategies.put(Operation.ADD, new DecimalAdd());
+        decimalStrategies.put(Operation.SUBTRACT, new DecimalSubtract());
+        decimalStrategies.put(Operation.MULTIPLY, new DecimalMultiply());
+        decimalStrategies.put(Operation.DIVIDE, new DecimalDivide());
+        decimalStrategies.put(Operation.POWER, new DecimalPower());
+        client = WebTestClient.bindToController(
+                createController(new DecimalCalculatorService(decimalStrategies))).build();
+    }
+
+    /**
+     * Creates a controller evaluating decimals with the given service.
+     *
+     * @param decimalCalculatorService Service performing arbitrary-precision calculations
+     * @return Controller under test
+     */
+    private ReactiveComputationalController createController(DecimalCalculatorService decimalCalculatorService) {
+        return new ReactiveComputationalController(
+                calculatorService,
+                decimalCalculatorService,
+                expressionCache,
+                new DecimalExpressionEvaluator(new ExpressionCompiler(), decimalCalculatorService),
+                NoOpCalculatorMetrics.INSTANCE,
+                new ExpressionLimits(1000, 100, 32, 1000, 50, Duration.ofSeconds(1)));
+    }
+
+    /**
+     * Test that a stream of expressions is answered element by element.
+     */
+    @Test
+    public void testExpressionStream() {
+        String body = "{\"rawExpression\":\"2 + 3 * 4\"}\n"
+                + "{\"rawExpression\":\"1 +\"}\n"
+                + "{\"rawExpression\":\"5\"}\n";
+
+        List<StreamedComputationResult> results = client.post()
+                .uri("/api/computational/stream/expression-compute")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Map.class)
+                .getResponseBody()
+                .map(ReactiveComputationalControllerTest::toResult)
+                .collectList()
+                .block();
+
+        assertEquals(3, results.size());
+        assertEquals(14.0, results.get(0).getResult().doubleValue());
+        assertNull(results.get(0).getError());
+        assertEquals("Invalid expression format", results.get(1).getError());
+        assertEquals(5, results.get(2).getResult().intValue());
+        assertEquals(2, results.get(2).getSequence());
+    }
+
+    /**
+     * Test that a stream of operation sequences is answered element by element.
+     */
+    @Test
+    public void testSequenceStream() {
+        String body = "{\"baseNumeric\":2,\"mathematicalSteps\":[{\"operationSymbol\":\"*\",\"operationValue\":5},"
+                + "{\"operationSymbol\":\"+\",\"operationValue\":3}]}\n"
+                + "{\"baseNumeric\":2,\"mathematicalSteps\":[{\"operationSymbol\":\"?\",\"operationValue\":5}]}\n";
+
+        List<StreamedComputationResult> results = client.post()
+                .uri("/api/computational/stream/sequence-compute")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Map.class)
+                .getResponseBody()
+                .map(ReactiveComputationalControllerTest::toResult)
+                .collectList()
+                .block();
+
+        assertEquals(2, results.size());
+        assertEquals(13.0, results.get(0).getResult().doubleValue());
+        assertEquals("Invalid computational sequence", results.get(1).getError());
+    }
+
+    /**
+     * Test that expressions and sequences beyond the precision limit yield an error naming the limit.
+     */
+    @Test
+    public void testPrecisionLimit() {
+        String expressions = "{\"rawExpression\":\"1 / 3\",\"precision\":50}\n"
+                + "{\"rawExpression\":\"1 / 3\",\"precision\":51}\n";
+        List<StreamedComputationResult> results = client.post()
+                .uri("/api/computational/stream/expression-compute")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(expressions)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Map.class)
+                .getResponseBody()
+                .map(ReactiveComputationalControllerTest::toResult)
+                .collectList()
+                .block();
+
+        assertEquals(2, results.size());
+        assertNull(results.get(0).getError());
+        assertEquals("Precision of 51 digits is more than the limit of 50", results.get(1).getError());
+
+        String sequences = "{\"baseNumeric\":1,\"precision\":51,"
+                + "\"mathematicalSteps\":[{\"operationSymbol\":\"/\",\"operationValue\":3}]}\n";
+        results = client.post()
+                .uri("/api/computational/stream/sequence-compute")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(sequences)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Map.class)
+                .getResponseBody()
+                .map(ReactiveComputationalControllerTest::toResult)
+                .collectList()
+                .block();
+
+        assertEquals(1, results.size());
+        assertNull(results.get(0).getResult());
+        assertEquals("Precision of 51 digits is more than the limit of 50", results.get(0).getError());
+    }
+
+    /**
+     * Test that a blocking evaluation does not hold the thread delivering
+     * the request elements, which in a server is the event loop.
+     */
+    @Test
+    public void testEvaluationOffEventLoop() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Map<Operation, DecimalOperationStrategy> decimalStrategies = new EnumMap<>(Operation.class);
+        decimalStrategies.put(Operation.ADD, new DecimalAdd() {
+            @Override
+            public BigDecimal apply(BigDecimal num1, BigDecimal num2, MathContext mathContext) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.apply(num1, num2, mathContext);
+            }
+        });
+        ReactiveComputationalController controller =
+                createController(new DecimalCalculatorService(decimalStrategies));
+
+        MathematicalExpression expression = new MathematicalExpression("1 + 2");
+        expression.setPrecision(10);
+        Scheduler eventLoop = Schedulers.newSingle("event-loop");
+        try {
+            CompletableFuture<List<StreamedComputationResult>> results = controller
+                    .evaluateExpressions(Flux.just(expression).subscribeOn(eventLoop))
+                    .collectList()
+                    .toFuture();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // The event loop runs other work while the evaluation is blocked
+            String thread = Mono.fromCallable(() -> Thread.currentThread().getName())
+                    .subscribeOn(eventLoop)
+                    .block(Duration.ofSeconds(5));
+            assertTrue(thread.startsWith("event-loop"), thread);
+            assertFalse(results.isDone());
+
+            release.countDown();
+            assertEquals(3, results.join().get(0).getResult().intValue());
+        } finally {
+            release.countDown();
+            eventLoop.dispose();
+        }
+    }
+
+    /**
+     * Converts a decoded NDJSON line into a result.
+     */
+    private static StreamedComputationResult toResult(Map<?, ?> line) {
+        return new StreamedComputationResult(
+                ((Number) line.get("sequence")).longValue(),
+                (Number) line.get("result"),
+                (String) line.get("error"));
+    }
+}
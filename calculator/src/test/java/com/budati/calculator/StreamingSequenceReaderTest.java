@@ -0,0 +1,228 @@
+package com.budati.calculator;
+
+import com.budati.calculator.model.*;
+import com.budati.calculator.service.CalculatorService;
+import com.budati.calculator.service.ChainAccumulator;
+import com.budati.calculator.service.StreamingSequenceReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for StreamingSequenceReader and ChainAccumulator.
+ *
+ * Verifies that sequences read token by token give the same results as
+ * {@link CalculatorService#chainCalculate} on the bound request.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class StreamingSequenceReaderTest {
+
+    private CalculatorService calculatorService;
+    private StreamingSequenceReader reader;
+
+    /**
+     * Creates the service and reader before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        calculatorService = new CalculatorService(createStrategies());
+        reader = new StreamingSequenceReader(calculatorService, new ObjectMapper());
+    }
+
+    /**
+     * Test that streamed chains match chainCalculate, exact and in double precision.
+     */
+    @Test
+    public void testMatchesChainCalculate() throws IOException {
+        Random random = new Random(11);
+        Operation[] operations = Operation.values();
+        for (int chain = 0; chain < 200; chain++) {
+            boolean integral = chain % 2 == 0;
+            List<Pair<Operation, Number>> steps = new ArrayList<>();
+            for (int step = 0; step < 1 + random.nextInt(40); step++) {
+                Operation operation = operations[random.nextInt(operations.length)];
+                Number value = operation == Operation.POWER ? random.nextInt(4)
+                        : integral ? (Number) (1 + random.nextInt(1000)) : (Number) (0.5 + random.nextDouble());
+                steps.add(Pair.of(operation, value));
+            }
+
+            Number expected = calculatorService.chainCalculate(7, steps);
+            Number actual = read(toJson(7, steps)).complete();
+            assertEquals(expected, actual, "chain " + steps);
+        }
+    }
+
+    /**
+     * Test that integer chains overflowing a long stay exact.
+     */
+    @Test
+    public void testOverflowPromotesToBigInteger() throws IOException {
+        Number result = read("{\"baseNumeric\":9223372036854775807,\"mathematicalSteps\":["
+                + "{\"operationSymbol\":\"*\",\"operationValue\":4},"
+                + "{\"operationSymbol\":\"+\",\"operationValue\":1},"
+                + "{\"operationSymbol\":\"^\",\"operationValue\":2}]}").complete();
+
+        BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        assertEquals(max.multiply(BigInteger.valueOf(4)).add(BigInteger.ONE), result);
+    }
+
+    /**
+     * Test that an inexact division falls back to double precision.
+     */
+    @Test
+    public void testInexactDivisionFallsBackToDouble() throws IOException {
+        Number result = read("{\"baseNumeric\":7,\"mathematicalSteps\":["
+                + "{\"operationSymbol\":\"/\",\"operationValue\":2},"
+                + "{\"operationSymbol\":\"+\",\"operationValue\":1}]}").complete();
+
+        assertEquals(4.5, result);
+    }
+
+    /**
+     * Test field handling: unknown fields, field order within steps and numbers as strings.
+     */
+    @Test
+    public void testFieldHandling() throws IOException {
+        Number result = read("{\"comment\":{\"nested\":[1,2]},\"baseNumeric\":\"2\",\"precision\":null,"
+                + "\"mathematicalSteps\":[{\"operationValue\":5,\"note\":\"x\",\"operationSymbol\":\"*\"},"
+                + "{\"operationSymbol\":\"+\",\"operationValue\":3}]}").complete();
+
+        assertEquals(13L, result);
+    }
+
+    /**
+     * Test that requests which cannot be streamed are rejected.
+     */
+    @Test
+    public void testInvalidRequests() {
+        assertThrows(IllegalArgumentException.class, () -> read(
+                "{\"mathematicalSteps\":[{\"operationSymbol\":\"+\",\"operationValue\":1}],\"baseNumeric\":1}"));
+        assertThrows(IllegalArgumentException.class, () -> read(
+                "{\"baseNumeric\":1,\"precision\":10,\"mathematicalSteps\":[]}"));
+        assertThrows(IllegalArgumentException.class, () -> read(
+                "{\"baseNumeric\":1,\"mathematicalSteps\":[{\"operationSymbol\":\"%\",\"operationValue\":1}]}"));
+        assertThrows(IllegalArgumentException.class, () -> read("{\"baseNumeric\":1}"));
+        assertThrows(IllegalArgumentException.class, () -> read(
+                "{\"baseNumeric\":1,\"mathematicalSteps\":[{\"operationSymbol\":\"/\",\"operationValue\":0}]}")
+                .complete());
+    }
+
+    /**
+     * Test a sequence of a million steps, generated while it is read.
+     */
+    @Test
+    public void testLongSequence() throws IOException {
+        int length = 1_000_000;
+        byte[] header = "{\"baseNumeric\":0,\"mathematicalSteps\":[".getBytes(StandardCharsets.US_ASCII);
+        byte[] step = "{\"operationSymbol\":\"+\",\"operationValue\":3},".getBytes(StandardCharsets.US_ASCII);
+        byte[] last = "{\"operationSymbol\":\"*\",\"operationValue\":2}]}".getBytes(StandardCharsets.US_ASCII);
+
+        InputStream body = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() {
+                long offset = position++;
+                if (offset < header.length) {
+                    return header[(int) offset];
+                }
+                offset -= header.length;
+                if (offset < (long) step.length * length) {
+                    return step[(int) (offset % step.length)];
+                }
+                offset -= (long) step.length * length;
+                return offset < last.length ? last[(int) offset] : -1;
+            }
+        };
+
+        ChainAccumulator accumulator = reader.read(body);
+        assertEquals(length + 1, accumulator.getLength());
+        assertEquals(3L * (length - 1) + 3 * 2, accumulator.complete());
+    }
+
+    /**
+     * Test that chains of boxed-only strategies are resolved on boxed stacks.
+     */
+    @Test
+    public void testBoxedStrategies() throws IOException {
+        Map<Operation, OperationStrategy> strategies = createStrategies();
+        strategies.put(Operation.ADD, new OperationStrategy() {
+            @Override
+            public Number apply(Number num1, Number num2) {
+                return num1.doubleValue() + num2.doubleValue() + 0.5;
+            }
+
+            @Override
+            public Operation getOperation() {
+                return Operation.ADD;
+            }
+        });
+        calculatorService = new CalculatorService(strategies);
+        reader = new StreamingSequenceReader(calculatorService, new ObjectMapper());
+
+        List<Pair<Operation, Number>> steps = List.of(
+                Pair.of(Operation.ADD, 2), Pair.of(Operation.MULTIPLY, 3), Pair.of(Operation.ADD, 1));
+        assertEquals(calculatorService.chainCalculate(1, steps), read(toJson(1, steps)).complete());
+    }
+
+    /**
+     * Reads a request body.
+     *
+     * @param json Request body
+     * @return Accumulator holding the steps of the body
+     */
+    private ChainAccumulator read(String json) throws IOException {
+        return reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Serializes a chain as a request body.
+     *
+     * @param baseNumeric Starting value
+     * @param steps Steps of the chain
+     * @return Request body
+     */
+    private static String toJson(Number baseNumeric, List<Pair<Operation, Number>> steps) {
+        StringBuilder json = new StringBuilder("{\"baseNumeric\":").append(baseNumeric).append(",\"mathematicalSteps\":[");
+        for (int index = 0; index < steps.size(); index++) {
+            if (index > 0) {
+                json.append(',');
+            }
+            json.append("{\"operationSymbol\":\"").append(steps.get(index).getLeft().getSymbol())
+                    .append("\",\"operationValue\":").append(steps.get(index).getRight()).append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Creates the built-in strategies.
+     *
+     * @return Map of strategies
+     */
+    private static Map<Operation, OperationStrategy> createStrategies() {
+        Map<Operation, OperationStrategy> strategies = new EnumMap<>(Operation.class);
+        strategies.put(Operation.ADD, new Add());
+        strategies.put(Operation.SUBTRACT, new Subtract());
+        strategies.put(Operation.MULTIPLY, new Multiply());
+        strategies.put(Operation.DIVIDE, new Divide());
+        strategies.put(Operation.POWER, new Power());
+        return strategies;
+    }
+}
@@ -0,0 +1,44 @@
+package com.budati.calculator.client;
+
+/**
+ * Frame format of the calculator binary protocol.
+ *
+ * A connection carries a stream of fixed-size request frames, answered by
+ * fixed-size response frames in the same order. Clients may send any
+ * number of requests before reading the responses (pipelining). All
+ * values are big-endian.
+ *
+ * Frames:
+ * - Request, {@value #REQUEST_SIZE} bytes: operation code (1 byte,
+ *   see {@link Opcode}), first operand (IEEE 754 double), second operand
+ *   (IEEE 754 double)
+ * - Response, {@value #RESPONSE_SIZE} bytes: status (1 byte), result
+ *   (IEEE 754 double, NaN unless the status is {@link #STATUS_OK})
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public final class BinaryProtocol {
+
+    // Size of a request frame in bytes
+    public static final int REQUEST_SIZE = 1 + Double.BYTES + Double.BYTES;
+
+    // Size of a response frame in bytes
+    public static final int RESPONSE_SIZE = 1 + Double.BYTES;
+
+    // The operation succeeded
+    public static final byte STATUS_OK = 0;
+
+    // The operands are invalid for the operation, such as a division by zero
+    public static final byte STATUS_INVALID_ARGUMENT = 1;
+
+    // The operation code is unknown or the operation is not supported by the server
+    public static final byte STATUS_UNSUPPORTED_OPERATION = 2;
+
+    // The server is at its admission limit and did not calculate the request; it may be retried
+    public static final byte STATUS_REJECTED = 3;
+
+    private BinaryProtocol() {
+    }
+}
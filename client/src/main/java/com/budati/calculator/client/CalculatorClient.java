@@ -0,0 +1,199 @@
+package com.budati.calculator.client;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Blocking client of the calculator binary protocol.
+ *
+ * Sends single operations, or arrays of operations pipelined over the
+ * connection: requests are written in windows of up to
+ * {@link #PIPELINE_DEPTH} frames, and each window's responses are read
+ * before the next is written, so neither side buffers more than one window.
+ *
+ * Instances hold one connection and are not thread-safe; use one client
+ * per thread.
+ *
+ * Usage:
+ * <pre>
+ * try (CalculatorClient client = CalculatorClient.connect("localhost", 7070)) {
+ *     double result = client.calculate(Opcode.POWER, 2, 10);
+ * }
+ * </pre>
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public class CalculatorClient implements Closeable {
+
+    // Maximum number of requests in flight
+    public static final int PIPELINE_DEPTH = 4096;
+
+    private final SocketChannel channel;
+
+    // Reusable frame buffers
+    private final ByteBuffer requests = ByteBuffer.allocateDirect(PIPELINE_DEPTH * BinaryProtocol.REQUEST_SIZE);
+    private final ByteBuffer responses = ByteBuffer.allocateDirect(PIPELINE_DEPTH * BinaryProtocol.RESPONSE_SIZE);
+
+    /**
+     * Creates a client over a connected channel.
+     *
+     * @param channel Connected blocking channel
+     */
+    private CalculatorClient(SocketChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Connects to a calculator server.
+     *
+     * @param host Host name or address
+     * @param port Port of the binary protocol listener
+     * @return Connected client
+     * @throws IOException If the connection fails
+     */
+    public static CalculatorClient connect(String host, int port) throws IOException {
+        SocketChannel channel = SocketChannel.open();
+        try {
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.connect(new InetSocketAddress(host, port));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new CalculatorClient(channel);
+    }
+
+    /**
+     * Performs a single operation.
+     *
+     * @param opcode The operation
+     * @param left First operand
+     * @param right Second operand
+     * @return Result of the operation
+     * @throws IOException If the connection fails
+     * @throws IllegalArgumentException If the operands are invalid, such as a division by zero
+     * @throws UnsupportedOperationException If the server does not support the operation
+     * @throws RejectedExecutionException If the server is at its admission limit; the call may be retried
+     */
+    public double calculate(Opcode opcode, double left, double right) throws IOException {
+        requests.clear();
+        putRequest(opcode, left, right);
+        exchange(1);
+        return readResult(0);
+    }
+
+    /**
+     * Performs many operations, pipelined over the connection.
+     *
+     * @param opcodes Operations, one per calculation
+     * @param left First operands
+     * @param right Second operands
+     * @param results Receives the results; may be one of the operand arrays
+     * @throws IOException If the connection fails
+     * @throws IllegalArgumentException If the arrays differ in length, or a
+     *         calculation has invalid operands; results of the other calculations
+     *         in the same window are still stored
+     * @throws UnsupportedOperationException If the server does not support an operation
+     * @throws RejectedExecutionException If the server is at its admission limit; the call may be retried
+     */
+    public void calculate(Opcode[] opcodes, double[] left, double[] right, double[] results) throws IOException {
+        int count = opcodes.length;
+        if (left.length != count || right.length != count || results.length != count) {
+            throw new IllegalArgumentException("Operation and operand arrays differ in length");
+        }
+        for (int start = 0; start < count; start += PIPELINE_DEPTH) {
+            int window = Math.min(PIPELINE_DEPTH, count - start);
+            requests.clear();
+            for (int index = start; index < start + window; index++) {
+                putRequest(opcodes[index], left[index], right[index]);
+            }
+            exchange(window);
+
+            RuntimeException failure = null;
+            for (int index = 0; index < window; index++) {
+                try {
+                    results[start + index] = readResult(index);
+                } catch (RuntimeException e) {
+                    results[start + index] = Double.NaN;
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Closes the connection.
+     *
+     * @throws IOException If closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Appends a request frame to the request buffer.
+     *
+     * @param opcode The operation
+     * @param left First operand
+     * @param right Second operand
+     */
+    private void putRequest(Opcode opcode, double left, double right) {
+        requests.put(opcode.code()).putDouble(left).putDouble(right);
+    }
+
+    /**
+     * Writes the buffered requests and reads their responses.
+     *
+     * @param count Number of buffered requests
+     * @throws IOException If the connection fails or is closed by the server
+     */
+    private void exchange(int count) throws IOException {
+        requests.flip();
+        while (requests.hasRemaining()) {
+            channel.write(requests);
+        }
+        responses.clear().limit(count * BinaryProtocol.RESPONSE_SIZE);
+        while (responses.hasRemaining()) {
+            if (channel.read(responses) < 0) {
+                throw new EOFException("Connection closed by the server");
+            }
+        }
+    }
+
+    /**
+     * Decodes a response frame from the response buffer.
+     *
+     * @param index Position of the response in the window
+     * @return Result of the calculation
+     */
+    private double readResult(int index) {
+        int offset = index * BinaryProtocol.RESPONSE_SIZE;
+        byte status = responses.get(offset);
+        switch (status) {
+            case BinaryProtocol.STATUS_OK:
+                return responses.getDouble(offset + 1);
+            case BinaryProtocol.STATUS_INVALID_ARGUMENT:
+                throw new IllegalArgumentException("Invalid operands");
+            case BinaryProtocol.STATUS_UNSUPPORTED_OPERATION:
+                throw new UnsupportedOperationException("Operation not supported by the server");
+            case BinaryProtocol.STATUS_REJECTED:
+                throw new RejectedExecutionException("Rejected by the admission control of the server");
+            default:
+                throw new IllegalStateException("Unknown response status: " + status);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.budati.calculator.client;
+
+/**
+ * Operations of the binary protocol.
+ *
+ * The code of each operation is the ordinal of the server's
+ * {@code Operation} enum; the declaration order must be kept in step with it.
+ *
+ * @author Budati
+ * @version 1.0
+ * @since 2025-03-28
+ */
+public enum Opcode {
+    ADD,
+    SUBTRACT,
+    MULTIPLY,
+    DIVIDE,
+    POWER;
+
+    // Cached constants, avoiding the array clone performed by values()
+    private static final Opcode[] OPCODES = values();
+
+    /**
+     * Retrieves the byte identifying the operation in a request frame.
+     *
+     * @return Operation code
+     */
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * Retrieves the operation identified by a code.
+     *
+     * @param code Operation code
+     * @return The operation
+     * @throws IllegalArgumentException If no operation has the code
+     */
+    public static Opcode of(int code) {
+        if (code < 0 || code >= OPCODES.length) {
+            throw new IllegalArgumentException("Unknown operation code: " + code);
+        }
+        return OPCODES[code];
+    }
+}